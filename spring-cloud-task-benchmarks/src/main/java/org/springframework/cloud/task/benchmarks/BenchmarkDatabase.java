@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.task.benchmarks;
+
+import org.springframework.cloud.task.repository.dao.MapTaskExecutionDao;
+import org.springframework.cloud.task.repository.support.TaskExecutionDaoFactoryBean;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * The embedded databases the task repository benchmarks are run against, and the
+ * in-memory {@link MapTaskExecutionDao} they are compared with.
+ *
+ * @author agent
+ */
+public enum BenchmarkDatabase {
+
+	/**
+	 * An in-memory H2 database.
+	 */
+	H2(EmbeddedDatabaseType.H2, "h2"),
+
+	/**
+	 * An in-memory HSQLDB database.
+	 */
+	HSQL(EmbeddedDatabaseType.HSQL, "hsqldb"),
+
+	/**
+	 * No database, the task executions being kept by a {@link MapTaskExecutionDao}.
+	 */
+	MAP(null, null);
+
+	private final EmbeddedDatabaseType type;
+
+	private final String platform;
+
+	BenchmarkDatabase(EmbeddedDatabaseType type, String platform) {
+		this.type = type;
+		this.platform = platform;
+	}
+
+	/**
+	 * Creates a new, uniquely named, database initialized with the task schema.
+	 * @return the embedded database, to be shut down by the caller, or null for
+	 * {@link #MAP}
+	 */
+	public EmbeddedDatabase create() {
+		if (this.type == null) {
+			return null;
+		}
+		return new EmbeddedDatabaseBuilder().generateUniqueName(true)
+			.setType(this.type)
+			.addScript("classpath:org/springframework/cloud/task/schema-" + this.platform + ".sql")
+			.build();
+	}
+
+	/**
+	 * Creates the factory of the task execution DAO to benchmark.
+	 * @param dataSource the database created by {@link #create()}.
+	 * @return the factory of a {@code JdbcTaskExecutionDao} over the database, or of a
+	 * {@link MapTaskExecutionDao} for {@link #MAP}
+	 */
+	public TaskExecutionDaoFactoryBean createTaskExecutionDaoFactoryBean(EmbeddedDatabase dataSource) {
+		return (dataSource != null) ? new TaskExecutionDaoFactoryBean(dataSource) : new TaskExecutionDaoFactoryBean();
+	}
+
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.task.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskRepository;
+import org.springframework.cloud.task.repository.support.SimpleTaskRepository;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+/**
+ * Measures the throughput of the create, start and complete calls a task makes against
+ * the {@link TaskRepository} over its lifecycle.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class TaskLifecycleBenchmark {
+
+	@Param({ "H2", "HSQL", "MAP" })
+	private BenchmarkDatabase database;
+
+	private EmbeddedDatabase dataSource;
+
+	private TaskRepository taskRepository;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		this.dataSource = this.database.create();
+		this.taskRepository = new SimpleTaskRepository(
+				this.database.createTaskExecutionDaoFactoryBean(this.dataSource));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (this.dataSource != null) {
+			this.dataSource.shutdown();
+		}
+	}
+
+	@Benchmark
+	public TaskExecution createStartComplete() {
+		TaskExecution taskExecution = this.taskRepository.createTaskExecution("benchmark-task");
+		this.taskRepository.startTaskExecution(taskExecution.getExecutionId(), "benchmark-task", LocalDateTime.now(),
+				Collections.singletonList("--run=1"), null);
+		return this.taskRepository.completeTaskExecution(taskExecution.getExecutionId(), 0, LocalDateTime.now(),
+				"COMPLETED");
+	}
+
+}
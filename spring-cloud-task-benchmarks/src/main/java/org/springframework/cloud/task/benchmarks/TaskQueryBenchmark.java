@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package org.springframework.cloud.task.benchmarks;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.dao.TaskExecutionDao;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+
+/**
+ * Measures the latency of the {@link TaskExecutionDao} queries used by task dashboards:
+ * paging through all task executions, finding the latest execution of several tasks and
+ * counting executions. The table is populated once per trial with {@code tableSize}
+ * executions spread over {@value #TASK_NAME_COUNT} task names, one in ten of them still
+ * running.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskQueryBenchmark {
+
+	private static final int TASK_NAME_COUNT = 100;
+
+	private static final int PAGE_SIZE = 20;
+
+	private static final LocalDateTime START_TIME = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+	private static final String[] LATEST_TASK_NAMES = { "task-1", "task-17", "task-42", "task-99" };
+
+	@Param({ "H2", "HSQL", "MAP" })
+	private BenchmarkDatabase database;
+
+	@Param({ "1000", "10000", "100000" })
+	private int tableSize;
+
+	private EmbeddedDatabase dataSource;
+
+	private TaskExecutionDao taskExecutionDao;
+
+	private Pageable firstPage;
+
+	private Pageable lastPage;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		this.dataSource = this.database.create();
+		this.taskExecutionDao = this.database.createTaskExecutionDaoFactoryBean(this.dataSource).getObject();
+		for (int i = 0; i < this.tableSize; i++) {
+			LocalDateTime startTime = START_TIME.plusSeconds(i);
+			TaskExecution taskExecution = this.taskExecutionDao.createTaskExecution("task-" + (i % TASK_NAME_COUNT),
+					startTime, Collections.singletonList("--run=" + i), null);
+			if (i % 10 != 0) {
+				this.taskExecutionDao.completeTaskExecution(taskExecution.getExecutionId(), i % 3,
+						startTime.plusSeconds(1), null);
+			}
+		}
+		this.firstPage = PageRequest.of(0, PAGE_SIZE);
+		this.lastPage = PageRequest.of(this.tableSize / PAGE_SIZE - 1, PAGE_SIZE);
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		if (this.dataSource != null) {
+			this.dataSource.shutdown();
+		}
+	}
+
+	@Benchmark
+	public Page<TaskExecution> findAllFirstPage() {
+		return this.taskExecutionDao.findAll(this.firstPage);
+	}
+
+	@Benchmark
+	public Page<TaskExecution> findAllLastPage() {
+		return this.taskExecutionDao.findAll(this.lastPage);
+	}
+
+	@Benchmark
+	public List<TaskExecution> getLatestTaskExecutionsByTaskNames() {
+		return this.taskExecutionDao.getLatestTaskExecutionsByTaskNames(LATEST_TASK_NAMES);
+	}
+
+	@Benchmark
+	public long getTaskExecutionCount() {
+		return this.taskExecutionDao.getTaskExecutionCount();
+	}
+
+	@Benchmark
+	public long getTaskExecutionCountByTaskName() {
+		return this.taskExecutionDao.getTaskExecutionCountByTaskName("task-42");
+	}
+
+	@Benchmark
+	public long getRunningTaskExecutionCount() {
+		return this.taskExecutionDao.getRunningTaskExecutionCount();
+	}
+
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.benchmarks;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.h2.Driver;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.runner.IterationType;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.Banner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupStepFilter;
+import org.springframework.boot.context.metrics.buffering.StartupTimeline.TimelineEvent;
+import org.springframework.cloud.task.configuration.EnableTask;
+import org.springframework.cloud.task.configuration.SimpleTaskAutoConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.datasource.SimpleDriverDataSource;
+
+/**
+ * Measures what Spring Cloud Task adds to the startup and shutdown of an application
+ * that does nothing, by running a bare Spring Boot application and the same application
+ * as a task recorded in memory and in H2. The time spent in each task phase (repository
+ * initialization, schema check, listener discovery, creating and completing the task
+ * execution) is taken from the {@code spring.cloud.task.*} startup steps and reported by
+ * the {@link TaskStartupProfiler}. A measurement iteration fails when the task phases
+ * take longer than {@code budgetMillis} on average.
+ *
+ * @author agent
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(2)
+public class TaskStartupBenchmark {
+
+	private static final String TASK_STEPS = "spring.cloud.task.";
+
+	@Param({ "BARE", "MAP", "H2" })
+	private Application application;
+
+	@Param("100")
+	private long budgetMillis;
+
+	@Setup(Level.Iteration)
+	public void clearPhases() {
+		TaskStartupPhases.clear();
+	}
+
+	@TearDown(Level.Iteration)
+	public void checkBudget(IterationParams iterationParams) {
+		if (iterationParams.getType() != IterationType.MEASUREMENT) {
+			return;
+		}
+		Map<String, Double> phases = TaskStartupPhases.averages();
+		double taskMillis = phases.values().stream().mapToDouble(Double::doubleValue).sum();
+		if (taskMillis > this.budgetMillis) {
+			throw new IllegalStateException(String.format(
+					"Spring Cloud Task added %.1f ms to the startup of the %s application, "
+							+ "which exceeds the budget of %d ms: %s",
+					taskMillis, this.application, this.budgetMillis, phases));
+		}
+	}
+
+	@Benchmark
+	public void run() {
+		BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(1000);
+		applicationStartup.addFilter(StartupStepFilter.matching(TASK_STEPS));
+		SpringApplication springApplication = new SpringApplication(this.application.source);
+		springApplication.setApplicationStartup(applicationStartup);
+		springApplication.setWebApplicationType(WebApplicationType.NONE);
+		springApplication.setBannerMode(Banner.Mode.OFF);
+		springApplication.setLogStartupInfo(false);
+		springApplication.run("--logging.level.root=WARN").close();
+
+		Map<String, Duration> phases = new LinkedHashMap<>();
+		for (TimelineEvent event : applicationStartup.getBufferedTimeline().getEvents()) {
+			phases.merge(event.getStartupStep().getName(), event.getDuration(), Duration::plus);
+		}
+		TaskStartupPhases.record(phases);
+	}
+
+	/**
+	 * The applications that are started, all of them with a single no-op runner.
+	 */
+	public enum Application {
+
+		/**
+		 * A Spring Boot application without Spring Cloud Task, the baseline.
+		 */
+		BARE(BareApplication.class),
+
+		/**
+		 * A task recorded in the in-memory task repository.
+		 */
+		MAP(MapTaskApplication.class),
+
+		/**
+		 * A task recorded in an in-memory H2 database that lives as long as the JVM, so
+		 * that only the first run creates the schema, as it is the case in production.
+		 */
+		H2(H2TaskApplication.class);
+
+		private final Class<?> source;
+
+		Application(Class<?> source) {
+			this.source = source;
+		}
+
+	}
+
+	@ImportAutoConfiguration(PropertyPlaceholderAutoConfiguration.class)
+	static class BareApplication {
+
+		@Bean
+		ApplicationRunner applicationRunner() {
+			return (args) -> {
+			};
+		}
+
+	}
+
+	@EnableTask
+	@ImportAutoConfiguration({ SimpleTaskAutoConfiguration.class, PropertyPlaceholderAutoConfiguration.class })
+	static class MapTaskApplication extends BareApplication {
+
+	}
+
+	static class H2TaskApplication extends MapTaskApplication {
+
+		@Bean
+		DataSource dataSource() {
+			return new SimpleDriverDataSource(new Driver(), "jdbc:h2:mem:task-startup;DB_CLOSE_DELAY=-1");
+		}
+
+	}
+
+}
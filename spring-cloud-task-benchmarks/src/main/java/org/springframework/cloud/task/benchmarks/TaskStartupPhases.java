@@ -0,0 +1,64 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.benchmarks;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Collects the durations of the {@code spring.cloud.task.*} startup steps recorded by
+ * the {@link TaskStartupBenchmark}, so that they can be checked against the startup
+ * budget and reported by the {@link TaskStartupProfiler}.
+ *
+ * @author agent
+ */
+final class TaskStartupPhases {
+
+	private static final Map<String, long[]> phases = new TreeMap<>();
+
+	private static int runs;
+
+	private TaskStartupPhases() {
+	}
+
+	static synchronized void clear() {
+		phases.clear();
+		runs = 0;
+	}
+
+	static synchronized void record(Map<String, Duration> run) {
+		run.forEach((phase, duration) -> {
+			long[] nanos = phases.computeIfAbsent(phase, (key) -> new long[1]);
+			nanos[0] += duration.toNanos();
+		});
+		runs++;
+	}
+
+	/**
+	 * Returns the average duration of each phase, in milliseconds per application run.
+	 * @return the average phase durations, ordered by phase name
+	 */
+	static synchronized Map<String, Double> averages() {
+		Map<String, Double> averages = new TreeMap<>();
+		if (runs > 0) {
+			phases.forEach((phase, nanos) -> averages.put(phase, nanos[0] / 1_000_000.0 / runs));
+		}
+		return averages;
+	}
+
+}
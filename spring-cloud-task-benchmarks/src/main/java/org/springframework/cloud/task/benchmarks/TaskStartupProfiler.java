@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * Reports the average duration of each task startup phase measured by the
+ * {@link TaskStartupBenchmark} as a secondary result, so that the breakdown is part of
+ * the JMH results. Enabled with
+ * {@code -prof org.springframework.cloud.task.benchmarks.TaskStartupProfiler}.
+ *
+ * @author agent
+ */
+public class TaskStartupProfiler implements InternalProfiler {
+
+	@Override
+	public String getDescription() {
+		return "Spring Cloud Task startup phase breakdown";
+	}
+
+	@Override
+	public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+		TaskStartupPhases.clear();
+	}
+
+	@Override
+	public Collection<? extends Result> afterIteration(BenchmarkParams benchmarkParams,
+			IterationParams iterationParams, IterationResult result) {
+		List<Result> results = new ArrayList<>();
+		TaskStartupPhases.averages()
+			.forEach((phase, millis) -> results.add(new ScalarResult(phase, millis, "ms", AggregationPolicy.AVG)));
+		return results;
+	}
+
+}
@@ -16,6 +16,10 @@
 
 package org.springframework.cloud.task.configuration;
 
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
 import javax.sql.DataSource;
 
 import jakarta.persistence.EntityManager;
@@ -23,19 +27,24 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.cloud.task.repository.TaskExplorer;
 import org.springframework.cloud.task.repository.TaskNameResolver;
 import org.springframework.cloud.task.repository.TaskRepository;
 import org.springframework.cloud.task.repository.dao.JdbcTaskExecutionDao;
 import org.springframework.cloud.task.repository.dao.MapTaskExecutionDao;
+import org.springframework.cloud.task.repository.support.CachingTaskExplorer;
+import org.springframework.cloud.task.repository.support.ReadReplicaTaskExplorer;
 import org.springframework.cloud.task.repository.support.SimpleTaskExplorer;
 import org.springframework.cloud.task.repository.support.SimpleTaskNameResolver;
 import org.springframework.cloud.task.repository.support.SimpleTaskRepository;
 import org.springframework.cloud.task.repository.support.TaskExecutionDaoFactoryBean;
+import org.springframework.cloud.task.repository.support.WriteBehindTaskRepository;
 import org.springframework.context.ApplicationContext;
 import org.springframework.jdbc.support.JdbcTransactionManager;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.StringUtils;
 
 /**
  * Default implementation of the TaskConfigurer interface. If no {@link TaskConfigurer}
@@ -46,13 +55,18 @@ import org.springframework.transaction.PlatformTransactionManager;
  * data source is present then a data will be stored in the database
  * {@link JdbcTaskExecutionDao} else it will be stored in a map
  * {@link MapTaskExecutionDao}.
+ * <li>{@link SimpleTaskExplorer} is the default {@link TaskExplorer} returned. If a read
+ * replica data source is present then the queries are sent to the read replica through a
+ * {@link ReadReplicaTaskExplorer}.
  * </ul>
+ * Destroying the configurer releases the resources held by the task execution DAOs it
+ * created, such as the repository file of a {@link MapTaskExecutionDao}.
  *
  * @author Glenn Renfro
  * @author Michael Minella
  * @author Mahmoud Ben Hassine
  */
-public class DefaultTaskConfigurer implements TaskConfigurer {
+public class DefaultTaskConfigurer implements TaskConfigurer, DisposableBean {
 
 	private static final Log logger = LogFactory.getLog(DefaultTaskConfigurer.class);
 
@@ -60,12 +74,16 @@ public class DefaultTaskConfigurer implements TaskConfigurer {
 
 	private TaskExplorer taskExplorer;
 
+	private TaskExplorer primaryTaskExplorer;
+
 	private PlatformTransactionManager transactionManager;
 
 	private DataSource dataSource;
 
 	private ApplicationContext context;
 
+	private final List<TaskExecutionDaoFactoryBean> taskExecutionDaoFactoryBeans = new ArrayList<>();
+
 	public DefaultTaskConfigurer() {
 		this(TaskProperties.DEFAULT_TABLE_PREFIX);
 	}
@@ -100,20 +118,125 @@ public class DefaultTaskConfigurer implements TaskConfigurer {
 	 * @param context the context to be used.
 	 */
 	public DefaultTaskConfigurer(DataSource dataSource, String tablePrefix, ApplicationContext context) {
+		this(dataSource, tablePrefix, context, null);
+	}
+
+	/**
+	 * Initializes the DefaultTaskConfigurer.
+	 * @param dataSource references the {@link DataSource} to be used as the Task
+	 * repository. If none is provided, a Map will be used (not recommended for production
+	 * use).
+	 * @param taskProperties the {@link TaskProperties} used to configure the task
+	 * repository, including the table prefix.
+	 * @param context the context to be used.
+	 */
+	public DefaultTaskConfigurer(DataSource dataSource, TaskProperties taskProperties, ApplicationContext context) {
+		this(dataSource, taskProperties.getTablePrefix(), context, taskProperties);
+	}
+
+	/**
+	 * Initializes the DefaultTaskConfigurer with a read replica of the task repository.
+	 * The {@link TaskExplorer} queries are sent to the read replica, except for the
+	 * lookups of task executions that may not have been replicated yet.
+	 * @param dataSource references the {@link DataSource} to be used as the Task
+	 * repository.
+	 * @param readDataSource references the {@link DataSource} of a read replica of the
+	 * Task repository. If none is provided, the queries are sent to the dataSource.
+	 * @param taskProperties the {@link TaskProperties} used to configure the task
+	 * repository, including the table prefix.
+	 * @param context the context to be used.
+	 * @see ReadReplicaTaskExplorer
+	 */
+	public DefaultTaskConfigurer(DataSource dataSource, DataSource readDataSource, TaskProperties taskProperties,
+			ApplicationContext context) {
+		this(dataSource, readDataSource, taskProperties.getTablePrefix(), context, taskProperties);
+	}
+
+	private DefaultTaskConfigurer(DataSource dataSource, String tablePrefix, ApplicationContext context,
+			TaskProperties taskProperties) {
+		this(dataSource, null, tablePrefix, context, taskProperties);
+	}
+
+	private DefaultTaskConfigurer(DataSource dataSource, DataSource readDataSource, String tablePrefix,
+			ApplicationContext context, TaskProperties taskProperties) {
 		this.dataSource = dataSource;
 		this.context = context;
 
+		TaskExecutionDaoFactoryBean taskExecutionDaoFactoryBean = createTaskExecutionDaoFactoryBean(this.dataSource,
+				tablePrefix, taskProperties);
+		this.taskExecutionDaoFactoryBeans.add(taskExecutionDaoFactoryBean);
+
+		if (taskProperties != null && taskProperties.isWriteBehindEnabled()) {
+			WriteBehindTaskRepository writeBehindTaskRepository = new WriteBehindTaskRepository(
+					taskExecutionDaoFactoryBean);
+			writeBehindTaskRepository.setFlushTimeout(taskProperties.getWriteBehindFlushTimeout());
+			writeBehindTaskRepository.setTransactionManager(getTransactionManager());
+			this.taskRepository = writeBehindTaskRepository;
+		}
+		else {
+			this.taskRepository = new SimpleTaskRepository(taskExecutionDaoFactoryBean);
+		}
+		if (readDataSource != null) {
+			this.primaryTaskExplorer = new SimpleTaskExplorer(taskExecutionDaoFactoryBean);
+			TaskExecutionDaoFactoryBean replicaTaskExecutionDaoFactoryBean = createTaskExecutionDaoFactoryBean(
+					readDataSource, tablePrefix, taskProperties);
+			this.taskExecutionDaoFactoryBeans.add(replicaTaskExecutionDaoFactoryBean);
+			TaskExplorer replicaTaskExplorer = createTaskExplorer(replicaTaskExecutionDaoFactoryBean, taskProperties);
+			this.taskExplorer = new ReadReplicaTaskExplorer(this.primaryTaskExplorer, replicaTaskExplorer,
+					taskProperties.getReadReplicaStalenessTolerance());
+		}
+		else {
+			this.taskExplorer = createTaskExplorer(taskExecutionDaoFactoryBean, taskProperties);
+			this.primaryTaskExplorer = this.taskExplorer;
+		}
+	}
+
+	private static TaskExecutionDaoFactoryBean createTaskExecutionDaoFactoryBean(DataSource dataSource,
+			String tablePrefix, TaskProperties taskProperties) {
 		TaskExecutionDaoFactoryBean taskExecutionDaoFactoryBean;
 
-		if (this.dataSource != null) {
-			taskExecutionDaoFactoryBean = new TaskExecutionDaoFactoryBean(this.dataSource, tablePrefix);
+		if (dataSource != null) {
+			taskExecutionDaoFactoryBean = new TaskExecutionDaoFactoryBean(dataSource, tablePrefix);
 		}
 		else {
 			taskExecutionDaoFactoryBean = new TaskExecutionDaoFactoryBean();
 		}
 
-		this.taskRepository = new SimpleTaskRepository(taskExecutionDaoFactoryBean);
-		this.taskExplorer = new SimpleTaskExplorer(taskExecutionDaoFactoryBean);
+		if (taskProperties != null) {
+			taskExecutionDaoFactoryBean.setArgumentBatchSize(taskProperties.getArgumentBatchSize());
+			taskExecutionDaoFactoryBean.setStreamFetchSize(taskProperties.getStreamFetchSize());
+			taskExecutionDaoFactoryBean.setArchiveEnabled(taskProperties.isArchiveEnabled());
+			taskExecutionDaoFactoryBean
+				.setLatestExecutionSummaryEnabled(taskProperties.isLatestExecutionSummaryEnabled());
+			taskExecutionDaoFactoryBean.setTaskNameRegistryEnabled(taskProperties.isTaskNameRegistryEnabled());
+			taskExecutionDaoFactoryBean.setExecutionCountersEnabled(taskProperties.isExecutionCountersEnabled());
+			taskExecutionDaoFactoryBean.setExecutionCounterStripes(taskProperties.getExecutionCounterStripes());
+			taskExecutionDaoFactoryBean.setExecutionIdBlockSize(taskProperties.getExecutionIdBlockSize());
+			taskExecutionDaoFactoryBean.setMaxCompletedExecutions(taskProperties.getMapMaxCompletedExecutions());
+			taskExecutionDaoFactoryBean.setCompletedExecutionTimeToLive(taskProperties.getMapCompletedExecutionTtl());
+			if (StringUtils.hasText(taskProperties.getMapRepositoryFile())) {
+				taskExecutionDaoFactoryBean.setRepositoryFile(Paths.get(taskProperties.getMapRepositoryFile()));
+				taskExecutionDaoFactoryBean.setRepositoryFileSync(taskProperties.isMapRepositoryFileSync());
+			}
+		}
+		return taskExecutionDaoFactoryBean;
+	}
+
+	private static TaskExplorer createTaskExplorer(TaskExecutionDaoFactoryBean taskExecutionDaoFactoryBean,
+			TaskProperties taskProperties) {
+		TaskExplorer taskExplorer = new SimpleTaskExplorer(taskExecutionDaoFactoryBean);
+		if (taskProperties != null && taskProperties.isExplorerCacheEnabled()) {
+			taskExplorer = new CachingTaskExplorer(taskExplorer, taskProperties.getExplorerCacheMaxSize(),
+					taskProperties.getExplorerCacheCompletedTtl(), taskProperties.getExplorerCacheRunningTtl());
+		}
+		return taskExplorer;
+	}
+
+	@Override
+	public void destroy() throws Exception {
+		for (TaskExecutionDaoFactoryBean taskExecutionDaoFactoryBean : this.taskExecutionDaoFactoryBeans) {
+			taskExecutionDaoFactoryBean.destroy();
+		}
 	}
 
 	@Override
@@ -126,6 +249,11 @@ public class DefaultTaskConfigurer implements TaskConfigurer {
 		return this.taskExplorer;
 	}
 
+	@Override
+	public TaskExplorer getPrimaryTaskExplorer() {
+		return this.primaryTaskExplorer;
+	}
+
 	@Override
 	public DataSource getTaskDataSource() {
 		return this.dataSource;
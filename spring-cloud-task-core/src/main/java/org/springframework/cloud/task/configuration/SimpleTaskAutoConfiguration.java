@@ -21,7 +21,9 @@ import java.util.Collection;
 
 import javax.sql.DataSource;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
 import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
@@ -34,6 +36,8 @@ import org.springframework.boot.sql.init.dependency.DatabaseInitializationDepend
 import org.springframework.cloud.task.repository.TaskExplorer;
 import org.springframework.cloud.task.repository.TaskNameResolver;
 import org.springframework.cloud.task.repository.TaskRepository;
+import org.springframework.cloud.task.repository.support.CachingTaskExplorer;
+import org.springframework.cloud.task.repository.support.ReadReplicaTaskExplorer;
 import org.springframework.cloud.task.repository.support.SimpleTaskRepository;
 import org.springframework.cloud.task.repository.support.TaskRepositoryInitializer;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -41,6 +45,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Profile;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.util.CollectionUtils;
@@ -85,6 +90,8 @@ public class SimpleTaskAutoConfiguration {
 
 	private TaskNameResolver taskNameResolver;
 
+	private DefaultTaskConfigurer defaultTaskConfigurer;
+
 	@Bean
 	public SimpleTaskRepository taskRepository() {
 		return (SimpleTaskRepository) this.taskRepository;
@@ -101,6 +108,22 @@ public class SimpleTaskAutoConfiguration {
 		return this.taskExplorer;
 	}
 
+	/**
+	 * Publishes the metrics of the {@link CachingTaskExplorer} to the meter registries of
+	 * the context.
+	 * @return the meter binder of the task explorer cache
+	 */
+	@Bean
+	@ConditionalOnProperty(prefix = "spring.cloud.task", name = "explorer-cache-enabled", havingValue = "true")
+	public MeterBinder springCloudTaskExplorerCacheMetrics() {
+		return (registry) -> {
+			CachingTaskExplorer cachingTaskExplorer = findCachingTaskExplorer(this.taskExplorer);
+			if (cachingTaskExplorer != null) {
+				cachingTaskExplorer.bindTo(registry);
+			}
+		};
+	}
+
 	@Bean
 	public TaskNameResolver taskNameResolver() {
 		return taskNameResolver;
@@ -132,15 +155,34 @@ public class SimpleTaskAutoConfiguration {
 			return;
 		}
 
-		TaskConfigurer taskConfigurer = getDefaultConfigurer();
+		StartupStep step = this.context.getApplicationStartup().start("spring.cloud.task.repository.init");
+		try {
+			TaskConfigurer taskConfigurer = getDefaultConfigurer();
 
-		logger.debug(String.format("Using %s TaskConfigurer", taskConfigurer.getClass().getName()));
+			logger.debug(String.format("Using %s TaskConfigurer", taskConfigurer.getClass().getName()));
+
+			this.taskRepository = taskConfigurer.getTaskRepository();
+			this.platformTransactionManager = taskConfigurer.getTransactionManager();
+			this.taskExplorer = taskConfigurer.getTaskExplorer();
+			this.taskNameResolver = taskConfigurer.getTaskNameResolver();
+			this.initialized = true;
+			step.tag("configurer", taskConfigurer.getClass().getName());
+		}
+		finally {
+			step.end();
+		}
+	}
 
-		this.taskRepository = taskConfigurer.getTaskRepository();
-		this.platformTransactionManager = taskConfigurer.getTransactionManager();
-		this.taskExplorer = taskConfigurer.getTaskExplorer();
-		this.taskNameResolver = taskConfigurer.getTaskNameResolver();
-		this.initialized = true;
+	/**
+	 * Destroys the {@link DefaultTaskConfigurer} created by this configuration, since
+	 * registering it as a singleton does not register it for destruction.
+	 * @throws Exception if the configurer could not be destroyed
+	 */
+	@PreDestroy
+	protected void destroy() throws Exception {
+		if (this.defaultTaskConfigurer != null) {
+			this.defaultTaskConfigurer.destroy();
+		}
 	}
 
 	private TaskConfigurer getDefaultConfigurer() {
@@ -149,15 +191,16 @@ public class SimpleTaskAutoConfiguration {
 		int configurers = this.context.getBeanNamesForType(TaskConfigurer.class).length;
 
 		if (configurers < 1) {
-			TaskConfigurer taskConfigurer;
+			DefaultTaskConfigurer taskConfigurer;
 			if (!CollectionUtils.isEmpty(this.dataSources) && this.dataSources.size() == 1) {
-				taskConfigurer = new DefaultTaskConfigurer(this.dataSources.iterator().next(),
-						this.taskProperties.getTablePrefix(), this.context);
+				taskConfigurer = new DefaultTaskConfigurer(this.dataSources.iterator().next(), this.taskProperties,
+						this.context);
 			}
 			else {
-				taskConfigurer = new DefaultTaskConfigurer(this.taskProperties.getTablePrefix());
+				taskConfigurer = new DefaultTaskConfigurer(null, this.taskProperties, null);
 			}
 			this.context.getBeanFactory().registerSingleton("taskConfigurer", taskConfigurer);
+			this.defaultTaskConfigurer = taskConfigurer;
 			return taskConfigurer;
 		}
 		else {
@@ -170,6 +213,16 @@ public class SimpleTaskAutoConfiguration {
 		}
 	}
 
+	private static CachingTaskExplorer findCachingTaskExplorer(TaskExplorer taskExplorer) {
+		if (taskExplorer instanceof CachingTaskExplorer cachingTaskExplorer) {
+			return cachingTaskExplorer;
+		}
+		if (taskExplorer instanceof ReadReplicaTaskExplorer readReplicaTaskExplorer) {
+			return findCachingTaskExplorer(readReplicaTaskExplorer.getReplica());
+		}
+		return null;
+	}
+
 	private void verifyEnvironment() {
 		int configurers = this.context.getBeanNamesForType(TaskConfigurer.class).length;
 		// retrieve the count of dataSources (without instantiating them) excluding
@@ -51,6 +51,16 @@ public interface TaskConfigurer {
 	 */
 	TaskExplorer getTaskExplorer();
 
+	/**
+	 * Retrieves the {@link TaskExplorer} that reads from the task repository the
+	 * <code>TaskRepository</code> writes to. It differs from the one returned by
+	 * {@link #getTaskExplorer()} when the queries are sent to a read replica.
+	 * @return a <code>TaskExplorer</code> that sees the task repository writes
+	 */
+	default TaskExplorer getPrimaryTaskExplorer() {
+		return getTaskExplorer();
+	}
+
 	/**
 	 * Retrieves the {@link DataSource} that will be used for task operations. If a
 	 * DataSource is not being used for the implemented TaskConfigurer this method will
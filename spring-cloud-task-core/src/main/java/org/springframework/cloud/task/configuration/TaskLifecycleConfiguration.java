@@ -65,12 +65,15 @@ public class TaskLifecycleConfiguration {
 
 	private TaskObservationCloudKeyValues taskObservationCloudKeyValues;
 
+	private ObjectProvider<TaskConfigurer> taskConfigurers;
+
 	@Autowired
 	public TaskLifecycleConfiguration(TaskProperties taskProperties, ConfigurableApplicationContext context,
 			TaskRepository taskRepository, TaskExplorer taskExplorer, TaskNameResolver taskNameResolver,
 			ObjectProvider<ApplicationArguments> applicationArguments,
 			@Autowired(required = false) ObservationRegistry observationRegistry,
-			@Autowired(required = false) TaskObservationCloudKeyValues taskObservationCloudKeyValues) {
+			@Autowired(required = false) TaskObservationCloudKeyValues taskObservationCloudKeyValues,
+			ObjectProvider<TaskConfigurer> taskConfigurers) {
 
 		this.taskProperties = taskProperties;
 		this.context = context;
@@ -80,6 +83,7 @@ public class TaskLifecycleConfiguration {
 		this.applicationArguments = applicationArguments.getIfAvailable();
 		this.observationRegistry = observationRegistry == null ? ObservationRegistry.NOOP : observationRegistry;
 		this.taskObservationCloudKeyValues = taskObservationCloudKeyValues;
+		this.taskConfigurers = taskConfigurers;
 
 	}
 
@@ -98,6 +102,10 @@ public class TaskLifecycleConfiguration {
 					this.applicationArguments, this.taskExplorer, this.taskProperties,
 					new TaskListenerExecutorObjectFactory(this.context), this.observationRegistry,
 					taskObservationCloudKeyValues);
+			TaskConfigurer taskConfigurer = this.taskConfigurers.getIfUnique();
+			if (taskConfigurer != null && taskConfigurer.getPrimaryTaskExplorer() != null) {
+				this.taskLifecycleListener.setPrimaryTaskExplorer(taskConfigurer.getPrimaryTaskExplorer());
+			}
 
 			this.initialized = true;
 		}
@@ -96,6 +96,134 @@ public class TaskProperties {
 	 */
 	private Boolean initializeEnabled;
 
+	/**
+	 * The maximum number of task arguments written to the task repository in a single
+	 * JDBC batch. Defaults to 100.
+	 */
+	private int argumentBatchSize = 100;
+
+	/**
+	 * The number of task execution ids reserved at once from a task sequence that is
+	 * emulated by a table. On MySQL the table is advanced by this value in a single
+	 * update. On HSQLDB, Sybase and SQL Server with a TASK_SEQ table, the ids are still
+	 * reserved with one insert each. Defaults to 1.
+	 */
+	private int executionIdBlockSize = 1;
+
+	/**
+	 * When true, the start and the end of task executions are written to the task
+	 * repository by a background writer instead of on the task's startup and shutdown
+	 * path. The creation of a task execution is still waited for. Queued writes are lost
+	 * if the application terminates before they are flushed. Defaults to false.
+	 */
+	private boolean writeBehindEnabled = false;
+
+	/**
+	 * The maximum time in milliseconds to wait on shutdown for the queued writes when
+	 * write behind is enabled. Defaults to 10000.
+	 */
+	private long writeBehindFlushTimeout = 10000;
+
+	/**
+	 * The maximum number of completed task executions kept in memory when no DataSource
+	 * is available. 0 keeps all of them. Defaults to 0.
+	 */
+	private int mapMaxCompletedExecutions = 0;
+
+	/**
+	 * The time (in millis) that completed task executions are kept in memory after their
+	 * end time when no DataSource is available. 0 keeps them regardless of their age.
+	 * Defaults to 0.
+	 */
+	private long mapCompletedExecutionTtl = 0;
+
+	/**
+	 * The path of the file that task executions are persisted to when no DataSource is
+	 * available. When not set, task executions are only kept in memory.
+	 */
+	private String mapRepositoryFile;
+
+	/**
+	 * When true, every write to the map repository file is forced to the storage device
+	 * before it returns. Defaults to false.
+	 */
+	private boolean mapRepositoryFileSync = false;
+
+	/**
+	 * The number of rows fetched at once when streaming task executions from the task
+	 * repository, which is also the number of task executions whose arguments are loaded
+	 * by a single query. Defaults to 500.
+	 */
+	private int streamFetchSize = 500;
+
+	/**
+	 * When true, lookups of a task execution by id or by job execution id fall back to
+	 * the archive tables of the task repository, and streaming queries can ask for
+	 * archived task executions. Defaults to false.
+	 */
+	private boolean archiveEnabled = false;
+
+	/**
+	 * When true, the latest task execution of each task is recorded in a summary table as
+	 * task executions are created, and latest task execution lookups read the summary
+	 * table. Existing task executions must be backfilled before it is enabled. Defaults to
+	 * false.
+	 */
+	private boolean latestExecutionSummaryEnabled = false;
+
+	/**
+	 * When true, task names are recorded in a registry table as task executions are
+	 * created, and the task names are read from the registry instead of being collected
+	 * from all the task executions. Existing task names must be backfilled before it is
+	 * enabled. Defaults to false.
+	 */
+	private boolean taskNameRegistryEnabled = false;
+
+	/**
+	 * When true, the number of task executions of each task by outcome is kept in a
+	 * counters table updated as task executions are created, started and completed, and
+	 * the task execution counts are read from the counters. Task executions without a
+	 * task name are then not counted. Existing task executions must be backfilled before
+	 * it is enabled. Defaults to false.
+	 */
+	private boolean executionCountersEnabled = false;
+
+	/**
+	 * The number of counter rows of each task, over which the counter updates of
+	 * concurrent task executions are spread. Defaults to 8.
+	 */
+	private int executionCounterStripes = 8;
+
+	/**
+	 * When true, the TaskExplorer caches task executions, their job execution ids, counts
+	 * and latest task executions. Defaults to false.
+	 */
+	private boolean explorerCacheEnabled = false;
+
+	/**
+	 * The maximum number of entries of each TaskExplorer cache. Defaults to 10000.
+	 */
+	private int explorerCacheMaxSize = 10000;
+
+	/**
+	 * The time (in millis) that a completed task execution stays in the TaskExplorer
+	 * cache. Defaults to 600000.
+	 */
+	private long explorerCacheCompletedTtl = 600000;
+
+	/**
+	 * The time (in millis) that running task executions, counts and latest task
+	 * executions stay in the TaskExplorer cache. Defaults to 1000.
+	 */
+	private long explorerCacheRunningTtl = 1000;
+
+	/**
+	 * The time (in millis) after its start during which a running task execution is read
+	 * from the primary rather than from the read replica, when the TaskConfigurer has a
+	 * read replica DataSource. Defaults to 5000.
+	 */
+	private long readReplicaStalenessTolerance = 5000;
+
 	public String getExternalExecutionId() {
 		return this.externalExecutionId;
 	}
@@ -168,4 +296,156 @@ public class TaskProperties {
 		this.initializeEnabled = initializeEnabled;
 	}
 
+	public int getArgumentBatchSize() {
+		return this.argumentBatchSize;
+	}
+
+	public void setArgumentBatchSize(int argumentBatchSize) {
+		this.argumentBatchSize = argumentBatchSize;
+	}
+
+	public int getExecutionIdBlockSize() {
+		return this.executionIdBlockSize;
+	}
+
+	public void setExecutionIdBlockSize(int executionIdBlockSize) {
+		this.executionIdBlockSize = executionIdBlockSize;
+	}
+
+	public boolean isWriteBehindEnabled() {
+		return this.writeBehindEnabled;
+	}
+
+	public void setWriteBehindEnabled(boolean writeBehindEnabled) {
+		this.writeBehindEnabled = writeBehindEnabled;
+	}
+
+	public long getWriteBehindFlushTimeout() {
+		return this.writeBehindFlushTimeout;
+	}
+
+	public void setWriteBehindFlushTimeout(long writeBehindFlushTimeout) {
+		this.writeBehindFlushTimeout = writeBehindFlushTimeout;
+	}
+
+	public boolean isExplorerCacheEnabled() {
+		return this.explorerCacheEnabled;
+	}
+
+	public void setExplorerCacheEnabled(boolean explorerCacheEnabled) {
+		this.explorerCacheEnabled = explorerCacheEnabled;
+	}
+
+	public int getExplorerCacheMaxSize() {
+		return this.explorerCacheMaxSize;
+	}
+
+	public void setExplorerCacheMaxSize(int explorerCacheMaxSize) {
+		this.explorerCacheMaxSize = explorerCacheMaxSize;
+	}
+
+	public long getExplorerCacheCompletedTtl() {
+		return this.explorerCacheCompletedTtl;
+	}
+
+	public void setExplorerCacheCompletedTtl(long explorerCacheCompletedTtl) {
+		this.explorerCacheCompletedTtl = explorerCacheCompletedTtl;
+	}
+
+	public long getExplorerCacheRunningTtl() {
+		return this.explorerCacheRunningTtl;
+	}
+
+	public void setExplorerCacheRunningTtl(long explorerCacheRunningTtl) {
+		this.explorerCacheRunningTtl = explorerCacheRunningTtl;
+	}
+
+	public int getMapMaxCompletedExecutions() {
+		return this.mapMaxCompletedExecutions;
+	}
+
+	public void setMapMaxCompletedExecutions(int mapMaxCompletedExecutions) {
+		this.mapMaxCompletedExecutions = mapMaxCompletedExecutions;
+	}
+
+	public long getMapCompletedExecutionTtl() {
+		return this.mapCompletedExecutionTtl;
+	}
+
+	public void setMapCompletedExecutionTtl(long mapCompletedExecutionTtl) {
+		this.mapCompletedExecutionTtl = mapCompletedExecutionTtl;
+	}
+
+	public String getMapRepositoryFile() {
+		return this.mapRepositoryFile;
+	}
+
+	public void setMapRepositoryFile(String mapRepositoryFile) {
+		this.mapRepositoryFile = mapRepositoryFile;
+	}
+
+	public boolean isMapRepositoryFileSync() {
+		return this.mapRepositoryFileSync;
+	}
+
+	public void setMapRepositoryFileSync(boolean mapRepositoryFileSync) {
+		this.mapRepositoryFileSync = mapRepositoryFileSync;
+	}
+
+	public int getStreamFetchSize() {
+		return this.streamFetchSize;
+	}
+
+	public void setStreamFetchSize(int streamFetchSize) {
+		this.streamFetchSize = streamFetchSize;
+	}
+
+	public boolean isArchiveEnabled() {
+		return this.archiveEnabled;
+	}
+
+	public void setArchiveEnabled(boolean archiveEnabled) {
+		this.archiveEnabled = archiveEnabled;
+	}
+
+	public boolean isLatestExecutionSummaryEnabled() {
+		return this.latestExecutionSummaryEnabled;
+	}
+
+	public void setLatestExecutionSummaryEnabled(boolean latestExecutionSummaryEnabled) {
+		this.latestExecutionSummaryEnabled = latestExecutionSummaryEnabled;
+	}
+
+	public boolean isTaskNameRegistryEnabled() {
+		return this.taskNameRegistryEnabled;
+	}
+
+	public void setTaskNameRegistryEnabled(boolean taskNameRegistryEnabled) {
+		this.taskNameRegistryEnabled = taskNameRegistryEnabled;
+	}
+
+	public boolean isExecutionCountersEnabled() {
+		return this.executionCountersEnabled;
+	}
+
+	public void setExecutionCountersEnabled(boolean executionCountersEnabled) {
+		this.executionCountersEnabled = executionCountersEnabled;
+	}
+
+	public int getExecutionCounterStripes() {
+		return this.executionCounterStripes;
+	}
+
+	public void setExecutionCounterStripes(int executionCounterStripes) {
+		this.executionCounterStripes = executionCounterStripes;
+	}
+
+	public long getReadReplicaStalenessTolerance() {
+		return this.readReplicaStalenessTolerance;
+	}
+
+	public void setReadReplicaStalenessTolerance(long readReplicaStalenessTolerance) {
+		this.readReplicaStalenessTolerance = readReplicaStalenessTolerance;
+	}
+
 }
@@ -46,9 +46,12 @@ import org.springframework.cloud.task.repository.TaskNameResolver;
 import org.springframework.cloud.task.repository.TaskRepository;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationListener;
+import org.springframework.context.ApplicationStartupAware;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.SmartLifecycle;
 import org.springframework.core.Ordered;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
@@ -81,7 +84,8 @@ import org.springframework.util.StringUtils;
  * @author Glenn Renfro
  */
 public class TaskLifecycleListener
-		implements ApplicationListener<ApplicationEvent>, SmartLifecycle, DisposableBean, Ordered {
+		implements ApplicationListener<ApplicationEvent>, SmartLifecycle, DisposableBean, Ordered,
+		ApplicationStartupAware {
 
 	private static final Log logger = LogFactory.getLog(TaskLifecycleListener.class);
 
@@ -89,6 +93,8 @@ public class TaskLifecycleListener
 
 	private final TaskExplorer taskExplorer;
 
+	private TaskExplorer primaryTaskExplorer;
+
 	private final TaskListenerExecutorObjectFactory taskListenerExecutorObjectFactory;
 
 	private final TaskObservations taskObservations;
@@ -124,6 +130,8 @@ public class TaskLifecycleListener
 
 	private ExitCodeEvent exitCodeEvent;
 
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
 	/**
 	 * @param taskRepository {@link TaskRepository} to record executions.
 	 * @param taskNameResolver {@link TaskNameResolver} used to determine task name for
@@ -150,6 +158,7 @@ public class TaskLifecycleListener
 		this.taskNameResolver = taskNameResolver;
 		this.applicationArguments = applicationArguments;
 		this.taskExplorer = taskExplorer;
+		this.primaryTaskExplorer = taskExplorer;
 		this.taskProperties = taskProperties;
 		this.taskListenerExecutorObjectFactory = taskListenerExecutorObjectFactory;
 		observationRegistry = observationRegistry == null ? ObservationRegistry.NOOP : observationRegistry;
@@ -203,9 +212,13 @@ public class TaskLifecycleListener
 			}
 
 			setExitMessage(invokeOnTaskEnd(this.taskExecution));
-			this.taskRepository.completeTaskExecution(this.taskExecution.getExecutionId(),
-					this.taskExecution.getExitCode(), this.taskExecution.getEndTime(),
-					this.taskExecution.getExitMessage(), this.taskExecution.getErrorMessage());
+			StartupStep step = this.applicationStartup.start("spring.cloud.task.execution.complete");
+			try {
+				this.taskRepository.completeTaskExecution(this.taskExecution);
+			}
+			finally {
+				step.end();
+			}
 
 			this.finished = true;
 
@@ -257,40 +270,30 @@ public class TaskLifecycleListener
 	private void doTaskStart() {
 		try {
 			if (!this.started) {
-				this.taskExecutionListeners = new ArrayList<>();
-				this.taskListenerExecutorObjectFactory.getObject();
-				if (!CollectionUtils.isEmpty(this.taskExecutionListenersFromContext)) {
-					this.taskExecutionListeners.addAll(this.taskExecutionListenersFromContext);
+				StartupStep step = this.applicationStartup.start("spring.cloud.task.listeners.discover");
+				try {
+					this.taskExecutionListeners = new ArrayList<>();
+					if (!CollectionUtils.isEmpty(this.taskExecutionListenersFromContext)) {
+						this.taskExecutionListeners.addAll(this.taskExecutionListenersFromContext);
+					}
+					this.taskExecutionListeners.add(this.taskListenerExecutorObjectFactory.getObject());
+					step.tag("listeners", String.valueOf(this.taskExecutionListeners.size()));
+				}
+				finally {
+					step.end();
 				}
-				this.taskExecutionListeners.add(this.taskListenerExecutorObjectFactory.getObject());
 
 				List<String> args = new ArrayList<>(0);
 
 				if (this.applicationArguments != null) {
 					args = Arrays.asList(this.applicationArguments.getSourceArgs());
 				}
-				if (this.taskProperties.getExecutionid() != null) {
-					TaskExecution taskExecution = this.taskExplorer
-						.getTaskExecution(this.taskProperties.getExecutionid());
-					Assert.notNull(taskExecution, String.format("Invalid TaskExecution, ID %s not found",
-							this.taskProperties.getExecutionid()));
-					Assert.isNull(taskExecution.getEndTime(),
-							String.format("Invalid TaskExecution, ID %s task is already complete",
-									this.taskProperties.getExecutionid()));
-					LocalDateTime startDate = (taskExecution.getStartTime() == null) ? LocalDateTime.now()
-							: taskExecution.getStartTime();
-					this.taskExecution = this.taskRepository.startTaskExecution(this.taskProperties.getExecutionid(),
-							this.taskNameResolver.getTaskName(), startDate, args,
-							this.taskProperties.getExternalExecutionId(), this.taskProperties.getParentExecutionId());
+				step = this.applicationStartup.start("spring.cloud.task.execution.start");
+				try {
+					this.taskExecution = startTaskExecution(args);
 				}
-				else {
-					TaskExecution taskExecution = new TaskExecution();
-					taskExecution.setTaskName(this.taskNameResolver.getTaskName());
-					taskExecution.setStartTime(LocalDateTime.now());
-					taskExecution.setArguments(args);
-					taskExecution.setExternalExecutionId(this.taskProperties.getExternalExecutionId());
-					taskExecution.setParentExecutionId(this.taskProperties.getParentExecutionId());
-					this.taskExecution = this.taskRepository.createTaskExecution(taskExecution);
+				finally {
+					step.end();
 				}
 			}
 			else {
@@ -307,6 +310,34 @@ public class TaskLifecycleListener
 		}
 	}
 
+	private TaskExecution startTaskExecution(List<String> args) {
+		if (this.taskProperties.getExecutionid() != null) {
+			// the task execution was just created by the launcher, so it is read from
+			// the primary even if the queries are sent to a read replica
+			TaskExecution taskExecution = this.primaryTaskExplorer
+				.getTaskExecution(this.taskProperties.getExecutionid());
+			Assert.notNull(taskExecution, String.format("Invalid TaskExecution, ID %s not found",
+					this.taskProperties.getExecutionid()));
+			Assert.isNull(taskExecution.getEndTime(),
+					String.format("Invalid TaskExecution, ID %s task is already complete",
+							this.taskProperties.getExecutionid()));
+			LocalDateTime startDate = (taskExecution.getStartTime() == null) ? LocalDateTime.now()
+					: taskExecution.getStartTime();
+			return this.taskRepository.startTaskExecution(this.taskProperties.getExecutionid(),
+					this.taskNameResolver.getTaskName(), startDate, args,
+					this.taskProperties.getExternalExecutionId(), this.taskProperties.getParentExecutionId());
+		}
+		else {
+			TaskExecution taskExecution = new TaskExecution();
+			taskExecution.setTaskName(this.taskNameResolver.getTaskName());
+			taskExecution.setStartTime(LocalDateTime.now());
+			taskExecution.setArguments(args);
+			taskExecution.setExternalExecutionId(this.taskProperties.getExternalExecutionId());
+			taskExecution.setParentExecutionId(this.taskProperties.getParentExecutionId());
+			return this.taskRepository.createTaskExecution(taskExecution);
+		}
+	}
+
 	private TaskExecution invokeOnTaskStartup(TaskExecution taskExecution) {
 		this.taskObservations.onTaskStartup(taskExecution);
 		TaskExecution listenerTaskExecution = getTaskExecutionCopy(taskExecution);
@@ -394,6 +425,22 @@ public class TaskLifecycleListener
 				taskExecution.getExternalExecutionId(), taskExecution.getParentExecutionId());
 	}
 
+	/**
+	 * Sets the {@link TaskExplorer} used to read the task execution created by the
+	 * launcher, which must see the writes made to the task repository. Defaults to the
+	 * task explorer given to the constructor.
+	 * @param primaryTaskExplorer the explorer that reads from the primary task repository
+	 */
+	public void setPrimaryTaskExplorer(TaskExplorer primaryTaskExplorer) {
+		Assert.notNull(primaryTaskExplorer, "A primaryTaskExplorer is required");
+		this.primaryTaskExplorer = primaryTaskExplorer;
+	}
+
+	@Override
+	public void setApplicationStartup(ApplicationStartup applicationStartup) {
+		this.applicationStartup = applicationStartup;
+	}
+
 	@Override
 	public boolean isAutoStartup() {
 		return true;
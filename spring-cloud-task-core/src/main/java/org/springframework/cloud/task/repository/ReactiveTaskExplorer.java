@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Non-blocking counterpart of {@link TaskExplorer} that offers methods to retrieve the
+ * task executions without blocking the calling thread.
+ *
+ * @author agent
+ * @see TaskExplorer
+ */
+public interface ReactiveTaskExplorer {
+
+	/**
+	 * Retrieve a {@link TaskExecution} by its id.
+	 * @param executionId the task execution id
+	 * @return the {@link TaskExecution} with this id or an empty {@link Mono} if none
+	 */
+	Mono<TaskExecution> getTaskExecution(long executionId);
+
+	/**
+	 * Retrieve a collection of task executions that have the task name provided.
+	 * @param taskName the name of the task
+	 * @param pageable enumerates the data to be returned.
+	 * @return the page of task executions associated with the specified task
+	 */
+	Mono<Page<TaskExecution>> findTaskExecutionsByName(String taskName, Pageable pageable);
+
+	/**
+	 * Retrieve a collection of task executions that are running for the task name
+	 * provided.
+	 * @param taskName the name of the task
+	 * @param pageable enumerates the data to be returned.
+	 * @return the page of running task executions associated with the specified task
+	 */
+	Mono<Page<TaskExecution>> findRunningTaskExecutions(String taskName, Pageable pageable);
+
+	/**
+	 * Retrieves all the task executions within the pageable constraints sorted by start
+	 * date descending, taskExecution id descending.
+	 * @param pageable enumerates the data to be returned.
+	 * @return the page of task executions
+	 */
+	Mono<Page<TaskExecution>> findAll(Pageable pageable);
+
+	/**
+	 * Streams the task executions that satisfy the criteria in ascending task execution
+	 * id order. The task executions are read as they are requested by the subscriber.
+	 * @param criteria the restrictions on the task executions to emit.
+	 * @return the task executions
+	 */
+	Flux<TaskExecution> streamAll(TaskExecutionCriteria criteria);
+
+	/**
+	 * Streams the task executions of the task name provided that satisfy the criteria in
+	 * ascending task execution id order.
+	 * @param taskName the name of the task.
+	 * @param criteria the restrictions on the task executions to emit.
+	 * @return the task executions
+	 */
+	Flux<TaskExecution> streamTaskExecutionsByName(String taskName, TaskExecutionCriteria criteria);
+
+	/**
+	 * Returns the latest task execution for a given task name. The latest task execution
+	 * is the one with the most recent start time and, among those, the highest id.
+	 * @param taskName the name of the task
+	 * @return the latest task execution or an empty {@link Mono} if none
+	 */
+	Mono<TaskExecution> getLatestTaskExecutionForTaskName(String taskName);
+
+	/**
+	 * Retrieve a list of available task names.
+	 * @return the task names in alphabetical order
+	 */
+	Flux<String> getTaskNames();
+
+	/**
+	 * Get number of executions for a taskName.
+	 * @param taskName the name of the task to be searched
+	 * @return the number of task executions for the specified task
+	 */
+	Mono<Long> getTaskExecutionCountByTaskName(String taskName);
+
+	/**
+	 * Retrieves current number of task executions.
+	 * @return current number of task executions.
+	 */
+	Mono<Long> getTaskExecutionCount();
+
+	/**
+	 * Retrieves current number of running task executions.
+	 * @return current number of running task executions.
+	 */
+	Mono<Long> getRunningTaskExecutionCount();
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking counterpart of {@link TaskRepository} that offers methods to create and
+ * update task execution information without blocking the calling thread. Each method
+ * updates the task repository in its own transaction once subscribed to.
+ *
+ * @author agent
+ * @see TaskRepository
+ */
+public interface ReactiveTaskRepository {
+
+	/**
+	 * Notifies the repository that a taskExecution has completed.
+	 * @param executionId to the task execution to be updated.
+	 * @param exitCode to be stored for this task execution.
+	 * @param endTime designated when the task completed.
+	 * @param exitMessage to be stored for the task execution.
+	 * @param errorMessage to be stored for the task execution.
+	 * @return the updated {@link TaskExecution}
+	 */
+	Mono<TaskExecution> completeTaskExecution(long executionId, Integer exitCode, LocalDateTime endTime,
+			String exitMessage, String errorMessage);
+
+	/**
+	 * Notifies the repository that a taskExecution needs to be created.
+	 * @param taskExecution a TaskExecution instance containing the startTime, arguments
+	 * and externalExecutionId that will be stored in the repository.
+	 * @return the {@link TaskExecution} that was stored in the repository with the id
+	 * that was used to store it
+	 */
+	Mono<TaskExecution> createTaskExecution(TaskExecution taskExecution);
+
+	/**
+	 * Creates an empty TaskExecution with just an id and name provided, to be started
+	 * later on.
+	 * @param name task name to be associated with the task execution.
+	 * @return the initial {@link TaskExecution}
+	 */
+	Mono<TaskExecution> createTaskExecution(String name);
+
+	/**
+	 * Notifies the repository that a taskExecution has started.
+	 * @param executionId to the task execution to be updated.
+	 * @param taskName the name that associated with the task execution.
+	 * @param startTime the time task began.
+	 * @param arguments list of key/value pairs that configure the task.
+	 * @param externalExecutionId id assigned to the task by the platform.
+	 * @param parentExecutionId the parent task execution id.
+	 * @return the {@link TaskExecution} as it was started
+	 */
+	Mono<TaskExecution> startTaskExecution(long executionId, String taskName, LocalDateTime startTime,
+			List<String> arguments, String externalExecutionId, Long parentExecutionId);
+
+	/**
+	 * Notifies the repository to update the taskExecution's externalExecutionId.
+	 * @param executionId to the task execution to be updated.
+	 * @param externalExecutionId id assigned to the task by the platform.
+	 * @return a {@link Mono} that completes once the task execution is updated
+	 */
+	Mono<Void> updateExternalExecutionId(long executionId, String externalExecutionId);
+
+}
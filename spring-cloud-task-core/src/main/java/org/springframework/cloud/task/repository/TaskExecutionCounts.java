@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository;
+
+import java.util.Objects;
+
+/**
+ * The number of task executions of a task, or of all the tasks, by outcome. A task
+ * execution is running until it has an end time, it then succeeded if its exit code is
+ * 0 and failed otherwise, so the total is the sum of the running, succeeded and failed
+ * counts.
+ *
+ * @author agent
+ * @see TaskExplorer#getTaskExecutionCounts(String)
+ */
+public final class TaskExecutionCounts {
+
+	private final long total;
+
+	private final long running;
+
+	private final long succeeded;
+
+	private final long failed;
+
+	public TaskExecutionCounts(long total, long running, long succeeded, long failed) {
+		this.total = total;
+		this.running = running;
+		this.succeeded = succeeded;
+		this.failed = failed;
+	}
+
+	public long getTotal() {
+		return this.total;
+	}
+
+	public long getRunning() {
+		return this.running;
+	}
+
+	public long getSucceeded() {
+		return this.succeeded;
+	}
+
+	public long getFailed() {
+		return this.failed;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof TaskExecutionCounts)) {
+			return false;
+		}
+		TaskExecutionCounts that = (TaskExecutionCounts) o;
+		return this.total == that.total && this.running == that.running && this.succeeded == that.succeeded
+				&& this.failed == that.failed;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.total, this.running, this.succeeded, this.failed);
+	}
+
+	@Override
+	public String toString() {
+		return "TaskExecutionCounts{" + "total=" + this.total + ", running=" + this.running + ", succeeded="
+				+ this.succeeded + ", failed=" + this.failed + '}';
+	}
+
+}
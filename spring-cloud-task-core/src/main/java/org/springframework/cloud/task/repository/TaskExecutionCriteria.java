@@ -0,0 +1,188 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import org.springframework.util.Assert;
+
+/**
+ * Restricts the task executions returned by {@link TaskExplorer#streamAll}. Criteria are
+ * immutable, each method returns a new instance with the additional restriction, for
+ * instance:
+ * <pre class="code">
+ * TaskExecutionCriteria.all().completedOnly().startedBefore(midnight)
+ * </pre>
+ *
+ * @author agent
+ */
+public final class TaskExecutionCriteria {
+
+	private static final TaskExecutionCriteria ALL = new TaskExecutionCriteria(null, null, null, false, false);
+
+	private final Long afterExecutionId;
+
+	private final LocalDateTime startedFrom;
+
+	private final LocalDateTime startedBefore;
+
+	private final boolean completedOnly;
+
+	private final boolean includingArchived;
+
+	private TaskExecutionCriteria(Long afterExecutionId, LocalDateTime startedFrom, LocalDateTime startedBefore,
+			boolean completedOnly, boolean includingArchived) {
+		this.afterExecutionId = afterExecutionId;
+		this.startedFrom = startedFrom;
+		this.startedBefore = startedBefore;
+		this.completedOnly = completedOnly;
+		this.includingArchived = includingArchived;
+	}
+
+	/**
+	 * Criteria that match every task execution.
+	 * @return the criteria
+	 */
+	public static TaskExecutionCriteria all() {
+		return ALL;
+	}
+
+	/**
+	 * Restricts the task executions to the ones with an id greater than the provided one,
+	 * which allows an interrupted export to resume after the last exported execution.
+	 * @param executionId the id of the last task execution that is not to be returned.
+	 * @return the new criteria
+	 */
+	public TaskExecutionCriteria afterExecutionId(long executionId) {
+		return new TaskExecutionCriteria(executionId, this.startedFrom, this.startedBefore, this.completedOnly,
+				this.includingArchived);
+	}
+
+	/**
+	 * Restricts the task executions to the ones that started at or after the provided
+	 * time.
+	 * @param startTime the inclusive lower bound of the start time.
+	 * @return the new criteria
+	 */
+	public TaskExecutionCriteria startedFrom(LocalDateTime startTime) {
+		Assert.notNull(startTime, "startTime must not be null");
+		return new TaskExecutionCriteria(this.afterExecutionId, startTime, this.startedBefore, this.completedOnly,
+				this.includingArchived);
+	}
+
+	/**
+	 * Restricts the task executions to the ones that started before the provided time.
+	 * @param startTime the exclusive upper bound of the start time.
+	 * @return the new criteria
+	 */
+	public TaskExecutionCriteria startedBefore(LocalDateTime startTime) {
+		Assert.notNull(startTime, "startTime must not be null");
+		return new TaskExecutionCriteria(this.afterExecutionId, this.startedFrom, startTime, this.completedOnly,
+				this.includingArchived);
+	}
+
+	/**
+	 * Restricts the task executions to the ones that have an end time.
+	 * @return the new criteria
+	 */
+	public TaskExecutionCriteria completedOnly() {
+		return new TaskExecutionCriteria(this.afterExecutionId, this.startedFrom, this.startedBefore, true,
+				this.includingArchived);
+	}
+
+	/**
+	 * Includes the task executions that were moved to the archive tables of the task
+	 * repository, which are otherwise not returned. Only honored by task repositories
+	 * that have archive tables enabled.
+	 * @return the new criteria
+	 * @see org.springframework.cloud.task.repository.dao.JdbcTaskExecutionDao#setArchiveEnabled(boolean)
+	 */
+	public TaskExecutionCriteria includingArchived() {
+		return new TaskExecutionCriteria(this.afterExecutionId, this.startedFrom, this.startedBefore,
+				this.completedOnly, true);
+	}
+
+	public Long getAfterExecutionId() {
+		return this.afterExecutionId;
+	}
+
+	public LocalDateTime getStartedFrom() {
+		return this.startedFrom;
+	}
+
+	public LocalDateTime getStartedBefore() {
+		return this.startedBefore;
+	}
+
+	public boolean isCompletedOnly() {
+		return this.completedOnly;
+	}
+
+	public boolean isIncludingArchived() {
+		return this.includingArchived;
+	}
+
+	/**
+	 * Indicates if the provided task execution satisfies these criteria. Task executions
+	 * without a start time never satisfy a start time restriction.
+	 * @param taskExecution the task execution to check.
+	 * @return true if the task execution satisfies these criteria
+	 */
+	public boolean matches(TaskExecution taskExecution) {
+		if (this.afterExecutionId != null && taskExecution.getExecutionId() <= this.afterExecutionId) {
+			return false;
+		}
+		LocalDateTime startTime = taskExecution.getStartTime();
+		if (this.startedFrom != null && (startTime == null || startTime.isBefore(this.startedFrom))) {
+			return false;
+		}
+		if (this.startedBefore != null && (startTime == null || !startTime.isBefore(this.startedBefore))) {
+			return false;
+		}
+		return !this.completedOnly || taskExecution.getEndTime() != null;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof TaskExecutionCriteria)) {
+			return false;
+		}
+		TaskExecutionCriteria that = (TaskExecutionCriteria) o;
+		return this.completedOnly == that.completedOnly && this.includingArchived == that.includingArchived
+				&& Objects.equals(this.afterExecutionId, that.afterExecutionId)
+				&& Objects.equals(this.startedFrom, that.startedFrom)
+				&& Objects.equals(this.startedBefore, that.startedBefore);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.afterExecutionId, this.startedFrom, this.startedBefore, this.completedOnly,
+				this.includingArchived);
+	}
+
+	@Override
+	public String toString() {
+		return "TaskExecutionCriteria{" + "afterExecutionId=" + this.afterExecutionId + ", startedFrom="
+				+ this.startedFrom + ", startedBefore=" + this.startedBefore + ", completedOnly=" + this.completedOnly
+				+ ", includingArchived=" + this.includingArchived + '}';
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.Objects;
+
+import org.springframework.util.Assert;
+
+/**
+ * Position of a {@link TaskExecution} in the keyset ordering used by
+ * {@link TaskExplorer#findAll(TaskExecutionCursor, int)}: start time descending, task
+ * execution id descending, with the task executions without a start time last. A cursor
+ * can be converted to and from an opaque token so that it can be handed to clients
+ * between requests.
+ *
+ * @author agent
+ */
+public final class TaskExecutionCursor {
+
+	private static final char SEPARATOR = '|';
+
+	private final LocalDateTime startTime;
+
+	private final long executionId;
+
+	private TaskExecutionCursor(LocalDateTime startTime, long executionId) {
+		this.startTime = startTime;
+		this.executionId = executionId;
+	}
+
+	/**
+	 * Creates a cursor positioned at the provided task execution. Results retrieved with
+	 * this cursor start with the execution that follows it.
+	 * @param taskExecution the task execution.
+	 * @return the cursor
+	 */
+	public static TaskExecutionCursor of(TaskExecution taskExecution) {
+		Assert.notNull(taskExecution, "taskExecution must not be null");
+		return new TaskExecutionCursor(taskExecution.getStartTime(), taskExecution.getExecutionId());
+	}
+
+	/**
+	 * Creates a cursor from the provided start time and task execution id.
+	 * @param startTime the start time of the task execution, null if it has not
+	 * started.
+	 * @param executionId the id of the task execution.
+	 * @return the cursor
+	 */
+	public static TaskExecutionCursor of(LocalDateTime startTime, long executionId) {
+		return new TaskExecutionCursor(startTime, executionId);
+	}
+
+	/**
+	 * Restores a cursor from a token created by {@link #toToken()}.
+	 * @param token the token.
+	 * @return the cursor
+	 * @throws IllegalArgumentException if the token is not a valid cursor token.
+	 */
+	public static TaskExecutionCursor fromToken(String token) {
+		Assert.hasText(token, "token must not be empty");
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separator = decoded.lastIndexOf(SEPARATOR);
+			Assert.isTrue(separator >= 0, "Invalid task execution cursor: " + token);
+			LocalDateTime startTime = (separator > 0) ? LocalDateTime.parse(decoded.substring(0, separator)) : null;
+			return new TaskExecutionCursor(startTime, Long.parseLong(decoded.substring(separator + 1)));
+		}
+		catch (DateTimeParseException | NumberFormatException ex) {
+			throw new IllegalArgumentException("Invalid task execution cursor: " + token, ex);
+		}
+	}
+
+	/**
+	 * Converts this cursor into an opaque, URL safe token.
+	 * @return the token
+	 */
+	public String toToken() {
+		String value = ((this.startTime != null) ? this.startTime.toString() : "") + SEPARATOR + this.executionId;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	public LocalDateTime getStartTime() {
+		return this.startTime;
+	}
+
+	public long getExecutionId() {
+		return this.executionId;
+	}
+
+	/**
+	 * Indicates if the provided task execution comes after this cursor in the keyset
+	 * ordering.
+	 * @param taskExecution the task execution to check.
+	 * @return true if the task execution comes after this cursor.
+	 */
+	public boolean isBefore(TaskExecution taskExecution) {
+		if (this.startTime == null || taskExecution.getStartTime() == null) {
+			// the task executions without a start time come last, by id descending
+			return (this.startTime != null)
+					|| (taskExecution.getStartTime() == null && taskExecution.getExecutionId() < this.executionId);
+		}
+		int result = taskExecution.getStartTime().compareTo(this.startTime);
+		return result < 0 || (result == 0 && taskExecution.getExecutionId() < this.executionId);
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof TaskExecutionCursor)) {
+			return false;
+		}
+		TaskExecutionCursor that = (TaskExecutionCursor) o;
+		return this.executionId == that.executionId && Objects.equals(this.startTime, that.startTime);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.startTime, this.executionId);
+	}
+
+	@Override
+	public String toString() {
+		return "TaskExecutionCursor{" + "startTime=" + this.startTime + ", executionId=" + this.executionId + '}';
+	}
+
+}
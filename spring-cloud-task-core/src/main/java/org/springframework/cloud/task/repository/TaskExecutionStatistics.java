@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Duration and outcome statistics of the task executions that satisfy a
+ * {@link TaskExecutionCriteria}. The exit code histogram only counts completed task
+ * executions, the durations only the ones that have both a start and an end time. The
+ * percentiles are continuous, interpolated between the two closest durations, and are
+ * estimated within one percent when the database does not compute them. The durations
+ * are null when no task execution has one.
+ *
+ * @author agent
+ * @see TaskExplorer#getTaskExecutionStatistics(String, TaskExecutionCriteria)
+ */
+public final class TaskExecutionStatistics {
+
+	private final long count;
+
+	private final long completedCount;
+
+	private final Map<Integer, Long> exitCodeCounts;
+
+	private final Duration minDuration;
+
+	private final Duration averageDuration;
+
+	private final Duration maxDuration;
+
+	private final Duration p50Duration;
+
+	private final Duration p95Duration;
+
+	private final Duration p99Duration;
+
+	public TaskExecutionStatistics(long count, long completedCount, Map<Integer, Long> exitCodeCounts,
+			Duration minDuration, Duration averageDuration, Duration maxDuration, Duration p50Duration,
+			Duration p95Duration, Duration p99Duration) {
+		this.count = count;
+		this.completedCount = completedCount;
+		Map<Integer, Long> sortedExitCodeCounts = new TreeMap<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+		sortedExitCodeCounts.putAll(exitCodeCounts);
+		this.exitCodeCounts = Collections.unmodifiableMap(sortedExitCodeCounts);
+		this.minDuration = minDuration;
+		this.averageDuration = averageDuration;
+		this.maxDuration = maxDuration;
+		this.p50Duration = p50Duration;
+		this.p95Duration = p95Duration;
+		this.p99Duration = p99Duration;
+	}
+
+	/**
+	 * @return the number of task executions that satisfy the criteria, running or not
+	 */
+	public long getCount() {
+		return this.count;
+	}
+
+	/**
+	 * @return the number of task executions that have an end time
+	 */
+	public long getCompletedCount() {
+		return this.completedCount;
+	}
+
+	/**
+	 * @return the number of completed task executions by exit code, sorted by exit code
+	 */
+	public Map<Integer, Long> getExitCodeCounts() {
+		return this.exitCodeCounts;
+	}
+
+	/**
+	 * @return the number of completed task executions that have an exit code other than
+	 * 0
+	 */
+	public long getFailedCount() {
+		long succeeded = this.exitCodeCounts.getOrDefault(0, 0L);
+		return this.completedCount - succeeded;
+	}
+
+	/**
+	 * @return the ratio of failed task executions to completed task executions, 0 when
+	 * no task execution completed
+	 */
+	public double getFailureRate() {
+		return (this.completedCount == 0) ? 0 : (double) getFailedCount() / this.completedCount;
+	}
+
+	public Duration getMinDuration() {
+		return this.minDuration;
+	}
+
+	public Duration getAverageDuration() {
+		return this.averageDuration;
+	}
+
+	public Duration getMaxDuration() {
+		return this.maxDuration;
+	}
+
+	public Duration getP50Duration() {
+		return this.p50Duration;
+	}
+
+	public Duration getP95Duration() {
+		return this.p95Duration;
+	}
+
+	public Duration getP99Duration() {
+		return this.p99Duration;
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (this == o) {
+			return true;
+		}
+		if (!(o instanceof TaskExecutionStatistics)) {
+			return false;
+		}
+		TaskExecutionStatistics that = (TaskExecutionStatistics) o;
+		return this.count == that.count && this.completedCount == that.completedCount
+				&& this.exitCodeCounts.equals(that.exitCodeCounts) && Objects.equals(this.minDuration, that.minDuration)
+				&& Objects.equals(this.averageDuration, that.averageDuration)
+				&& Objects.equals(this.maxDuration, that.maxDuration)
+				&& Objects.equals(this.p50Duration, that.p50Duration)
+				&& Objects.equals(this.p95Duration, that.p95Duration)
+				&& Objects.equals(this.p99Duration, that.p99Duration);
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(this.count, this.completedCount, this.exitCodeCounts, this.minDuration,
+				this.averageDuration, this.maxDuration, this.p50Duration, this.p95Duration, this.p99Duration);
+	}
+
+	@Override
+	public String toString() {
+		return "TaskExecutionStatistics{" + "count=" + this.count + ", completedCount=" + this.completedCount
+				+ ", exitCodeCounts=" + this.exitCodeCounts + ", minDuration=" + this.minDuration
+				+ ", averageDuration=" + this.averageDuration + ", maxDuration=" + this.maxDuration
+				+ ", p50Duration=" + this.p50Duration + ", p95Duration=" + this.p95Duration + ", p99Duration="
+				+ this.p99Duration + '}';
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * A window of {@link TaskExecution}s retrieved by keyset pagination along with the
+ * {@link TaskExecutionCursor} to use to retrieve the next window.
+ *
+ * @author agent
+ * @see TaskExplorer#findAll(TaskExecutionCursor, int)
+ */
+public class TaskExecutionWindow {
+
+	private final List<TaskExecution> content;
+
+	private final boolean hasNext;
+
+	/**
+	 * Creates a window from the results of a query that fetched one row more than the
+	 * requested limit.
+	 * @param results the retrieved task executions, at most {@code limit + 1}.
+	 * @param limit the maximum number of task executions in the window.
+	 * @return the window
+	 */
+	public static TaskExecutionWindow from(List<TaskExecution> results, int limit) {
+		boolean hasNext = results.size() > limit;
+		return new TaskExecutionWindow(hasNext ? results.subList(0, limit) : results, hasNext);
+	}
+
+	public TaskExecutionWindow(List<TaskExecution> content, boolean hasNext) {
+		Assert.notNull(content, "content must not be null");
+		this.content = Collections.unmodifiableList(content);
+		this.hasNext = hasNext;
+	}
+
+	public List<TaskExecution> getContent() {
+		return this.content;
+	}
+
+	public boolean hasNext() {
+		return this.hasNext;
+	}
+
+	/**
+	 * The cursor positioned at the last task execution of this window.
+	 * @return the cursor to retrieve the next window or null if there is no further
+	 * task execution.
+	 */
+	public TaskExecutionCursor getNextCursor() {
+		if (!this.hasNext || this.content.isEmpty()) {
+			return null;
+		}
+		return TaskExecutionCursor.of(this.content.get(this.content.size() - 1));
+	}
+
+	/**
+	 * The opaque form of {@link #getNextCursor()}.
+	 * @return the continuation token or null if there is no further task execution.
+	 */
+	public String getNextToken() {
+		TaskExecutionCursor cursor = getNextCursor();
+		return (cursor != null) ? cursor.toToken() : null;
+	}
+
+}
@@ -16,11 +16,21 @@
 
 package org.springframework.cloud.task.repository;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import org.springframework.cloud.task.repository.dao.TaskExecutionStatisticsCollector;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.Assert;
 
 /**
  * Offers methods that allow users to query the task executions that are available.
@@ -46,6 +56,20 @@ public interface TaskExplorer {
 	 */
 	Page<TaskExecution> findRunningTaskExecutions(String taskName, Pageable pageable);
 
+	/**
+	 * Retrieve a slice of the taskExecutions that have the task name provided and are
+	 * still running. Unlike {@link #findRunningTaskExecutions(String, Pageable)} the total
+	 * number of matching task executions is not counted.
+	 * <p>
+	 * The default implementation falls back to the counting variant of the query.
+	 * @param taskName the name of the task
+	 * @param pageable the constraints for the search
+	 * @return the slice of running executions for tasks with the name provided
+	 */
+	default Slice<TaskExecution> sliceRunningTaskExecutions(String taskName, Pageable pageable) {
+		return findRunningTaskExecutions(taskName, pageable);
+	}
+
 	/**
 	 * Retrieve a collection of taskExecutions that contain the provided external
 	 * execution id.
@@ -55,6 +79,19 @@ public interface TaskExplorer {
 	 */
 	Page<TaskExecution> findTaskExecutionsByExecutionId(String externalExecutionId, Pageable pageable);
 
+	/**
+	 * Retrieve a slice of the taskExecutions that contain the provided external execution
+	 * id without counting the total number of matching task executions.
+	 * <p>
+	 * The default implementation falls back to the counting variant of the query.
+	 * @param externalExecutionId the external execution id of the tasks
+	 * @param pageable the constraints for the search
+	 * @return the slice of executions for tasks with the external execution id provided
+	 */
+	default Slice<TaskExecution> sliceTaskExecutionsByExecutionId(String externalExecutionId, Pageable pageable) {
+		return findTaskExecutionsByExecutionId(externalExecutionId, pageable);
+	}
+
 	/**
 	 * Retrieve a list of available task names.
 	 * @return the set of task names that have been executed
@@ -80,6 +117,61 @@ public interface TaskExplorer {
 	 */
 	long getRunningTaskExecutionCount();
 
+	/**
+	 * Retrieves the number of task executions of a task, or of all the tasks, that are
+	 * running, that succeeded and that failed.
+	 * <p>
+	 * The default implementation counts the task executions returned by
+	 * {@link #streamAll(TaskExecutionCriteria)} or
+	 * {@link #streamTaskExecutionsByName(String, TaskExecutionCriteria)}.
+	 * @param taskName the name of the task or null for all the tasks.
+	 * @return the task execution counts
+	 */
+	default TaskExecutionCounts getTaskExecutionCounts(String taskName) {
+		long total = 0;
+		long running = 0;
+		long succeeded = 0;
+		TaskExecutionCriteria criteria = TaskExecutionCriteria.all();
+		try (Stream<TaskExecution> taskExecutions = (taskName != null)
+				? streamTaskExecutionsByName(taskName, criteria) : streamAll(criteria)) {
+			Iterator<TaskExecution> iterator = taskExecutions.iterator();
+			while (iterator.hasNext()) {
+				TaskExecution taskExecution = iterator.next();
+				total++;
+				if (taskExecution.getEndTime() == null) {
+					running++;
+				}
+				else if (taskExecution.getExitCode() != null && taskExecution.getExitCode() == 0) {
+					succeeded++;
+				}
+			}
+		}
+		return new TaskExecutionCounts(total, running, succeeded, total - running - succeeded);
+	}
+
+	/**
+	 * Computes the number of task executions, the exit code histogram and the minimum,
+	 * average, maximum and percentile durations of the task executions of a task, or of
+	 * all the tasks, that satisfy the provided criteria, for instance the ones that
+	 * started during the last day.
+	 * <p>
+	 * The default implementation computes the statistics in memory from the task
+	 * executions returned by {@link #streamAll(TaskExecutionCriteria)} or
+	 * {@link #streamTaskExecutionsByName(String, TaskExecutionCriteria)}.
+	 * @param taskName the name of the task or null for all the tasks.
+	 * @param criteria the restrictions on the task executions.
+	 * @return the task execution statistics
+	 */
+	default TaskExecutionStatistics getTaskExecutionStatistics(String taskName, TaskExecutionCriteria criteria) {
+		Assert.notNull(criteria, "criteria must not be null");
+		TaskExecutionStatisticsCollector collector = new TaskExecutionStatisticsCollector();
+		try (Stream<TaskExecution> taskExecutions = (taskName != null)
+				? streamTaskExecutionsByName(taskName, criteria) : streamAll(criteria)) {
+			taskExecutions.forEach(collector);
+		}
+		return collector.toStatistics();
+	}
+
 	/**
 	 * Retrieves current number of task executions by external executionId.
 	 * @param externalExecutionId The externalExecutionId to be searched.
@@ -95,6 +187,19 @@ public interface TaskExplorer {
 	 */
 	Page<TaskExecution> findTaskExecutionsByName(String taskName, Pageable pageable);
 
+	/**
+	 * Get a slice of the task executions for the task name provided without counting the
+	 * total number of matching task executions.
+	 * <p>
+	 * The default implementation falls back to the counting variant of the query.
+	 * @param taskName the name of the task
+	 * @param pageable the constraints for the search
+	 * @return the slice of task executions for the task name provided
+	 */
+	default Slice<TaskExecution> sliceTaskExecutionsByName(String taskName, Pageable pageable) {
+		return findTaskExecutionsByName(taskName, pageable);
+	}
+
 	/**
 	 * Retrieves all the task executions within the pageable constraints sorted by start
 	 * date descending, taskExecution id descending.
@@ -103,6 +208,88 @@ public interface TaskExplorer {
 	 */
 	Page<TaskExecution> findAll(Pageable pageable);
 
+	/**
+	 * Retrieves a slice of all the task executions without counting the total number of
+	 * task executions. Whether a next slice exists is determined by fetching one more row
+	 * than the requested page size.
+	 * <p>
+	 * The default implementation falls back to the counting variant of the query.
+	 * @param pageable the constraints for the search
+	 * @return slice containing the results from the search
+	 */
+	default Slice<TaskExecution> sliceAll(Pageable pageable) {
+		return findAll(pageable);
+	}
+
+	/**
+	 * Retrieves the task executions that follow the provided cursor, sorted by start date
+	 * descending, taskExecution id descending. Unlike {@link #findAll(Pageable)} the cost
+	 * of retrieving a window does not depend on how deep into the history it is. Task
+	 * executions that have not been assigned a start time come last, by taskExecution id
+	 * descending.
+	 * <p>
+	 * The default implementation pages through {@link #sliceAll(Pageable)} from the most
+	 * recent task execution, so the cost of retrieving a window grows with its depth.
+	 * @param after the cursor of the last task execution of the previous window, or null
+	 * to start with the most recent task execution.
+	 * @param limit the maximum number of task executions to return.
+	 * @return the window of task executions along with the cursor for the next window
+	 */
+	default TaskExecutionWindow findAll(TaskExecutionCursor after, int limit) {
+		Assert.isTrue(limit > 0, "limit must be greater than zero");
+		// One extra task execution is kept to determine if there is a next window.
+		List<TaskExecution> resultList = new ArrayList<>(limit + 1);
+		Slice<TaskExecution> slice;
+		Pageable pageable = PageRequest.of(0, limit + 1);
+		do {
+			slice = sliceAll(pageable);
+			for (TaskExecution taskExecution : slice) {
+				if (resultList.size() <= limit && (after == null || after.isBefore(taskExecution))) {
+					resultList.add(taskExecution);
+				}
+			}
+			pageable = slice.nextPageable();
+		}
+		while (resultList.size() <= limit && slice.hasNext());
+		return TaskExecutionWindow.from(resultList, limit);
+	}
+
+	/**
+	 * Streams the task executions that satisfy the provided criteria, sorted by
+	 * taskExecution id ascending. Unlike {@link #findAll(Pageable)} the task executions
+	 * are read by a single forward-only query as the stream is consumed, so the whole
+	 * history can be exported in constant memory. The stream holds a database connection
+	 * until it is closed, hence it should be consumed within a try-with-resources block,
+	 * within a read-only transaction so that drivers such as PostgreSQL honor the fetch
+	 * size.
+	 * <p>
+	 * The default implementation pages through {@link #sliceAll(Pageable)} and sorts the
+	 * matching task executions in memory before streaming them, so it does not run in
+	 * constant memory.
+	 * @param criteria the restrictions applied to the task executions.
+	 * @return the lazily populated stream of task executions
+	 */
+	default Stream<TaskExecution> streamAll(TaskExecutionCriteria criteria) {
+		return streamSlices(this::sliceAll, criteria);
+	}
+
+	/**
+	 * Streams the task executions of the provided task name that satisfy the provided
+	 * criteria, sorted by taskExecution id ascending. The stream must be closed once
+	 * consumed.
+	 * <p>
+	 * The default implementation pages through
+	 * {@link #sliceTaskExecutionsByName(String, Pageable)} and sorts the matching task
+	 * executions in memory before streaming them.
+	 * @param taskName the name of the task.
+	 * @param criteria the restrictions applied to the task executions.
+	 * @return the lazily populated stream of task executions
+	 * @see #streamAll(TaskExecutionCriteria)
+	 */
+	default Stream<TaskExecution> streamTaskExecutionsByName(String taskName, TaskExecutionCriteria criteria) {
+		return streamSlices((pageable) -> sliceTaskExecutionsByName(taskName, pageable), criteria);
+	}
+
 	/**
 	 * Returns the id of the TaskExecution that the requested Spring Batch job execution
 	 * was executed within the context of. Returns null if none were found.
@@ -149,4 +336,25 @@ public interface TaskExplorer {
 	 */
 	TaskExecution getLatestTaskExecutionForTaskName(String taskName);
 
+	private static Stream<TaskExecution> streamSlices(Function<Pageable, Slice<TaskExecution>> query,
+			TaskExecutionCriteria criteria) {
+		Assert.notNull(criteria, "criteria must not be null");
+		// The slices are sorted by start time, so the task executions are collected by id
+		// to be streamed in the order of their ids.
+		SortedMap<Long, TaskExecution> taskExecutions = new TreeMap<>();
+		Slice<TaskExecution> slice;
+		Pageable pageable = PageRequest.of(0, 100);
+		do {
+			slice = query.apply(pageable);
+			for (TaskExecution taskExecution : slice) {
+				if (criteria.matches(taskExecution)) {
+					taskExecutions.put(taskExecution.getExecutionId(), taskExecution);
+				}
+			}
+			pageable = slice.nextPageable();
+		}
+		while (slice.hasNext());
+		return taskExecutions.values().stream();
+	}
+
 }
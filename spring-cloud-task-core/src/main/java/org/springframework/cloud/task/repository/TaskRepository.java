@@ -56,6 +56,22 @@ public interface TaskRepository {
 	TaskExecution completeTaskExecution(long executionId, Integer exitCode, LocalDateTime endTime, String exitMessage,
 			String errorMessage);
 
+	/**
+	 * Notifies the repository that a taskExecution has completed using the exit code,
+	 * end time, exit message and error message of the provided task execution. Unlike
+	 * {@link #completeTaskExecution(long, Integer, LocalDateTime, String, String)} the
+	 * returned task execution may be built from the provided one rather than re-read
+	 * from the repository.
+	 * @param taskExecution the task execution that has completed.
+	 * @return the updated {@link TaskExecution}
+	 * @since 3.1.2
+	 */
+	@Transactional("${spring.cloud.task.transaction-manager:springCloudTaskTransactionManager}")
+	default TaskExecution completeTaskExecution(TaskExecution taskExecution) {
+		return completeTaskExecution(taskExecution.getExecutionId(), taskExecution.getExitCode(),
+				taskExecution.getEndTime(), taskExecution.getExitMessage(), taskExecution.getErrorMessage());
+	}
+
 	/**
 	 * Notifies the repository that a taskExecution needs to be created.
 	 * @param taskExecution a TaskExecution instance containing the startTime, arguments
@@ -0,0 +1,555 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.dao;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.util.Assert;
+
+/**
+ * {@link MapTaskExecutionDao} that persists the task executions to an append-only log
+ * file, so that the task execution history survives restarts of applications that have
+ * no {@code DataSource}.
+ * <p>
+ * Every change made through this DAO, including the job executions associated through
+ * {@link #getBatchJobAssociations()}, is appended to the log as a checksummed record
+ * before the call returns. Queries are answered by the in-memory indexes of
+ * {@link MapTaskExecutionDao}, which are rebuilt on startup by replaying the log through
+ * a memory-mapped read. A record that was only partially written when the application
+ * stopped is discarded on startup. When the replayed log holds at least as many records
+ * as the compaction threshold, it is rewritten on startup with a single record per task
+ * execution and atomically replaced, so that writes never wait for a compaction.
+ * <p>
+ * Records are handed to the operating system on every write, which protects them from
+ * an application crash. They are only forced to the storage device when
+ * {@link #setSyncOnWrite(boolean)} is enabled, at the cost of write throughput. The log
+ * must not be shared by several applications: an exclusive lock is held on a
+ * {@code .lock} file next to the log until this DAO is closed, and opening a log that is
+ * locked fails.
+ *
+ * @author agent
+ */
+public class FileTaskExecutionDao extends MapTaskExecutionDao implements Closeable {
+
+	/**
+	 * Default number of records of the log that triggers a compaction on startup.
+	 */
+	public static final int DEFAULT_COMPACTION_THRESHOLD = 100000;
+
+	private static final Log logger = LogFactory.getLog(FileTaskExecutionDao.class);
+
+	private static final byte SAVE = 1;
+
+	private static final byte START = 2;
+
+	private static final byte COMPLETE = 3;
+
+	private static final byte EXTERNAL_EXECUTION_ID = 4;
+
+	private static final byte JOB_EXECUTION = 5;
+
+	private static final int HEADER_SIZE = 8;
+
+	private final Path file;
+
+	private final Object logMonitor = new Object();
+
+	private final FileChannel lockChannel;
+
+	private final FileLock lock;
+
+	private FileChannel channel;
+
+	private boolean replaying;
+
+	private boolean syncOnWrite;
+
+	private long recordsSinceCompaction;
+
+	/**
+	 * Creates the DAO and restores the task executions recorded in the provided file,
+	 * which is created if it does not exist.
+	 * @param file the log file.
+	 */
+	public FileTaskExecutionDao(Path file) {
+		this(file, DEFAULT_COMPACTION_THRESHOLD);
+	}
+
+	/**
+	 * Creates the DAO and restores the task executions recorded in the provided file,
+	 * which is created if it does not exist.
+	 * @param file the log file.
+	 * @param compactionThreshold the number of records of the log that triggers a
+	 * compaction on startup, must be greater than zero.
+	 * @throws IllegalStateException if the log is locked by another DAO
+	 */
+	public FileTaskExecutionDao(Path file, int compactionThreshold) {
+		Assert.notNull(file, "file must not be null");
+		Assert.isTrue(compactionThreshold > 0, "compactionThreshold must be greater than zero");
+		this.file = file.toAbsolutePath();
+		try {
+			if (this.file.getParent() != null) {
+				Files.createDirectories(this.file.getParent());
+			}
+			this.lockChannel = FileChannel.open(this.file.resolveSibling(this.file.getFileName() + ".lock"),
+					StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Unable to open the task execution log " + this.file, ex);
+		}
+		this.lock = tryLock(this.lockChannel);
+		try {
+			long validLength = replay();
+			this.channel = FileChannel.open(this.file, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+			if (this.channel.size() > validLength) {
+				logger.warn("Discarding " + (this.channel.size() - validLength)
+						+ " bytes of incomplete task execution records from " + this.file);
+				this.channel.truncate(validLength);
+			}
+			this.channel.position(validLength);
+			if (this.recordsSinceCompaction >= compactionThreshold) {
+				compact();
+			}
+		}
+		catch (IOException ex) {
+			releaseLock();
+			throw new UncheckedIOException("Unable to open the task execution log " + this.file, ex);
+		}
+		catch (RuntimeException ex) {
+			releaseLock();
+			throw ex;
+		}
+	}
+
+	/**
+	 * Sets whether every record is forced to the storage device before the write
+	 * returns. Defaults to false.
+	 * @param syncOnWrite true to force every record to the storage device.
+	 */
+	public void setSyncOnWrite(boolean syncOnWrite) {
+		this.syncOnWrite = syncOnWrite;
+	}
+
+	public Path getFile() {
+		return this.file;
+	}
+
+	@Override
+	public void saveTaskExecution(TaskExecution taskExecution) {
+		synchronized (this.logMonitor) {
+			super.saveTaskExecution(taskExecution);
+			append(SAVE, (out) -> writeTaskExecution(out, taskExecution));
+		}
+	}
+
+	@Override
+	public TaskExecution startTaskExecution(long executionId, String taskName, LocalDateTime startTime,
+			List<String> arguments, String externalExecutionid, Long parentExecutionId) {
+		synchronized (this.logMonitor) {
+			TaskExecution taskExecution = super.startTaskExecution(executionId, taskName, startTime, arguments,
+					externalExecutionid, parentExecutionId);
+			append(START, (out) -> {
+				out.writeLong(executionId);
+				writeString(out, taskName);
+				writeDateTime(out, startTime);
+				writeStrings(out, arguments);
+				writeString(out, externalExecutionid);
+				writeLong(out, parentExecutionId);
+			});
+			return taskExecution;
+		}
+	}
+
+	@Override
+	public void completeTaskExecution(long executionId, Integer exitCode, LocalDateTime endTime, String exitMessage,
+			String errorMessage) {
+		synchronized (this.logMonitor) {
+			super.completeTaskExecution(executionId, exitCode, endTime, exitMessage, errorMessage);
+			append(COMPLETE, (out) -> {
+				out.writeLong(executionId);
+				writeInteger(out, exitCode);
+				writeDateTime(out, endTime);
+				writeString(out, exitMessage);
+				writeString(out, errorMessage);
+			});
+		}
+	}
+
+	@Override
+	public void updateExternalExecutionId(long taskExecutionId, String externalExecutionId) {
+		synchronized (this.logMonitor) {
+			super.updateExternalExecutionId(taskExecutionId, externalExecutionId);
+			append(EXTERNAL_EXECUTION_ID, (out) -> {
+				out.writeLong(taskExecutionId);
+				writeString(out, externalExecutionId);
+			});
+		}
+	}
+
+	@Override
+	protected void jobExecutionAssociated(long taskExecutionId, long jobExecutionId) {
+		synchronized (this.logMonitor) {
+			append(JOB_EXECUTION, (out) -> {
+				out.writeLong(taskExecutionId);
+				out.writeLong(jobExecutionId);
+			});
+		}
+	}
+
+	/**
+	 * Rewrites the log with a single record per task execution and job execution
+	 * association, then atomically replaces the current log with it.
+	 */
+	public void compact() {
+		synchronized (this.logMonitor) {
+			Path compacted = this.file.resolveSibling(this.file.getFileName() + ".compact");
+			long records = 0;
+			try (FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE,
+					StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+				for (TaskExecution taskExecution : getTaskExecutions().values()) {
+					write(target, record(SAVE, (out) -> writeTaskExecution(out, taskExecution)));
+					records++;
+				}
+				for (Map.Entry<Long, Set<Long>> association : getBatchJobAssociations().entrySet()) {
+					for (Long jobExecutionId : association.getValue()) {
+						write(target, record(JOB_EXECUTION, (out) -> {
+							out.writeLong(association.getKey());
+							out.writeLong(jobExecutionId);
+						}));
+						records++;
+					}
+				}
+				target.force(true);
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Unable to compact the task execution log " + this.file, ex);
+			}
+			try {
+				this.channel.close();
+				Files.move(compacted, this.file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+				this.channel = FileChannel.open(this.file, StandardOpenOption.WRITE);
+				this.channel.position(this.channel.size());
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Unable to replace the task execution log " + this.file, ex);
+			}
+			logger.debug("Compacted " + this.recordsSinceCompaction + " task execution records into " + records
+					+ " records");
+			this.recordsSinceCompaction = 0;
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		synchronized (this.logMonitor) {
+			try {
+				if (this.channel.isOpen()) {
+					this.channel.force(true);
+					this.channel.close();
+				}
+			}
+			finally {
+				releaseLock();
+			}
+		}
+	}
+
+	private FileLock tryLock(FileChannel lockChannel) {
+		FileLock fileLock;
+		try {
+			fileLock = lockChannel.tryLock();
+		}
+		catch (OverlappingFileLockException ex) {
+			fileLock = null;
+		}
+		catch (IOException ex) {
+			closeQuietly(lockChannel);
+			throw new UncheckedIOException("Unable to lock the task execution log " + this.file, ex);
+		}
+		if (fileLock == null) {
+			closeQuietly(lockChannel);
+			throw new IllegalStateException("The task execution log " + this.file + " is in use by another process");
+		}
+		return fileLock;
+	}
+
+	private void releaseLock() {
+		if (this.lockChannel.isOpen()) {
+			try {
+				this.lock.release();
+			}
+			catch (IOException ex) {
+				logger.warn("Unable to release the lock of the task execution log " + this.file, ex);
+			}
+			closeQuietly(this.lockChannel);
+		}
+	}
+
+	private static void closeQuietly(FileChannel channel) {
+		try {
+			channel.close();
+		}
+		catch (IOException ex) {
+			logger.debug("Unable to close " + channel, ex);
+		}
+	}
+
+	private void append(byte type, RecordWriter writer) {
+		if (this.replaying) {
+			return;
+		}
+		try {
+			write(this.channel, record(type, writer));
+			if (this.syncOnWrite) {
+				this.channel.force(false);
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Unable to write to the task execution log " + this.file, ex);
+		}
+		this.recordsSinceCompaction++;
+	}
+
+	private static ByteBuffer record(byte type, RecordWriter writer) throws IOException {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		DataOutputStream out = new DataOutputStream(bytes);
+		out.writeInt(0);
+		out.writeInt(0);
+		out.writeByte(type);
+		writer.write(out);
+		out.flush();
+		ByteBuffer record = ByteBuffer.wrap(bytes.toByteArray());
+		int length = record.limit() - HEADER_SIZE;
+		CRC32 crc = new CRC32();
+		crc.update(record.array(), HEADER_SIZE, length);
+		record.putInt(0, length);
+		record.putInt(4, (int) crc.getValue());
+		return record;
+	}
+
+	private static void write(FileChannel channel, ByteBuffer record) throws IOException {
+		while (record.hasRemaining()) {
+			channel.write(record);
+		}
+	}
+
+	/**
+	 * Restores the task executions from the log.
+	 * @return the length of the log up to the last complete record
+	 */
+	private long replay() throws IOException {
+		if (!Files.exists(this.file)) {
+			return 0;
+		}
+		this.replaying = true;
+		try (FileChannel readChannel = FileChannel.open(this.file, StandardOpenOption.READ)) {
+			long size = readChannel.size();
+			Assert.state(size <= Integer.MAX_VALUE, "The task execution log " + this.file + " exceeds 2GB");
+			MappedByteBuffer buffer = readChannel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+			long records = 0;
+			while (buffer.remaining() >= HEADER_SIZE) {
+				int start = buffer.position();
+				int length = buffer.getInt();
+				int checksum = buffer.getInt();
+				if (length <= 0 || length > buffer.remaining()) {
+					buffer.position(start);
+					break;
+				}
+				ByteBuffer payload = buffer.slice(buffer.position(), length);
+				CRC32 crc = new CRC32();
+				crc.update(payload.duplicate());
+				if ((int) crc.getValue() != checksum) {
+					buffer.position(start);
+					break;
+				}
+				apply(payload);
+				buffer.position(buffer.position() + length);
+				records++;
+			}
+			this.recordsSinceCompaction = records;
+			logger.debug("Restored " + getTaskExecutions().size() + " task executions from " + records
+					+ " records of " + this.file);
+			return buffer.position();
+		}
+		finally {
+			this.replaying = false;
+		}
+	}
+
+	private void apply(ByteBuffer in) {
+		byte type = in.get();
+		switch (type) {
+			case SAVE:
+				super.saveTaskExecution(readTaskExecution(in));
+				break;
+			case START:
+				super.startTaskExecution(in.getLong(), readString(in), readDateTime(in), readStrings(in),
+						readString(in), readLong(in));
+				break;
+			case COMPLETE:
+				super.completeTaskExecution(in.getLong(), readInteger(in), readDateTime(in), readString(in),
+						readString(in));
+				break;
+			case EXTERNAL_EXECUTION_ID:
+				super.updateExternalExecutionId(in.getLong(), readString(in));
+				break;
+			case JOB_EXECUTION:
+				long taskExecutionId = in.getLong();
+				long jobExecutionId = in.getLong();
+				getBatchJobAssociations().putIfAbsent(taskExecutionId, new TreeSet<>());
+				getBatchJobAssociations().get(taskExecutionId).add(jobExecutionId);
+				break;
+			default:
+				throw new IllegalStateException("Unknown task execution record type " + type + " in " + this.file);
+		}
+	}
+
+	private static void writeTaskExecution(DataOutputStream out, TaskExecution taskExecution) throws IOException {
+		out.writeLong(taskExecution.getExecutionId());
+		writeString(out, taskExecution.getTaskName());
+		writeDateTime(out, taskExecution.getStartTime());
+		writeDateTime(out, taskExecution.getEndTime());
+		writeInteger(out, taskExecution.getExitCode());
+		writeString(out, taskExecution.getExitMessage());
+		writeString(out, taskExecution.getErrorMessage());
+		writeString(out, taskExecution.getExternalExecutionId());
+		writeLong(out, taskExecution.getParentExecutionId());
+		writeStrings(out, taskExecution.getArguments());
+	}
+
+	private static TaskExecution readTaskExecution(ByteBuffer in) {
+		long executionId = in.getLong();
+		String taskName = readString(in);
+		LocalDateTime startTime = readDateTime(in);
+		LocalDateTime endTime = readDateTime(in);
+		Integer exitCode = readInteger(in);
+		String exitMessage = readString(in);
+		String errorMessage = readString(in);
+		String externalExecutionId = readString(in);
+		Long parentExecutionId = readLong(in);
+		List<String> arguments = readStrings(in);
+		return new TaskExecution(executionId, exitCode, taskName, startTime, endTime, exitMessage, arguments,
+				errorMessage, externalExecutionId, parentExecutionId);
+	}
+
+	private static void writeString(DataOutputStream out, String value) throws IOException {
+		if (value == null) {
+			out.writeInt(-1);
+			return;
+		}
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(bytes.length);
+		out.write(bytes);
+	}
+
+	private static String readString(ByteBuffer in) {
+		int length = in.getInt();
+		if (length < 0) {
+			return null;
+		}
+		byte[] bytes = new byte[length];
+		in.get(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeStrings(DataOutputStream out, List<String> values) throws IOException {
+		out.writeInt(values.size());
+		for (String value : values) {
+			writeString(out, value);
+		}
+	}
+
+	private static List<String> readStrings(ByteBuffer in) {
+		int size = in.getInt();
+		List<String> values = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			values.add(readString(in));
+		}
+		return values;
+	}
+
+	private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+			out.writeInt(value.getNano());
+		}
+	}
+
+	private static LocalDateTime readDateTime(ByteBuffer in) {
+		if (in.get() == 0) {
+			return null;
+		}
+		return LocalDateTime.ofEpochSecond(in.getLong(), in.getInt(), ZoneOffset.UTC);
+	}
+
+	private static void writeInteger(DataOutputStream out, Integer value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeInt(value);
+		}
+	}
+
+	private static Integer readInteger(ByteBuffer in) {
+		return (in.get() != 0) ? in.getInt() : null;
+	}
+
+	private static void writeLong(DataOutputStream out, Long value) throws IOException {
+		out.writeBoolean(value != null);
+		if (value != null) {
+			out.writeLong(value);
+		}
+	}
+
+	private static Long readLong(ByteBuffer in) {
+		return (in.get() != 0) ? in.getLong() : null;
+	}
+
+	@FunctionalInterface
+	private interface RecordWriter {
+
+		void write(DataOutputStream out) throws IOException;
+
+	}
+
+}
@@ -16,39 +16,70 @@
 
 package org.springframework.cloud.task.repository.dao;
 
+import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.sql.Types;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.sql.DataSource;
 
 import org.springframework.batch.item.database.Order;
 import org.springframework.cloud.task.configuration.TaskProperties;
 import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCounts;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.TaskExecutionCursor;
+import org.springframework.cloud.task.repository.TaskExecutionStatistics;
+import org.springframework.cloud.task.repository.TaskExecutionWindow;
 import org.springframework.cloud.task.repository.database.PagingQueryProvider;
 import org.springframework.cloud.task.repository.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.cloud.task.repository.database.support.SqlPagingQueryUtils;
+import org.springframework.cloud.task.repository.database.support.SqlStatisticsQueryUtils;
+import org.springframework.cloud.task.repository.support.DatabaseType;
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.EmptyResultDataAccessException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
 import org.springframework.jdbc.core.ResultSetExtractor;
 import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
 import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.Assert;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
@@ -62,7 +93,7 @@ import org.springframework.util.StringUtils;
  * @author Ilayaperumal Gopinathan
  * @author Michael Minella
  */
-public class JdbcTaskExecutionDao implements TaskExecutionDao {
+public class JdbcTaskExecutionDao implements TaskExecutionDao, TaskExecutionStatisticsSource {
 
 	/**
 	 * SELECT clause for task execution.
@@ -90,13 +121,50 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 	 */
 	public static final String EXTERNAL_EXECUTION_ID_WHERE_CLAUSE = "where EXTERNAL_EXECUTION_ID = :externalExecutionId ";
 
+	/**
+	 * WHERE clause for the first window of a keyset query.
+	 */
+	private static final String STARTED_TASK_WHERE_CLAUSE = "where START_TIME IS NOT NULL ";
+
+	/**
+	 * WHERE clause for the windows of a keyset query that follow a cursor.
+	 */
+	private static final String KEYSET_WHERE_CLAUSE = "where START_TIME IS NOT NULL AND (START_TIME < :startTime "
+			+ "OR (START_TIME = :startTime AND TASK_EXECUTION_ID < :taskExecutionId)) ";
+
+	/**
+	 * WHERE clause for the task executions without a start time, which follow the started
+	 * ones in a keyset query.
+	 */
+	private static final String UNSTARTED_TASK_WHERE_CLAUSE = "where START_TIME IS NULL ";
+
+	/**
+	 * WHERE clause for the task executions without a start time that follow a cursor
+	 * positioned on a task execution without a start time.
+	 */
+	private static final String UNSTARTED_KEYSET_WHERE_CLAUSE = "where START_TIME IS NULL "
+			+ "AND TASK_EXECUTION_ID < :taskExecutionId ";
+
+	private static final Map<String, Order> UNSTARTED_ORDER = Collections.singletonMap("TASK_EXECUTION_ID",
+			Order.DESCENDING);
+
+	private static final String EXECUTIONS_FROM_CLAUSE = "from %PREFIX%EXECUTION ";
+
+	private static final String EXECUTIONS_WITH_ARCHIVE_FROM_CLAUSE = "from (SELECT " + SELECT_CLAUSE
+			+ "from %PREFIX%EXECUTION UNION ALL SELECT " + SELECT_CLAUSE + "from %PREFIX%EXECUTION_ARCHIVE) TE ";
+
+	private static final String STREAM_TASK_EXECUTIONS = "SELECT " + SELECT_CLAUSE + EXECUTIONS_FROM_CLAUSE;
+
+	private static final String STREAM_TASK_EXECUTIONS_WITH_ARCHIVE = "SELECT " + SELECT_CLAUSE
+			+ EXECUTIONS_WITH_ARCHIVE_FROM_CLAUSE;
+
 	private static final String SAVE_TASK_EXECUTION = "INSERT into %PREFIX%EXECUTION"
 			+ "(TASK_EXECUTION_ID, EXIT_CODE, START_TIME, TASK_NAME, LAST_UPDATED, EXTERNAL_EXECUTION_ID, PARENT_EXECUTION_ID)"
 			+ "values (:taskExecutionId, :exitCode, :startTime, "
 			+ ":taskName, :lastUpdated, :externalExecutionId, :parentExecutionId)";
 
 	private static final String CREATE_TASK_ARGUMENT = "INSERT into "
-			+ "%PREFIX%EXECUTION_PARAMS(TASK_EXECUTION_ID, TASK_PARAM ) values (:taskExecutionId, :taskParam)";
+			+ "%PREFIX%EXECUTION_PARAMS(TASK_EXECUTION_ID, TASK_PARAM ) values (?, ?)";
 
 	private static final String START_TASK_EXECUTION_PREFIX = "UPDATE %PREFIX%EXECUTION set "
 			+ "START_TIME = :startTime, TASK_NAME = :taskName, LAST_UPDATED = :lastUpdated";
@@ -108,8 +176,12 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 	private static final String START_TASK_EXECUTION_SUFFIX = ", PARENT_EXECUTION_ID = :parentExecutionId "
 			+ "where TASK_EXECUTION_ID = :taskExecutionId";
 
-	private static final String CHECK_TASK_EXECUTION_EXISTS = "SELECT COUNT(*) FROM "
-			+ "%PREFIX%EXECUTION WHERE TASK_EXECUTION_ID = :taskExecutionId";
+	private static final String START_TASK_EXECUTION = START_TASK_EXECUTION_PREFIX + START_TASK_EXECUTION_SUFFIX;
+
+	private static final String START_TASK_EXECUTION_WITH_EXTERNAL_ID = START_TASK_EXECUTION_PREFIX
+			+ START_TASK_EXECUTION_EXTERNAL_ID_SUFFIX;
+
+	private static final String TASK_NAME_UNCHANGED_CLAUSE = " AND TASK_NAME = :taskName";
 
 	private static final String UPDATE_TASK_EXECUTION = "UPDATE %PREFIX%EXECUTION set "
 			+ "END_TIME = :endTime, EXIT_CODE = :exitCode, EXIT_MESSAGE = :exitMessage, ERROR_MESSAGE = :errorMessage, "
@@ -123,9 +195,22 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 			+ "EXIT_MESSAGE, ERROR_MESSAGE, LAST_UPDATED, EXTERNAL_EXECUTION_ID, " + "PARENT_EXECUTION_ID "
 			+ "from %PREFIX%EXECUTION where TASK_EXECUTION_ID = :taskExecutionId";
 
+	private static final String GET_ARCHIVED_EXECUTION_BY_ID = "SELECT " + SELECT_CLAUSE
+			+ "from %PREFIX%EXECUTION_ARCHIVE where TASK_EXECUTION_ID = :taskExecutionId";
+
 	private static final String FIND_ARGUMENT_FROM_ID = "SELECT TASK_EXECUTION_ID, "
 			+ "TASK_PARAM from %PREFIX%EXECUTION_PARAMS where TASK_EXECUTION_ID = :taskExecutionId";
 
+	private static final String FIND_ARCHIVED_ARGUMENT_FROM_ID = "SELECT TASK_EXECUTION_ID, "
+			+ "TASK_PARAM from %PREFIX%EXECUTION_ARCHIVE_PARAMS where TASK_EXECUTION_ID = :taskExecutionId";
+
+	private static final String FIND_ARGUMENTS_FROM_IDS = "SELECT TASK_EXECUTION_ID, "
+			+ "TASK_PARAM from %PREFIX%EXECUTION_PARAMS where TASK_EXECUTION_ID in (:taskExecutionIds)";
+
+	private static final String FIND_ARGUMENTS_FROM_IDS_WITH_ARCHIVE = FIND_ARGUMENTS_FROM_IDS
+			+ " UNION ALL SELECT TASK_EXECUTION_ID, TASK_PARAM from %PREFIX%EXECUTION_ARCHIVE_PARAMS "
+			+ "where TASK_EXECUTION_ID in (:taskExecutionIds)";
+
 	private static final String TASK_EXECUTION_COUNT = "SELECT COUNT(*) FROM " + "%PREFIX%EXECUTION ";
 
 	private static final String TASK_EXECUTION_COUNT_BY_NAME = "SELECT COUNT(*) FROM "
@@ -140,6 +225,39 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 	private static final String RUNNING_TASK_EXECUTION_COUNT = "SELECT COUNT(*) FROM "
 			+ "%PREFIX%EXECUTION where END_TIME IS NULL ";
 
+	private static final String TASK_EXECUTION_COUNTS = "SELECT COUNT(*) AS TOTAL_COUNT, "
+			+ "SUM(CASE WHEN END_TIME IS NULL THEN 1 ELSE 0 END) AS RUNNING_COUNT, "
+			+ "SUM(CASE WHEN END_TIME IS NOT NULL AND EXIT_CODE = 0 THEN 1 ELSE 0 END) AS SUCCEEDED_COUNT "
+			+ "from %PREFIX%EXECUTION ";
+
+	private static final String SUM_EXECUTION_COUNTERS = "SELECT SUM(TOTAL_COUNT) AS TOTAL_COUNT, "
+			+ "SUM(RUNNING_COUNT) AS RUNNING_COUNT, SUM(SUCCEEDED_COUNT) AS SUCCEEDED_COUNT "
+			+ "from %PREFIX%EXECUTION_COUNTS ";
+
+	private static final String FIND_COUNTED_STATE = "SELECT TASK_NAME, END_TIME, EXIT_CODE "
+			+ "from %PREFIX%EXECUTION where TASK_EXECUTION_ID = :taskExecutionId";
+
+	private static final String COMPLETE_EXECUTION_COUNTER = "UPDATE %PREFIX%EXECUTION_COUNTS set "
+			+ "RUNNING_COUNT = RUNNING_COUNT + :running - (SELECT CASE WHEN E.END_TIME IS NULL THEN 1 ELSE 0 END "
+			+ "from %PREFIX%EXECUTION E where E.TASK_EXECUTION_ID = :taskExecutionId), "
+			+ "SUCCEEDED_COUNT = SUCCEEDED_COUNT + :succeeded - (SELECT CASE WHEN E.END_TIME IS NOT NULL "
+			+ "AND E.EXIT_CODE = 0 THEN 1 ELSE 0 END "
+			+ "from %PREFIX%EXECUTION E where E.TASK_EXECUTION_ID = :taskExecutionId), "
+			+ "FAILED_COUNT = FAILED_COUNT + :failed - (SELECT CASE WHEN E.END_TIME IS NOT NULL "
+			+ "AND (E.EXIT_CODE IS NULL OR E.EXIT_CODE <> 0) THEN 1 ELSE 0 END "
+			+ "from %PREFIX%EXECUTION E where E.TASK_EXECUTION_ID = :taskExecutionId) "
+			+ "where STRIPE = :stripe AND TASK_NAME = "
+			+ "(SELECT E.TASK_NAME from %PREFIX%EXECUTION E where E.TASK_EXECUTION_ID = :taskExecutionId)";
+
+	private static final String UPDATE_EXECUTION_COUNTER = "UPDATE %PREFIX%EXECUTION_COUNTS set "
+			+ "TOTAL_COUNT = TOTAL_COUNT + :total, RUNNING_COUNT = RUNNING_COUNT + :running, "
+			+ "SUCCEEDED_COUNT = SUCCEEDED_COUNT + :succeeded, FAILED_COUNT = FAILED_COUNT + :failed "
+			+ "where TASK_NAME = :taskName AND STRIPE = :stripe";
+
+	private static final String INSERT_EXECUTION_COUNTER = "INSERT into %PREFIX%EXECUTION_COUNTS "
+			+ "(TASK_NAME, STRIPE, TOTAL_COUNT, RUNNING_COUNT, SUCCEEDED_COUNT, FAILED_COUNT) "
+			+ "values (:taskName, :stripe, :total, :running, :succeeded, :failed)";
+
 	private static final String LAST_TASK_EXECUTIONS_BY_TASK_NAMES = "select TE2.* from ("
 			+ "select MAX(TE.TASK_EXECUTION_ID) as TASK_EXECUTION_ID, TE.TASK_NAME, TE.START_TIME from ("
 			+ "select TASK_NAME, MAX(START_TIME) as START_TIME"
@@ -149,14 +267,68 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 			+ "inner join %PREFIX%EXECUTION TE2 ON TE1.TASK_EXECUTION_ID = TE2.TASK_EXECUTION_ID "
 			+ "order by TE2.START_TIME DESC, TE2.TASK_EXECUTION_ID DESC";
 
+	private static final String LATEST_TASK_EXECUTIONS_BY_TASK_NAMES = "SELECT TE.* from %PREFIX%EXECUTION_LATEST L "
+			+ "inner join %PREFIX%EXECUTION TE ON TE.TASK_EXECUTION_ID = L.TASK_EXECUTION_ID "
+			+ "where L.TASK_NAME in (:taskNames) order by TE.START_TIME DESC, TE.TASK_EXECUTION_ID DESC";
+
+	private static final String UPDATE_LATEST_TASK_EXECUTION = "UPDATE %PREFIX%EXECUTION_LATEST set "
+			+ "TASK_EXECUTION_ID = :taskExecutionId, START_TIME = :startTime where TASK_NAME = :taskName "
+			+ "AND (START_TIME < :startTime OR (START_TIME = :startTime AND TASK_EXECUTION_ID < :taskExecutionId))";
+
+	private static final String INSERT_LATEST_TASK_EXECUTION = "INSERT into %PREFIX%EXECUTION_LATEST "
+			+ "(TASK_NAME, TASK_EXECUTION_ID, START_TIME) SELECT TASK_NAME, TASK_EXECUTION_ID, START_TIME "
+			+ "from %PREFIX%EXECUTION where TASK_EXECUTION_ID = :taskExecutionId AND NOT EXISTS (SELECT TASK_NAME "
+			+ "from %PREFIX%EXECUTION_LATEST where TASK_NAME = :taskName)";
+
 	private static final String FIND_TASK_NAMES = "SELECT distinct TASK_NAME from %PREFIX%EXECUTION order by TASK_NAME";
 
+	private static final String FIND_REGISTERED_TASK_NAMES = "SELECT TASK_NAME from %PREFIX%TASK_NAMES "
+			+ "order by TASK_NAME";
+
+	private static final String REGISTER_TASK_NAME = "INSERT into %PREFIX%TASK_NAMES (TASK_NAME) SELECT TASK_NAME "
+			+ "from %PREFIX%EXECUTION where TASK_EXECUTION_ID = :taskExecutionId AND NOT EXISTS (SELECT TASK_NAME "
+			+ "from %PREFIX%TASK_NAMES where TASK_NAME = :taskName)";
+
 	private static final String FIND_TASK_EXECUTION_BY_JOB_EXECUTION_ID = "SELECT TASK_EXECUTION_ID FROM "
 			+ "%PREFIX%TASK_BATCH WHERE JOB_EXECUTION_ID = :jobExecutionId";
 
 	private static final String FIND_JOB_EXECUTION_BY_TASK_EXECUTION_ID = "SELECT JOB_EXECUTION_ID "
 			+ "FROM %PREFIX%TASK_BATCH WHERE TASK_EXECUTION_ID = :taskExecutionId";
 
+	private static final String FIND_ARCHIVED_TASK_EXECUTION_BY_JOB_EXECUTION_ID = "SELECT TASK_EXECUTION_ID FROM "
+			+ "%PREFIX%TASK_BATCH_ARCHIVE WHERE JOB_EXECUTION_ID = :jobExecutionId";
+
+	private static final String FIND_ARCHIVED_JOB_EXECUTION_BY_TASK_EXECUTION_ID = "SELECT JOB_EXECUTION_ID "
+			+ "FROM %PREFIX%TASK_BATCH_ARCHIVE WHERE TASK_EXECUTION_ID = :taskExecutionId";
+
+	/**
+	 * Maximum number of task execution ids or task names bound to a single IN clause.
+	 * Oracle rejects IN lists with more than 1000 entries.
+	 */
+	private static final int MAX_IN_CLAUSE_SIZE = 1000;
+
+	/**
+	 * Orders task executions the way the latest task execution queries do.
+	 */
+	private static final Comparator<TaskExecution> LATEST_FIRST = Comparator
+		.comparing(TaskExecution::getStartTime, Comparator.reverseOrder())
+		.thenComparing(TaskExecution::getExecutionId, Comparator.reverseOrder());
+
+	/**
+	 * Default number of task arguments sent to the database in a single JDBC batch.
+	 */
+	public static final int DEFAULT_ARGUMENT_BATCH_SIZE = 100;
+
+	/**
+	 * Default number of rows fetched at once by the streaming queries.
+	 */
+	public static final int DEFAULT_STREAM_FETCH_SIZE = 500;
+
+	/**
+	 * Default number of counter rows kept for each task name.
+	 */
+	public static final int DEFAULT_EXECUTION_COUNTER_STRIPES = 8;
+
 	private static final Set<String> validSortColumns = new HashSet<>(10);
 
 	static {
@@ -174,23 +346,86 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 
 	private final NamedParameterJdbcTemplate jdbcTemplate;
 
-	private String tablePrefix = TaskProperties.DEFAULT_TABLE_PREFIX;
+	/**
+	 * Template used by the streaming queries, configured with the stream fetch size.
+	 */
+	private final NamedParameterJdbcTemplate streamingJdbcTemplate;
+
+	/**
+	 * Template of the read-only transaction in which the queries of the statistics run,
+	 * so that they see the same task executions.
+	 */
+	private final TransactionTemplate readOnlyTransactionTemplate;
+
+	/**
+	 * Template of the nested transaction in which the inserts that may conflict with a
+	 * concurrent insert run, so that a duplicate key only rolls back to a savepoint of the
+	 * transaction in progress.
+	 */
+	private final TransactionTemplate savepointTransactionTemplate;
+
+	private final String tablePrefix;
+
+	private final DataSource dataSource;
 
-	private DataSource dataSource;
+	/**
+	 * Queries with the table prefix applied, keyed by the query template.
+	 */
+	private final Map<String, String> queries = new ConcurrentHashMap<>();
+
+	/**
+	 * Paging query providers keyed by from clause, where clause and sort keys.
+	 */
+	private final Map<String, PagingQueryProvider> pagingQueryProviders = new ConcurrentHashMap<>();
+
+	private volatile DatabaseType databaseType;
 
 	private LinkedHashMap<String, Order> orderMap;
 
 	private DataFieldMaxValueIncrementer taskIncrementer;
 
+	private int argumentBatchSize = DEFAULT_ARGUMENT_BATCH_SIZE;
+
+	private int streamFetchSize = DEFAULT_STREAM_FETCH_SIZE;
+
+	private boolean archiveEnabled = false;
+
+	private boolean latestExecutionSummaryEnabled = false;
+
+	private boolean taskNameRegistryEnabled = false;
+
+	private boolean executionCountersEnabled = false;
+
+	private int executionCounterStripes = DEFAULT_EXECUTION_COUNTER_STRIPES;
+
+	/**
+	 * Task names known to be committed to the task name registry, which need not be
+	 * registered again.
+	 */
+	private final Set<String> registeredTaskNames = ConcurrentHashMap.newKeySet();
+
 	/**
 	 * Initializes the JdbcTaskExecutionDao.
 	 * @param dataSource used by the dao to execute queries and update the tables.
 	 * @param tablePrefix the table prefix to use for this dao.
 	 */
 	public JdbcTaskExecutionDao(DataSource dataSource, String tablePrefix) {
-		this(dataSource);
+		Assert.notNull(dataSource, "The dataSource must not be null.");
 		Assert.hasText(tablePrefix, "tablePrefix must not be null nor empty");
+		this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+		JdbcTemplate streamingTemplate = new JdbcTemplate(dataSource);
+		streamingTemplate.setFetchSize(DEFAULT_STREAM_FETCH_SIZE);
+		this.streamingJdbcTemplate = new NamedParameterJdbcTemplate(streamingTemplate);
+		JdbcTransactionManager transactionManager = new JdbcTransactionManager(dataSource);
+		this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.readOnlyTransactionTemplate.setReadOnly(true);
+		this.savepointTransactionTemplate = new TransactionTemplate(transactionManager);
+		this.savepointTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_NESTED);
+		this.dataSource = dataSource;
 		this.tablePrefix = tablePrefix;
+		this.orderMap = new LinkedHashMap<>();
+		this.orderMap.put("START_TIME", Order.DESCENDING);
+		this.orderMap.put("TASK_EXECUTION_ID", Order.DESCENDING);
 	}
 
 	/**
@@ -199,12 +434,7 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 	 * @param dataSource used by the dao to execute queries and update the tables.
 	 */
 	public JdbcTaskExecutionDao(DataSource dataSource) {
-		Assert.notNull(dataSource, "The dataSource must not be null.");
-		this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
-		this.dataSource = dataSource;
-		this.orderMap = new LinkedHashMap<>();
-		this.orderMap.put("START_TIME", Order.DESCENDING);
-		this.orderMap.put("TASK_EXECUTION_ID", Order.DESCENDING);
+		this(dataSource, TaskProperties.DEFAULT_TABLE_PREFIX);
 	}
 
 	@Override
@@ -220,19 +450,30 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 
 		TaskExecution taskExecution = new TaskExecution(nextExecutionId, null, taskName, startTime, null, null,
 				arguments, null, externalExecutionId, parentExecutionId);
+		saveTaskExecution(taskExecution);
+		return taskExecution;
+	}
 
+	@Override
+	public void saveTaskExecution(TaskExecution taskExecution) {
+		LocalDateTime startTime = taskExecution.getStartTime();
 		final MapSqlParameterSource queryParameters = new MapSqlParameterSource()
-			.addValue("taskExecutionId", nextExecutionId, Types.BIGINT)
+			.addValue("taskExecutionId", taskExecution.getExecutionId(), Types.BIGINT)
 			.addValue("exitCode", null, Types.INTEGER)
 			.addValue("startTime", startTime == null ? null : Timestamp.valueOf(startTime), Types.TIMESTAMP)
-			.addValue("taskName", taskName, Types.VARCHAR)
+			.addValue("taskName", taskExecution.getTaskName(), Types.VARCHAR)
 			.addValue("lastUpdated", Timestamp.valueOf(LocalDateTime.now()), Types.TIMESTAMP)
-			.addValue("externalExecutionId", externalExecutionId, Types.VARCHAR)
-			.addValue("parentExecutionId", parentExecutionId, Types.BIGINT);
+			.addValue("externalExecutionId", taskExecution.getExternalExecutionId(), Types.VARCHAR)
+			.addValue("parentExecutionId", taskExecution.getParentExecutionId(), Types.BIGINT);
 
 		this.jdbcTemplate.update(getQuery(SAVE_TASK_EXECUTION), queryParameters);
-		insertTaskArguments(nextExecutionId, arguments);
-		return taskExecution;
+		insertTaskArguments(taskExecution.getExecutionId(), taskExecution.getArguments());
+		updateLatestTaskExecution(taskExecution.getExecutionId(), taskExecution.getTaskName(), startTime);
+		registerTaskName(taskExecution.getExecutionId(), taskExecution.getTaskName());
+		if (this.executionCountersEnabled) {
+			updateExecutionCounters(taskExecution.getExecutionId(), null, null, taskExecution.getTaskName(),
+					Outcome.RUNNING);
+		}
 	}
 
 	@Override
@@ -255,34 +496,111 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 			.addValue("parentExecutionId", parentExecutionId, Types.BIGINT)
 			.addValue("taskExecutionId", executionId, Types.BIGINT);
 
-		String updateString = START_TASK_EXECUTION_PREFIX;
+		String updateString;
 
 		if (externalExecutionId == null) {
-			updateString += START_TASK_EXECUTION_SUFFIX;
+			updateString = START_TASK_EXECUTION;
 		}
 		else {
-			updateString += START_TASK_EXECUTION_EXTERNAL_ID_SUFFIX;
+			updateString = START_TASK_EXECUTION_WITH_EXTERNAL_ID;
 			queryParameters.addValue("externalExecutionId", externalExecutionId, Types.VARCHAR);
 		}
 
-		this.jdbcTemplate.update(getQuery(updateString), queryParameters);
+		if (this.executionCountersEnabled) {
+			startCountedTaskExecution(executionId, taskName, updateString, queryParameters);
+		}
+		else {
+			this.jdbcTemplate.update(getQuery(updateString), queryParameters);
+		}
 		insertTaskArguments(executionId, arguments);
+		updateLatestTaskExecution(executionId, taskName, startTime);
+		registerTaskName(executionId, taskName);
 		return taskExecution;
 	}
 
-	@Override
-	public void completeTaskExecution(long taskExecutionId, Integer exitCode, LocalDateTime endTime, String exitMessage,
-			String errorMessage) {
-		final MapSqlParameterSource queryParameters = new MapSqlParameterSource().addValue("taskExecutionId",
-				taskExecutionId, Types.BIGINT);
+	/**
+	 * Starts a task execution while the execution counters are maintained. Starting a
+	 * task execution changes neither its end time nor its exit code, so its counters only
+	 * change when it is started under another task name. The update is first restricted
+	 * to the task execution keeping its task name, which is the usual case and leaves the
+	 * counters untouched. Only when that updates no row is the previous task name read
+	 * and the task execution moved to the counters of the new one.
+	 */
+	private void startCountedTaskExecution(long executionId, String taskName, String updateString,
+			MapSqlParameterSource queryParameters) {
+		if (this.jdbcTemplate.update(getQuery(updateString + TASK_NAME_UNCHANGED_CLAUSE), queryParameters) == 1) {
+			return;
+		}
+		CountedState previous = getCountedState(executionId);
+		this.jdbcTemplate.update(getQuery(updateString), queryParameters);
+		if (previous != null) {
+			updateExecutionCounters(executionId, previous.taskName, previous.outcome, taskName, previous.outcome);
+		}
+	}
 
-		// Check if given TaskExecution's Id already exists, if none is found
-		// it is invalid and an exception should be thrown.
-		if (this.jdbcTemplate.queryForObject(getQuery(CHECK_TASK_EXECUTION_EXISTS), queryParameters,
-				Integer.class) != 1) {
-			throw new IllegalStateException("Invalid TaskExecution, ID " + taskExecutionId + " not found.");
+	/**
+	 * Adds the task name to the task name registry unless it is already there. A name is
+	 * only remembered as registered once the registry is seen to already hold it, so that
+	 * a name inserted by a transaction that is later rolled back is registered again.
+	 */
+	private void registerTaskName(long executionId, String taskName) {
+		if (!this.taskNameRegistryEnabled || taskName == null || this.registeredTaskNames.contains(taskName)) {
+			return;
+		}
+		final MapSqlParameterSource queryParameters = new MapSqlParameterSource()
+			.addValue("taskExecutionId", executionId, Types.BIGINT)
+			.addValue("taskName", taskName, Types.VARCHAR);
+		if (insertUnlessDuplicate(REGISTER_TASK_NAME, queryParameters) == 0) {
+			// the name was already or concurrently registered
+			this.registeredTaskNames.add(taskName);
+		}
+	}
+
+	/**
+	 * Points the summary row of the task to the provided task execution unless it already
+	 * points to a task execution that started later. Runs in the transaction of the
+	 * calling {@link org.springframework.cloud.task.repository.TaskRepository} method.
+	 * Completing a task execution changes neither its name nor its start time, so the
+	 * summary only needs to be maintained when task executions are created or started.
+	 */
+	private void updateLatestTaskExecution(long executionId, String taskName, LocalDateTime startTime) {
+		if (!this.latestExecutionSummaryEnabled || taskName == null || startTime == null) {
+			return;
 		}
+		final MapSqlParameterSource queryParameters = new MapSqlParameterSource()
+			.addValue("taskExecutionId", executionId, Types.BIGINT)
+			.addValue("taskName", taskName, Types.VARCHAR)
+			.addValue("startTime", Timestamp.valueOf(startTime), Types.TIMESTAMP);
+		if (this.jdbcTemplate.update(getQuery(UPDATE_LATEST_TASK_EXECUTION), queryParameters) == 0
+				&& insertUnlessDuplicate(INSERT_LATEST_TASK_EXECUTION, queryParameters) == 0) {
+			// the first execution of the task was concurrently recorded
+			this.jdbcTemplate.update(getQuery(UPDATE_LATEST_TASK_EXECUTION), queryParameters);
+		}
+	}
+
+	/**
+	 * Runs an insert whose key a concurrent transaction may insert first. The insert runs
+	 * in a savepoint of the transaction in progress, which is rolled back when the key
+	 * already exists, since some databases, such as PostgreSQL, abort the whole
+	 * transaction when a statement fails.
+	 * @param query the insert query.
+	 * @param queryParameters the parameters of the query.
+	 * @return the number of inserted rows, 0 when the key already exists
+	 */
+	private int insertUnlessDuplicate(String query, MapSqlParameterSource queryParameters) {
+		try {
+			Integer inserted = this.savepointTransactionTemplate
+				.execute((status) -> this.jdbcTemplate.update(getQuery(query), queryParameters));
+			return (inserted != null) ? inserted : 0;
+		}
+		catch (DuplicateKeyException e) {
+			return 0;
+		}
+	}
 
+	@Override
+	public void completeTaskExecution(long taskExecutionId, Integer exitCode, LocalDateTime endTime, String exitMessage,
+			String errorMessage) {
 		final MapSqlParameterSource parameters = new MapSqlParameterSource()
 			.addValue("endTime", endTime == null ? null : Timestamp.valueOf(endTime), Types.TIMESTAMP)
 			.addValue("exitCode", exitCode, Types.INTEGER)
@@ -291,7 +609,104 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 			.addValue("lastUpdated", Timestamp.valueOf(LocalDateTime.now()), Types.TIMESTAMP)
 			.addValue("taskExecutionId", taskExecutionId, Types.BIGINT);
 
-		this.jdbcTemplate.update(getQuery(UPDATE_TASK_EXECUTION), parameters);
+		if (this.executionCountersEnabled) {
+			updateCompletedExecutionCounter(taskExecutionId, Outcome.of(endTime, exitCode));
+		}
+
+		// If the given TaskExecution's Id does not exist no row is updated, it is invalid
+		// and an exception should be thrown.
+		if (this.jdbcTemplate.update(getQuery(UPDATE_TASK_EXECUTION), parameters) != 1) {
+			throw new IllegalStateException("Invalid TaskExecution, ID " + taskExecutionId + " not found.");
+		}
+	}
+
+	/**
+	 * Moves a task execution that is being completed from the counter of the outcome it
+	 * is counted under to the counter of the provided outcome. Completing a task
+	 * execution does not change its task name, so a single update of the counter row of
+	 * that task name reads the previous outcome from the task execution row, and must
+	 * therefore run before the task execution is updated. When no counter row matches,
+	 * because the task execution has no task name or because its stripe does not exist
+	 * since the number of stripes changed after it was created, the task execution is
+	 * read and moved to the new outcome like a task execution started under another task
+	 * name, which creates the missing stripe.
+	 */
+	private void updateCompletedExecutionCounter(long executionId, Outcome outcome) {
+		long[] deltas = outcome.deltas(1);
+		final MapSqlParameterSource queryParameters = new MapSqlParameterSource()
+			.addValue("taskExecutionId", executionId, Types.BIGINT)
+			.addValue("stripe", (int) Math.floorMod(executionId, (long) this.executionCounterStripes), Types.INTEGER)
+			.addValue("running", deltas[1], Types.BIGINT)
+			.addValue("succeeded", deltas[2], Types.BIGINT)
+			.addValue("failed", deltas[3], Types.BIGINT);
+		if (this.jdbcTemplate.update(getQuery(COMPLETE_EXECUTION_COUNTER), queryParameters) == 0) {
+			CountedState previous = getCountedState(executionId);
+			if (previous != null) {
+				updateExecutionCounters(executionId, previous.taskName, previous.outcome, previous.taskName, outcome);
+			}
+		}
+	}
+
+	/**
+	 * Reads the task name and outcome that a task execution is counted under, before it
+	 * is started under another task name or completed without a counter row.
+	 * @return the counted state or null if the task execution does not exist
+	 */
+	private CountedState getCountedState(long executionId) {
+		final MapSqlParameterSource queryParameters = new MapSqlParameterSource().addValue("taskExecutionId",
+				executionId, Types.BIGINT);
+		List<CountedState> states = this.jdbcTemplate.query(getQuery(FIND_COUNTED_STATE), queryParameters,
+				(rs, rowNum) -> {
+					Timestamp endTime = rs.getTimestamp("END_TIME");
+					int exitCode = rs.getInt("EXIT_CODE");
+					return new CountedState(rs.getString("TASK_NAME"),
+							(endTime != null) ? endTime.toLocalDateTime() : null, rs.wasNull() ? null : exitCode);
+				});
+		return states.isEmpty() ? null : states.get(0);
+	}
+
+	/**
+	 * Moves a task execution from the counters of its previous task name and outcome to
+	 * the counters of its new ones. Runs in the transaction of the calling
+	 * {@link org.springframework.cloud.task.repository.TaskRepository} method. The
+	 * counters of a task are spread over {@link #setExecutionCounterStripes(int) stripes}
+	 * chosen by task execution id, so that concurrent task executions of the same task
+	 * seldom update the same row. Task executions without a task name are not counted.
+	 */
+	private void updateExecutionCounters(long executionId, String previousTaskName, Outcome previousOutcome,
+			String taskName, Outcome outcome) {
+		if (Objects.equals(previousTaskName, taskName)) {
+			if (taskName != null && previousOutcome != outcome) {
+				long[] deltas = outcome.deltas(1);
+				long[] previousDeltas = previousOutcome.deltas(-1);
+				for (int i = 0; i < deltas.length; i++) {
+					deltas[i] += previousDeltas[i];
+				}
+				updateExecutionCounter(executionId, taskName, deltas);
+			}
+			return;
+		}
+		if (previousTaskName != null) {
+			updateExecutionCounter(executionId, previousTaskName, previousOutcome.deltas(-1));
+		}
+		if (taskName != null) {
+			updateExecutionCounter(executionId, taskName, outcome.deltas(1));
+		}
+	}
+
+	private void updateExecutionCounter(long executionId, String taskName, long[] deltas) {
+		final MapSqlParameterSource queryParameters = new MapSqlParameterSource()
+			.addValue("taskName", taskName, Types.VARCHAR)
+			.addValue("stripe", (int) Math.floorMod(executionId, (long) this.executionCounterStripes), Types.INTEGER)
+			.addValue("total", deltas[0], Types.BIGINT)
+			.addValue("running", deltas[1], Types.BIGINT)
+			.addValue("succeeded", deltas[2], Types.BIGINT)
+			.addValue("failed", deltas[3], Types.BIGINT);
+		if (this.jdbcTemplate.update(getQuery(UPDATE_EXECUTION_COUNTER), queryParameters) == 0
+				&& insertUnlessDuplicate(INSERT_EXECUTION_COUNTER, queryParameters) == 0) {
+			// the stripe was concurrently created
+			this.jdbcTemplate.update(getQuery(UPDATE_EXECUTION_COUNTER), queryParameters);
+		}
 	}
 
 	@Override
@@ -302,13 +717,21 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 
 	@Override
 	public TaskExecution getTaskExecution(long executionId) {
+		TaskExecution taskExecution = getTaskExecution(executionId, GET_EXECUTION_BY_ID, FIND_ARGUMENT_FROM_ID);
+		if (taskExecution == null && this.archiveEnabled) {
+			taskExecution = getTaskExecution(executionId, GET_ARCHIVED_EXECUTION_BY_ID, FIND_ARCHIVED_ARGUMENT_FROM_ID);
+		}
+		return taskExecution;
+	}
+
+	private TaskExecution getTaskExecution(long executionId, String executionQuery, String argumentQuery) {
 		final MapSqlParameterSource queryParameters = new MapSqlParameterSource().addValue("taskExecutionId",
 				executionId, Types.BIGINT);
 
 		try {
-			TaskExecution taskExecution = this.jdbcTemplate.queryForObject(getQuery(GET_EXECUTION_BY_ID),
-					queryParameters, new TaskExecutionRowMapper());
-			taskExecution.setArguments(getTaskArguments(executionId));
+			TaskExecution taskExecution = this.jdbcTemplate.queryForObject(getQuery(executionQuery), queryParameters,
+					new TaskExecutionRowMapper());
+			taskExecution.setArguments(getTaskArguments(executionId, argumentQuery));
 			return taskExecution;
 		}
 		catch (EmptyResultDataAccessException e) {
@@ -318,6 +741,9 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 
 	@Override
 	public long getTaskExecutionCountByTaskName(String taskName) {
+		if (this.executionCountersEnabled) {
+			return getTaskExecutionCounts(taskName).getTotal();
+		}
 
 		final MapSqlParameterSource queryParameters = new MapSqlParameterSource().addValue("taskName", taskName,
 				Types.VARCHAR);
@@ -333,6 +759,9 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 
 	@Override
 	public long getRunningTaskExecutionCountByTaskName(String taskName) {
+		if (this.executionCountersEnabled) {
+			return getTaskExecutionCounts(taskName).getRunning();
+		}
 		final MapSqlParameterSource queryParameters = new MapSqlParameterSource().addValue("taskName", taskName,
 				Types.VARCHAR);
 
@@ -347,6 +776,9 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 
 	@Override
 	public long getRunningTaskExecutionCount() {
+		if (this.executionCountersEnabled) {
+			return getTaskExecutionCounts(null).getRunning();
+		}
 
 		try {
 			final MapSqlParameterSource queryParameters = new MapSqlParameterSource();
@@ -374,14 +806,20 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 				String.format("Task names must not contain any empty elements but %s of %s were empty or null.",
 						taskNames.length - taskNamesAsList.size(), taskNames.length));
 
-		try {
-			final Map<String, List<String>> paramMap = Collections.singletonMap("taskNames", taskNamesAsList);
-			return this.jdbcTemplate.query(getQuery(LAST_TASK_EXECUTIONS_BY_TASK_NAMES), paramMap,
-					new TaskExecutionRowMapper());
+		String query = getQuery(this.latestExecutionSummaryEnabled ? LATEST_TASK_EXECUTIONS_BY_TASK_NAMES
+				: LAST_TASK_EXECUTIONS_BY_TASK_NAMES);
+		List<String> distinctNames = new ArrayList<>(new LinkedHashSet<>(taskNamesAsList));
+		List<TaskExecution> taskExecutions = new ArrayList<>();
+		// chunks keep the IN list within the limits of every database
+		for (int i = 0; i < distinctNames.size(); i += MAX_IN_CLAUSE_SIZE) {
+			List<String> chunk = distinctNames.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, distinctNames.size()));
+			taskExecutions.addAll(this.jdbcTemplate.query(query, Collections.singletonMap("taskNames", chunk),
+					new TaskExecutionRowMapper()));
 		}
-		catch (EmptyResultDataAccessException e) {
-			return Collections.emptyList();
+		if (distinctNames.size() > MAX_IN_CLAUSE_SIZE) {
+			taskExecutions.sort(LATEST_FIRST);
 		}
+		return populateTaskArguments(taskExecutions);
 	}
 
 	@Override
@@ -402,6 +840,9 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 
 	@Override
 	public long getTaskExecutionCount() {
+		if (this.executionCountersEnabled) {
+			return getTaskExecutionCounts(null).getTotal();
+		}
 
 		try {
 			return this.jdbcTemplate.queryForObject(getQuery(TASK_EXECUTION_COUNT), new MapSqlParameterSource(),
@@ -412,12 +853,144 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 		}
 	}
 
+	@Override
+	public TaskExecutionCounts getTaskExecutionCounts(String taskName) {
+		String query = this.executionCountersEnabled ? SUM_EXECUTION_COUNTERS : TASK_EXECUTION_COUNTS;
+		MapSqlParameterSource queryParameters = new MapSqlParameterSource();
+		if (taskName != null) {
+			query += TASK_NAME_WHERE_CLAUSE;
+			queryParameters.addValue("taskName", taskName, Types.VARCHAR);
+		}
+		return this.jdbcTemplate.queryForObject(getQuery(query), queryParameters, (rs, rowNum) -> {
+			// the sums are null when no row matches
+			long total = rs.getLong("TOTAL_COUNT");
+			long running = rs.getLong("RUNNING_COUNT");
+			long succeeded = rs.getLong("SUCCEEDED_COUNT");
+			return new TaskExecutionCounts(total, running, succeeded, total - running - succeeded);
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The counts, the exit code histogram and the minimum, average and maximum durations
+	 * are computed by aggregate queries. The percentiles are computed by the
+	 * {@code PERCENTILE_CONT} aggregate function on the databases that support it and
+	 * otherwise estimated from the durations streamed by a single forward-only query,
+	 * within {@link TaskExecutionDurations#RELATIVE_ACCURACY one percent}. The queries run
+	 * in a single read-only transaction, joining the transaction in progress if any. The
+	 * archive tables are only read when they are enabled and asked for by the criteria.
+	 */
+	@Override
+	public TaskExecutionStatistics getTaskExecutionStatistics(String taskName, TaskExecutionCriteria criteria) {
+		Assert.notNull(criteria, "criteria must not be null");
+		DatabaseType type = getDatabaseType();
+		String duration = SqlStatisticsQueryUtils.durationExpression(type);
+		boolean percentileAggregate = SqlStatisticsQueryUtils.supportsPercentileAggregate(type);
+		String fromClause = (this.archiveEnabled && criteria.isIncludingArchived())
+				? EXECUTIONS_WITH_ARCHIVE_FROM_CLAUSE : EXECUTIONS_FROM_CLAUSE;
+		MapSqlParameterSource queryParameters = new MapSqlParameterSource();
+		List<String> conditions = getCriteriaConditions(taskName, criteria, queryParameters);
+
+		StringBuilder statisticsQuery = new StringBuilder("SELECT COUNT(*) AS EXECUTION_COUNT, ")
+			.append("COUNT(END_TIME) AS COMPLETED_COUNT, MIN(")
+			.append(duration)
+			.append(") AS MIN_DURATION, AVG(")
+			.append(duration)
+			.append(" * 1.0) AS AVG_DURATION, MAX(")
+			.append(duration)
+			.append(") AS MAX_DURATION");
+		if (percentileAggregate) {
+			statisticsQuery.append(", ")
+				.append(SqlStatisticsQueryUtils.percentileExpression(0.5, duration))
+				.append(" AS P50_DURATION, ")
+				.append(SqlStatisticsQueryUtils.percentileExpression(0.95, duration))
+				.append(" AS P95_DURATION, ")
+				.append(SqlStatisticsQueryUtils.percentileExpression(0.99, duration))
+				.append(" AS P99_DURATION");
+		}
+		statisticsQuery.append(' ').append(fromClause).append(getWhereClause(conditions));
+
+		return this.readOnlyTransactionTemplate.execute((status) -> {
+			Map<Integer, Long> exitCodeCounts = queryExitCodeCounts(fromClause, conditions, queryParameters);
+			TaskExecutionDurations durations = percentileAggregate ? new TaskExecutionDurations()
+					: queryDurations(duration, fromClause, conditions, queryParameters);
+			return this.jdbcTemplate.queryForObject(getQuery(statisticsQuery.toString()), queryParameters,
+					(rs, rowNum) -> new TaskExecutionStatistics(rs.getLong("EXECUTION_COUNT"),
+							rs.getLong("COMPLETED_COUNT"), exitCodeCounts, getDuration(rs, "MIN_DURATION"),
+							getDuration(rs, "AVG_DURATION"), getDuration(rs, "MAX_DURATION"),
+							percentileAggregate ? getDuration(rs, "P50_DURATION") : durations.percentile(0.5),
+							percentileAggregate ? getDuration(rs, "P95_DURATION") : durations.percentile(0.95),
+							percentileAggregate ? getDuration(rs, "P99_DURATION") : durations.percentile(0.99)));
+		});
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The counts and the exit code histogram are computed by aggregate queries and the
+	 * durations are streamed by a single forward-only query, in a single read-only
+	 * transaction.
+	 */
+	@Override
+	public TaskExecutionStatisticsCollector collectTaskExecutionStatistics(String taskName,
+			TaskExecutionCriteria criteria) {
+		Assert.notNull(criteria, "criteria must not be null");
+		String duration = SqlStatisticsQueryUtils.durationExpression(getDatabaseType());
+		String fromClause = (this.archiveEnabled && criteria.isIncludingArchived())
+				? EXECUTIONS_WITH_ARCHIVE_FROM_CLAUSE : EXECUTIONS_FROM_CLAUSE;
+		MapSqlParameterSource queryParameters = new MapSqlParameterSource();
+		List<String> conditions = getCriteriaConditions(taskName, criteria, queryParameters);
+		return this.readOnlyTransactionTemplate.execute((status) -> {
+			Map<Integer, Long> exitCodeCounts = queryExitCodeCounts(fromClause, conditions, queryParameters);
+			TaskExecutionDurations durations = queryDurations(duration, fromClause, conditions, queryParameters);
+			return this.jdbcTemplate.queryForObject(
+					getQuery("SELECT COUNT(*) AS EXECUTION_COUNT, COUNT(END_TIME) AS COMPLETED_COUNT " + fromClause
+							+ getWhereClause(conditions)),
+					queryParameters, (rs, rowNum) -> new TaskExecutionStatisticsCollector(rs.getLong("EXECUTION_COUNT"),
+							rs.getLong("COMPLETED_COUNT"), exitCodeCounts, durations));
+		});
+	}
+
+	private Map<Integer, Long> queryExitCodeCounts(String fromClause, List<String> conditions,
+			MapSqlParameterSource queryParameters) {
+		List<String> completedConditions = new ArrayList<>(conditions);
+		completedConditions.add("END_TIME IS NOT NULL");
+		Map<Integer, Long> exitCodeCounts = new HashMap<>();
+		this.jdbcTemplate.query(
+				getQuery("SELECT EXIT_CODE, COUNT(*) AS EXECUTION_COUNT " + fromClause
+						+ getWhereClause(completedConditions) + "group by EXIT_CODE"),
+				queryParameters, (RowCallbackHandler) (rs) -> {
+					int exitCode = rs.getInt("EXIT_CODE");
+					exitCodeCounts.put(rs.wasNull() ? null : exitCode, rs.getLong("EXECUTION_COUNT"));
+				});
+		return exitCodeCounts;
+	}
+
+	private TaskExecutionDurations queryDurations(String duration, String fromClause, List<String> conditions,
+			MapSqlParameterSource queryParameters) {
+		List<String> completedConditions = new ArrayList<>(conditions);
+		completedConditions.add("END_TIME IS NOT NULL");
+		completedConditions.add("START_TIME IS NOT NULL");
+		TaskExecutionDurations durations = new TaskExecutionDurations();
+		this.streamingJdbcTemplate.query(
+				getQuery("SELECT " + duration + " AS DURATION " + fromClause + getWhereClause(completedConditions)),
+				queryParameters, (RowCallbackHandler) (rs) -> durations.add(rs.getDouble("DURATION")));
+		return durations;
+	}
+
 	@Override
 	public Page<TaskExecution> findRunningTaskExecutions(String taskName, Pageable pageable) {
 		return queryForPageableResults(pageable, SELECT_CLAUSE, FROM_CLAUSE, RUNNING_TASK_WHERE_CLAUSE,
 				new MapSqlParameterSource("taskName", taskName), getRunningTaskExecutionCountByTaskName(taskName));
 	}
 
+	@Override
+	public Slice<TaskExecution> sliceRunningTaskExecutions(String taskName, Pageable pageable) {
+		return queryForSlicedResults(pageable, SELECT_CLAUSE, FROM_CLAUSE, RUNNING_TASK_WHERE_CLAUSE,
+				new MapSqlParameterSource("taskName", taskName));
+	}
+
 	@Override
 	public Page<TaskExecution> findTaskExecutionsByExternalExecutionId(String externalExecutionId, Pageable pageable) {
 		return queryForPageableResults(pageable, SELECT_CLAUSE, FROM_CLAUSE, EXTERNAL_EXECUTION_ID_WHERE_CLAUSE,
@@ -425,6 +998,13 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 				getTaskExecutionCountByExternalExecutionId(externalExecutionId));
 	}
 
+	@Override
+	public Slice<TaskExecution> sliceTaskExecutionsByExternalExecutionId(String externalExecutionId,
+			Pageable pageable) {
+		return queryForSlicedResults(pageable, SELECT_CLAUSE, FROM_CLAUSE, EXTERNAL_EXECUTION_ID_WHERE_CLAUSE,
+				new MapSqlParameterSource("externalExecutionId", externalExecutionId));
+	}
+
 	@Override
 	public long getTaskExecutionCountByExternalExecutionId(String externalExecutionId) {
 		final MapSqlParameterSource queryParameters = new MapSqlParameterSource().addValue("externalExecutionId",
@@ -445,9 +1025,17 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 				new MapSqlParameterSource("taskName", taskName), getTaskExecutionCountByTaskName(taskName));
 	}
 
+	@Override
+	public Slice<TaskExecution> sliceTaskExecutionsByName(String taskName, Pageable pageable) {
+		return queryForSlicedResults(pageable, SELECT_CLAUSE, FROM_CLAUSE, TASK_NAME_WHERE_CLAUSE,
+				new MapSqlParameterSource("taskName", taskName));
+	}
+
 	@Override
 	public List<String> getTaskNames() {
-		return this.jdbcTemplate.queryForList(getQuery(FIND_TASK_NAMES), new MapSqlParameterSource(), String.class);
+		return this.jdbcTemplate.queryForList(
+				getQuery(this.taskNameRegistryEnabled ? FIND_REGISTERED_TASK_NAMES : FIND_TASK_NAMES),
+				new MapSqlParameterSource(), String.class);
 	}
 
 	@Override
@@ -456,10 +1044,154 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 				getTaskExecutionCount());
 	}
 
+	@Override
+	public Slice<TaskExecution> sliceAll(Pageable pageable) {
+		return queryForSlicedResults(pageable, SELECT_CLAUSE, FROM_CLAUSE, null, new MapSqlParameterSource());
+	}
+
+	@Override
+	public TaskExecutionWindow findAll(TaskExecutionCursor after, int limit) {
+		Assert.isTrue(limit > 0, "limit must be greater than zero");
+		// One extra row is fetched to determine if there is a next window.
+		List<TaskExecution> resultList = new ArrayList<>(limit + 1);
+		if (after == null || after.getStartTime() != null) {
+			String whereClause = STARTED_TASK_WHERE_CLAUSE;
+			MapSqlParameterSource queryParameters = new MapSqlParameterSource();
+			if (after != null) {
+				whereClause = KEYSET_WHERE_CLAUSE;
+				queryParameters.addValue("startTime", Timestamp.valueOf(after.getStartTime()), Types.TIMESTAMP)
+					.addValue("taskExecutionId", after.getExecutionId(), Types.BIGINT);
+			}
+			resultList.addAll(queryWindow(whereClause, this.orderMap, queryParameters, limit + 1));
+		}
+		// The task executions without a start time follow the started ones, so they are
+		// only read once the started task executions are exhausted.
+		if (resultList.size() <= limit) {
+			String whereClause = UNSTARTED_TASK_WHERE_CLAUSE;
+			MapSqlParameterSource queryParameters = new MapSqlParameterSource();
+			if (after != null && after.getStartTime() == null) {
+				whereClause = UNSTARTED_KEYSET_WHERE_CLAUSE;
+				queryParameters.addValue("taskExecutionId", after.getExecutionId(), Types.BIGINT);
+			}
+			int remaining = limit + 1 - resultList.size();
+			resultList.addAll(queryWindow(whereClause, UNSTARTED_ORDER, queryParameters, remaining));
+		}
+		return TaskExecutionWindow.from(populateTaskArguments(resultList), limit);
+	}
+
+	private List<TaskExecution> queryWindow(String whereClause, Map<String, Order> sortKeys,
+			MapSqlParameterSource queryParameters, int size) {
+		// The keyset predicate replaces the offset, so the first page of the provider is
+		// always requested.
+		String query = getPagingQueryProvider(SELECT_CLAUSE, FROM_CLAUSE, whereClause, sortKeys)
+			.getPageQuery(PageRequest.of(0, size));
+		return this.jdbcTemplate.query(query, queryParameters, new TaskExecutionRowMapper());
+	}
+
+	@Override
+	public Stream<TaskExecution> streamAll(TaskExecutionCriteria criteria) {
+		return streamTaskExecutions(null, criteria);
+	}
+
+	@Override
+	public Stream<TaskExecution> streamTaskExecutionsByName(String taskName, TaskExecutionCriteria criteria) {
+		Assert.hasText(taskName, "taskName must not be empty");
+		return streamTaskExecutions(taskName, criteria);
+	}
+
 	public void setTaskIncrementer(DataFieldMaxValueIncrementer taskIncrementer) {
 		this.taskIncrementer = taskIncrementer;
 	}
 
+	/**
+	 * Sets the maximum number of task arguments written to the
+	 * {@code TASK_EXECUTION_PARAMS} table in a single JDBC batch. Defaults to
+	 * {@link #DEFAULT_ARGUMENT_BATCH_SIZE}.
+	 * @param argumentBatchSize the batch size, must be greater than zero.
+	 */
+	public void setArgumentBatchSize(int argumentBatchSize) {
+		Assert.isTrue(argumentBatchSize > 0, "argumentBatchSize must be greater than zero");
+		this.argumentBatchSize = argumentBatchSize;
+	}
+
+	/**
+	 * Sets the number of rows fetched from the database at once by
+	 * {@link #streamAll(TaskExecutionCriteria)}, which is also the number of task
+	 * executions whose arguments are loaded by a single query. Defaults to
+	 * {@link #DEFAULT_STREAM_FETCH_SIZE}.
+	 * @param streamFetchSize the fetch size, must be greater than zero.
+	 */
+	public void setStreamFetchSize(int streamFetchSize) {
+		Assert.isTrue(streamFetchSize > 0, "streamFetchSize must be greater than zero");
+		this.streamFetchSize = streamFetchSize;
+		this.streamingJdbcTemplate.getJdbcTemplate().setFetchSize(streamFetchSize);
+	}
+
+	/**
+	 * Sets whether the task repository has archive tables that the completed task
+	 * executions are moved to. When enabled, lookups by task execution id or job execution
+	 * id that find nothing in the current tables are retried against the archive tables,
+	 * and {@link TaskExecutionCriteria#includingArchived() criteria} can ask for archived
+	 * task executions. All the other queries only read the current tables. Defaults to
+	 * false.
+	 * @param archiveEnabled true if the archive tables are to be read.
+	 * @see org.springframework.cloud.task.repository.support.TaskExecutionPurgeService#archive
+	 */
+	public void setArchiveEnabled(boolean archiveEnabled) {
+		this.archiveEnabled = archiveEnabled;
+	}
+
+	/**
+	 * Sets whether the {@code EXECUTION_LATEST} summary table, which holds the id of the
+	 * latest task execution of each task, is maintained when task executions are created
+	 * or started and is used to find the latest task executions by task name. Existing
+	 * task executions must be backfilled into the summary table before it is enabled.
+	 * Defaults to false.
+	 * @param latestExecutionSummaryEnabled true to maintain and read the summary table.
+	 * @see org.springframework.cloud.task.repository.support.TaskExecutionPurgeService#setLatestExecutionSummaryEnabled
+	 */
+	public void setLatestExecutionSummaryEnabled(boolean latestExecutionSummaryEnabled) {
+		this.latestExecutionSummaryEnabled = latestExecutionSummaryEnabled;
+	}
+
+	/**
+	 * Sets whether the {@code TASK_NAMES} registry table is maintained when task
+	 * executions are created or started and serves {@link #getTaskNames()}, instead of a
+	 * {@code SELECT DISTINCT} over all the task executions. Existing task names must be
+	 * backfilled into the registry before it is enabled. Defaults to false.
+	 * @param taskNameRegistryEnabled true to maintain and read the task name registry.
+	 * @see org.springframework.cloud.task.repository.support.TaskExecutionPurgeService#setTaskNameRegistryEnabled
+	 */
+	public void setTaskNameRegistryEnabled(boolean taskNameRegistryEnabled) {
+		this.taskNameRegistryEnabled = taskNameRegistryEnabled;
+	}
+
+	/**
+	 * Sets whether the {@code EXECUTION_COUNTS} table, which holds the number of task
+	 * executions of each task by outcome, is maintained when task executions are
+	 * created, started and completed and serves the task execution counts. The counts
+	 * then leave out the task executions that have no task name. Existing task executions
+	 * must be backfilled into the counters before they are enabled, and purges and
+	 * archivings must update them as well. Defaults to false.
+	 * @param executionCountersEnabled true to maintain and read the execution counters.
+	 * @see org.springframework.cloud.task.repository.support.TaskExecutionPurgeService#setExecutionCountersEnabled
+	 */
+	public void setExecutionCountersEnabled(boolean executionCountersEnabled) {
+		this.executionCountersEnabled = executionCountersEnabled;
+	}
+
+	/**
+	 * Sets the number of counter rows of each task name, over which the updates of
+	 * concurrent task executions are spread. Only the updates use the number of stripes,
+	 * so it can be changed at any time. Defaults to
+	 * {@link #DEFAULT_EXECUTION_COUNTER_STRIPES}.
+	 * @param executionCounterStripes the number of stripes, greater than zero.
+	 */
+	public void setExecutionCounterStripes(int executionCounterStripes) {
+		Assert.isTrue(executionCounterStripes > 0, "executionCounterStripes must be greater than zero");
+		this.executionCounterStripes = executionCounterStripes;
+	}
+
 	public long getNextExecutionId() {
 		return this.taskIncrementer.nextLongValue();
 	}
@@ -473,6 +1205,15 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 			return this.jdbcTemplate.queryForObject(getQuery(FIND_TASK_EXECUTION_BY_JOB_EXECUTION_ID), queryParameters,
 					Long.class);
 		}
+		catch (EmptyResultDataAccessException e) {
+			if (!this.archiveEnabled) {
+				return null;
+			}
+		}
+		try {
+			return this.jdbcTemplate.queryForObject(getQuery(FIND_ARCHIVED_TASK_EXECUTION_BY_JOB_EXECUTION_ID),
+					queryParameters, Long.class);
+		}
 		catch (EmptyResultDataAccessException e) {
 			return null;
 		}
@@ -480,11 +1221,21 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 
 	@Override
 	public Set<Long> getJobExecutionIdsByTaskExecutionId(long taskExecutionId) {
+		Set<Long> jobExecutionIds = getJobExecutionIdsByTaskExecutionId(taskExecutionId,
+				FIND_JOB_EXECUTION_BY_TASK_EXECUTION_ID);
+		if (jobExecutionIds.isEmpty() && this.archiveEnabled) {
+			jobExecutionIds = getJobExecutionIdsByTaskExecutionId(taskExecutionId,
+					FIND_ARCHIVED_JOB_EXECUTION_BY_TASK_EXECUTION_ID);
+		}
+		return jobExecutionIds;
+	}
+
+	private Set<Long> getJobExecutionIdsByTaskExecutionId(long taskExecutionId, String query) {
 		final MapSqlParameterSource queryParameters = new MapSqlParameterSource().addValue("taskExecutionId",
 				taskExecutionId, Types.BIGINT);
 
 		try {
-			return this.jdbcTemplate.query(getQuery(FIND_JOB_EXECUTION_BY_TASK_EXECUTION_ID), queryParameters,
+			return this.jdbcTemplate.query(getQuery(query), queryParameters,
 					new ResultSetExtractor<Set<Long>>() {
 						@Override
 						public Set<Long> extractData(ResultSet resultSet) throws SQLException, DataAccessException {
@@ -516,20 +1267,36 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 
 	private Page<TaskExecution> queryForPageableResults(Pageable pageable, String selectClause, String fromClause,
 			String whereClause, MapSqlParameterSource queryParameters, long totalCount) {
-		SqlPagingQueryProviderFactoryBean factoryBean = new SqlPagingQueryProviderFactoryBean();
-		factoryBean.setSelectClause(selectClause);
-		factoryBean.setFromClause(fromClause);
-		if (StringUtils.hasText(whereClause)) {
-			factoryBean.setWhereClause(whereClause);
+		List<TaskExecution> resultList = queryForPageContent(pageable, pageable, selectClause, fromClause,
+				whereClause, queryParameters);
+		return new PageImpl<>(resultList, pageable, totalCount);
+	}
+
+	/**
+	 * Retrieves one row more than the page size requested by the pageable to determine if
+	 * there is a next slice, rather than counting the matching rows.
+	 */
+	private Slice<TaskExecution> queryForSlicedResults(Pageable pageable, String selectClause, String fromClause,
+			String whereClause, MapSqlParameterSource queryParameters) {
+		List<TaskExecution> resultList = queryForPageContent(pageable, new LookAheadPageRequest(pageable),
+				selectClause, fromClause, whereClause, queryParameters);
+		boolean hasNext = resultList.size() > pageable.getPageSize();
+		if (hasNext) {
+			resultList = resultList.subList(0, pageable.getPageSize());
 		}
+		return new SliceImpl<>(resultList, pageable, hasNext);
+	}
+
+	private List<TaskExecution> queryForPageContent(Pageable pageable, Pageable queryPageable, String selectClause,
+			String fromClause, String whereClause, MapSqlParameterSource queryParameters) {
 		final Sort sort = pageable.getSort();
 		final LinkedHashMap<String, Order> sortOrderMap = new LinkedHashMap<>();
 
 		if (sort != null) {
 			for (Sort.Order sortOrder : sort) {
-				if (validSortColumns.contains(sortOrder.getProperty().toUpperCase())) {
-					sortOrderMap.put(sortOrder.getProperty(),
-							sortOrder.isAscending() ? Order.ASCENDING : Order.DESCENDING);
+				String sortColumn = sortOrder.getProperty().toUpperCase();
+				if (validSortColumns.contains(sortColumn)) {
+					sortOrderMap.put(sortColumn, sortOrder.isAscending() ? Order.ASCENDING : Order.DESCENDING);
 				}
 				else {
 					throw new IllegalArgumentException(
@@ -538,57 +1305,151 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 			}
 		}
 
-		if (!CollectionUtils.isEmpty(sortOrderMap)) {
-			factoryBean.setSortKeys(sortOrderMap);
+		PagingQueryProvider pagingQueryProvider = getPagingQueryProvider(selectClause, fromClause, whereClause,
+				CollectionUtils.isEmpty(sortOrderMap) ? this.orderMap : sortOrderMap);
+		String query = pagingQueryProvider.getPageQuery(queryPageable);
+		List<TaskExecution> resultList = this.jdbcTemplate.query(query, queryParameters, new TaskExecutionRowMapper());
+		return populateTaskArguments(resultList);
+	}
+
+	/**
+	 * Streams the task executions through a single forward-only query ordered by the
+	 * primary key. Arguments are loaded for each batch of {@link #setStreamFetchSize(int)}
+	 * task executions as the stream is consumed. The archive tables are only read when
+	 * they are enabled and asked for by the criteria.
+	 */
+	private Stream<TaskExecution> streamTaskExecutions(String taskName, TaskExecutionCriteria criteria) {
+		Assert.notNull(criteria, "criteria must not be null");
+		boolean includeArchive = this.archiveEnabled && criteria.isIncludingArchived();
+		StringBuilder query = new StringBuilder(
+				includeArchive ? STREAM_TASK_EXECUTIONS_WITH_ARCHIVE : STREAM_TASK_EXECUTIONS);
+		MapSqlParameterSource queryParameters = new MapSqlParameterSource();
+		query.append(getWhereClause(getCriteriaConditions(taskName, criteria, queryParameters)));
+		query.append("order by TASK_EXECUTION_ID");
+
+		Stream<TaskExecution> rows = this.streamingJdbcTemplate.queryForStream(getQuery(query.toString()),
+				queryParameters, new TaskExecutionRowMapper());
+		Iterator<TaskExecution> taskExecutions = new ArgumentLoadingIterator(rows.iterator(), this.streamFetchSize,
+				includeArchive ? FIND_ARGUMENTS_FROM_IDS_WITH_ARCHIVE : FIND_ARGUMENTS_FROM_IDS);
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(taskExecutions, Spliterator.ORDERED | Spliterator.NONNULL),
+					false)
+			.onClose(rows::close);
+	}
+
+	/**
+	 * Returns the conditions that restrict the task executions to the ones of the task,
+	 * when there is one, that satisfy the criteria, and adds their parameters.
+	 */
+	private List<String> getCriteriaConditions(String taskName, TaskExecutionCriteria criteria,
+			MapSqlParameterSource queryParameters) {
+		List<String> conditions = new ArrayList<>();
+		if (taskName != null) {
+			conditions.add("TASK_NAME = :taskName");
+			queryParameters.addValue("taskName", taskName, Types.VARCHAR);
 		}
-		else {
-			factoryBean.setSortKeys(this.orderMap);
+		if (criteria.getAfterExecutionId() != null) {
+			conditions.add("TASK_EXECUTION_ID > :afterExecutionId");
+			queryParameters.addValue("afterExecutionId", criteria.getAfterExecutionId(), Types.BIGINT);
 		}
-
-		factoryBean.setDataSource(this.dataSource);
-		PagingQueryProvider pagingQueryProvider;
-		try {
-			pagingQueryProvider = factoryBean.getObject();
-			pagingQueryProvider.init(this.dataSource);
+		if (criteria.getStartedFrom() != null) {
+			conditions.add("START_TIME >= :startedFrom");
+			queryParameters.addValue("startedFrom", Timestamp.valueOf(criteria.getStartedFrom()), Types.TIMESTAMP);
 		}
-		catch (Exception e) {
-			throw new IllegalStateException(e);
+		if (criteria.getStartedBefore() != null) {
+			conditions.add("START_TIME < :startedBefore");
+			queryParameters.addValue("startedBefore", Timestamp.valueOf(criteria.getStartedBefore()),
+					Types.TIMESTAMP);
 		}
-		String query = pagingQueryProvider.getPageQuery(pageable);
-		List<TaskExecution> resultList = this.jdbcTemplate.query(getQuery(query), queryParameters,
-				new TaskExecutionRowMapper());
-		return new PageImpl<>(resultList, pageable, totalCount);
+		if (criteria.isCompletedOnly()) {
+			conditions.add("END_TIME IS NOT NULL");
+		}
+		return conditions;
 	}
 
-	private String getQuery(String base) {
-		return StringUtils.replace(base, "%PREFIX%", this.tablePrefix);
+	private static String getWhereClause(List<String> conditions) {
+		return conditions.isEmpty() ? "" : "where " + String.join(" AND ", conditions) + ' ';
 	}
 
 	/**
-	 * Convenience method that inserts all arguments from the provided task arguments.
-	 * @param executionId The executionId to which the arguments are associated.
-	 * @param taskArguments The arguments to be stored.
+	 * Reads a duration in milliseconds, null when no task execution has a duration.
 	 */
-	private void insertTaskArguments(long executionId, List<String> taskArguments) {
-		for (String args : taskArguments) {
-			insertArgument(executionId, args);
+	private static Duration getDuration(ResultSet rs, String columnLabel) throws SQLException {
+		double duration = rs.getDouble(columnLabel);
+		return rs.wasNull() ? null : TaskExecutionDurations.toDuration(duration);
+	}
+
+	/**
+	 * Returns the {@link PagingQueryProvider} for the given clauses and sort keys. The
+	 * providers are built once per combination, with the table prefix already applied,
+	 * and reused for subsequent pages.
+	 */
+	private PagingQueryProvider getPagingQueryProvider(String selectClause, String fromClause, String whereClause,
+			Map<String, Order> sortKeys) {
+		String key = fromClause + '|' + whereClause + '|' + SqlPagingQueryUtils.buildSortClause(sortKeys);
+		return this.pagingQueryProviders.computeIfAbsent(key, k -> {
+			SqlPagingQueryProviderFactoryBean factoryBean = new SqlPagingQueryProviderFactoryBean();
+			factoryBean.setSelectClause(selectClause);
+			factoryBean.setFromClause(getQuery(fromClause));
+			if (StringUtils.hasText(whereClause)) {
+				factoryBean.setWhereClause(getQuery(whereClause));
+			}
+			factoryBean.setSortKeys(new LinkedHashMap<>(sortKeys));
+			factoryBean.setDataSource(this.dataSource);
+			factoryBean.setDatabaseType(getDatabaseType().name());
+			try {
+				return factoryBean.getObject();
+			}
+			catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+
+	/**
+	 * Returns the {@link DatabaseType} of the task repository. The JDBC metadata is only
+	 * read the first time the database type is needed.
+	 */
+	private DatabaseType getDatabaseType() {
+		DatabaseType type = this.databaseType;
+		if (type == null) {
+			try {
+				type = DatabaseType.fromMetaData(this.dataSource);
+			}
+			catch (MetaDataAccessException | SQLException e) {
+				throw new IllegalStateException("Unable to detect database type", e);
+			}
+			this.databaseType = type;
 		}
+		return type;
+	}
+
+	private String getQuery(String base) {
+		return this.queries.computeIfAbsent(base, k -> StringUtils.replace(k, "%PREFIX%", this.tablePrefix));
 	}
 
 	/**
-	 * Convenience method that inserts an individual records into the
-	 * TASK_EXECUTION_PARAMS table.
-	 * @param taskExecutionId id of a task execution
-	 * @param taskParam task parameters
+	 * Convenience method that inserts all arguments from the provided task arguments
+	 * using JDBC batch updates of at most {@link #setArgumentBatchSize(int)} rows each.
+	 * @param executionId The executionId to which the arguments are associated.
+	 * @param taskArguments The arguments to be stored.
 	 */
-	private void insertArgument(long taskExecutionId, String taskParam) {
-		final MapSqlParameterSource queryParameters = new MapSqlParameterSource()
-			.addValue("taskExecutionId", taskExecutionId, Types.BIGINT)
-			.addValue("taskParam", taskParam, Types.VARCHAR);
-		this.jdbcTemplate.update(getQuery(CREATE_TASK_ARGUMENT), queryParameters);
+	private void insertTaskArguments(final long executionId, List<String> taskArguments) {
+		if (CollectionUtils.isEmpty(taskArguments)) {
+			return;
+		}
+		this.jdbcTemplate.getJdbcOperations()
+			.batchUpdate(getQuery(CREATE_TASK_ARGUMENT), taskArguments, this.argumentBatchSize,
+					new ParameterizedPreparedStatementSetter<String>() {
+						@Override
+						public void setValues(PreparedStatement ps, String taskParam) throws SQLException {
+							ps.setLong(1, executionId);
+							ps.setString(2, taskParam);
+						}
+					});
 	}
 
-	private List<String> getTaskArguments(long taskExecutionId) {
+	private List<String> getTaskArguments(long taskExecutionId, String query) {
 		final List<String> params = new ArrayList<>();
 		RowCallbackHandler handler = new RowCallbackHandler() {
 			@Override
@@ -596,13 +1457,53 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 				params.add(rs.getString(2));
 			}
 		};
-		this.jdbcTemplate.query(getQuery(FIND_ARGUMENT_FROM_ID),
+		this.jdbcTemplate.query(getQuery(query),
 				new MapSqlParameterSource("taskExecutionId", taskExecutionId), handler);
 		return params;
 	}
 
 	/**
-	 * Re-usable mapper for {@link TaskExecution} instances.
+	 * Loads the arguments for all of the provided task executions using one query per
+	 * {@link #MAX_IN_CLAUSE_SIZE} executions rather than one query per execution.
+	 * @param taskExecutions the task executions whose arguments are to be populated.
+	 * @return the provided task executions.
+	 */
+	private List<TaskExecution> populateTaskArguments(List<TaskExecution> taskExecutions) {
+		return populateTaskArguments(taskExecutions, FIND_ARGUMENTS_FROM_IDS);
+	}
+
+	private List<TaskExecution> populateTaskArguments(List<TaskExecution> taskExecutions, String argumentsQuery) {
+		if (taskExecutions.isEmpty()) {
+			return taskExecutions;
+		}
+		final Map<Long, List<String>> argumentsByExecutionId = new HashMap<>();
+		RowCallbackHandler handler = new RowCallbackHandler() {
+			@Override
+			public void processRow(ResultSet rs) throws SQLException {
+				argumentsByExecutionId.computeIfAbsent(rs.getLong(1), k -> new ArrayList<>()).add(rs.getString(2));
+			}
+		};
+		List<Long> executionIds = new ArrayList<>(taskExecutions.size());
+		for (TaskExecution taskExecution : taskExecutions) {
+			executionIds.add(taskExecution.getExecutionId());
+		}
+		for (int i = 0; i < executionIds.size(); i += MAX_IN_CLAUSE_SIZE) {
+			List<Long> chunk = executionIds.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, executionIds.size()));
+			this.jdbcTemplate.query(getQuery(argumentsQuery),
+					new MapSqlParameterSource("taskExecutionIds", chunk), handler);
+		}
+		for (TaskExecution taskExecution : taskExecutions) {
+			List<String> arguments = argumentsByExecutionId.get(taskExecution.getExecutionId());
+			if (arguments != null) {
+				taskExecution.setArguments(arguments);
+			}
+		}
+		return taskExecutions;
+	}
+
+	/**
+	 * Re-usable mapper for {@link TaskExecution} instances. Arguments are not loaded by
+	 * the mapper, callers are expected to populate them for the whole result set.
 	 *
 	 */
 	private final class TaskExecutionRowMapper implements RowMapper<TaskExecution> {
@@ -619,7 +1520,7 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 			}
 			return new TaskExecution(id, getNullableExitCode(rs), rs.getString("TASK_NAME"),
 					rs.getObject("START_TIME", LocalDateTime.class), rs.getObject("END_TIME", LocalDateTime.class),
-					rs.getString("EXIT_MESSAGE"), getTaskArguments(id), rs.getString("ERROR_MESSAGE"),
+					rs.getString("EXIT_MESSAGE"), Collections.emptyList(), rs.getString("ERROR_MESSAGE"),
 					rs.getString("EXTERNAL_EXECUTION_ID"), parentExecutionId);
 		}
 
@@ -630,4 +1531,122 @@ public class JdbcTaskExecutionDao implements TaskExecutionDao {
 
 	}
 
+	/**
+	 * Iterator that reads the task executions of a streaming query in batches and
+	 * populates the arguments of each batch with a single query.
+	 */
+	private final class ArgumentLoadingIterator implements Iterator<TaskExecution> {
+
+		private final Iterator<TaskExecution> rows;
+
+		private final int batchSize;
+
+		private final String argumentsQuery;
+
+		private Iterator<TaskExecution> batch = Collections.emptyIterator();
+
+		private ArgumentLoadingIterator(Iterator<TaskExecution> rows, int batchSize, String argumentsQuery) {
+			this.rows = rows;
+			this.batchSize = batchSize;
+			this.argumentsQuery = argumentsQuery;
+		}
+
+		@Override
+		public boolean hasNext() {
+			if (!this.batch.hasNext() && this.rows.hasNext()) {
+				List<TaskExecution> taskExecutions = new ArrayList<>(this.batchSize);
+				while (taskExecutions.size() < this.batchSize && this.rows.hasNext()) {
+					taskExecutions.add(this.rows.next());
+				}
+				this.batch = populateTaskArguments(taskExecutions, this.argumentsQuery).iterator();
+			}
+			return this.batch.hasNext();
+		}
+
+		@Override
+		public TaskExecution next() {
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+			return this.batch.next();
+		}
+
+	}
+
+	/**
+	 * {@link PageRequest} that keeps the offset of the requested page while asking for one
+	 * more row, used to determine if a slice has a successor without counting.
+	 */
+	private static final class LookAheadPageRequest extends PageRequest {
+
+		private final long offset;
+
+		private LookAheadPageRequest(Pageable pageable) {
+			super(0, pageable.getPageSize() + 1, pageable.getSort());
+			this.offset = pageable.getOffset();
+		}
+
+		@Override
+		public long getOffset() {
+			return this.offset;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (!(obj instanceof LookAheadPageRequest)) {
+				return false;
+			}
+			return super.equals(obj) && this.offset == ((LookAheadPageRequest) obj).offset;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * super.hashCode() + Long.hashCode(this.offset);
+		}
+
+	}
+
+	/**
+	 * The counter a task execution is counted under.
+	 */
+	private enum Outcome {
+
+		RUNNING, SUCCEEDED, FAILED;
+
+		static Outcome of(LocalDateTime endTime, Integer exitCode) {
+			if (endTime == null) {
+				return RUNNING;
+			}
+			return (exitCode != null && exitCode == 0) ? SUCCEEDED : FAILED;
+		}
+
+		/**
+		 * The changes of the total, running, succeeded and failed counters when a task
+		 * execution is added to or removed from this outcome.
+		 */
+		long[] deltas(int delta) {
+			long[] deltas = new long[4];
+			deltas[0] = delta;
+			deltas[ordinal() + 1] = delta;
+			return deltas;
+		}
+
+	}
+
+	/**
+	 * The task name and outcome of a task execution before it is updated.
+	 */
+	private static final class CountedState {
+
+		private final String taskName;
+
+		private final Outcome outcome;
+
+		private CountedState(String taskName, LocalDateTime endTime, Integer exitCode) {
+			this.taskName = taskName;
+			this.outcome = Outcome.of(endTime, exitCode);
+		}
+
+	}
+
 }
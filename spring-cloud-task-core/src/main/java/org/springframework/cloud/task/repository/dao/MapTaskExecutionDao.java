@@ -17,34 +17,67 @@
 package org.springframework.cloud.task.repository.dao;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.AbstractSet;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
 import java.util.Set;
 import java.util.TreeSet;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiConsumer;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCounts;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.TaskExecutionCursor;
+import org.springframework.cloud.task.repository.TaskExecutionStatistics;
+import org.springframework.cloud.task.repository.TaskExecutionWindow;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
  * Stores Task Execution Information to a in-memory map.
+ * <p>
+ * Task executions are also kept in concurrent secondary indexes, sorted by start time
+ * and task execution id, by task name, by external execution id and for the running
+ * task executions, along with a reverse index of the job execution associations. Counts
+ * are answered in constant time and other queries in O(log n) plus the number of task
+ * executions skipped and returned. The indexes reflect the changes made through this
+ * DAO, task executions returned by it must not be modified directly.
+ * <p>
+ * To bound the memory used by long running applications, completed task executions can
+ * be evicted once there are more than {@link #setMaxCompletedExecutions(int)} of them or
+ * once they ended more than {@link #setCompletedExecutionTimeToLive(long)} milliseconds
+ * ago, earliest end time first. Running task executions are never evicted. Evicted task
+ * executions are still included in the task execution counts and task names, but no
+ * longer in pages and their totals. Task names, external execution ids and arguments are
+ * deduplicated so that repeated executions share their strings.
  *
  * @author Glenn Renfro
  * @author Gunnar Hillert
  * @author David Turanski
  */
-public class MapTaskExecutionDao implements TaskExecutionDao {
+public class MapTaskExecutionDao implements TaskExecutionDao, TaskExecutionStatisticsSource {
 
 	private final AtomicLong currentId = new AtomicLong(0L);
 
@@ -52,9 +85,80 @@ public class MapTaskExecutionDao implements TaskExecutionDao {
 
 	private ConcurrentMap<Long, Set<Long>> batchJobAssociations;
 
+	private final Object indexMonitor = new Object();
+
+	private final ConcurrentMap<Long, ExecutionKey> indexedKeys = new ConcurrentHashMap<>();
+
+	private final ExecutionIndex allExecutions = new ExecutionIndex();
+
+	private final ExecutionIndex runningExecutions = new ExecutionIndex();
+
+	private final ConcurrentNavigableMap<String, ExecutionIndex> executionsByName = new ConcurrentSkipListMap<>();
+
+	private final ConcurrentMap<String, ExecutionIndex> runningExecutionsByName = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<String, ExecutionIndex> executionsByExternalId = new ConcurrentHashMap<>();
+
+	private final ConcurrentMap<Long, Long> taskExecutionIdsByJobExecutionId = new ConcurrentHashMap<>();
+
+	private final NavigableSet<ExecutionKey> completedExecutions = new TreeSet<>(ExecutionKey.COMPLETION_ORDER);
+
+	private final AtomicLong evictedExecutionCount = new AtomicLong();
+
+	private final ConcurrentNavigableMap<String, AtomicLong> evictedCountsByName = new ConcurrentSkipListMap<>();
+
+	/**
+	 * The names of all the tasks ever recorded, in order, including the ones whose task
+	 * executions were all evicted.
+	 */
+	private final NavigableSet<String> taskNames = new ConcurrentSkipListSet<>();
+
+	private final ConcurrentMap<String, AtomicLong> evictedCountsByExternalId = new ConcurrentHashMap<>();
+
+	/**
+	 * The number of task executions that completed with an exit code of 0, overall and
+	 * by task name, including the evicted ones.
+	 */
+	private final AtomicLong succeededExecutionCount = new AtomicLong();
+
+	private final ConcurrentMap<String, AtomicLong> succeededCountsByName = new ConcurrentHashMap<>();
+
+	private int maxCompletedExecutions = 0;
+
+	private long completedExecutionTimeToLive = 0;
+
 	public MapTaskExecutionDao() {
 		this.taskExecutions = new ConcurrentHashMap<>();
-		this.batchJobAssociations = new ConcurrentHashMap<>();
+		this.batchJobAssociations = new JobExecutionAssociations(this.taskExecutionIdsByJobExecutionId,
+				this::jobExecutionAssociated);
+	}
+
+	/**
+	 * The maximum number of completed task executions to keep. When exceeded, the task
+	 * executions that ended first are evicted, including the ones already kept.
+	 * @param maxCompletedExecutions the maximum number of completed task executions or 0
+	 * to keep all of them.
+	 */
+	public void setMaxCompletedExecutions(int maxCompletedExecutions) {
+		Assert.isTrue(maxCompletedExecutions >= 0, "maxCompletedExecutions must not be negative");
+		synchronized (this.indexMonitor) {
+			this.maxCompletedExecutions = maxCompletedExecutions;
+			evictCompletedExecutions();
+		}
+	}
+
+	/**
+	 * The time after their end time that completed task executions are kept. The task
+	 * executions already kept that have expired are evicted right away.
+	 * @param completedExecutionTimeToLive the time to live in milliseconds or 0 to keep
+	 * completed task executions regardless of their age.
+	 */
+	public void setCompletedExecutionTimeToLive(long completedExecutionTimeToLive) {
+		Assert.isTrue(completedExecutionTimeToLive >= 0, "completedExecutionTimeToLive must not be negative");
+		synchronized (this.indexMonitor) {
+			this.completedExecutionTimeToLive = completedExecutionTimeToLive;
+			evictCompletedExecutions();
+		}
 	}
 
 	@Override
@@ -69,10 +173,23 @@ public class MapTaskExecutionDao implements TaskExecutionDao {
 		long taskExecutionId = getNextExecutionId();
 		TaskExecution taskExecution = new TaskExecution(taskExecutionId, null, taskName, startTime, null, null,
 				arguments, null, externalExecutionId, parentExecutionId);
-		this.taskExecutions.put(taskExecutionId, taskExecution);
+		saveTaskExecution(taskExecution);
 		return taskExecution;
 	}
 
+	@Override
+	public void saveTaskExecution(TaskExecution taskExecution) {
+		synchronized (this.indexMonitor) {
+			taskExecution.setTaskName(deduplicate(taskExecution.getTaskName()));
+			taskExecution.setArguments(deduplicate(taskExecution.getArguments()));
+			taskExecution.setExternalExecutionId(deduplicate(taskExecution.getExternalExecutionId()));
+			this.taskExecutions.put(taskExecution.getExecutionId(), taskExecution);
+			this.currentId.accumulateAndGet(taskExecution.getExecutionId() + 1, Math::max);
+			index(taskExecution);
+			evictCompletedExecutions();
+		}
+	}
+
 	@Override
 	public TaskExecution startTaskExecution(long executionId, String taskName, LocalDateTime startTime,
 			List<String> arguments, String externalExecutionid) {
@@ -82,29 +199,36 @@ public class MapTaskExecutionDao implements TaskExecutionDao {
 	@Override
 	public TaskExecution startTaskExecution(long executionId, String taskName, LocalDateTime startTime,
 			List<String> arguments, String externalExecutionid, Long parentExecutionId) {
-		TaskExecution taskExecution = this.taskExecutions.get(executionId);
-		taskExecution.setTaskName(taskName);
-		taskExecution.setStartTime(startTime);
-		taskExecution.setArguments(arguments);
-		taskExecution.setParentExecutionId(parentExecutionId);
-		if (externalExecutionid != null) {
-			taskExecution.setExternalExecutionId(externalExecutionid);
+		synchronized (this.indexMonitor) {
+			TaskExecution taskExecution = this.taskExecutions.get(executionId);
+			taskExecution.setTaskName(deduplicate(taskName));
+			taskExecution.setStartTime(startTime);
+			taskExecution.setArguments(deduplicate(arguments));
+			taskExecution.setParentExecutionId(parentExecutionId);
+			if (externalExecutionid != null) {
+				taskExecution.setExternalExecutionId(deduplicate(externalExecutionid));
+			}
+			index(taskExecution);
+			return taskExecution;
 		}
-		return taskExecution;
 	}
 
 	@Override
 	public void completeTaskExecution(long executionId, Integer exitCode, LocalDateTime endTime, String exitMessage,
 			String errorMessage) {
-		if (!this.taskExecutions.containsKey(executionId)) {
-			throw new IllegalStateException("Invalid TaskExecution, ID " + executionId + " not found.");
-		}
+		synchronized (this.indexMonitor) {
+			TaskExecution taskExecution = this.taskExecutions.get(executionId);
+			if (taskExecution == null) {
+				throw new IllegalStateException("Invalid TaskExecution, ID " + executionId + " not found.");
+			}
 
-		TaskExecution taskExecution = this.taskExecutions.get(executionId);
-		taskExecution.setEndTime(endTime);
-		taskExecution.setExitCode(exitCode);
-		taskExecution.setExitMessage(exitMessage);
-		taskExecution.setErrorMessage(errorMessage);
+			taskExecution.setEndTime(endTime);
+			taskExecution.setExitCode(exitCode);
+			taskExecution.setExitMessage(exitMessage);
+			taskExecution.setErrorMessage(errorMessage);
+			index(taskExecution);
+			evictCompletedExecutions();
+		}
 	}
 
 	@Override
@@ -119,102 +243,154 @@ public class MapTaskExecutionDao implements TaskExecutionDao {
 
 	@Override
 	public long getTaskExecutionCountByTaskName(String taskName) {
-		int count = 0;
-		for (Map.Entry<Long, TaskExecution> entry : this.taskExecutions.entrySet()) {
-			if (entry.getValue().getTaskName().equals(taskName)) {
-				count++;
-			}
-		}
-		return count;
+		return count(this.executionsByName, taskName) + evictedCount(this.evictedCountsByName, taskName);
 	}
 
 	@Override
 	public long getTaskExecutionCountByExternalExecutionId(String externalExecutionId) {
-		int count = 0;
-		for (Map.Entry<Long, TaskExecution> entry : this.taskExecutions.entrySet()) {
-			if (entry.getValue().getExternalExecutionId().equals(externalExecutionId)) {
-				count++;
-			}
-		}
-		return count;
+		return count(this.executionsByExternalId, externalExecutionId)
+				+ evictedCount(this.evictedCountsByExternalId, externalExecutionId);
 	}
 
 	@Override
 	public long getRunningTaskExecutionCountByTaskName(String taskName) {
-		int count = 0;
-		for (Map.Entry<Long, TaskExecution> entry : this.taskExecutions.entrySet()) {
-			if (entry.getValue().getTaskName().equals(taskName) && entry.getValue().getEndTime() == null) {
-				count++;
-			}
-		}
-		return count;
+		return count(this.runningExecutionsByName, taskName);
 	}
 
 	@Override
 	public long getRunningTaskExecutionCount() {
-		long count = 0;
-		for (Map.Entry<Long, TaskExecution> entry : this.taskExecutions.entrySet()) {
-			if (entry.getValue().getEndTime() == null) {
-				count++;
-			}
-		}
-		return count;
+		return this.runningExecutions.count();
 	}
 
 	@Override
 	public long getTaskExecutionCount() {
-		return this.taskExecutions.size();
+		return this.taskExecutions.size() + this.evictedExecutionCount.get();
 	}
 
 	@Override
-	public Page<TaskExecution> findRunningTaskExecutions(String taskName, Pageable pageable) {
-		Set<TaskExecution> result = getTaskExecutionTreeSet();
-		for (Map.Entry<Long, TaskExecution> entry : this.taskExecutions.entrySet()) {
-			if (entry.getValue().getTaskName().equals(taskName) && entry.getValue().getEndTime() == null) {
-				result.add(entry.getValue());
+	public TaskExecutionCounts getTaskExecutionCounts(String taskName) {
+		long total;
+		long running;
+		long succeeded;
+		synchronized (this.indexMonitor) {
+			if (taskName == null) {
+				total = getTaskExecutionCount();
+				running = getRunningTaskExecutionCount();
+				succeeded = this.succeededExecutionCount.get();
+			}
+			else {
+				total = getTaskExecutionCountByTaskName(taskName);
+				running = getRunningTaskExecutionCountByTaskName(taskName);
+				AtomicLong count = this.succeededCountsByName.get(taskName);
+				succeeded = (count != null) ? count.get() : 0;
 			}
 		}
-		return getPageFromList(new ArrayList<>(result), pageable, getRunningTaskExecutionCountByTaskName(taskName));
+		return new TaskExecutionCounts(total, running, succeeded, total - running - succeeded);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * Evicted task executions are not included in the statistics.
+	 */
+	@Override
+	public TaskExecutionStatistics getTaskExecutionStatistics(String taskName, TaskExecutionCriteria criteria) {
+		return collectTaskExecutionStatistics(taskName, criteria).toStatistics();
+	}
+
+	@Override
+	public TaskExecutionStatisticsCollector collectTaskExecutionStatistics(String taskName,
+			TaskExecutionCriteria criteria) {
+		Assert.notNull(criteria, "criteria must not be null");
+		Stream<TaskExecution> executions = (taskName != null) ? streamTaskExecutionsByName(taskName, criteria)
+				: streamAll(criteria);
+		TaskExecutionStatisticsCollector collector = new TaskExecutionStatisticsCollector();
+		executions.forEach(collector);
+		return collector;
+	}
+
+	@Override
+	public Page<TaskExecution> findRunningTaskExecutions(String taskName, Pageable pageable) {
+		return getPage(ascending(this.runningExecutionsByName, taskName), pageable,
+				getRunningTaskExecutionCountByTaskName(taskName));
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceRunningTaskExecutions(String taskName, Pageable pageable) {
+		return getSlice(ascending(this.runningExecutionsByName, taskName), pageable);
 	}
 
 	@Override
 	public Page<TaskExecution> findTaskExecutionsByExternalExecutionId(String externalExecutionId, Pageable pageable) {
-		Set<TaskExecution> result = getTaskExecutionTreeSet();
-		for (Map.Entry<Long, TaskExecution> entry : this.taskExecutions.entrySet()) {
-			if (entry.getValue().getExternalExecutionId().equals(externalExecutionId)) {
-				result.add(entry.getValue());
-			}
-		}
-		return getPageFromList(new ArrayList<>(result), pageable,
-				getTaskExecutionCountByExternalExecutionId(externalExecutionId));
+		return getPage(ascending(this.executionsByExternalId, externalExecutionId), pageable,
+				count(this.executionsByExternalId, externalExecutionId));
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceTaskExecutionsByExternalExecutionId(String externalExecutionId,
+			Pageable pageable) {
+		return getSlice(ascending(this.executionsByExternalId, externalExecutionId), pageable);
 	}
 
 	@Override
 	public Page<TaskExecution> findTaskExecutionsByName(String taskName, Pageable pageable) {
-		Set<TaskExecution> filteredSet = getTaskExecutionTreeSet();
-		for (Map.Entry<Long, TaskExecution> entry : this.taskExecutions.entrySet()) {
-			if (entry.getValue().getTaskName().equals(taskName)) {
-				filteredSet.add(entry.getValue());
-			}
-		}
-		return getPageFromList(new ArrayList<>(filteredSet), pageable, getTaskExecutionCountByTaskName(taskName));
+		return getPage(ascending(this.executionsByName, taskName), pageable, count(this.executionsByName, taskName));
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceTaskExecutionsByName(String taskName, Pageable pageable) {
+		return getSlice(ascending(this.executionsByName, taskName), pageable);
 	}
 
 	@Override
 	public List<String> getTaskNames() {
-		Set<String> result = new TreeSet<>();
-		for (Map.Entry<Long, TaskExecution> entry : this.taskExecutions.entrySet()) {
-			result.add(entry.getValue().getTaskName());
-		}
-		return new ArrayList<>(result);
+		return new ArrayList<>(this.taskNames);
 	}
 
 	@Override
 	public Page<TaskExecution> findAll(Pageable pageable) {
-		TreeSet<TaskExecution> sortedSet = getTaskExecutionTreeSet();
-		sortedSet.addAll(this.taskExecutions.values());
-		List<TaskExecution> result = new ArrayList<>(sortedSet.descendingSet());
-		return getPageFromList(result, pageable, getTaskExecutionCount());
+		return getPage(this.allExecutions.executions.descendingMap().values(), pageable, this.allExecutions.count());
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceAll(Pageable pageable) {
+		return getSlice(this.allExecutions.executions.descendingMap().values(), pageable);
+	}
+
+	@Override
+	public TaskExecutionWindow findAll(TaskExecutionCursor after, int limit) {
+		Assert.isTrue(limit > 0, "limit must be greater than zero");
+		ConcurrentNavigableMap<ExecutionKey, TaskExecution> executions = this.allExecutions.executions;
+		if (after != null) {
+			executions = executions.headMap(new ExecutionKey(after.getStartTime(), after.getExecutionId()), false);
+		}
+		List<TaskExecution> result = new ArrayList<>();
+		for (Map.Entry<ExecutionKey, TaskExecution> entry : executions.descendingMap().entrySet()) {
+			if (result.size() > limit) {
+				break;
+			}
+			result.add(entry.getValue());
+		}
+		return TaskExecutionWindow.from(result, limit);
+	}
+
+	/**
+	 * Streams the task executions by walking the task execution ids in ascending order,
+	 * so that no intermediate collection of task executions is built.
+	 */
+	@Override
+	public Stream<TaskExecution> streamAll(TaskExecutionCriteria criteria) {
+		Assert.notNull(criteria, "criteria must not be null");
+		long firstId = (criteria.getAfterExecutionId() != null) ? criteria.getAfterExecutionId() + 1 : 0;
+		return LongStream.range(Math.max(firstId, 0), this.currentId.get())
+			.mapToObj(this.taskExecutions::get)
+			.filter(Objects::nonNull)
+			.filter(criteria::matches);
+	}
+
+	@Override
+	public Stream<TaskExecution> streamTaskExecutionsByName(String taskName, TaskExecutionCriteria criteria) {
+		return streamAll(criteria).filter((taskExecution) -> Objects.equals(taskName, taskExecution.getTaskName()));
 	}
 
 	public Map<Long, TaskExecution> getTaskExecutions() {
@@ -227,20 +403,7 @@ public class MapTaskExecutionDao implements TaskExecutionDao {
 
 	@Override
 	public Long getTaskExecutionIdByJobExecutionId(long jobExecutionId) {
-		Long taskId = null;
-
-		found:
-
-		for (Map.Entry<Long, Set<Long>> association : this.batchJobAssociations.entrySet()) {
-			for (Long curJobExecutionId : association.getValue()) {
-				if (curJobExecutionId.equals(jobExecutionId)) {
-					taskId = association.getKey();
-					break found;
-				}
-			}
-		}
-
-		return taskId;
+		return this.taskExecutionIdsByJobExecutionId.get(jobExecutionId);
 	}
 
 	@Override
@@ -255,32 +418,189 @@ public class MapTaskExecutionDao implements TaskExecutionDao {
 
 	@Override
 	public void updateExternalExecutionId(long taskExecutionId, String externalExecutionId) {
-		TaskExecution taskExecution = this.taskExecutions.get(taskExecutionId);
-		Assert.notNull(taskExecution, "Invalid TaskExecution, ID " + taskExecutionId + " not found.");
-		taskExecution.setExternalExecutionId(externalExecutionId);
+		synchronized (this.indexMonitor) {
+			TaskExecution taskExecution = this.taskExecutions.get(taskExecutionId);
+			Assert.notNull(taskExecution, "Invalid TaskExecution, ID " + taskExecutionId + " not found.");
+			taskExecution.setExternalExecutionId(externalExecutionId);
+			index(taskExecution);
+		}
 	}
 
+	/**
+	 * The job execution ids associated with each task execution id. Job execution ids
+	 * added to or removed from the sets of this map, or through {@code put} and
+	 * {@code remove}, are reflected in the reverse index used by
+	 * {@link #getTaskExecutionIdByJobExecutionId(long)}.
+	 * @return the associations
+	 */
 	public ConcurrentMap<Long, Set<Long>> getBatchJobAssociations() {
 		return this.batchJobAssociations;
 	}
 
-	private TreeSet<TaskExecution> getTaskExecutionTreeSet() {
-		return new TreeSet<>(new Comparator<TaskExecution>() {
-			@Override
-			public int compare(TaskExecution e1, TaskExecution e2) {
-				int result = e1.getStartTime().compareTo(e2.getStartTime());
-				if (result == 0) {
-					result = Long.valueOf(e1.getExecutionId()).compareTo(e2.getExecutionId());
-				}
-				return result;
+	/**
+	 * Invoked when a job execution id is added to the associations of a task execution
+	 * through {@link #getBatchJobAssociations()}. Does nothing by default.
+	 * @param taskExecutionId the id of the task execution.
+	 * @param jobExecutionId the id of the job execution.
+	 */
+	protected void jobExecutionAssociated(long taskExecutionId, long jobExecutionId) {
+	}
+
+	/**
+	 * Replaces the index entries of the task execution with ones matching its current
+	 * state. Must be called while holding the index monitor.
+	 * @param taskExecution the task execution to index.
+	 */
+	private void index(TaskExecution taskExecution) {
+		ExecutionKey previous = this.indexedKeys.get(taskExecution.getExecutionId());
+		if (previous != null) {
+			unindex(previous);
+		}
+		ExecutionKey key = new ExecutionKey(taskExecution);
+		if (key.taskName != null) {
+			this.taskNames.add(key.taskName);
+		}
+		this.allExecutions.add(key, taskExecution);
+		add(this.executionsByName, key.taskName, key, taskExecution);
+		add(this.executionsByExternalId, key.externalExecutionId, key, taskExecution);
+		if (key.running) {
+			this.runningExecutions.add(key, taskExecution);
+			add(this.runningExecutionsByName, key.taskName, key, taskExecution);
+		}
+		else {
+			this.completedExecutions.add(key);
+		}
+		countSucceeded(key, 1);
+		this.indexedKeys.put(taskExecution.getExecutionId(), key);
+	}
+
+	private void unindex(ExecutionKey key) {
+		this.completedExecutions.remove(key);
+		this.allExecutions.remove(key);
+		remove(this.executionsByName, key.taskName, key);
+		remove(this.executionsByExternalId, key.externalExecutionId, key);
+		if (key.running) {
+			this.runningExecutions.remove(key);
+			remove(this.runningExecutionsByName, key.taskName, key);
+		}
+		countSucceeded(key, -1);
+	}
+
+	private void countSucceeded(ExecutionKey key, int delta) {
+		if (key.succeeded) {
+			this.succeededExecutionCount.addAndGet(delta);
+			if (key.taskName != null) {
+				this.succeededCountsByName.computeIfAbsent(key.taskName, (name) -> new AtomicLong())
+					.addAndGet(delta);
+			}
+		}
+	}
+
+	/**
+	 * Evicts the completed task executions that exceed the maximum number of completed
+	 * task executions or their time to live, earliest end time first. Must be called
+	 * while holding the index monitor.
+	 */
+	private void evictCompletedExecutions() {
+		if (this.maxCompletedExecutions == 0 && this.completedExecutionTimeToLive == 0) {
+			return;
+		}
+		LocalDateTime expiry = (this.completedExecutionTimeToLive > 0)
+				? LocalDateTime.now().minus(Duration.ofMillis(this.completedExecutionTimeToLive)) : null;
+		while (!this.completedExecutions.isEmpty()) {
+			ExecutionKey oldest = this.completedExecutions.first();
+			boolean overCapacity = this.maxCompletedExecutions > 0
+					&& this.completedExecutions.size() > this.maxCompletedExecutions;
+			boolean expired = expiry != null && oldest.endTime != null && oldest.endTime.isBefore(expiry);
+			if (!overCapacity && !expired) {
+				break;
 			}
-		});
+			evict(oldest.executionId);
+		}
+	}
+
+	private void evict(long executionId) {
+		this.taskExecutions.remove(executionId);
+		this.batchJobAssociations.remove(executionId);
+		ExecutionKey key = this.indexedKeys.remove(executionId);
+		unindex(key);
+		// evicted task executions remain counted
+		countSucceeded(key, 1);
+		this.evictedExecutionCount.incrementAndGet();
+		if (key.taskName != null) {
+			this.evictedCountsByName.computeIfAbsent(key.taskName, (name) -> new AtomicLong()).incrementAndGet();
+		}
+		if (key.externalExecutionId != null) {
+			this.evictedCountsByExternalId.computeIfAbsent(key.externalExecutionId, (id) -> new AtomicLong())
+				.incrementAndGet();
+		}
+	}
+
+	private static long evictedCount(ConcurrentMap<String, AtomicLong> evictedCounts, String value) {
+		AtomicLong count = (value != null) ? evictedCounts.get(value) : null;
+		return (count != null) ? count.get() : 0;
 	}
 
-	private Page getPageFromList(List<TaskExecution> executionList, Pageable pageable, long maxSize) {
-		long toIndex = (pageable.getOffset() + pageable.getPageSize() > executionList.size()) ? executionList.size()
-				: pageable.getOffset() + pageable.getPageSize();
-		return new PageImpl<>(executionList.subList((int) pageable.getOffset(), (int) toIndex), pageable, maxSize);
+	private static String deduplicate(String value) {
+		return (value != null) ? value.intern() : null;
+	}
+
+	private static List<String> deduplicate(List<String> values) {
+		List<String> result = new ArrayList<>(values.size());
+		for (String value : values) {
+			result.add(deduplicate(value));
+		}
+		return result;
+	}
+
+	private static void add(ConcurrentMap<String, ExecutionIndex> indexes, String value, ExecutionKey key,
+			TaskExecution taskExecution) {
+		if (value != null) {
+			indexes.computeIfAbsent(value, (v) -> new ExecutionIndex()).add(key, taskExecution);
+		}
+	}
+
+	private static void remove(ConcurrentMap<String, ExecutionIndex> indexes, String value, ExecutionKey key) {
+		ExecutionIndex index = (value != null) ? indexes.get(value) : null;
+		if (index != null && index.remove(key)) {
+			indexes.remove(value, index);
+		}
+	}
+
+	private static long count(ConcurrentMap<String, ExecutionIndex> indexes, String value) {
+		ExecutionIndex index = (value != null) ? indexes.get(value) : null;
+		return (index != null) ? index.count() : 0;
+	}
+
+	private static Collection<TaskExecution> ascending(ConcurrentMap<String, ExecutionIndex> indexes, String value) {
+		ExecutionIndex index = (value != null) ? indexes.get(value) : null;
+		return (index != null) ? index.executions.values() : Collections.emptyList();
+	}
+
+	private static List<TaskExecution> getContent(Collection<TaskExecution> executions, Pageable pageable, int size) {
+		List<TaskExecution> content = new ArrayList<>(Math.min(size, 64));
+		long skip = pageable.getOffset();
+		for (TaskExecution taskExecution : executions) {
+			if (skip > 0) {
+				skip--;
+				continue;
+			}
+			if (content.size() == size) {
+				break;
+			}
+			content.add(taskExecution);
+		}
+		return content;
+	}
+
+	private Page<TaskExecution> getPage(Collection<TaskExecution> executions, Pageable pageable, long maxSize) {
+		return new PageImpl<>(getContent(executions, pageable, pageable.getPageSize()), pageable, maxSize);
+	}
+
+	private Slice<TaskExecution> getSlice(Collection<TaskExecution> executions, Pageable pageable) {
+		List<TaskExecution> content = getContent(executions, pageable, pageable.getPageSize() + 1);
+		boolean hasNext = content.size() > pageable.getPageSize();
+		return new SliceImpl<>(hasNext ? content.subList(0, pageable.getPageSize()) : content, pageable, hasNext);
 	}
 
 	@Override
@@ -300,25 +620,14 @@ public class MapTaskExecutionDao implements TaskExecutionDao {
 				String.format("Task names must not contain any empty elements but %s of %s were empty or null.",
 						taskNames.length - taskNamesAsList.size(), taskNames.length));
 
-		final Map<String, TaskExecution> tempTaskExecutions = new HashMap<>();
-
-		for (Map.Entry<Long, TaskExecution> taskExecutionMapEntry : this.taskExecutions.entrySet()) {
-			if (!taskNamesAsList.contains(taskExecutionMapEntry.getValue().getTaskName())) {
-				continue;
-			}
-
-			final TaskExecution tempTaskExecution = tempTaskExecutions
-				.get(taskExecutionMapEntry.getValue().getTaskName());
-			if (tempTaskExecution == null
-					|| tempTaskExecution.getStartTime().isBefore(taskExecutionMapEntry.getValue().getStartTime())
-					|| (tempTaskExecution.getStartTime().equals(taskExecutionMapEntry.getValue().getStartTime())
-							&& tempTaskExecution.getExecutionId() < taskExecutionMapEntry.getValue()
-								.getExecutionId())) {
-				tempTaskExecutions.put(taskExecutionMapEntry.getValue().getTaskName(),
-						taskExecutionMapEntry.getValue());
+		final List<TaskExecution> latestTaskExecutions = new ArrayList<>();
+		for (String taskName : new TreeSet<>(taskNamesAsList)) {
+			ExecutionIndex index = this.executionsByName.get(taskName);
+			Map.Entry<ExecutionKey, TaskExecution> latest = (index != null) ? index.executions.lastEntry() : null;
+			if (latest != null) {
+				latestTaskExecutions.add(latest.getValue());
 			}
 		}
-		final List<TaskExecution> latestTaskExecutions = new ArrayList<>(tempTaskExecutions.values());
 		Collections.sort(latestTaskExecutions, new TaskExecutionComparator());
 		return latestTaskExecutions;
 	}
@@ -353,4 +662,235 @@ public class MapTaskExecutionDao implements TaskExecutionDao {
 
 	}
 
+	/**
+	 * Immutable snapshot of the indexed state of a task execution, ordered by start time,
+	 * task executions without a start time first, and task execution id.
+	 */
+	private static final class ExecutionKey implements Comparable<ExecutionKey> {
+
+		private static final Comparator<ExecutionKey> ORDER = Comparator
+			.comparing((ExecutionKey key) -> key.startTime, Comparator.nullsFirst(Comparator.naturalOrder()))
+			.thenComparingLong((key) -> key.executionId);
+
+		private static final Comparator<ExecutionKey> COMPLETION_ORDER = Comparator
+			.comparing((ExecutionKey key) -> key.endTime, Comparator.nullsFirst(Comparator.naturalOrder()))
+			.thenComparingLong((key) -> key.executionId);
+
+		private final LocalDateTime startTime;
+
+		private final long executionId;
+
+		private final LocalDateTime endTime;
+
+		private final String taskName;
+
+		private final String externalExecutionId;
+
+		private final boolean running;
+
+		private final boolean succeeded;
+
+		ExecutionKey(LocalDateTime startTime, long executionId) {
+			this.startTime = startTime;
+			this.executionId = executionId;
+			this.endTime = null;
+			this.taskName = null;
+			this.externalExecutionId = null;
+			this.running = false;
+			this.succeeded = false;
+		}
+
+		ExecutionKey(TaskExecution taskExecution) {
+			this.startTime = taskExecution.getStartTime();
+			this.executionId = taskExecution.getExecutionId();
+			this.endTime = taskExecution.getEndTime();
+			this.taskName = taskExecution.getTaskName();
+			this.externalExecutionId = taskExecution.getExternalExecutionId();
+			this.running = taskExecution.getEndTime() == null;
+			this.succeeded = !this.running && Integer.valueOf(0).equals(taskExecution.getExitCode());
+		}
+
+		@Override
+		public int compareTo(ExecutionKey other) {
+			return ORDER.compare(this, other);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			}
+			if (!(o instanceof ExecutionKey)) {
+				return false;
+			}
+			return compareTo((ExecutionKey) o) == 0;
+		}
+
+		@Override
+		public int hashCode() {
+			return Long.hashCode(this.executionId);
+		}
+
+	}
+
+	/**
+	 * Task executions sorted by {@link ExecutionKey} along with their count, since the
+	 * size of a skip list is not a constant time operation. Only modified while holding
+	 * the index monitor.
+	 */
+	private static final class ExecutionIndex {
+
+		private final ConcurrentSkipListMap<ExecutionKey, TaskExecution> executions = new ConcurrentSkipListMap<>();
+
+		private final AtomicLong count = new AtomicLong();
+
+		void add(ExecutionKey key, TaskExecution taskExecution) {
+			if (this.executions.put(key, taskExecution) == null) {
+				this.count.incrementAndGet();
+			}
+		}
+
+		/**
+		 * Removes the task execution from the index.
+		 * @param key the key of the task execution.
+		 * @return true if the index is now empty
+		 */
+		boolean remove(ExecutionKey key) {
+			if (this.executions.remove(key) != null) {
+				return this.count.decrementAndGet() == 0;
+			}
+			return this.count.get() == 0;
+		}
+
+		long count() {
+			return this.count.get();
+		}
+
+	}
+
+	/**
+	 * Job execution associations that maintain the reverse index from job execution id to
+	 * task execution id.
+	 */
+	private static final class JobExecutionAssociations extends ConcurrentHashMap<Long, Set<Long>> {
+
+		private final transient ConcurrentMap<Long, Long> reverseIndex;
+
+		private final transient BiConsumer<Long, Long> associationListener;
+
+		JobExecutionAssociations(ConcurrentMap<Long, Long> reverseIndex, BiConsumer<Long, Long> associationListener) {
+			this.reverseIndex = reverseIndex;
+			this.associationListener = associationListener;
+		}
+
+		@Override
+		public Set<Long> put(Long taskExecutionId, Set<Long> jobExecutionIds) {
+			Set<Long> previous = super.put(taskExecutionId, new JobExecutionIds(taskExecutionId, jobExecutionIds));
+			unindex(previous);
+			return previous;
+		}
+
+		@Override
+		public Set<Long> putIfAbsent(Long taskExecutionId, Set<Long> jobExecutionIds) {
+			JobExecutionIds ids = new JobExecutionIds(taskExecutionId, Collections.emptySet());
+			Set<Long> previous = super.putIfAbsent(taskExecutionId, ids);
+			if (previous == null) {
+				ids.addAll(jobExecutionIds);
+			}
+			return previous;
+		}
+
+		@Override
+		public void putAll(Map<? extends Long, ? extends Set<Long>> associations) {
+			associations.forEach(this::put);
+		}
+
+		@Override
+		public Set<Long> remove(Object taskExecutionId) {
+			Set<Long> previous = super.remove(taskExecutionId);
+			unindex(previous);
+			return previous;
+		}
+
+		private void unindex(Set<Long> jobExecutionIds) {
+			if (jobExecutionIds instanceof JobExecutionIds) {
+				((JobExecutionIds) jobExecutionIds).clear();
+			}
+		}
+
+		/**
+		 * Job execution ids of a task execution that keep the reverse index up to date.
+		 */
+		private final class JobExecutionIds extends AbstractSet<Long> {
+
+			private final Long taskExecutionId;
+
+			private final Set<Long> ids = new ConcurrentSkipListSet<>();
+
+			JobExecutionIds(Long taskExecutionId, Set<Long> jobExecutionIds) {
+				this.taskExecutionId = taskExecutionId;
+				addAll(jobExecutionIds);
+			}
+
+			@Override
+			public boolean add(Long jobExecutionId) {
+				boolean added = this.ids.add(jobExecutionId);
+				JobExecutionAssociations.this.reverseIndex.put(jobExecutionId, this.taskExecutionId);
+				if (added) {
+					JobExecutionAssociations.this.associationListener.accept(this.taskExecutionId, jobExecutionId);
+				}
+				return added;
+			}
+
+			@Override
+			public boolean remove(Object jobExecutionId) {
+				boolean removed = this.ids.remove(jobExecutionId);
+				if (removed) {
+					JobExecutionAssociations.this.reverseIndex.remove(jobExecutionId, this.taskExecutionId);
+				}
+				return removed;
+			}
+
+			@Override
+			public boolean contains(Object jobExecutionId) {
+				return this.ids.contains(jobExecutionId);
+			}
+
+			@Override
+			public Iterator<Long> iterator() {
+				Iterator<Long> iterator = this.ids.iterator();
+				return new Iterator<Long>() {
+
+					private Long current;
+
+					@Override
+					public boolean hasNext() {
+						return iterator.hasNext();
+					}
+
+					@Override
+					public Long next() {
+						this.current = iterator.next();
+						return this.current;
+					}
+
+					@Override
+					public void remove() {
+						iterator.remove();
+						JobExecutionAssociations.this.reverseIndex.remove(this.current,
+								JobExecutionIds.this.taskExecutionId);
+					}
+
+				};
+			}
+
+			@Override
+			public int size() {
+				return this.ids.size();
+			}
+
+		}
+
+	}
+
 }
@@ -0,0 +1,596 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.dao;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.batch.item.database.Order;
+import org.springframework.cloud.task.configuration.TaskProperties;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.database.PagingQueryProvider;
+import org.springframework.cloud.task.repository.database.support.SqlPagingQueryProviderFactoryBean;
+import org.springframework.cloud.task.repository.database.support.SqlPagingQueryUtils;
+import org.springframework.cloud.task.repository.support.DatabaseType;
+import org.springframework.dao.InvalidDataAccessResourceUsageException;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.DatabaseClient.GenericExecuteSpec;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Stores Task Execution Information to an R2DBC {@link ConnectionFactory} without
+ * blocking. It uses the same tables, with the same table prefix, as the
+ * {@link JdbcTaskExecutionDao}, so that task executions recorded by one are read by the
+ * other. The optional latest task execution summary, task name registry and execution
+ * counter tables are not maintained, so task executions are not written through this
+ * DAO while any of them exists. The archive tables are not read.
+ * <p>
+ * Task execution ids are drawn from the {@code SEQ} sequence of the schema, which is a
+ * table rather than a sequence on HSQLDB and MySQL, so task executions cannot be created
+ * through this DAO on those databases. The JDBC task repository only reserves blocks of
+ * ids from a sequence emulated by a table, which it advances by the whole block, so the
+ * ids drawn here never collide with the ones it hands out.
+ *
+ * @author agent
+ */
+public class R2dbcTaskExecutionDao {
+
+	private static final String SAVE_TASK_EXECUTION = "INSERT into %PREFIX%EXECUTION"
+			+ "(TASK_EXECUTION_ID, EXIT_CODE, START_TIME, TASK_NAME, LAST_UPDATED, EXTERNAL_EXECUTION_ID, "
+			+ "PARENT_EXECUTION_ID)"
+			+ "values (:taskExecutionId, :exitCode, :startTime, "
+			+ ":taskName, :lastUpdated, :externalExecutionId, :parentExecutionId)";
+
+	private static final String CREATE_TASK_ARGUMENT = "INSERT into "
+			+ "%PREFIX%EXECUTION_PARAMS(TASK_EXECUTION_ID, TASK_PARAM ) values (:taskExecutionId, :taskParam)";
+
+	private static final String START_TASK_EXECUTION = "UPDATE %PREFIX%EXECUTION set "
+			+ "START_TIME = :startTime, TASK_NAME = :taskName, LAST_UPDATED = :lastUpdated, "
+			+ "PARENT_EXECUTION_ID = :parentExecutionId where TASK_EXECUTION_ID = :taskExecutionId";
+
+	private static final String START_TASK_EXECUTION_WITH_EXTERNAL_ID = "UPDATE %PREFIX%EXECUTION set "
+			+ "START_TIME = :startTime, TASK_NAME = :taskName, LAST_UPDATED = :lastUpdated, "
+			+ "EXTERNAL_EXECUTION_ID = :externalExecutionId, PARENT_EXECUTION_ID = :parentExecutionId "
+			+ "where TASK_EXECUTION_ID = :taskExecutionId";
+
+	private static final String UPDATE_TASK_EXECUTION = "UPDATE %PREFIX%EXECUTION set "
+			+ "END_TIME = :endTime, EXIT_CODE = :exitCode, EXIT_MESSAGE = :exitMessage, ERROR_MESSAGE = :errorMessage, "
+			+ "LAST_UPDATED = :lastUpdated where TASK_EXECUTION_ID = :taskExecutionId";
+
+	private static final String UPDATE_TASK_EXECUTION_EXTERNAL_EXECUTION_ID = "UPDATE %PREFIX%EXECUTION set "
+			+ "EXTERNAL_EXECUTION_ID = :externalExecutionId where TASK_EXECUTION_ID = :taskExecutionId";
+
+	private static final String GET_EXECUTION_BY_ID = "SELECT " + JdbcTaskExecutionDao.SELECT_CLAUSE
+			+ "from %PREFIX%EXECUTION where TASK_EXECUTION_ID = :taskExecutionId";
+
+	private static final String FIND_ARGUMENTS_FROM_IDS = "SELECT TASK_EXECUTION_ID, "
+			+ "TASK_PARAM from %PREFIX%EXECUTION_PARAMS where TASK_EXECUTION_ID in (:taskExecutionIds)";
+
+	private static final String STREAM_TASK_EXECUTIONS = "SELECT " + JdbcTaskExecutionDao.SELECT_CLAUSE
+			+ "from %PREFIX%EXECUTION ";
+
+	private static final String TASK_EXECUTION_COUNT = "SELECT COUNT(*) FROM %PREFIX%EXECUTION";
+
+	private static final String TASK_EXECUTION_COUNT_BY_NAME = "SELECT COUNT(*) FROM "
+			+ "%PREFIX%EXECUTION where TASK_NAME = :taskName";
+
+	private static final String RUNNING_TASK_EXECUTION_COUNT = "SELECT COUNT(*) FROM "
+			+ "%PREFIX%EXECUTION where END_TIME IS NULL";
+
+	private static final String RUNNING_TASK_EXECUTION_COUNT_BY_NAME = "SELECT COUNT(*) FROM "
+			+ "%PREFIX%EXECUTION where TASK_NAME = :taskName AND END_TIME IS NULL";
+
+	private static final String FIND_TASK_NAMES = "SELECT distinct TASK_NAME from %PREFIX%EXECUTION order by TASK_NAME";
+
+	/**
+	 * The optional tables that the JDBC task repository keeps in sync with the task
+	 * executions as they are written.
+	 */
+	private static final List<String> MAINTAINED_TABLES = List.of("EXECUTION_LATEST", "TASK_NAMES",
+			"EXECUTION_COUNTS");
+
+	private static final String LATEST_TASK_EXECUTION_WHERE_CLAUSE = "where TASK_NAME = :taskName "
+			+ "AND START_TIME IS NOT NULL";
+
+	/**
+	 * Maximum number of task execution ids bound to a single IN clause. Oracle rejects IN
+	 * lists with more than 1000 entries.
+	 */
+	private static final int MAX_IN_CLAUSE_SIZE = 1000;
+
+	private static final Set<String> validSortColumns = Set.of("TASK_EXECUTION_ID", "START_TIME", "END_TIME",
+			"TASK_NAME", "EXIT_CODE", "EXIT_MESSAGE", "ERROR_MESSAGE", "LAST_UPDATED", "EXTERNAL_EXECUTION_ID",
+			"PARENT_EXECUTION_ID");
+
+	private final DatabaseClient databaseClient;
+
+	private final TransactionalOperator transactionalOperator;
+
+	private final DatabaseType databaseType;
+
+	private final String tablePrefix;
+
+	/**
+	 * Queries with the table prefix applied, keyed by the query template.
+	 */
+	private final Map<String, String> queries = new ConcurrentHashMap<>();
+
+	/**
+	 * Paging query providers, keyed by their where clause and sort keys.
+	 */
+	private final Map<String, PagingQueryProvider> pagingQueryProviders = new ConcurrentHashMap<>();
+
+	private final LinkedHashMap<String, Order> orderMap;
+
+	private int streamFetchSize = JdbcTaskExecutionDao.DEFAULT_STREAM_FETCH_SIZE;
+
+	/**
+	 * Whether the maintained tables are known not to exist.
+	 */
+	private volatile boolean maintainedTablesChecked;
+
+	/**
+	 * Initializes the R2dbcTaskExecutionDao.
+	 * @param connectionFactory used by the dao to execute queries and update the tables.
+	 * @param tablePrefix the table prefix to use for this dao.
+	 */
+	public R2dbcTaskExecutionDao(ConnectionFactory connectionFactory, String tablePrefix) {
+		Assert.notNull(connectionFactory, "connectionFactory must not be null");
+		Assert.hasText(tablePrefix, "tablePrefix must not be null nor empty");
+		this.databaseClient = DatabaseClient.create(connectionFactory);
+		this.transactionalOperator = TransactionalOperator.create(new R2dbcTransactionManager(connectionFactory));
+		this.databaseType = getDatabaseType(connectionFactory.getMetadata().getName());
+		this.tablePrefix = tablePrefix;
+		this.orderMap = new LinkedHashMap<>();
+		this.orderMap.put("START_TIME", Order.DESCENDING);
+		this.orderMap.put("TASK_EXECUTION_ID", Order.DESCENDING);
+	}
+
+	/**
+	 * Initializes the R2dbcTaskExecutionDao and defaults the table prefix to
+	 * {@link TaskProperties#DEFAULT_TABLE_PREFIX}.
+	 * @param connectionFactory used by the dao to execute queries and update the tables.
+	 */
+	public R2dbcTaskExecutionDao(ConnectionFactory connectionFactory) {
+		this(connectionFactory, TaskProperties.DEFAULT_TABLE_PREFIX);
+	}
+
+	/**
+	 * Sets the number of task executions read before their arguments are loaded by the
+	 * streaming queries. Defaults to
+	 * {@link JdbcTaskExecutionDao#DEFAULT_STREAM_FETCH_SIZE}.
+	 * @param streamFetchSize the number of task executions, must be greater than 0.
+	 */
+	public void setStreamFetchSize(int streamFetchSize) {
+		Assert.isTrue(streamFetchSize > 0, "streamFetchSize must be greater than 0");
+		this.streamFetchSize = streamFetchSize;
+	}
+
+	/**
+	 * Creates a task execution, along with its arguments, in a single transaction.
+	 * @param taskName the name of the task, may be null.
+	 * @param startTime the start time of the task execution, may be null.
+	 * @param arguments the arguments of the task execution.
+	 * @param externalExecutionId the id assigned to the task execution by the platform.
+	 * @param parentExecutionId the parent task execution id.
+	 * @return the task execution with the id that was used to store it
+	 */
+	public Mono<TaskExecution> createTaskExecution(String taskName, LocalDateTime startTime, List<String> arguments,
+			String externalExecutionId, Long parentExecutionId) {
+		return checkMaintainedTables().then(getNextExecutionId()).flatMap((executionId) -> {
+			TaskExecution taskExecution = new TaskExecution(executionId, null, taskName, startTime, null, null,
+					arguments, null, externalExecutionId, parentExecutionId);
+			GenericExecuteSpec spec = this.databaseClient.sql(getQuery(SAVE_TASK_EXECUTION))
+				.bind("taskExecutionId", executionId)
+				.bindNull("exitCode", Integer.class)
+				.bind("lastUpdated", LocalDateTime.now());
+			spec = bind(spec, "startTime", startTime, LocalDateTime.class);
+			spec = bind(spec, "taskName", taskName, String.class);
+			spec = bind(spec, "externalExecutionId", externalExecutionId, String.class);
+			spec = bind(spec, "parentExecutionId", parentExecutionId, Long.class);
+			return spec.then()
+				.then(insertTaskArguments(executionId, arguments))
+				.thenReturn(taskExecution)
+				.as(this.transactionalOperator::transactional);
+		});
+	}
+
+	/**
+	 * Updates a task execution as started, and adds its arguments, in a single
+	 * transaction.
+	 * @param executionId the id of the task execution.
+	 * @param taskName the name of the task.
+	 * @param startTime the start time of the task execution.
+	 * @param arguments the arguments of the task execution.
+	 * @param externalExecutionId the id assigned to the task execution by the platform,
+	 * left unchanged when null.
+	 * @param parentExecutionId the parent task execution id.
+	 * @return the task execution as it was started
+	 */
+	public Mono<TaskExecution> startTaskExecution(long executionId, String taskName, LocalDateTime startTime,
+			List<String> arguments, String externalExecutionId, Long parentExecutionId) {
+		TaskExecution taskExecution = new TaskExecution(executionId, null, taskName, startTime, null, null, arguments,
+				null, externalExecutionId, parentExecutionId);
+		GenericExecuteSpec spec = this.databaseClient
+			.sql(getQuery((externalExecutionId != null) ? START_TASK_EXECUTION_WITH_EXTERNAL_ID : START_TASK_EXECUTION))
+			.bind("taskExecutionId", executionId)
+			.bind("lastUpdated", LocalDateTime.now());
+		spec = bind(spec, "startTime", startTime, LocalDateTime.class);
+		spec = bind(spec, "taskName", taskName, String.class);
+		spec = bind(spec, "parentExecutionId", parentExecutionId, Long.class);
+		if (externalExecutionId != null) {
+			spec = spec.bind("externalExecutionId", externalExecutionId);
+		}
+		return checkMaintainedTables().then(spec.then()
+			.then(insertTaskArguments(executionId, arguments))
+			.thenReturn(taskExecution)
+			.as(this.transactionalOperator::transactional));
+	}
+
+	/**
+	 * Updates a task execution as completed.
+	 * @param executionId the id of the task execution.
+	 * @param exitCode the exit code of the task execution.
+	 * @param endTime the end time of the task execution.
+	 * @param exitMessage the exit message of the task execution.
+	 * @param errorMessage the error message of the task execution.
+	 * @return a {@link Mono} that completes once the task execution is updated, or
+	 * signals an {@link IllegalStateException} when there is no such task execution
+	 */
+	public Mono<Void> completeTaskExecution(long executionId, Integer exitCode, LocalDateTime endTime,
+			String exitMessage, String errorMessage) {
+		GenericExecuteSpec spec = this.databaseClient.sql(getQuery(UPDATE_TASK_EXECUTION))
+			.bind("taskExecutionId", executionId)
+			.bind("lastUpdated", LocalDateTime.now());
+		spec = bind(spec, "endTime", endTime, LocalDateTime.class);
+		spec = bind(spec, "exitCode", exitCode, Integer.class);
+		spec = bind(spec, "exitMessage", exitMessage, String.class);
+		spec = bind(spec, "errorMessage", errorMessage, String.class);
+		return checkMaintainedTables().then(spec.fetch().rowsUpdated().flatMap((rowsUpdated) -> {
+			// If the given TaskExecution's Id does not exist no row is updated, it is
+			// invalid and an exception should be signaled.
+			if (rowsUpdated != 1) {
+				return Mono
+					.error(new IllegalStateException("Invalid TaskExecution, ID " + executionId + " not found."));
+			}
+			return Mono.empty();
+		}));
+	}
+
+	/**
+	 * Signals an {@link IllegalStateException} when the latest task execution summary,
+	 * task name registry or execution counter table exists, since the JDBC task
+	 * repository keeps them in sync with the task executions it writes and this DAO does
+	 * not. The tables are looked up outside of the write transaction, so that a missing
+	 * table does not abort it, and no more once they are known not to exist.
+	 */
+	private Mono<Void> checkMaintainedTables() {
+		if (this.maintainedTablesChecked) {
+			return Mono.empty();
+		}
+		return Flux.fromIterable(MAINTAINED_TABLES)
+			.concatMap((table) -> tableExists(table).filter(Boolean::booleanValue)
+				.map((exists) -> this.tablePrefix + table))
+			.collectList()
+			.flatMap((tables) -> {
+				if (!tables.isEmpty()) {
+					return Mono.error(new IllegalStateException("Task executions cannot be written through R2DBC "
+							+ "while the " + StringUtils.collectionToDelimitedString(tables, ", ")
+							+ " tables exist, as they would not be kept in sync with the task executions"));
+				}
+				this.maintainedTablesChecked = true;
+				return Mono.empty();
+			});
+	}
+
+	private Mono<Boolean> tableExists(String table) {
+		return this.databaseClient.sql(getQuery("SELECT COUNT(*) FROM %PREFIX%" + table + " WHERE 1 = 0"))
+			.map((row) -> Boolean.TRUE)
+			.one()
+			.onErrorResume(InvalidDataAccessResourceUsageException.class, (ex) -> Mono.just(Boolean.FALSE));
+	}
+
+	/**
+	 * Updates the external execution id of a task execution.
+	 * @param executionId the id of the task execution.
+	 * @param externalExecutionId the id assigned to the task execution by the platform.
+	 * @return a {@link Mono} that completes once the task execution is updated, or
+	 * signals an {@link IllegalStateException} when there is no such task execution
+	 */
+	public Mono<Void> updateExternalExecutionId(long executionId, String externalExecutionId) {
+		GenericExecuteSpec spec = this.databaseClient.sql(getQuery(UPDATE_TASK_EXECUTION_EXTERNAL_EXECUTION_ID))
+			.bind("taskExecutionId", executionId);
+		return bind(spec, "externalExecutionId", externalExecutionId, String.class).fetch()
+			.rowsUpdated()
+			.flatMap((rowsUpdated) -> {
+				if (rowsUpdated != 1) {
+					return Mono.error(
+							new IllegalStateException("Invalid TaskExecution, ID " + executionId + " not found."));
+				}
+				return Mono.empty();
+			});
+	}
+
+	public Mono<TaskExecution> getTaskExecution(long executionId) {
+		return this.databaseClient.sql(getQuery(GET_EXECUTION_BY_ID))
+			.bind("taskExecutionId", executionId)
+			.map(R2dbcTaskExecutionDao::mapTaskExecution)
+			.all()
+			.collectList()
+			.flatMapMany(this::populateTaskArguments)
+			.next();
+	}
+
+	public Mono<Page<TaskExecution>> findAll(Pageable pageable) {
+		return queryForPage(pageable, null, Collections.emptyMap(), getTaskExecutionCount());
+	}
+
+	public Mono<Page<TaskExecution>> findTaskExecutionsByName(String taskName, Pageable pageable) {
+		return queryForPage(pageable, JdbcTaskExecutionDao.TASK_NAME_WHERE_CLAUSE,
+				Collections.singletonMap("taskName", taskName), getTaskExecutionCountByTaskName(taskName));
+	}
+
+	public Mono<Page<TaskExecution>> findRunningTaskExecutions(String taskName, Pageable pageable) {
+		return queryForPage(pageable, JdbcTaskExecutionDao.RUNNING_TASK_WHERE_CLAUSE,
+				Collections.singletonMap("taskName", taskName), getRunningTaskExecutionCountByTaskName(taskName));
+	}
+
+	public Mono<TaskExecution> getLatestTaskExecutionForTaskName(String taskName) {
+		String query = getPagingQueryProvider(LATEST_TASK_EXECUTION_WHERE_CLAUSE, this.orderMap)
+			.getPageQuery(PageRequest.of(0, 1));
+		return this.databaseClient.sql(query)
+			.bind("taskName", taskName)
+			.map(R2dbcTaskExecutionDao::mapTaskExecution)
+			.all()
+			.collectList()
+			.flatMapMany(this::populateTaskArguments)
+			.next();
+	}
+
+	/**
+	 * Streams the task executions through a single forward-only query ordered by the
+	 * primary key. Arguments are loaded for each batch of {@link #setStreamFetchSize(int)}
+	 * task executions as the stream is consumed.
+	 * @param taskName the name of the task or null for all the tasks.
+	 * @param criteria the restrictions on the task executions to emit.
+	 * @return the task executions
+	 */
+	public Flux<TaskExecution> streamTaskExecutions(String taskName, TaskExecutionCriteria criteria) {
+		Assert.notNull(criteria, "criteria must not be null");
+		Map<String, Object> parameters = new HashMap<>();
+		List<String> conditions = new ArrayList<>();
+		if (taskName != null) {
+			conditions.add("TASK_NAME = :taskName");
+			parameters.put("taskName", taskName);
+		}
+		if (criteria.getAfterExecutionId() != null) {
+			conditions.add("TASK_EXECUTION_ID > :afterExecutionId");
+			parameters.put("afterExecutionId", criteria.getAfterExecutionId());
+		}
+		if (criteria.getStartedFrom() != null) {
+			conditions.add("START_TIME >= :startedFrom");
+			parameters.put("startedFrom", criteria.getStartedFrom());
+		}
+		if (criteria.getStartedBefore() != null) {
+			conditions.add("START_TIME < :startedBefore");
+			parameters.put("startedBefore", criteria.getStartedBefore());
+		}
+		if (criteria.isCompletedOnly()) {
+			conditions.add("END_TIME IS NOT NULL");
+		}
+		StringBuilder query = new StringBuilder(STREAM_TASK_EXECUTIONS);
+		if (!conditions.isEmpty()) {
+			query.append("where ").append(String.join(" AND ", conditions)).append(' ');
+		}
+		query.append("order by TASK_EXECUTION_ID");
+
+		return this.databaseClient.sql(getQuery(query.toString()))
+			.bindValues(parameters)
+			.map(R2dbcTaskExecutionDao::mapTaskExecution)
+			.all()
+			.buffer(this.streamFetchSize)
+			.concatMap(this::populateTaskArguments);
+	}
+
+	public Flux<String> getTaskNames() {
+		return this.databaseClient.sql(getQuery(FIND_TASK_NAMES))
+			.map((row) -> row.get("TASK_NAME", String.class))
+			.all();
+	}
+
+	public Mono<Long> getTaskExecutionCount() {
+		return queryForCount(TASK_EXECUTION_COUNT, null);
+	}
+
+	public Mono<Long> getTaskExecutionCountByTaskName(String taskName) {
+		return queryForCount(TASK_EXECUTION_COUNT_BY_NAME, taskName);
+	}
+
+	public Mono<Long> getRunningTaskExecutionCount() {
+		return queryForCount(RUNNING_TASK_EXECUTION_COUNT, null);
+	}
+
+	public Mono<Long> getRunningTaskExecutionCountByTaskName(String taskName) {
+		return queryForCount(RUNNING_TASK_EXECUTION_COUNT_BY_NAME, taskName);
+	}
+
+	private Mono<Long> queryForCount(String query, String taskName) {
+		GenericExecuteSpec spec = this.databaseClient.sql(getQuery(query));
+		if (taskName != null) {
+			spec = spec.bind("taskName", taskName);
+		}
+		return spec.map((row) -> row.get(0, Long.class)).one().defaultIfEmpty(0L);
+	}
+
+	private Mono<Page<TaskExecution>> queryForPage(Pageable pageable, String whereClause,
+			Map<String, Object> parameters, Mono<Long> totalCount) {
+		LinkedHashMap<String, Order> sortOrderMap = new LinkedHashMap<>();
+		for (Sort.Order sortOrder : pageable.getSort()) {
+			String sortColumn = sortOrder.getProperty().toUpperCase();
+			if (!validSortColumns.contains(sortColumn)) {
+				return Mono.error(new IllegalArgumentException(
+						String.format("Invalid sort option selected: %s", sortOrder.getProperty())));
+			}
+			sortOrderMap.put(sortColumn, sortOrder.isAscending() ? Order.ASCENDING : Order.DESCENDING);
+		}
+		String query = getPagingQueryProvider(whereClause, sortOrderMap.isEmpty() ? this.orderMap : sortOrderMap)
+			.getPageQuery(pageable);
+		Mono<List<TaskExecution>> content = this.databaseClient.sql(query)
+			.bindValues(parameters)
+			.map(R2dbcTaskExecutionDao::mapTaskExecution)
+			.all()
+			.collectList()
+			.flatMapMany(this::populateTaskArguments)
+			.collectList();
+		return Mono.zip(content, totalCount, (executions, total) -> new PageImpl<>(executions, pageable, total));
+	}
+
+	/**
+	 * Loads the arguments of the provided task executions with a query per
+	 * {@value #MAX_IN_CLAUSE_SIZE} task executions and emits them in the same order.
+	 */
+	private Flux<TaskExecution> populateTaskArguments(List<TaskExecution> taskExecutions) {
+		if (taskExecutions.isEmpty()) {
+			return Flux.empty();
+		}
+		Map<Long, List<String>> arguments = new HashMap<>();
+		return Flux.fromIterable(taskExecutions)
+			.map(TaskExecution::getExecutionId)
+			.buffer(MAX_IN_CLAUSE_SIZE)
+			.concatMap((executionIds) -> this.databaseClient.sql(getQuery(FIND_ARGUMENTS_FROM_IDS))
+				.bind("taskExecutionIds", executionIds)
+				.map((row) -> {
+					arguments.computeIfAbsent(row.get("TASK_EXECUTION_ID", Long.class), (id) -> new ArrayList<>())
+						.add(row.get("TASK_PARAM", String.class));
+					return Boolean.TRUE;
+				})
+				.all())
+			.thenMany(Flux.fromIterable(taskExecutions).map((taskExecution) -> {
+				taskExecution.setArguments(
+						arguments.getOrDefault(taskExecution.getExecutionId(), Collections.emptyList()));
+				return taskExecution;
+			}));
+	}
+
+	private Mono<Void> insertTaskArguments(long executionId, List<String> arguments) {
+		if (arguments == null || arguments.isEmpty()) {
+			return Mono.empty();
+		}
+		return Flux.fromIterable(arguments)
+			.concatMap((argument) -> bind(
+					this.databaseClient.sql(getQuery(CREATE_TASK_ARGUMENT)).bind("taskExecutionId", executionId),
+					"taskParam", argument, String.class)
+				.then())
+			.then();
+	}
+
+	private Mono<Long> getNextExecutionId() {
+		return this.databaseClient.sql(getQuery(getNextExecutionIdQuery(this.databaseType)))
+			.map((row) -> row.get(0, Long.class))
+			.one();
+	}
+
+	private PagingQueryProvider getPagingQueryProvider(String whereClause, Map<String, Order> sortKeys) {
+		String key = whereClause + '|' + SqlPagingQueryUtils.buildSortClause(sortKeys);
+		return this.pagingQueryProviders.computeIfAbsent(key, (k) -> {
+			SqlPagingQueryProviderFactoryBean factoryBean = new SqlPagingQueryProviderFactoryBean();
+			factoryBean.setSelectClause(JdbcTaskExecutionDao.SELECT_CLAUSE);
+			factoryBean.setFromClause(getQuery(JdbcTaskExecutionDao.FROM_CLAUSE));
+			if (StringUtils.hasText(whereClause)) {
+				factoryBean.setWhereClause(getQuery(whereClause));
+			}
+			factoryBean.setSortKeys(new LinkedHashMap<>(sortKeys));
+			factoryBean.setDatabaseType(this.databaseType.name());
+			try {
+				return factoryBean.getObject();
+			}
+			catch (Exception e) {
+				throw new IllegalStateException(e);
+			}
+		});
+	}
+
+	private String getQuery(String base) {
+		return this.queries.computeIfAbsent(base, (k) -> StringUtils.replace(k, "%PREFIX%", this.tablePrefix));
+	}
+
+	private static GenericExecuteSpec bind(GenericExecuteSpec spec, String name, Object value, Class<?> type) {
+		return (value != null) ? spec.bind(name, value) : spec.bindNull(name, type);
+	}
+
+	private static TaskExecution mapTaskExecution(Readable row) {
+		return new TaskExecution(row.get("TASK_EXECUTION_ID", Long.class), row.get("EXIT_CODE", Integer.class),
+				row.get("TASK_NAME", String.class), row.get("START_TIME", LocalDateTime.class),
+				row.get("END_TIME", LocalDateTime.class), row.get("EXIT_MESSAGE", String.class),
+				Collections.emptyList(), row.get("ERROR_MESSAGE", String.class),
+				row.get("EXTERNAL_EXECUTION_ID", String.class), row.get("PARENT_EXECUTION_ID", Long.class));
+	}
+
+	/**
+	 * Returns the {@link DatabaseType} for the name of an R2DBC driver, which differs
+	 * from the JDBC product name for Oracle.
+	 */
+	private static DatabaseType getDatabaseType(String driverName) {
+		if (driverName.startsWith("Oracle")) {
+			return DatabaseType.ORACLE;
+		}
+		return DatabaseType.fromProductName(driverName);
+	}
+
+	private static String getNextExecutionIdQuery(DatabaseType databaseType) {
+		switch (databaseType) {
+			case H2:
+			case MARIADB:
+			case SQLSERVER:
+				return "SELECT NEXT VALUE FOR %PREFIX%SEQ";
+			case POSTGRES:
+				return "SELECT nextval('%PREFIX%SEQ')";
+			case ORACLE:
+				return "SELECT %PREFIX%SEQ.NEXTVAL FROM DUAL";
+			case DB2:
+			case DB2VSE:
+			case DB2ZOS:
+			case DB2AS400:
+				return "SELECT NEXT VALUE FOR %PREFIX%SEQ FROM SYSIBM.SYSDUMMY1";
+			default:
+				throw new IllegalStateException("Task executions cannot be created through R2DBC on " + databaseType
+						+ ", which has no task sequence");
+		}
+	}
+
+}
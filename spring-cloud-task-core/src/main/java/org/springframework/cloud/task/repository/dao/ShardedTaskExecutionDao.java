@@ -0,0 +1,711 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.dao;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCounts;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.TaskExecutionCursor;
+import org.springframework.cloud.task.repository.TaskExecutionStatistics;
+import org.springframework.cloud.task.repository.TaskExecutionWindow;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.CustomizableThreadFactory;
+import org.springframework.util.DigestUtils;
+
+/**
+ * {@link TaskExecutionDao} that spreads the task executions over several task
+ * repositories, the shards, so that no single task execution table or task sequence
+ * receives all the task launches.
+ * <p>
+ * The task executions of a task name are all stored in the same shard, chosen by
+ * consistent hashing of the task name, so that appending a shard only moves a fraction
+ * of the task names. The index of the shard is encoded in the low
+ * {@value #SHARD_BITS} bits of the task execution id, so that the lookups and updates
+ * of a task execution are sent directly to its shard. Queries of a task name are sent to
+ * its shard, while the queries that span all the task names are sent to every shard in
+ * parallel and their results merged, respecting the requested sort order.
+ * <p>
+ * A transaction only spans the data source of its transaction manager, so the
+ * transaction of the {@code TaskRepository} does not span the shards. When a transaction
+ * manager is provided for each shard, each write runs in a transaction of the shard it
+ * is sent to, joining the transaction in progress on that shard if any. Otherwise the
+ * writes of the shards that are not covered by the transaction in progress are
+ * auto-committed statement by statement.
+ * <p>
+ * The shards must be empty when they are first used, because the ids of existing task
+ * executions do not encode their shard. Task executions created without a task name, or
+ * whose task name moved to an appended shard, stay in the shard they were created in and
+ * are no longer returned by the queries of their task name. Ids must be obtained through
+ * the create methods, so {@link #getNextExecutionId()} is not supported.
+ *
+ * @author agent
+ */
+public class ShardedTaskExecutionDao implements TaskExecutionDao, DisposableBean {
+
+	/**
+	 * Number of low bits of a task execution id that encode the index of its shard.
+	 */
+	public static final int SHARD_BITS = 8;
+
+	/**
+	 * Maximum number of shards.
+	 */
+	public static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+	private static final int VIRTUAL_NODES = 128;
+
+	private static final Map<String, Function<TaskExecution, Comparable<?>>> SORT_PROPERTIES = new LinkedHashMap<>();
+
+	static {
+		SORT_PROPERTIES.put("TASK_EXECUTION_ID", TaskExecution::getExecutionId);
+		SORT_PROPERTIES.put("START_TIME", TaskExecution::getStartTime);
+		SORT_PROPERTIES.put("END_TIME", TaskExecution::getEndTime);
+		SORT_PROPERTIES.put("TASK_NAME", TaskExecution::getTaskName);
+		SORT_PROPERTIES.put("EXIT_CODE", TaskExecution::getExitCode);
+		SORT_PROPERTIES.put("EXIT_MESSAGE", TaskExecution::getExitMessage);
+		SORT_PROPERTIES.put("ERROR_MESSAGE", TaskExecution::getErrorMessage);
+		SORT_PROPERTIES.put("EXTERNAL_EXECUTION_ID", TaskExecution::getExternalExecutionId);
+		SORT_PROPERTIES.put("PARENT_EXECUTION_ID", TaskExecution::getParentExecutionId);
+	}
+
+	private static final Sort DEFAULT_SORT = Sort.by(Sort.Order.desc("START_TIME"),
+			Sort.Order.desc("TASK_EXECUTION_ID"));
+
+	private static final Comparator<TaskExecution> ID_ORDER = Comparator.comparingLong(TaskExecution::getExecutionId);
+
+	private static final Comparator<TaskExecution> START_TIME_ORDER = Comparator.comparing(TaskExecution::getStartTime,
+			Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()));
+
+	private static final Comparator<TaskExecution> WINDOW_ORDER = START_TIME_ORDER.thenComparing(ID_ORDER).reversed();
+
+	private static final Comparator<TaskExecution> LATEST_ORDER = START_TIME_ORDER.reversed().thenComparing(ID_ORDER);
+
+	private final List<TaskExecutionDao> shards;
+
+	private final NavigableMap<Integer, Integer> ring = new TreeMap<>();
+
+	private final List<TransactionTemplate> transactionTemplates;
+
+	private final Executor executor;
+
+	private final ExecutorService ownExecutor;
+
+	/**
+	 * Creates a sharded task execution DAO whose writes join the transaction in progress
+	 * and whose cross-shard queries run on a thread pool of its own. The index of a shard
+	 * is its position in the list, so shards must only be appended to the list.
+	 * @param shards the task execution DAOs of the shards.
+	 */
+	public ShardedTaskExecutionDao(List<? extends TaskExecutionDao> shards) {
+		this(shards, null, null);
+	}
+
+	/**
+	 * Creates a sharded task execution DAO. The index of a shard is its position in the
+	 * list, so shards must only be appended to the list.
+	 * @param shards the task execution DAOs of the shards.
+	 * @param transactionManagers the transaction manager of each shard, in the order of
+	 * the shards. If null, the writes join the transaction in progress.
+	 * @param executor the executor running the queries sent to every shard. If null, a
+	 * thread pool is created and shut down when this DAO is destroyed.
+	 */
+	public ShardedTaskExecutionDao(List<? extends TaskExecutionDao> shards,
+			List<? extends PlatformTransactionManager> transactionManagers, Executor executor) {
+		Assert.notEmpty(shards, "shards must not be empty");
+		Assert.noNullElements(shards, "shards must not contain null elements");
+		Assert.isTrue(shards.size() <= MAX_SHARDS, "at most " + MAX_SHARDS + " shards are supported");
+		this.shards = new ArrayList<>(shards);
+		for (int shard = 0; shard < this.shards.size(); shard++) {
+			for (int node = 0; node < VIRTUAL_NODES; node++) {
+				this.ring.put(hash("shard-" + shard + "-" + node), shard);
+			}
+		}
+		if (transactionManagers != null) {
+			Assert.isTrue(transactionManagers.size() == shards.size(),
+					"a transaction manager must be provided for each shard");
+			Assert.noNullElements(transactionManagers, "transactionManagers must not contain null elements");
+			this.transactionTemplates = new ArrayList<>(transactionManagers.size());
+			transactionManagers.forEach((manager) -> this.transactionTemplates.add(new TransactionTemplate(manager)));
+		}
+		else {
+			this.transactionTemplates = null;
+		}
+		if (executor != null) {
+			this.executor = executor;
+			this.ownExecutor = null;
+		}
+		else {
+			CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("task-repository-shard-");
+			threadFactory.setDaemon(true);
+			this.ownExecutor = Executors.newFixedThreadPool(this.shards.size(), threadFactory);
+			this.executor = this.ownExecutor;
+		}
+	}
+
+	/**
+	 * Shuts down the thread pool created by this DAO, if any. A provided executor is left
+	 * running.
+	 */
+	@Override
+	public void destroy() {
+		if (this.ownExecutor != null) {
+			this.ownExecutor.shutdown();
+		}
+	}
+
+	/**
+	 * Returns the index of the shard that stores the task executions of a task name.
+	 * @param taskName the name of the task.
+	 * @return the index of the shard
+	 */
+	public int getShard(String taskName) {
+		Map.Entry<Integer, Integer> node = this.ring.ceilingEntry(hash((taskName != null) ? taskName : ""));
+		return (node != null) ? node.getValue() : this.ring.firstEntry().getValue();
+	}
+
+	/**
+	 * Returns the index of the shard that stores a task execution.
+	 * @param executionId the id of the task execution.
+	 * @return the index of the shard
+	 */
+	public static int getExecutionShard(long executionId) {
+		return (int) (executionId & (MAX_SHARDS - 1));
+	}
+
+	@Override
+	public TaskExecution createTaskExecution(String taskName, LocalDateTime startTime, List<String> arguments,
+			String externalExecutionId) {
+		return createTaskExecution(taskName, startTime, arguments, externalExecutionId, null);
+	}
+
+	@Override
+	public TaskExecution createTaskExecution(String taskName, LocalDateTime startTime, List<String> arguments,
+			String externalExecutionId, Long parentExecutionId) {
+		int shard = getShard(taskName);
+		long executionId = (this.shards.get(shard).getNextExecutionId() << SHARD_BITS) | shard;
+		TaskExecution taskExecution = new TaskExecution(executionId, null, taskName, startTime, null, null,
+				arguments, null, externalExecutionId, parentExecutionId);
+		write(executionId, (dao) -> dao.saveTaskExecution(taskExecution));
+		return taskExecution;
+	}
+
+	@Override
+	public void saveTaskExecution(TaskExecution taskExecution) {
+		write(taskExecution.getExecutionId(), (dao) -> dao.saveTaskExecution(taskExecution));
+	}
+
+	@Override
+	public TaskExecution startTaskExecution(long executionId, String taskName, LocalDateTime startTime,
+			List<String> arguments, String externalExecutionId) {
+		return inTransaction(executionId, (dao) -> dao.startTaskExecution(executionId, taskName, startTime,
+				arguments, externalExecutionId));
+	}
+
+	@Override
+	public TaskExecution startTaskExecution(long executionId, String taskName, LocalDateTime startTime,
+			List<String> arguments, String externalExecutionId, Long parentExecutionId) {
+		return inTransaction(executionId, (dao) -> dao.startTaskExecution(executionId, taskName, startTime,
+				arguments, externalExecutionId, parentExecutionId));
+	}
+
+	@Override
+	public void completeTaskExecution(long executionId, Integer exitCode, LocalDateTime endTime, String exitMessage,
+			String errorMessage) {
+		write(executionId, (dao) -> dao.completeTaskExecution(executionId, exitCode, endTime, exitMessage,
+				errorMessage));
+	}
+
+	@Override
+	public void completeTaskExecution(long executionId, Integer exitCode, LocalDateTime endTime, String exitMessage) {
+		write(executionId, (dao) -> dao.completeTaskExecution(executionId, exitCode, endTime, exitMessage));
+	}
+
+	@Override
+	public void updateExternalExecutionId(long taskExecutionId, String externalExecutionId) {
+		write(taskExecutionId, (dao) -> dao.updateExternalExecutionId(taskExecutionId, externalExecutionId));
+	}
+
+	@Override
+	public TaskExecution getTaskExecution(long executionId) {
+		int shard = getExecutionShard(executionId);
+		return (shard < this.shards.size()) ? this.shards.get(shard).getTaskExecution(executionId) : null;
+	}
+
+	/**
+	 * Not supported, as the shard of a task execution depends on its task name.
+	 * @throws IllegalStateException always
+	 */
+	@Override
+	public long getNextExecutionId() {
+		throw new IllegalStateException("The task execution ids of a sharded task repository are assigned when "
+				+ "the task executions are created");
+	}
+
+	@Override
+	public long getTaskExecutionCountByTaskName(String taskName) {
+		return shardFor(taskName).getTaskExecutionCountByTaskName(taskName);
+	}
+
+	@Override
+	public long getRunningTaskExecutionCountByTaskName(String taskName) {
+		return shardFor(taskName).getRunningTaskExecutionCountByTaskName(taskName);
+	}
+
+	@Override
+	public long getRunningTaskExecutionCount() {
+		return sum(TaskExecutionDao::getRunningTaskExecutionCount);
+	}
+
+	@Override
+	public long getTaskExecutionCount() {
+		return sum(TaskExecutionDao::getTaskExecutionCount);
+	}
+
+	@Override
+	public long getTaskExecutionCountByExternalExecutionId(String externalExecutionId) {
+		return sum((dao) -> dao.getTaskExecutionCountByExternalExecutionId(externalExecutionId));
+	}
+
+	@Override
+	public TaskExecutionCounts getTaskExecutionCounts(String taskName) {
+		if (taskName != null) {
+			return shardFor(taskName).getTaskExecutionCounts(taskName);
+		}
+		long total = 0;
+		long running = 0;
+		long succeeded = 0;
+		long failed = 0;
+		for (TaskExecutionCounts counts : scatter((dao) -> dao.getTaskExecutionCounts(null))) {
+			total += counts.getTotal();
+			running += counts.getRunning();
+			succeeded += counts.getSucceeded();
+			failed += counts.getFailed();
+		}
+		return new TaskExecutionCounts(total, running, succeeded, failed);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The statistics of all the tasks are computed by every shard in parallel and merged.
+	 * The percentiles are merged from the duration histogram of each shard, within
+	 * {@link TaskExecutionDurations#RELATIVE_ACCURACY one percent}. The statistics of a
+	 * shard that can not compute mergeable statistics are computed from the task
+	 * executions it streams.
+	 */
+	@Override
+	public TaskExecutionStatistics getTaskExecutionStatistics(String taskName, TaskExecutionCriteria criteria) {
+		if (taskName != null) {
+			return shardFor(taskName).getTaskExecutionStatistics(taskName, criteria);
+		}
+		Assert.notNull(criteria, "criteria must not be null");
+		return scatter((dao) -> collectTaskExecutionStatistics(dao, criteria)).stream()
+			.reduce(TaskExecutionStatisticsCollector::combine)
+			.get()
+			.toStatistics();
+	}
+
+	@Override
+	public Page<TaskExecution> findRunningTaskExecutions(String taskName, Pageable pageable) {
+		return shardFor(taskName).findRunningTaskExecutions(taskName, pageable);
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceRunningTaskExecutions(String taskName, Pageable pageable) {
+		return shardFor(taskName).sliceRunningTaskExecutions(taskName, pageable);
+	}
+
+	@Override
+	public Page<TaskExecution> findTaskExecutionsByExternalExecutionId(String externalExecutionId, Pageable pageable) {
+		return mergePages(pageable,
+				(dao, shardPageable) -> dao.findTaskExecutionsByExternalExecutionId(externalExecutionId,
+						shardPageable));
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceTaskExecutionsByExternalExecutionId(String externalExecutionId,
+			Pageable pageable) {
+		return mergeSlices(pageable,
+				(dao, shardPageable) -> dao.sliceTaskExecutionsByExternalExecutionId(externalExecutionId,
+						shardPageable));
+	}
+
+	@Override
+	public Page<TaskExecution> findTaskExecutionsByName(String taskName, Pageable pageable) {
+		return shardFor(taskName).findTaskExecutionsByName(taskName, pageable);
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceTaskExecutionsByName(String taskName, Pageable pageable) {
+		return shardFor(taskName).sliceTaskExecutionsByName(taskName, pageable);
+	}
+
+	@Override
+	public List<String> getTaskNames() {
+		Set<String> taskNames = new TreeSet<>();
+		scatter(TaskExecutionDao::getTaskNames).forEach(taskNames::addAll);
+		return new ArrayList<>(taskNames);
+	}
+
+	@Override
+	public Page<TaskExecution> findAll(Pageable pageable) {
+		return mergePages(pageable, TaskExecutionDao::findAll);
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceAll(Pageable pageable) {
+		return mergeSlices(pageable, TaskExecutionDao::sliceAll);
+	}
+
+	@Override
+	public TaskExecutionWindow findAll(TaskExecutionCursor after, int limit) {
+		Assert.isTrue(limit > 0, "limit must be greater than zero");
+		List<TaskExecutionWindow> windows = scatter((dao) -> dao.findAll(after, limit));
+		List<TaskExecution> content = merge(windows.stream().map(TaskExecutionWindow::getContent), WINDOW_ORDER);
+		boolean hasNext = content.size() > limit || windows.stream().anyMatch(TaskExecutionWindow::hasNext);
+		return new TaskExecutionWindow((content.size() > limit) ? content.subList(0, limit) : content, hasNext);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The streams of the shards are merged as they are consumed.
+	 */
+	@Override
+	public Stream<TaskExecution> streamAll(TaskExecutionCriteria criteria) {
+		return mergeStreams((dao) -> dao.streamAll(criteria));
+	}
+
+	@Override
+	public Stream<TaskExecution> streamTaskExecutionsByName(String taskName, TaskExecutionCriteria criteria) {
+		return shardFor(taskName).streamTaskExecutionsByName(taskName, criteria);
+	}
+
+	@Override
+	public Long getTaskExecutionIdByJobExecutionId(long jobExecutionId) {
+		for (Long taskExecutionId : scatter((dao) -> dao.getTaskExecutionIdByJobExecutionId(jobExecutionId))) {
+			if (taskExecutionId != null) {
+				return taskExecutionId;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 * <p>
+	 * The job executions are looked up in every shard, as they are associated through
+	 * the task repository used by the batch integration, which may not be sharded.
+	 */
+	@Override
+	public Set<Long> getJobExecutionIdsByTaskExecutionId(long taskExecutionId) {
+		Set<Long> jobExecutionIds = new TreeSet<>();
+		scatter((dao) -> dao.getJobExecutionIdsByTaskExecutionId(taskExecutionId)).forEach(jobExecutionIds::addAll);
+		return jobExecutionIds;
+	}
+
+	@Override
+	public List<TaskExecution> getLatestTaskExecutionsByTaskNames(String... taskNames) {
+		Assert.notEmpty(taskNames, "At least 1 task name must be provided.");
+		Map<Integer, List<String>> taskNamesByShard = new TreeMap<>();
+		for (String taskName : new LinkedHashSet<>(Arrays.asList(taskNames))) {
+			Assert.hasText(taskName, "Task names must not contain any empty elements.");
+			taskNamesByShard.computeIfAbsent(getShard(taskName), (shard) -> new ArrayList<>()).add(taskName);
+		}
+		List<CompletableFuture<List<TaskExecution>>> futures = new ArrayList<>();
+		taskNamesByShard.forEach((shard, shardTaskNames) -> futures.add(CompletableFuture.supplyAsync(
+				() -> this.shards.get(shard).getLatestTaskExecutionsByTaskNames(shardTaskNames.toArray(new String[0])),
+				this.executor)));
+		List<TaskExecution> latestTaskExecutions = new ArrayList<>();
+		join(futures).forEach(latestTaskExecutions::addAll);
+		latestTaskExecutions.sort(LATEST_ORDER);
+		return latestTaskExecutions;
+	}
+
+	@Override
+	public TaskExecution getLatestTaskExecutionForTaskName(String taskName) {
+		Assert.hasText(taskName, "The task name must not be empty.");
+		return shardFor(taskName).getLatestTaskExecutionForTaskName(taskName);
+	}
+
+	private TaskExecutionDao shardFor(String taskName) {
+		return this.shards.get(getShard(taskName));
+	}
+
+	private TaskExecutionDao shardOf(long executionId) {
+		int shard = getExecutionShard(executionId);
+		if (shard >= this.shards.size()) {
+			throw new IllegalArgumentException(
+					String.format("Task execution %s belongs to the unknown shard %s", executionId, shard));
+		}
+		return this.shards.get(shard);
+	}
+
+	private static TaskExecutionStatisticsCollector collectTaskExecutionStatistics(TaskExecutionDao dao,
+			TaskExecutionCriteria criteria) {
+		if (dao instanceof TaskExecutionStatisticsSource statisticsSource) {
+			return statisticsSource.collectTaskExecutionStatistics(null, criteria);
+		}
+		TaskExecutionStatisticsCollector collector = new TaskExecutionStatisticsCollector();
+		try (Stream<TaskExecution> taskExecutions = dao.streamAll(criteria)) {
+			taskExecutions.forEach(collector);
+		}
+		return collector;
+	}
+
+	private void write(long executionId, Consumer<TaskExecutionDao> write) {
+		inTransaction(executionId, (dao) -> {
+			write.accept(dao);
+			return null;
+		});
+	}
+
+	/**
+	 * Runs a write on the shard of a task execution, in a transaction of that shard when
+	 * the transaction managers of the shards are known.
+	 */
+	private <T> T inTransaction(long executionId, Function<TaskExecutionDao, T> write) {
+		TaskExecutionDao dao = shardOf(executionId);
+		if (this.transactionTemplates == null) {
+			return write.apply(dao);
+		}
+		return this.transactionTemplates.get(getExecutionShard(executionId)).execute((status) -> write.apply(dao));
+	}
+
+	private long sum(Function<TaskExecutionDao, Long> query) {
+		return scatter(query).stream().mapToLong(Long::longValue).sum();
+	}
+
+	/**
+	 * Runs a query on every shard in parallel and returns the results in the order of
+	 * the shards.
+	 */
+	private <T> List<T> scatter(Function<TaskExecutionDao, T> query) {
+		List<CompletableFuture<T>> futures = new ArrayList<>(this.shards.size());
+		for (TaskExecutionDao dao : this.shards) {
+			futures.add(CompletableFuture.supplyAsync(() -> query.apply(dao), this.executor));
+		}
+		return join(futures);
+	}
+
+	private static <T> List<T> join(List<CompletableFuture<T>> futures) {
+		List<T> results = new ArrayList<>(futures.size());
+		try {
+			for (CompletableFuture<T> future : futures) {
+				results.add(future.join());
+			}
+		}
+		catch (CompletionException ex) {
+			futures.forEach((future) -> future.cancel(false));
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw ex;
+		}
+		return results;
+	}
+
+	/**
+	 * Retrieves the first {@code offset + size} task executions of every shard, so that
+	 * the requested page can be cut from their merge.
+	 */
+	private Page<TaskExecution> mergePages(Pageable pageable, ShardQuery<Page<TaskExecution>> query) {
+		Pageable shardPageable = getShardPageable(pageable);
+		List<Page<TaskExecution>> pages = scatter((dao) -> query.apply(dao, shardPageable));
+		List<TaskExecution> content = merge(pages.stream().map(Page::getContent), getComparator(pageable.getSort()));
+		long total = pages.stream().mapToLong(Page::getTotalElements).sum();
+		return new PageImpl<>(cut(content, pageable), pageable, total);
+	}
+
+	private Slice<TaskExecution> mergeSlices(Pageable pageable, ShardQuery<Slice<TaskExecution>> query) {
+		Pageable shardPageable = getShardPageable(pageable);
+		List<Slice<TaskExecution>> slices = scatter((dao) -> query.apply(dao, shardPageable));
+		List<TaskExecution> content = merge(slices.stream().map(Slice::getContent), getComparator(pageable.getSort()));
+		boolean hasNext = content.size() > shardPageable.getPageSize() || slices.stream().anyMatch(Slice::hasNext);
+		return new SliceImpl<>(cut(content, pageable), pageable, hasNext);
+	}
+
+	private static Pageable getShardPageable(Pageable pageable) {
+		long size = pageable.getOffset() + pageable.getPageSize();
+		Assert.isTrue(size <= Integer.MAX_VALUE, "The requested page is too far to be merged across shards");
+		return PageRequest.of(0, (int) size, pageable.getSort());
+	}
+
+	private static List<TaskExecution> cut(List<TaskExecution> content, Pageable pageable) {
+		int fromIndex = (int) Math.min(pageable.getOffset(), content.size());
+		int toIndex = Math.min(fromIndex + pageable.getPageSize(), content.size());
+		return new ArrayList<>(content.subList(fromIndex, toIndex));
+	}
+
+	private static List<TaskExecution> merge(Stream<List<TaskExecution>> sortedLists,
+			Comparator<TaskExecution> comparator) {
+		List<TaskExecution> merged = sortedLists.flatMap(Collection::stream).collect(Collectors.toList());
+		// the lists are already sorted, which the merge sort takes advantage of
+		merged.sort(comparator);
+		return merged;
+	}
+
+	/**
+	 * Builds the comparator matching the order in which the task repositories return the
+	 * task executions, null values being the lowest.
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static Comparator<TaskExecution> getComparator(Sort sort) {
+		Comparator<TaskExecution> comparator = null;
+		for (Sort.Order order : sort.isSorted() ? sort : DEFAULT_SORT) {
+			Function<TaskExecution, Comparable<?>> property = SORT_PROPERTIES
+				.get(order.getProperty().toUpperCase());
+			if (property == null) {
+				throw new IllegalArgumentException(
+						String.format("Invalid sort option selected: %s", order.getProperty()));
+			}
+			Comparator<TaskExecution> propertyComparator = Comparator.comparing((Function) property,
+					Comparator.nullsFirst(Comparator.naturalOrder()));
+			if (order.isDescending()) {
+				propertyComparator = propertyComparator.reversed();
+			}
+			comparator = (comparator != null) ? comparator.thenComparing(propertyComparator) : propertyComparator;
+		}
+		return comparator;
+	}
+
+	/**
+	 * Merges the task executions of the shards, each sorted by id, keeping a single task
+	 * execution of each shard in memory.
+	 */
+	private Stream<TaskExecution> mergeStreams(Function<TaskExecutionDao, Stream<TaskExecution>> query) {
+		List<Stream<TaskExecution>> streams = new ArrayList<>(this.shards.size());
+		try {
+			for (TaskExecutionDao dao : this.shards) {
+				streams.add(query.apply(dao));
+			}
+		}
+		catch (RuntimeException ex) {
+			streams.forEach(Stream::close);
+			throw ex;
+		}
+		MergingIterator iterator = new MergingIterator(streams);
+		return StreamSupport
+			.stream(Spliterators.spliteratorUnknownSize(iterator,
+					Spliterator.ORDERED | Spliterator.SORTED | Spliterator.NONNULL), false)
+			.onClose(() -> streams.forEach(Stream::close));
+	}
+
+	@FunctionalInterface
+	private interface ShardQuery<T> {
+
+		T apply(TaskExecutionDao dao, Pageable pageable);
+
+	}
+
+	private static final class MergingIterator implements Iterator<TaskExecution> {
+
+		private final PriorityQueue<Head> heads = new PriorityQueue<>();
+
+		MergingIterator(List<Stream<TaskExecution>> streams) {
+			for (Stream<TaskExecution> stream : streams) {
+				Iterator<TaskExecution> iterator = stream.iterator();
+				if (iterator.hasNext()) {
+					this.heads.add(new Head(iterator.next(), iterator));
+				}
+			}
+		}
+
+		@Override
+		public boolean hasNext() {
+			return !this.heads.isEmpty();
+		}
+
+		@Override
+		public TaskExecution next() {
+			Head head = this.heads.poll();
+			if (head == null) {
+				throw new NoSuchElementException();
+			}
+			if (head.iterator.hasNext()) {
+				this.heads.add(new Head(head.iterator.next(), head.iterator));
+			}
+			return head.taskExecution;
+		}
+
+	}
+
+	private static final class Head implements Comparable<Head> {
+
+		private final TaskExecution taskExecution;
+
+		private final Iterator<TaskExecution> iterator;
+
+		Head(TaskExecution taskExecution, Iterator<TaskExecution> iterator) {
+			this.taskExecution = taskExecution;
+			this.iterator = iterator;
+		}
+
+		@Override
+		public int compareTo(Head other) {
+			return ID_ORDER.compare(this.taskExecution, other.taskExecution);
+		}
+
+	}
+
+	private static int hash(String key) {
+		byte[] digest = DigestUtils.md5Digest(key.getBytes(StandardCharsets.UTF_8));
+		return ((digest[0] & 0xFF) << 24) | ((digest[1] & 0xFF) << 16) | ((digest[2] & 0xFF) << 8)
+				| (digest[3] & 0xFF);
+	}
+
+}
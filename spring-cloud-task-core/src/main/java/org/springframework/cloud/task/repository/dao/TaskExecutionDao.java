@@ -17,12 +17,26 @@
 package org.springframework.cloud.task.repository.dao;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCounts;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.TaskExecutionCursor;
+import org.springframework.cloud.task.repository.TaskExecutionStatistics;
+import org.springframework.cloud.task.repository.TaskExecutionWindow;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.Assert;
 
 /**
  * Data Access Object for task executions.
@@ -58,6 +72,13 @@ public interface TaskExecutionDao {
 	TaskExecution createTaskExecution(String taskName, LocalDateTime startTime, List<String> arguments,
 			String externalExecutionId, Long parentExecutionId);
 
+	/**
+	 * Save a new {@link TaskExecution} whose id has already been obtained from
+	 * {@link #getNextExecutionId()}.
+	 * @param taskExecution the task execution to save.
+	 */
+	void saveTaskExecution(TaskExecution taskExecution);
+
 	/**
 	 * Update and existing {@link TaskExecution} to mark it as started.
 	 * @param executionId the id of the taskExecution to be updated.
@@ -142,6 +163,60 @@ public interface TaskExecutionDao {
 	 */
 	long getTaskExecutionCount();
 
+	/**
+	 * Retrieves the number of task executions of a task, or of all the tasks, by
+	 * outcome.
+	 * <p>
+	 * The default implementation counts the task executions returned by
+	 * {@link #streamAll(TaskExecutionCriteria)} or
+	 * {@link #streamTaskExecutionsByName(String, TaskExecutionCriteria)}.
+	 * @param taskName the name of the task or null for all the tasks.
+	 * @return the task execution counts
+	 */
+	default TaskExecutionCounts getTaskExecutionCounts(String taskName) {
+		long total = 0;
+		long running = 0;
+		long succeeded = 0;
+		TaskExecutionCriteria criteria = TaskExecutionCriteria.all();
+		try (Stream<TaskExecution> taskExecutions = (taskName != null)
+				? streamTaskExecutionsByName(taskName, criteria) : streamAll(criteria)) {
+			Iterator<TaskExecution> iterator = taskExecutions.iterator();
+			while (iterator.hasNext()) {
+				TaskExecution taskExecution = iterator.next();
+				total++;
+				if (taskExecution.getEndTime() == null) {
+					running++;
+				}
+				else if (taskExecution.getExitCode() != null && taskExecution.getExitCode() == 0) {
+					succeeded++;
+				}
+			}
+		}
+		return new TaskExecutionCounts(total, running, succeeded, total - running - succeeded);
+	}
+
+	/**
+	 * Computes the duration and outcome statistics of the task executions of a task, or
+	 * of all the tasks, that satisfy the provided criteria.
+	 * <p>
+	 * The default implementation computes the statistics in memory from the task
+	 * executions returned by {@link #streamAll(TaskExecutionCriteria)} or
+	 * {@link #streamTaskExecutionsByName(String, TaskExecutionCriteria)}.
+	 * @param taskName the name of the task or null for all the tasks.
+	 * @param criteria the restrictions on the task executions, typically a start time
+	 * window.
+	 * @return the task execution statistics
+	 */
+	default TaskExecutionStatistics getTaskExecutionStatistics(String taskName, TaskExecutionCriteria criteria) {
+		Assert.notNull(criteria, "criteria must not be null");
+		TaskExecutionStatisticsCollector collector = new TaskExecutionStatisticsCollector();
+		try (Stream<TaskExecution> taskExecutions = (taskName != null)
+				? streamTaskExecutionsByName(taskName, criteria) : streamAll(criteria)) {
+			taskExecutions.forEach(collector);
+		}
+		return collector.toStatistics();
+	}
+
 	/**
 	 * Retrieves a set of task executions that are running for a taskName.
 	 * @param taskName the name of the task to search for in the repository.
@@ -150,6 +225,19 @@ public interface TaskExecutionDao {
 	 */
 	Page<TaskExecution> findRunningTaskExecutions(String taskName, Pageable pageable);
 
+	/**
+	 * Retrieves a slice of the task executions that are running for a taskName without
+	 * counting the total number of matching task executions.
+	 * <p>
+	 * The default implementation returns the page of the counting query.
+	 * @param taskName the name of the task to search for in the repository.
+	 * @param pageable the constraints for the search.
+	 * @return slice of running task executions.
+	 */
+	default Slice<TaskExecution> sliceRunningTaskExecutions(String taskName, Pageable pageable) {
+		return findRunningTaskExecutions(taskName, pageable);
+	}
+
 	/**
 	 * Retrieve a collection of taskExecutions that contain the provided external
 	 * execution id.
@@ -159,6 +247,20 @@ public interface TaskExecutionDao {
 	 */
 	Page<TaskExecution> findTaskExecutionsByExternalExecutionId(String externalExecutionId, Pageable pageable);
 
+	/**
+	 * Retrieve a slice of the taskExecutions that contain the provided external execution
+	 * id without counting the total number of matching task executions.
+	 * <p>
+	 * The default implementation returns the page of the counting query.
+	 * @param externalExecutionId the external execution id of the tasks
+	 * @param pageable the constraints for the search
+	 * @return the slice of task executions for tasks with the externalExecutionId
+	 */
+	default Slice<TaskExecution> sliceTaskExecutionsByExternalExecutionId(String externalExecutionId,
+			Pageable pageable) {
+		return findTaskExecutionsByExternalExecutionId(externalExecutionId, pageable);
+	}
+
 	/**
 	 * Retrieves current number of task executions for a externalTaskExecutionId.
 	 * @param externalExecutionId the external execution id of the task to search for in
@@ -177,6 +279,19 @@ public interface TaskExecutionDao {
 	 */
 	Page<TaskExecution> findTaskExecutionsByName(String taskName, Pageable pageable);
 
+	/**
+	 * Retrieves a slice of task executions by task name without counting the total number
+	 * of matching task executions.
+	 * <p>
+	 * The default implementation returns the page of the counting query.
+	 * @param taskName the name of the task to search for in the repository.
+	 * @param pageable the constraints for the search.
+	 * @return slice of task executions from the query bound by the pageable.
+	 */
+	default Slice<TaskExecution> sliceTaskExecutionsByName(String taskName, Pageable pageable) {
+		return findTaskExecutionsByName(taskName, pageable);
+	}
+
 	/**
 	 * Retrieves a sorted list of distinct task names for the task executions.
 	 * @return a list of distinct task names from the task repository..
@@ -191,6 +306,78 @@ public interface TaskExecutionDao {
 
 	Page<TaskExecution> findAll(Pageable pageable);
 
+	/**
+	 * Retrieves a slice of all the task executions within the pageable constraints
+	 * without counting the total number of task executions.
+	 * <p>
+	 * The default implementation returns the page of the counting query.
+	 * @param pageable the constraints for the search
+	 * @return slice containing the results from the search
+	 */
+	default Slice<TaskExecution> sliceAll(Pageable pageable) {
+		return findAll(pageable);
+	}
+
+	/**
+	 * Retrieves the task executions that follow the provided cursor, sorted by start date
+	 * descending, taskExecution id descending. Task executions without a start time come
+	 * last, by taskExecution id descending.
+	 * <p>
+	 * The default implementation pages through {@link #sliceAll(Pageable)} from the most
+	 * recent task execution, so the cost of retrieving a window grows with its depth.
+	 * @param after the cursor to start after, or null to start with the most recent task
+	 * execution.
+	 * @param limit the maximum number of task executions to return.
+	 * @return the window of task executions
+	 */
+	default TaskExecutionWindow findAll(TaskExecutionCursor after, int limit) {
+		Assert.isTrue(limit > 0, "limit must be greater than zero");
+		// One extra task execution is kept to determine if there is a next window.
+		List<TaskExecution> resultList = new ArrayList<>(limit + 1);
+		Slice<TaskExecution> slice;
+		Pageable pageable = PageRequest.of(0, limit + 1);
+		do {
+			slice = sliceAll(pageable);
+			for (TaskExecution taskExecution : slice) {
+				if (resultList.size() <= limit && (after == null || after.isBefore(taskExecution))) {
+					resultList.add(taskExecution);
+				}
+			}
+			pageable = slice.nextPageable();
+		}
+		while (resultList.size() <= limit && slice.hasNext());
+		return TaskExecutionWindow.from(resultList, limit);
+	}
+
+	/**
+	 * Streams the task executions that satisfy the provided criteria, sorted by
+	 * taskExecution id ascending. The returned stream must be closed.
+	 * <p>
+	 * The default implementation pages through {@link #sliceAll(Pageable)} and sorts the
+	 * matching task executions in memory before streaming them, so it does not run in
+	 * constant memory.
+	 * @param criteria the restrictions applied to the task executions.
+	 * @return the lazily populated stream of task executions
+	 */
+	default Stream<TaskExecution> streamAll(TaskExecutionCriteria criteria) {
+		return streamSlices(this::sliceAll, criteria);
+	}
+
+	/**
+	 * Streams the task executions of the provided task name that satisfy the provided
+	 * criteria, sorted by taskExecution id ascending. The returned stream must be closed.
+	 * <p>
+	 * The default implementation pages through
+	 * {@link #sliceTaskExecutionsByName(String, Pageable)} and sorts the matching task
+	 * executions in memory before streaming them.
+	 * @param taskName the name of the task.
+	 * @param criteria the restrictions applied to the task executions.
+	 * @return the lazily populated stream of task executions
+	 */
+	default Stream<TaskExecution> streamTaskExecutionsByName(String taskName, TaskExecutionCriteria criteria) {
+		return streamSlices((pageable) -> sliceTaskExecutionsByName(taskName, pageable), criteria);
+	}
+
 	/**
 	 * Retrieves the next available execution id for a task execution.
 	 * @return long containing the executionId.
@@ -249,4 +436,25 @@ public interface TaskExecutionDao {
 	 */
 	TaskExecution getLatestTaskExecutionForTaskName(String taskName);
 
+	private static Stream<TaskExecution> streamSlices(Function<Pageable, Slice<TaskExecution>> query,
+			TaskExecutionCriteria criteria) {
+		Assert.notNull(criteria, "criteria must not be null");
+		// The slices are sorted by start time, so the task executions are collected by id
+		// to be streamed in the order of their ids.
+		SortedMap<Long, TaskExecution> taskExecutions = new TreeMap<>();
+		Slice<TaskExecution> slice;
+		Pageable pageable = PageRequest.of(0, 100);
+		do {
+			slice = query.apply(pageable);
+			for (TaskExecution taskExecution : slice) {
+				if (criteria.matches(taskExecution)) {
+					taskExecutions.put(taskExecution.getExecutionId(), taskExecution);
+				}
+			}
+			pageable = slice.nextPageable();
+		}
+		while (slice.hasNext());
+		return taskExecutions.values().stream();
+	}
+
 }
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.dao;
+
+import java.time.Duration;
+
+/**
+ * Collects task execution durations, in milliseconds, to compute the statistics of the
+ * task executions that are not computed by the database. The minimum, average and
+ * maximum are exact. The percentiles are estimated from a histogram of logarithmic
+ * buckets, so that the memory used does not grow with the number of durations and the
+ * durations of distinct sets of task executions can be merged. Each bucket spans a
+ * {@link #RELATIVE_ACCURACY relative error} around its representative duration, and the
+ * percentiles are interpolated between the two closest ranks the same way as the SQL
+ * {@code PERCENTILE_CONT} aggregate function. Durations below a microsecond fall in a
+ * bucket of their own, represented by zero.
+ *
+ * @author agent
+ */
+final class TaskExecutionDurations {
+
+	/**
+	 * The relative error of the estimated percentiles, before the interpolation.
+	 */
+	static final double RELATIVE_ACCURACY = 0.01;
+
+	private static final double GAMMA = (1 + RELATIVE_ACCURACY) / (1 - RELATIVE_ACCURACY);
+
+	private static final double LOG_GAMMA = Math.log(GAMMA);
+
+	private static final double MIN_INDEXED_DURATION = 0.001;
+
+	private static final int GROWTH = 32;
+
+	/**
+	 * The number of durations in each bucket, the bucket of index {@code i} counting the
+	 * durations in {@code (GAMMA^(i - 1), GAMMA^i]} at position {@code i - offset}.
+	 */
+	private long[] counts = new long[0];
+
+	private int offset;
+
+	private long zeroCount;
+
+	private long size;
+
+	private double sum;
+
+	private double min = Double.POSITIVE_INFINITY;
+
+	private double max = Double.NEGATIVE_INFINITY;
+
+	void add(double duration) {
+		this.size++;
+		this.sum += duration;
+		this.min = Math.min(this.min, duration);
+		this.max = Math.max(this.max, duration);
+		if (duration < MIN_INDEXED_DURATION) {
+			this.zeroCount++;
+		}
+		else {
+			increment((int) Math.ceil(Math.log(duration) / LOG_GAMMA), 1);
+		}
+	}
+
+	void addAll(TaskExecutionDurations other) {
+		this.size += other.size;
+		this.sum += other.sum;
+		this.min = Math.min(this.min, other.min);
+		this.max = Math.max(this.max, other.max);
+		this.zeroCount += other.zeroCount;
+		for (int i = 0; i < other.counts.length; i++) {
+			if (other.counts[i] != 0) {
+				increment(other.offset + i, other.counts[i]);
+			}
+		}
+	}
+
+	long size() {
+		return this.size;
+	}
+
+	Duration min() {
+		return (this.size == 0) ? null : toDuration(this.min);
+	}
+
+	Duration max() {
+		return (this.size == 0) ? null : toDuration(this.max);
+	}
+
+	Duration average() {
+		return (this.size == 0) ? null : toDuration(this.sum / this.size);
+	}
+
+	Duration percentile(double percentile) {
+		if (this.size == 0) {
+			return null;
+		}
+		double position = percentile * (this.size - 1);
+		long lower = (long) Math.floor(position);
+		long upper = (long) Math.ceil(position);
+		double lowerValue = valueAt(lower);
+		double upperValue = (upper == lower) ? lowerValue : valueAt(upper);
+		double value = lowerValue + (position - lower) * (upperValue - lowerValue);
+		return toDuration(Math.min(Math.max(value, this.min), this.max));
+	}
+
+	/**
+	 * Returns the duration of the provided rank, in ascending order: the exact minimum or
+	 * maximum at either end and otherwise the representative duration of its bucket.
+	 */
+	private double valueAt(long rank) {
+		if (rank == 0) {
+			return this.min;
+		}
+		if (rank == this.size - 1) {
+			return this.max;
+		}
+		long seen = this.zeroCount;
+		if (rank < seen) {
+			return 0;
+		}
+		for (int i = 0; i < this.counts.length; i++) {
+			seen += this.counts[i];
+			if (rank < seen) {
+				return 2 * Math.pow(GAMMA, this.offset + i) / (GAMMA + 1);
+			}
+		}
+		return this.max;
+	}
+
+	private void increment(int index, long count) {
+		if (this.counts.length == 0) {
+			this.counts = new long[GROWTH];
+			this.offset = index - GROWTH / 2;
+		}
+		else if (index < this.offset || index >= this.offset + this.counts.length) {
+			int low = Math.min(this.offset, index);
+			int high = Math.max(this.offset + this.counts.length, index + 1);
+			long[] grown = new long[high - low + GROWTH];
+			int grownOffset = low - GROWTH / 2;
+			System.arraycopy(this.counts, 0, grown, this.offset - grownOffset, this.counts.length);
+			this.counts = grown;
+			this.offset = grownOffset;
+		}
+		this.counts[index - this.offset] += count;
+	}
+
+	/**
+	 * Converts a duration in milliseconds, possibly fractional because of an average or
+	 * an interpolation, to a {@link Duration}.
+	 * @param duration the duration in milliseconds.
+	 * @return the duration
+	 */
+	static Duration toDuration(double duration) {
+		return Duration.ofNanos(Math.round(duration * 1_000_000));
+	}
+
+}
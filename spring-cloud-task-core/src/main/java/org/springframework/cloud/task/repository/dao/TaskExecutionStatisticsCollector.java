@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.dao;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionStatistics;
+
+/**
+ * Computes the {@link TaskExecutionStatistics} of the task executions it is given, for
+ * the task repositories that can not compute them in the database. Collectors of
+ * distinct sets of task executions can be combined.
+ * <p>
+ * Not thread safe, a collector is meant to be used by a single stream at a time.
+ *
+ * @author agent
+ */
+public final class TaskExecutionStatisticsCollector implements Consumer<TaskExecution> {
+
+	private final Map<Integer, Long> exitCodeCounts = new HashMap<>();
+
+	private final TaskExecutionDurations durations;
+
+	private long count;
+
+	private long completedCount;
+
+	public TaskExecutionStatisticsCollector() {
+		this.durations = new TaskExecutionDurations();
+	}
+
+	/**
+	 * Creates a collector from statistics computed by a task repository.
+	 * @param count the number of task executions.
+	 * @param completedCount the number of completed task executions.
+	 * @param exitCodeCounts the number of completed task executions of each exit code.
+	 * @param durations the durations of the completed task executions.
+	 */
+	TaskExecutionStatisticsCollector(long count, long completedCount, Map<Integer, Long> exitCodeCounts,
+			TaskExecutionDurations durations) {
+		this.count = count;
+		this.completedCount = completedCount;
+		this.exitCodeCounts.putAll(exitCodeCounts);
+		this.durations = durations;
+	}
+
+	@Override
+	public void accept(TaskExecution taskExecution) {
+		this.count++;
+		if (taskExecution.getEndTime() != null) {
+			this.completedCount++;
+			this.exitCodeCounts.merge(taskExecution.getExitCode(), 1L, Long::sum);
+			if (taskExecution.getStartTime() != null) {
+				Duration duration = Duration.between(taskExecution.getStartTime(), taskExecution.getEndTime());
+				this.durations.add(duration.toNanos() / 1_000_000.0);
+			}
+		}
+	}
+
+	TaskExecutionStatisticsCollector combine(TaskExecutionStatisticsCollector other) {
+		this.count += other.count;
+		this.completedCount += other.completedCount;
+		other.exitCodeCounts.forEach((exitCode, count) -> this.exitCodeCounts.merge(exitCode, count, Long::sum));
+		this.durations.addAll(other.durations);
+		return this;
+	}
+
+	/**
+	 * Computes the statistics of the task executions collected so far.
+	 * @return the task execution statistics
+	 */
+	public TaskExecutionStatistics toStatistics() {
+		return new TaskExecutionStatistics(this.count, this.completedCount, this.exitCodeCounts,
+				this.durations.min(), this.durations.average(), this.durations.max(),
+				this.durations.percentile(0.5), this.durations.percentile(0.95), this.durations.percentile(0.99));
+	}
+
+}
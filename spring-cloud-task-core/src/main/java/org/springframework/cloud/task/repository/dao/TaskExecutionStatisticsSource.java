@@ -0,0 +1,40 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.dao;
+
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+
+/**
+ * Implemented by the task execution DAOs that can compute the statistics of their task
+ * executions in a form that can be combined with the statistics of other task
+ * repositories, so that the statistics of a sharded task repository are computed by
+ * each shard and merged.
+ *
+ * @author agent
+ */
+interface TaskExecutionStatisticsSource {
+
+	/**
+	 * Collects the statistics of the task executions of a task name, or of all the
+	 * task executions if the task name is null, that match the criteria.
+	 * @param taskName the name of the task, may be null.
+	 * @param criteria the criteria the task executions must match.
+	 * @return the collected statistics
+	 */
+	TaskExecutionStatisticsCollector collectTaskExecutionStatistics(String taskName, TaskExecutionCriteria criteria);
+
+}
@@ -134,6 +134,14 @@ public abstract class AbstractSqlPagingQueryProvider implements PagingQueryProvi
 	@Override
 	public void init(DataSource dataSource) throws Exception {
 		Assert.notNull(dataSource, "DataSource must not be null");
+		initQuery();
+	}
+
+	/**
+	 * Validates the clauses and counts the parameters of the query. Used directly when
+	 * the database type is provided, so that no data source is needed.
+	 */
+	void initQuery() {
 		Assert.hasLength(this.selectClause, "selectClause must be specified");
 		Assert.hasLength(this.fromClause, "fromClause must be specified");
 		Assert.notEmpty(this.sortKeys, "sortKey must be specified");
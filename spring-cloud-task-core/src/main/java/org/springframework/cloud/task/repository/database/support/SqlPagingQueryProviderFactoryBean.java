@@ -43,8 +43,8 @@ import static org.springframework.cloud.task.repository.support.DatabaseType.SQL
 
 /**
  * Factory bean for {@link PagingQueryProvider} interface. The database type will be
- * determined from the data source if not provided explicitly. Valid types are given by
- * the {@link DatabaseType} enum.
+ * determined from the data source if not provided explicitly, the data source is
+ * otherwise not needed. Valid types are given by the {@link DatabaseType} enum.
  *
  * @author Glenn Renfro
  */
@@ -152,7 +152,12 @@ public class SqlPagingQueryProviderFactoryBean implements FactoryBean<PagingQuer
 		if (StringUtils.hasText(this.selectClause)) {
 			provider.setSelectClause(this.selectClause);
 		}
-		provider.init(this.dataSource);
+		if (this.dataSource != null) {
+			provider.init(this.dataSource);
+		}
+		else {
+			provider.initQuery();
+		}
 
 		return provider;
 
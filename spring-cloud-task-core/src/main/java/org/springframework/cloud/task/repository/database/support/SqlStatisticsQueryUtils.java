@@ -0,0 +1,99 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.database.support;
+
+import org.springframework.cloud.task.repository.support.DatabaseType;
+
+/**
+ * Utility class that provides the database specific SQL used to compute task execution
+ * statistics in the database.
+ *
+ * @author agent
+ */
+public final class SqlStatisticsQueryUtils {
+
+	private SqlStatisticsQueryUtils() {
+	}
+
+	/**
+	 * Returns an expression computing the duration in milliseconds between the
+	 * {@code START_TIME} and the {@code END_TIME} of a task execution, which is null when
+	 * either of them is null.
+	 * @param databaseType the type of the database.
+	 * @return the duration expression
+	 */
+	public static String durationExpression(DatabaseType databaseType) {
+		switch (databaseType) {
+			case H2:
+				return "DATEDIFF(MILLISECOND, START_TIME, END_TIME)";
+			case HSQL:
+				return "TIMESTAMPDIFF(SQL_TSI_MILLI_SECOND, START_TIME, END_TIME)";
+			case MYSQL:
+			case MARIADB:
+				return "(TIMESTAMPDIFF(MICROSECOND, START_TIME, END_TIME) / 1000)";
+			case POSTGRES:
+				return "(EXTRACT(EPOCH FROM (END_TIME - START_TIME)) * 1000)";
+			case ORACLE:
+				return "((EXTRACT(DAY FROM (END_TIME - START_TIME)) * 86400 "
+						+ "+ EXTRACT(HOUR FROM (END_TIME - START_TIME)) * 3600 "
+						+ "+ EXTRACT(MINUTE FROM (END_TIME - START_TIME)) * 60 "
+						+ "+ EXTRACT(SECOND FROM (END_TIME - START_TIME))) * 1000)";
+			case SQLSERVER:
+				return "DATEDIFF_BIG(MILLISECOND, START_TIME, END_TIME)";
+			case DB2:
+			case DB2VSE:
+			case DB2ZOS:
+			case DB2AS400:
+				return "((DAYS(END_TIME) - DAYS(START_TIME)) * 86400000 "
+						+ "+ (MIDNIGHT_SECONDS(END_TIME) - MIDNIGHT_SECONDS(START_TIME)) * 1000 "
+						+ "+ (MICROSECOND(END_TIME) - MICROSECOND(START_TIME)) / 1000)";
+			default:
+				throw new IllegalArgumentException("Unsupported database type: " + databaseType);
+		}
+	}
+
+	/**
+	 * Indicates if the database offers {@code PERCENTILE_CONT} as an aggregate function
+	 * with a {@code WITHIN GROUP} clause. MySQL, MariaDB, HSQLDB and SQL Server do not,
+	 * nor do the DB2 variants other than DB2 for Linux, Unix and Windows.
+	 * @param databaseType the type of the database.
+	 * @return true if percentiles can be computed by an aggregate query
+	 */
+	public static boolean supportsPercentileAggregate(DatabaseType databaseType) {
+		switch (databaseType) {
+			case H2:
+			case POSTGRES:
+			case ORACLE:
+			case DB2:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Returns the aggregate expression computing a continuous percentile of the provided
+	 * expression.
+	 * @param percentile the percentile, between 0 and 1.
+	 * @param expression the expression to compute the percentile of.
+	 * @return the percentile expression
+	 */
+	public static String percentileExpression(double percentile, String expression) {
+		return "PERCENTILE_CONT(" + percentile + ") WITHIN GROUP (ORDER BY " + expression + ")";
+	}
+
+}
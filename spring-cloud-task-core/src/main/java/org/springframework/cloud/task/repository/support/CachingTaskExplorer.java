@@ -0,0 +1,350 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.support;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCounts;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.TaskExecutionCursor;
+import org.springframework.cloud.task.repository.TaskExecutionStatistics;
+import org.springframework.cloud.task.repository.TaskExecutionWindow;
+import org.springframework.cloud.task.repository.TaskExplorer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.Assert;
+
+/**
+ * {@link TaskExplorer} that caches the results of the lookups that are repeated the most
+ * by schedulers and dashboards. A task execution that has an end time never changes, so
+ * completed task executions, and their job execution ids, are cached for the completed
+ * time to live. Running task executions, counts and latest task executions are cached
+ * for the much shorter running time to live, bounding how stale they can be. All the
+ * other queries are delegated.
+ * <p>
+ * Cached task executions are copied when they are stored and returned, so callers can
+ * not alter the cached state. Hits, misses, evictions and sizes of the caches are
+ * published as {@code spring.cloud.task.explorer.cache.*} metrics once this explorer is
+ * bound to a {@link MeterRegistry}.
+ *
+ * @author agent
+ */
+public class CachingTaskExplorer implements TaskExplorer, MeterBinder {
+
+	/**
+	 * Default maximum number of entries of each cache.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 10000;
+
+	/**
+	 * Default time to live in milliseconds of completed task executions.
+	 */
+	public static final long DEFAULT_COMPLETED_TTL = 600000;
+
+	/**
+	 * Default time to live in milliseconds of running task executions, counts and latest
+	 * task executions.
+	 */
+	public static final long DEFAULT_RUNNING_TTL = 1000;
+
+	private static final String METRIC_PREFIX = "spring.cloud.task.explorer.cache";
+
+	private final TaskExplorer delegate;
+
+	private final ExpiringCache<Long, TaskExecution> taskExecutions;
+
+	private final ExpiringCache<Long, Set<Long>> jobExecutionIds;
+
+	private final ExpiringCache<String, Long> counts;
+
+	private final ExpiringCache<String, TaskExecutionCounts> executionCounts;
+
+	private final ExpiringCache<String, TaskExecution> latestTaskExecutions;
+
+	private final long completedTtl;
+
+	private final long runningTtl;
+
+	/**
+	 * Creates a caching explorer using the default size and times to live.
+	 * @param delegate the explorer that retrieves the task executions.
+	 */
+	public CachingTaskExplorer(TaskExplorer delegate) {
+		this(delegate, DEFAULT_MAX_SIZE, DEFAULT_COMPLETED_TTL, DEFAULT_RUNNING_TTL);
+	}
+
+	/**
+	 * Creates a caching explorer.
+	 * @param delegate the explorer that retrieves the task executions.
+	 * @param maxSize the maximum number of entries of each cache.
+	 * @param completedTtl the time to live in milliseconds of completed task executions.
+	 * @param runningTtl the time to live in milliseconds of running task executions,
+	 * counts and latest task executions. Zero disables caching them.
+	 */
+	public CachingTaskExplorer(TaskExplorer delegate, int maxSize, long completedTtl, long runningTtl) {
+		this(delegate, maxSize, completedTtl, runningTtl, System::nanoTime);
+	}
+
+	CachingTaskExplorer(TaskExplorer delegate, int maxSize, long completedTtl, long runningTtl,
+			LongSupplier ticker) {
+		Assert.notNull(delegate, "delegate must not be null");
+		Assert.isTrue(maxSize > 0, "maxSize must be greater than zero");
+		Assert.isTrue(completedTtl >= 0, "completedTtl must not be negative");
+		Assert.isTrue(runningTtl >= 0, "runningTtl must not be negative");
+		this.delegate = delegate;
+		this.completedTtl = TimeUnit.MILLISECONDS.toNanos(completedTtl);
+		this.runningTtl = TimeUnit.MILLISECONDS.toNanos(runningTtl);
+		this.taskExecutions = new ExpiringCache<>(maxSize, ticker);
+		this.jobExecutionIds = new ExpiringCache<>(maxSize, ticker);
+		this.counts = new ExpiringCache<>(maxSize, ticker);
+		this.executionCounts = new ExpiringCache<>(maxSize, ticker);
+		this.latestTaskExecutions = new ExpiringCache<>(maxSize, ticker);
+	}
+
+	@Override
+	public TaskExecution getTaskExecution(long executionId) {
+		TaskExecution taskExecution = this.taskExecutions.get(executionId);
+		if (taskExecution == null) {
+			taskExecution = this.delegate.getTaskExecution(executionId);
+			if (taskExecution == null) {
+				return null;
+			}
+			taskExecution = copy(taskExecution);
+			this.taskExecutions.put(executionId, taskExecution, timeToLive(taskExecution));
+		}
+		return copy(taskExecution);
+	}
+
+	@Override
+	public Set<Long> getJobExecutionIdsByTaskExecutionId(long taskExecutionId) {
+		Set<Long> ids = this.jobExecutionIds.get(taskExecutionId);
+		if (ids == null) {
+			ids = new LinkedHashSet<>(this.delegate.getJobExecutionIdsByTaskExecutionId(taskExecutionId));
+			// Jobs may still be launched by a running task, so the ids are only stable
+			// once the task execution is known to be complete.
+			TaskExecution taskExecution = this.taskExecutions.peek(taskExecutionId);
+			this.jobExecutionIds.put(taskExecutionId, ids,
+					(taskExecution != null) ? timeToLive(taskExecution) : this.runningTtl);
+		}
+		return new LinkedHashSet<>(ids);
+	}
+
+	@Override
+	public TaskExecution getLatestTaskExecutionForTaskName(String taskName) {
+		TaskExecution taskExecution = this.latestTaskExecutions.get(taskName);
+		if (taskExecution == null) {
+			taskExecution = this.delegate.getLatestTaskExecutionForTaskName(taskName);
+			if (taskExecution == null) {
+				return null;
+			}
+			taskExecution = copy(taskExecution);
+			this.latestTaskExecutions.put(taskName, taskExecution, this.runningTtl);
+		}
+		return copy(taskExecution);
+	}
+
+	@Override
+	public long getTaskExecutionCountByTaskName(String taskName) {
+		Long count = this.counts.get("name:" + taskName);
+		if (count == null) {
+			count = this.delegate.getTaskExecutionCountByTaskName(taskName);
+			this.counts.put("name:" + taskName, count, this.runningTtl);
+		}
+		return count;
+	}
+
+	@Override
+	public long getTaskExecutionCount() {
+		Long count = this.counts.get("all");
+		if (count == null) {
+			count = this.delegate.getTaskExecutionCount();
+			this.counts.put("all", count, this.runningTtl);
+		}
+		return count;
+	}
+
+	@Override
+	public long getRunningTaskExecutionCount() {
+		Long count = this.counts.get("running");
+		if (count == null) {
+			count = this.delegate.getRunningTaskExecutionCount();
+			this.counts.put("running", count, this.runningTtl);
+		}
+		return count;
+	}
+
+	@Override
+	public TaskExecutionCounts getTaskExecutionCounts(String taskName) {
+		String key = (taskName != null) ? "name:" + taskName : "all";
+		TaskExecutionCounts counts = this.executionCounts.get(key);
+		if (counts == null) {
+			counts = this.delegate.getTaskExecutionCounts(taskName);
+			this.executionCounts.put(key, counts, this.runningTtl);
+		}
+		return counts;
+	}
+
+	@Override
+	public TaskExecutionStatistics getTaskExecutionStatistics(String taskName, TaskExecutionCriteria criteria) {
+		return this.delegate.getTaskExecutionStatistics(taskName, criteria);
+	}
+
+	@Override
+	public long getTaskExecutionCountByExternalExecutionId(String externalExecutionId) {
+		Long count = this.counts.get("external:" + externalExecutionId);
+		if (count == null) {
+			count = this.delegate.getTaskExecutionCountByExternalExecutionId(externalExecutionId);
+			this.counts.put("external:" + externalExecutionId, count, this.runningTtl);
+		}
+		return count;
+	}
+
+	@Override
+	public Page<TaskExecution> findRunningTaskExecutions(String taskName, Pageable pageable) {
+		return this.delegate.findRunningTaskExecutions(taskName, pageable);
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceRunningTaskExecutions(String taskName, Pageable pageable) {
+		return this.delegate.sliceRunningTaskExecutions(taskName, pageable);
+	}
+
+	@Override
+	public Page<TaskExecution> findTaskExecutionsByExecutionId(String externalExecutionId, Pageable pageable) {
+		return this.delegate.findTaskExecutionsByExecutionId(externalExecutionId, pageable);
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceTaskExecutionsByExecutionId(String externalExecutionId, Pageable pageable) {
+		return this.delegate.sliceTaskExecutionsByExecutionId(externalExecutionId, pageable);
+	}
+
+	@Override
+	public List<String> getTaskNames() {
+		return this.delegate.getTaskNames();
+	}
+
+	@Override
+	public Page<TaskExecution> findTaskExecutionsByName(String taskName, Pageable pageable) {
+		return this.delegate.findTaskExecutionsByName(taskName, pageable);
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceTaskExecutionsByName(String taskName, Pageable pageable) {
+		return this.delegate.sliceTaskExecutionsByName(taskName, pageable);
+	}
+
+	@Override
+	public Page<TaskExecution> findAll(Pageable pageable) {
+		return this.delegate.findAll(pageable);
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceAll(Pageable pageable) {
+		return this.delegate.sliceAll(pageable);
+	}
+
+	@Override
+	public TaskExecutionWindow findAll(TaskExecutionCursor after, int limit) {
+		return this.delegate.findAll(after, limit);
+	}
+
+	@Override
+	public Stream<TaskExecution> streamAll(TaskExecutionCriteria criteria) {
+		return this.delegate.streamAll(criteria);
+	}
+
+	@Override
+	public Stream<TaskExecution> streamTaskExecutionsByName(String taskName, TaskExecutionCriteria criteria) {
+		return this.delegate.streamTaskExecutionsByName(taskName, criteria);
+	}
+
+	@Override
+	public Long getTaskExecutionIdByJobExecutionId(long jobExecutionId) {
+		return this.delegate.getTaskExecutionIdByJobExecutionId(jobExecutionId);
+	}
+
+	@Override
+	public List<TaskExecution> getLatestTaskExecutionsByTaskNames(String... taskNames) {
+		return this.delegate.getLatestTaskExecutionsByTaskNames(taskNames);
+	}
+
+	/**
+	 * Removes all the cached entries.
+	 */
+	public void clear() {
+		this.taskExecutions.clear();
+		this.jobExecutionIds.clear();
+		this.counts.clear();
+		this.executionCounts.clear();
+		this.latestTaskExecutions.clear();
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		bindTo(registry, "executions", this.taskExecutions);
+		bindTo(registry, "jobExecutionIds", this.jobExecutionIds);
+		bindTo(registry, "counts", this.counts);
+		bindTo(registry, "executionCounts", this.executionCounts);
+		bindTo(registry, "latest", this.latestTaskExecutions);
+	}
+
+	private static void bindTo(MeterRegistry registry, String name, ExpiringCache<?, ?> cache) {
+		FunctionCounter.builder(METRIC_PREFIX + ".gets", cache, ExpiringCache::getHitCount)
+			.tags("cache", name, "result", "hit")
+			.description("The number of lookups answered by the task explorer cache")
+			.register(registry);
+		FunctionCounter.builder(METRIC_PREFIX + ".gets", cache, ExpiringCache::getMissCount)
+			.tags("cache", name, "result", "miss")
+			.description("The number of lookups delegated to the task repository")
+			.register(registry);
+		FunctionCounter.builder(METRIC_PREFIX + ".evictions", cache, ExpiringCache::getEvictionCount)
+			.tags("cache", name)
+			.description("The number of entries evicted from the task explorer cache")
+			.register(registry);
+		Gauge.builder(METRIC_PREFIX + ".size", cache, ExpiringCache::size)
+			.tags("cache", name)
+			.description("The number of entries in the task explorer cache")
+			.register(registry);
+	}
+
+	private long timeToLive(TaskExecution taskExecution) {
+		return (taskExecution.getEndTime() != null) ? this.completedTtl : this.runningTtl;
+	}
+
+	private static TaskExecution copy(TaskExecution taskExecution) {
+		return new TaskExecution(taskExecution.getExecutionId(), taskExecution.getExitCode(),
+				taskExecution.getTaskName(), taskExecution.getStartTime(), taskExecution.getEndTime(),
+				taskExecution.getExitMessage(), new ArrayList<>(taskExecution.getArguments()),
+				taskExecution.getErrorMessage(), taskExecution.getExternalExecutionId(),
+				taskExecution.getParentExecutionId());
+	}
+
+}
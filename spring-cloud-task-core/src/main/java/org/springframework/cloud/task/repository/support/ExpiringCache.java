@@ -0,0 +1,141 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.support;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Size bounded cache whose entries expire after a per entry time to live. The least
+ * recently used entry is evicted when the cache is full. Used by
+ * {@link CachingTaskExplorer}.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the values
+ * @author agent
+ */
+class ExpiringCache<K, V> {
+
+	private final Map<K, Entry<V>> entries;
+
+	private final LongSupplier ticker;
+
+	private final LongAdder hits = new LongAdder();
+
+	private final LongAdder misses = new LongAdder();
+
+	private final LongAdder evictions = new LongAdder();
+
+	ExpiringCache(int maxSize, LongSupplier ticker) {
+		this.ticker = ticker;
+		this.entries = new LinkedHashMap<K, Entry<V>>(16, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+				boolean evict = size() > maxSize;
+				if (evict) {
+					ExpiringCache.this.evictions.increment();
+				}
+				return evict;
+			}
+		};
+	}
+
+	/**
+	 * Returns the cached value, recording a hit or a miss.
+	 * @param key the key.
+	 * @return the value or null if it is not cached or has expired
+	 */
+	V get(K key) {
+		V value = peek(key);
+		if (value != null) {
+			this.hits.increment();
+		}
+		else {
+			this.misses.increment();
+		}
+		return value;
+	}
+
+	/**
+	 * Returns the cached value without recording a hit or a miss.
+	 * @param key the key.
+	 * @return the value or null if it is not cached or has expired
+	 */
+	V peek(K key) {
+		synchronized (this.entries) {
+			Entry<V> entry = this.entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.expiresAt - this.ticker.getAsLong() <= 0) {
+				this.entries.remove(key);
+				this.evictions.increment();
+				return null;
+			}
+			return entry.value;
+		}
+	}
+
+	void put(K key, V value, long timeToLiveNanos) {
+		if (timeToLiveNanos <= 0) {
+			return;
+		}
+		synchronized (this.entries) {
+			this.entries.put(key, new Entry<>(value, this.ticker.getAsLong() + timeToLiveNanos));
+		}
+	}
+
+	void clear() {
+		synchronized (this.entries) {
+			this.entries.clear();
+		}
+	}
+
+	int size() {
+		synchronized (this.entries) {
+			return this.entries.size();
+		}
+	}
+
+	long getHitCount() {
+		return this.hits.sum();
+	}
+
+	long getMissCount() {
+		return this.misses.sum();
+	}
+
+	long getEvictionCount() {
+		return this.evictions.sum();
+	}
+
+	private static final class Entry<V> {
+
+		private final V value;
+
+		private final long expiresAt;
+
+		Entry(V value, long expiresAt) {
+			this.value = value;
+			this.expiresAt = expiresAt;
+		}
+
+	}
+
+}
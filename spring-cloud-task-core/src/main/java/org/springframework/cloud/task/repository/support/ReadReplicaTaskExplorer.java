@@ -0,0 +1,249 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.support;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCounts;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.TaskExecutionCursor;
+import org.springframework.cloud.task.repository.TaskExecutionStatistics;
+import org.springframework.cloud.task.repository.TaskExecutionWindow;
+import org.springframework.cloud.task.repository.TaskExplorer;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.util.Assert;
+
+/**
+ * {@link TaskExplorer} that sends its queries to a read replica of the task repository,
+ * so that the read traffic of schedulers and dashboards does not compete with the task
+ * lifecycle writes on the primary.
+ * <p>
+ * A task execution that has an end time never changes, so the replica copy of a completed
+ * task execution is returned as is. A task execution that is unknown to the replica, has
+ * not been started yet or was started within the staleness tolerance may not have been
+ * replicated yet, so it is read again from the primary, as are the job execution
+ * associations the replica does not know of yet. Lookups that must always see
+ * their own writes use the explorer returned by {@link #getPrimary()}.
+ *
+ * @author agent
+ */
+public class ReadReplicaTaskExplorer implements TaskExplorer {
+
+	/**
+	 * Default time in milliseconds during which a started task execution is read from the
+	 * primary.
+	 */
+	public static final long DEFAULT_STALENESS_TOLERANCE = 5000;
+
+	private final TaskExplorer primary;
+
+	private final TaskExplorer replica;
+
+	private final long stalenessTolerance;
+
+	private final Clock clock;
+
+	/**
+	 * Creates a read replica explorer using the default staleness tolerance.
+	 * @param primary the explorer that reads from the primary.
+	 * @param replica the explorer that reads from the read replica.
+	 */
+	public ReadReplicaTaskExplorer(TaskExplorer primary, TaskExplorer replica) {
+		this(primary, replica, DEFAULT_STALENESS_TOLERANCE);
+	}
+
+	/**
+	 * Creates a read replica explorer.
+	 * @param primary the explorer that reads from the primary.
+	 * @param replica the explorer that reads from the read replica.
+	 * @param stalenessTolerance the time in milliseconds during which a started task
+	 * execution is read from the primary.
+	 */
+	public ReadReplicaTaskExplorer(TaskExplorer primary, TaskExplorer replica, long stalenessTolerance) {
+		this(primary, replica, stalenessTolerance, Clock.systemDefaultZone());
+	}
+
+	ReadReplicaTaskExplorer(TaskExplorer primary, TaskExplorer replica, long stalenessTolerance, Clock clock) {
+		Assert.notNull(primary, "primary must not be null");
+		Assert.notNull(replica, "replica must not be null");
+		Assert.isTrue(stalenessTolerance >= 0, "stalenessTolerance must not be negative");
+		this.primary = primary;
+		this.replica = replica;
+		this.stalenessTolerance = stalenessTolerance;
+		this.clock = clock;
+	}
+
+	/**
+	 * Returns the explorer that reads from the primary, for the lookups that must see the
+	 * writes that were just made.
+	 * @return the explorer that reads from the primary.
+	 */
+	public TaskExplorer getPrimary() {
+		return this.primary;
+	}
+
+	/**
+	 * Returns the explorer that reads from the read replica.
+	 * @return the explorer that reads from the read replica.
+	 */
+	public TaskExplorer getReplica() {
+		return this.replica;
+	}
+
+	@Override
+	public TaskExecution getTaskExecution(long executionId) {
+		TaskExecution taskExecution = this.replica.getTaskExecution(executionId);
+		if (taskExecution == null || mayBeStale(taskExecution)) {
+			return this.primary.getTaskExecution(executionId);
+		}
+		return taskExecution;
+	}
+
+	@Override
+	public Long getTaskExecutionIdByJobExecutionId(long jobExecutionId) {
+		Long taskExecutionId = this.replica.getTaskExecutionIdByJobExecutionId(jobExecutionId);
+		return (taskExecutionId != null) ? taskExecutionId
+				: this.primary.getTaskExecutionIdByJobExecutionId(jobExecutionId);
+	}
+
+	@Override
+	public Set<Long> getJobExecutionIdsByTaskExecutionId(long taskExecutionId) {
+		Set<Long> jobExecutionIds = this.replica.getJobExecutionIdsByTaskExecutionId(taskExecutionId);
+		return (jobExecutionIds != null && !jobExecutionIds.isEmpty()) ? jobExecutionIds
+				: this.primary.getJobExecutionIdsByTaskExecutionId(taskExecutionId);
+	}
+
+	@Override
+	public Page<TaskExecution> findRunningTaskExecutions(String taskName, Pageable pageable) {
+		return this.replica.findRunningTaskExecutions(taskName, pageable);
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceRunningTaskExecutions(String taskName, Pageable pageable) {
+		return this.replica.sliceRunningTaskExecutions(taskName, pageable);
+	}
+
+	@Override
+	public Page<TaskExecution> findTaskExecutionsByExecutionId(String externalExecutionId, Pageable pageable) {
+		return this.replica.findTaskExecutionsByExecutionId(externalExecutionId, pageable);
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceTaskExecutionsByExecutionId(String externalExecutionId, Pageable pageable) {
+		return this.replica.sliceTaskExecutionsByExecutionId(externalExecutionId, pageable);
+	}
+
+	@Override
+	public List<String> getTaskNames() {
+		return this.replica.getTaskNames();
+	}
+
+	@Override
+	public long getTaskExecutionCountByTaskName(String taskName) {
+		return this.replica.getTaskExecutionCountByTaskName(taskName);
+	}
+
+	@Override
+	public long getTaskExecutionCount() {
+		return this.replica.getTaskExecutionCount();
+	}
+
+	@Override
+	public long getRunningTaskExecutionCount() {
+		return this.replica.getRunningTaskExecutionCount();
+	}
+
+	@Override
+	public TaskExecutionCounts getTaskExecutionCounts(String taskName) {
+		return this.replica.getTaskExecutionCounts(taskName);
+	}
+
+	@Override
+	public TaskExecutionStatistics getTaskExecutionStatistics(String taskName, TaskExecutionCriteria criteria) {
+		return this.replica.getTaskExecutionStatistics(taskName, criteria);
+	}
+
+	@Override
+	public long getTaskExecutionCountByExternalExecutionId(String externalExecutionId) {
+		return this.replica.getTaskExecutionCountByExternalExecutionId(externalExecutionId);
+	}
+
+	@Override
+	public Page<TaskExecution> findTaskExecutionsByName(String taskName, Pageable pageable) {
+		return this.replica.findTaskExecutionsByName(taskName, pageable);
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceTaskExecutionsByName(String taskName, Pageable pageable) {
+		return this.replica.sliceTaskExecutionsByName(taskName, pageable);
+	}
+
+	@Override
+	public Page<TaskExecution> findAll(Pageable pageable) {
+		return this.replica.findAll(pageable);
+	}
+
+	@Override
+	public Slice<TaskExecution> sliceAll(Pageable pageable) {
+		return this.replica.sliceAll(pageable);
+	}
+
+	@Override
+	public TaskExecutionWindow findAll(TaskExecutionCursor after, int limit) {
+		return this.replica.findAll(after, limit);
+	}
+
+	@Override
+	public Stream<TaskExecution> streamAll(TaskExecutionCriteria criteria) {
+		return this.replica.streamAll(criteria);
+	}
+
+	@Override
+	public Stream<TaskExecution> streamTaskExecutionsByName(String taskName, TaskExecutionCriteria criteria) {
+		return this.replica.streamTaskExecutionsByName(taskName, criteria);
+	}
+
+	@Override
+	public List<TaskExecution> getLatestTaskExecutionsByTaskNames(String... taskNames) {
+		return this.replica.getLatestTaskExecutionsByTaskNames(taskNames);
+	}
+
+	@Override
+	public TaskExecution getLatestTaskExecutionForTaskName(String taskName) {
+		return this.replica.getLatestTaskExecutionForTaskName(taskName);
+	}
+
+	private boolean mayBeStale(TaskExecution taskExecution) {
+		if (taskExecution.getEndTime() != null) {
+			return false;
+		}
+		if (taskExecution.getStartTime() == null) {
+			return true;
+		}
+		LocalDateTime settled = LocalDateTime.now(this.clock).minus(this.stalenessTolerance, ChronoUnit.MILLIS);
+		return taskExecution.getStartTime().isAfter(settled);
+	}
+
+}
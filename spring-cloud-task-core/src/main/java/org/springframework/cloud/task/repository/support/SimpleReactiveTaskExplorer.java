@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.support;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.task.repository.ReactiveTaskExplorer;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.dao.R2dbcTaskExecutionDao;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.util.Assert;
+
+/**
+ * ReactiveTaskExplorer that gathers task information from a task repository through
+ * R2DBC.
+ *
+ * @author agent
+ */
+public class SimpleReactiveTaskExplorer implements ReactiveTaskExplorer {
+
+	private final R2dbcTaskExecutionDao taskExecutionDao;
+
+	public SimpleReactiveTaskExplorer(R2dbcTaskExecutionDao taskExecutionDao) {
+		Assert.notNull(taskExecutionDao, "taskExecutionDao must not be null");
+		this.taskExecutionDao = taskExecutionDao;
+	}
+
+	@Override
+	public Mono<TaskExecution> getTaskExecution(long executionId) {
+		return this.taskExecutionDao.getTaskExecution(executionId);
+	}
+
+	@Override
+	public Mono<Page<TaskExecution>> findTaskExecutionsByName(String taskName, Pageable pageable) {
+		Assert.hasText(taskName, "taskName must not be empty");
+		return this.taskExecutionDao.findTaskExecutionsByName(taskName, pageable);
+	}
+
+	@Override
+	public Mono<Page<TaskExecution>> findRunningTaskExecutions(String taskName, Pageable pageable) {
+		Assert.hasText(taskName, "taskName must not be empty");
+		return this.taskExecutionDao.findRunningTaskExecutions(taskName, pageable);
+	}
+
+	@Override
+	public Mono<Page<TaskExecution>> findAll(Pageable pageable) {
+		return this.taskExecutionDao.findAll(pageable);
+	}
+
+	@Override
+	public Flux<TaskExecution> streamAll(TaskExecutionCriteria criteria) {
+		return this.taskExecutionDao.streamTaskExecutions(null, criteria);
+	}
+
+	@Override
+	public Flux<TaskExecution> streamTaskExecutionsByName(String taskName, TaskExecutionCriteria criteria) {
+		Assert.hasText(taskName, "taskName must not be empty");
+		return this.taskExecutionDao.streamTaskExecutions(taskName, criteria);
+	}
+
+	@Override
+	public Mono<TaskExecution> getLatestTaskExecutionForTaskName(String taskName) {
+		Assert.hasText(taskName, "The task name must not be empty.");
+		return this.taskExecutionDao.getLatestTaskExecutionForTaskName(taskName);
+	}
+
+	@Override
+	public Flux<String> getTaskNames() {
+		return this.taskExecutionDao.getTaskNames();
+	}
+
+	@Override
+	public Mono<Long> getTaskExecutionCountByTaskName(String taskName) {
+		return this.taskExecutionDao.getTaskExecutionCountByTaskName(taskName);
+	}
+
+	@Override
+	public Mono<Long> getTaskExecutionCount() {
+		return this.taskExecutionDao.getTaskExecutionCount();
+	}
+
+	@Override
+	public Mono<Long> getRunningTaskExecutionCount() {
+		return this.taskExecutionDao.getRunningTaskExecutionCount();
+	}
+
+}
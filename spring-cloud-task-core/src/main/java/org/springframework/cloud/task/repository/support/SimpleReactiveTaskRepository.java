@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.support;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import reactor.core.publisher.Mono;
+
+import org.springframework.cloud.task.repository.ReactiveTaskRepository;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.dao.R2dbcTaskExecutionDao;
+import org.springframework.util.Assert;
+
+/**
+ * Records the task execution information to the log and to the task repository through
+ * R2DBC, with the same validation and message trimming as the
+ * {@link SimpleTaskRepository}.
+ *
+ * @author agent
+ */
+public class SimpleReactiveTaskRepository implements ReactiveTaskRepository {
+
+	private static final Log logger = LogFactory.getLog(SimpleReactiveTaskRepository.class);
+
+	private final R2dbcTaskExecutionDao taskExecutionDao;
+
+	private int maxExitMessageSize = SimpleTaskRepository.MAX_EXIT_MESSAGE_SIZE;
+
+	private int maxTaskNameSize = SimpleTaskRepository.MAX_TASK_NAME_SIZE;
+
+	private int maxErrorMessageSize = SimpleTaskRepository.MAX_ERROR_MESSAGE_SIZE;
+
+	public SimpleReactiveTaskRepository(R2dbcTaskExecutionDao taskExecutionDao) {
+		Assert.notNull(taskExecutionDao, "taskExecutionDao must not be null");
+		this.taskExecutionDao = taskExecutionDao;
+	}
+
+	@Override
+	public Mono<TaskExecution> completeTaskExecution(long executionId, Integer exitCode, LocalDateTime endTime,
+			String exitMessage, String errorMessage) {
+		return Mono.defer(() -> {
+			Assert.notNull(exitCode, "exitCode should not be null");
+			Assert.isTrue(exitCode >= 0, "exit code must be greater than or equal to zero");
+			Assert.notNull(endTime, "TaskExecution endTime cannot be null.");
+			String trimmedExitMessage = trimMessage(exitMessage, this.maxExitMessageSize);
+			String trimmedErrorMessage = trimMessage(errorMessage, this.maxErrorMessageSize);
+			return this.taskExecutionDao
+				.completeTaskExecution(executionId, exitCode, endTime, trimmedExitMessage, trimmedErrorMessage)
+				.then(this.taskExecutionDao.getTaskExecution(executionId))
+				.doOnNext((taskExecution) -> logger.debug("Updating: " + taskExecution));
+		});
+	}
+
+	@Override
+	public Mono<TaskExecution> createTaskExecution(TaskExecution taskExecution) {
+		return Mono.defer(() -> {
+			Assert.notNull(taskExecution.getStartTime(), "TaskExecution start time cannot be null.");
+			if (taskExecution.getTaskName() != null && taskExecution.getTaskName().length() > this.maxTaskNameSize) {
+				throw new IllegalArgumentException("TaskName length exceeds " + this.maxTaskNameSize + " characters");
+			}
+			return this.taskExecutionDao
+				.createTaskExecution(taskExecution.getTaskName(), taskExecution.getStartTime(),
+						taskExecution.getArguments(), taskExecution.getExternalExecutionId(),
+						taskExecution.getParentExecutionId())
+				.doOnNext((created) -> logger.debug("Creating: " + created));
+		});
+	}
+
+	@Override
+	public Mono<TaskExecution> createTaskExecution(String name) {
+		return this.taskExecutionDao.createTaskExecution(name, null, Collections.emptyList(), null, null)
+			.doOnNext((created) -> logger.debug("Creating: " + created));
+	}
+
+	@Override
+	public Mono<TaskExecution> startTaskExecution(long executionId, String taskName, LocalDateTime startTime,
+			List<String> arguments, String externalExecutionId, Long parentExecutionId) {
+		return this.taskExecutionDao
+			.startTaskExecution(executionId, taskName, startTime, arguments, externalExecutionId, parentExecutionId)
+			.doOnNext((started) -> logger.debug("Starting: " + started));
+	}
+
+	@Override
+	public Mono<Void> updateExternalExecutionId(long executionId, String externalExecutionId) {
+		return this.taskExecutionDao.updateExternalExecutionId(executionId, externalExecutionId);
+	}
+
+	private String trimMessage(String message, int maxSize) {
+		if (message != null && message.length() > maxSize) {
+			return message.substring(0, maxSize);
+		}
+		return message;
+	}
+
+	public void setMaxExitMessageSize(int maxExitMessageSize) {
+		this.maxExitMessageSize = maxExitMessageSize;
+	}
+
+	public void setMaxTaskNameSize(int maxTaskNameSize) {
+		this.maxTaskNameSize = maxTaskNameSize;
+	}
+
+	public void setMaxErrorMessageSize(int maxErrorMessageSize) {
+		this.maxErrorMessageSize = maxErrorMessageSize;
+	}
+
+}
@@ -18,12 +18,19 @@ package org.springframework.cloud.task.repository.support;
 
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Stream;
 
 import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCounts;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.TaskExecutionCursor;
+import org.springframework.cloud.task.repository.TaskExecutionStatistics;
+import org.springframework.cloud.task.repository.TaskExecutionWindow;
 import org.springframework.cloud.task.repository.TaskExplorer;
 import org.springframework.cloud.task.repository.dao.TaskExecutionDao;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.util.Assert;
 
 /**
@@ -59,11 +66,21 @@ public class SimpleTaskExplorer implements TaskExplorer {
 		return this.taskExecutionDao.findRunningTaskExecutions(taskName, pageable);
 	}
 
+	@Override
+	public Slice<TaskExecution> sliceRunningTaskExecutions(String taskName, Pageable pageable) {
+		return this.taskExecutionDao.sliceRunningTaskExecutions(taskName, pageable);
+	}
+
 	@Override
 	public Page<TaskExecution> findTaskExecutionsByExecutionId(String externalExecutionId, Pageable pageable) {
 		return this.taskExecutionDao.findTaskExecutionsByExternalExecutionId(externalExecutionId, pageable);
 	}
 
+	@Override
+	public Slice<TaskExecution> sliceTaskExecutionsByExecutionId(String externalExecutionId, Pageable pageable) {
+		return this.taskExecutionDao.sliceTaskExecutionsByExternalExecutionId(externalExecutionId, pageable);
+	}
+
 	@Override
 	public List<String> getTaskNames() {
 		return this.taskExecutionDao.getTaskNames();
@@ -84,6 +101,16 @@ public class SimpleTaskExplorer implements TaskExplorer {
 		return this.taskExecutionDao.getRunningTaskExecutionCount();
 	}
 
+	@Override
+	public TaskExecutionCounts getTaskExecutionCounts(String taskName) {
+		return this.taskExecutionDao.getTaskExecutionCounts(taskName);
+	}
+
+	@Override
+	public TaskExecutionStatistics getTaskExecutionStatistics(String taskName, TaskExecutionCriteria criteria) {
+		return this.taskExecutionDao.getTaskExecutionStatistics(taskName, criteria);
+	}
+
 	@Override
 	public long getTaskExecutionCountByExternalExecutionId(String externalExecutionId) {
 		return this.taskExecutionDao.getTaskExecutionCountByExternalExecutionId(externalExecutionId);
@@ -94,11 +121,36 @@ public class SimpleTaskExplorer implements TaskExplorer {
 		return this.taskExecutionDao.findTaskExecutionsByName(taskName, pageable);
 	}
 
+	@Override
+	public Slice<TaskExecution> sliceTaskExecutionsByName(String taskName, Pageable pageable) {
+		return this.taskExecutionDao.sliceTaskExecutionsByName(taskName, pageable);
+	}
+
 	@Override
 	public Page<TaskExecution> findAll(Pageable pageable) {
 		return this.taskExecutionDao.findAll(pageable);
 	}
 
+	@Override
+	public Slice<TaskExecution> sliceAll(Pageable pageable) {
+		return this.taskExecutionDao.sliceAll(pageable);
+	}
+
+	@Override
+	public TaskExecutionWindow findAll(TaskExecutionCursor after, int limit) {
+		return this.taskExecutionDao.findAll(after, limit);
+	}
+
+	@Override
+	public Stream<TaskExecution> streamAll(TaskExecutionCriteria criteria) {
+		return this.taskExecutionDao.streamAll(criteria);
+	}
+
+	@Override
+	public Stream<TaskExecution> streamTaskExecutionsByName(String taskName, TaskExecutionCriteria criteria) {
+		return this.taskExecutionDao.streamTaskExecutionsByName(taskName, criteria);
+	}
+
 	@Override
 	public Long getTaskExecutionIdByJobExecutionId(long jobExecutionId) {
 		return this.taskExecutionDao.getTaskExecutionIdByJobExecutionId(jobExecutionId);
@@ -17,6 +17,7 @@
 package org.springframework.cloud.task.repository.support;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -100,14 +101,25 @@ public class SimpleTaskRepository implements TaskRepository {
 		validateCompletedTaskExitInformation(executionId, exitCode, endTime);
 		exitMessage = trimMessage(exitMessage, this.maxExitMessageSize);
 		errorMessage = trimMessage(errorMessage, this.maxErrorMessageSize);
-		this.taskExecutionDao.completeTaskExecution(executionId, exitCode, endTime, exitMessage, errorMessage);
-		logger.debug("Updating: TaskExecution with executionId=" + executionId + " with the following {" + "exitCode="
-				+ exitCode + ", endTime=" + endTime + ", exitMessage='" + exitMessage + '\'' + ", errorMessage='"
-				+ errorMessage + '\'' + '}');
+		updateCompletedTaskExecution(executionId, exitCode, endTime, exitMessage, errorMessage);
 
 		return this.taskExecutionDao.getTaskExecution(executionId);
 	}
 
+	@Override
+	public TaskExecution completeTaskExecution(TaskExecution taskExecution) {
+		initialize();
+
+		TaskExecution completedTaskExecution = prepareCompletedTaskExecution(taskExecution);
+		updateCompletedTaskExecution(completedTaskExecution.getExecutionId(), completedTaskExecution.getExitCode(),
+				completedTaskExecution.getEndTime(), completedTaskExecution.getExitMessage(),
+				completedTaskExecution.getErrorMessage());
+
+		// The update succeeded, so the stored state is the one provided with the trimmed
+		// messages and there is no need to read it back.
+		return completedTaskExecution;
+	}
+
 	@Override
 	public TaskExecution createTaskExecution(TaskExecution taskExecution) {
 		initialize();
@@ -180,7 +192,7 @@ public class SimpleTaskRepository implements TaskRepository {
 	 * Validate startTime and taskName are valid.
 	 * @param taskExecution task execution to validate
 	 */
-	private void validateCreateInformation(TaskExecution taskExecution) {
+	protected void validateCreateInformation(TaskExecution taskExecution) {
 		Assert.notNull(taskExecution.getStartTime(), "TaskExecution start time cannot be null.");
 
 		if (taskExecution.getTaskName() != null && taskExecution.getTaskName().length() > this.maxTaskNameSize) {
@@ -188,6 +200,31 @@ public class SimpleTaskRepository implements TaskRepository {
 		}
 	}
 
+	/**
+	 * Validates the exit information of the provided task execution and returns a copy of
+	 * it with the exit and error messages trimmed to their maximum sizes.
+	 * @param taskExecution the task execution that has completed.
+	 * @return the task execution as it is to be stored
+	 */
+	protected TaskExecution prepareCompletedTaskExecution(TaskExecution taskExecution) {
+		validateCompletedTaskExitInformation(taskExecution.getExecutionId(), taskExecution.getExitCode(),
+				taskExecution.getEndTime());
+		return new TaskExecution(taskExecution.getExecutionId(), taskExecution.getExitCode(),
+				taskExecution.getTaskName(), taskExecution.getStartTime(), taskExecution.getEndTime(),
+				trimMessage(taskExecution.getExitMessage(), this.maxExitMessageSize),
+				new ArrayList<>(taskExecution.getArguments()),
+				trimMessage(taskExecution.getErrorMessage(), this.maxErrorMessageSize),
+				taskExecution.getExternalExecutionId(), taskExecution.getParentExecutionId());
+	}
+
+	private void updateCompletedTaskExecution(long executionId, Integer exitCode, LocalDateTime endTime,
+			String exitMessage, String errorMessage) {
+		this.taskExecutionDao.completeTaskExecution(executionId, exitCode, endTime, exitMessage, errorMessage);
+		logger.debug("Updating: TaskExecution with executionId=" + executionId + " with the following {" + "exitCode="
+				+ exitCode + ", endTime=" + endTime + ", exitMessage='" + exitMessage + '\'' + ", errorMessage='"
+				+ errorMessage + '\'' + '}');
+	}
+
 	private void validateCompletedTaskExitInformation(long executionId, Integer exitCode, LocalDateTime endTime) {
 		Assert.notNull(exitCode, "exitCode should not be null");
 		Assert.isTrue(exitCode >= 0, "exit code must be greater than or equal to zero");
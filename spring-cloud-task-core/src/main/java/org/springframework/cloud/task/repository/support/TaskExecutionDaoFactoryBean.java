@@ -16,41 +16,78 @@
 
 package org.springframework.cloud.task.repository.support;
 
+import java.nio.file.Path;
 import java.sql.DatabaseMetaData;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
 
 import javax.sql.DataSource;
 
 import org.springframework.batch.item.database.support.DataFieldMaxValueIncrementerFactory;
 import org.springframework.batch.item.database.support.DefaultDataFieldMaxValueIncrementerFactory;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.FactoryBean;
 import org.springframework.cloud.task.configuration.TaskProperties;
 import org.springframework.cloud.task.listener.TaskException;
+import org.springframework.cloud.task.repository.dao.FileTaskExecutionDao;
 import org.springframework.cloud.task.repository.dao.JdbcTaskExecutionDao;
 import org.springframework.cloud.task.repository.dao.MapTaskExecutionDao;
+import org.springframework.cloud.task.repository.dao.ShardedTaskExecutionDao;
 import org.springframework.cloud.task.repository.dao.TaskExecutionDao;
+import org.springframework.jdbc.support.JdbcTransactionManager;
 import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.jdbc.support.incrementer.AbstractColumnMaxValueIncrementer;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
 import org.springframework.jdbc.support.incrementer.SqlServerSequenceMaxValueIncrementer;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 /**
  * A {@link FactoryBean} implementation that creates the appropriate
- * {@link TaskExecutionDao} based on the provided information.
+ * {@link TaskExecutionDao} based on the provided information. Destroying the factory
+ * bean releases the resources held by the {@link TaskExecutionDao} it created, such as
+ * the repository file.
  *
  * @author Michael Minella
  * @author Glenn Renfro
  */
-public class TaskExecutionDaoFactoryBean implements FactoryBean<TaskExecutionDao> {
+public class TaskExecutionDaoFactoryBean implements FactoryBean<TaskExecutionDao>, DisposableBean {
 
 	private DataSource dataSource;
 
+	private List<DataSource> shardDataSources;
+
 	private TaskExecutionDao dao = null;
 
 	private String tablePrefix = TaskProperties.DEFAULT_TABLE_PREFIX;
 
+	private int argumentBatchSize = JdbcTaskExecutionDao.DEFAULT_ARGUMENT_BATCH_SIZE;
+
+	private int streamFetchSize = JdbcTaskExecutionDao.DEFAULT_STREAM_FETCH_SIZE;
+
+	private int executionIdBlockSize = 1;
+
+	private int maxCompletedExecutions = 0;
+
+	private long completedExecutionTimeToLive = 0;
+
+	private Path repositoryFile;
+
+	private boolean repositoryFileSync = false;
+
+	private boolean archiveEnabled = false;
+
+	private boolean latestExecutionSummaryEnabled = false;
+
+	private boolean taskNameRegistryEnabled = false;
+
+	private boolean executionCountersEnabled = false;
+
+	private int executionCounterStripes = JdbcTaskExecutionDao.DEFAULT_EXECUTION_COUNTER_STRIPES;
+
 	/**
 	 * Default constructor will result in a Map based TaskExecutionDao. <b>This is only
 	 * intended for testing purposes.</b>
@@ -79,34 +116,183 @@ public class TaskExecutionDaoFactoryBean implements FactoryBean<TaskExecutionDao
 		this.dataSource = dataSource;
 	}
 
+	/**
+	 * Creates a {@link ShardedTaskExecutionDao} that spreads the task executions over a
+	 * {@link JdbcTaskExecutionDao} for each {@link DataSource}. The index of a shard is
+	 * the position of its {@link DataSource}, so additional data sources must be
+	 * appended. Each write runs in a transaction of the {@link DataSource} of its shard.
+	 * @param dataSources the {@link DataSource}s of the shards.
+	 * @param tablePrefix the table prefix to use for the dao of each shard.
+	 */
+	public TaskExecutionDaoFactoryBean(List<DataSource> dataSources, String tablePrefix) {
+		Assert.notEmpty(dataSources, "At least one DataSource is required");
+		Assert.noNullElements(dataSources, "dataSources must not contain null elements");
+		Assert.hasText(tablePrefix, "tablePrefix must not be null nor empty");
+		this.shardDataSources = new ArrayList<>(dataSources);
+		this.tablePrefix = tablePrefix;
+	}
+
+	/**
+	 * The maximum number of task arguments written in a single JDBC batch by the
+	 * {@link JdbcTaskExecutionDao}. Has no effect on Map based TaskExecutionDaos.
+	 * @param argumentBatchSize the batch size to use.
+	 */
+	public void setArgumentBatchSize(int argumentBatchSize) {
+		this.argumentBatchSize = argumentBatchSize;
+	}
+
+	/**
+	 * The number of rows fetched at once when streaming task executions from the
+	 * {@link JdbcTaskExecutionDao}. Has no effect on Map based TaskExecutionDaos.
+	 * @param streamFetchSize the fetch size to use.
+	 */
+	public void setStreamFetchSize(int streamFetchSize) {
+		this.streamFetchSize = streamFetchSize;
+	}
+
+	/**
+	 * Whether the {@link JdbcTaskExecutionDao} reads the archive tables of the task
+	 * repository. Has no effect on Map based TaskExecutionDaos.
+	 * @param archiveEnabled true if the archive tables are to be read.
+	 * @see JdbcTaskExecutionDao#setArchiveEnabled(boolean)
+	 */
+	public void setArchiveEnabled(boolean archiveEnabled) {
+		this.archiveEnabled = archiveEnabled;
+	}
+
+	/**
+	 * Whether the {@link JdbcTaskExecutionDao} maintains and reads the summary table of
+	 * the latest task execution of each task. Has no effect on Map based
+	 * TaskExecutionDaos.
+	 * @param latestExecutionSummaryEnabled true to use the summary table.
+	 * @see JdbcTaskExecutionDao#setLatestExecutionSummaryEnabled(boolean)
+	 */
+	public void setLatestExecutionSummaryEnabled(boolean latestExecutionSummaryEnabled) {
+		this.latestExecutionSummaryEnabled = latestExecutionSummaryEnabled;
+	}
+
+	/**
+	 * Whether the {@link JdbcTaskExecutionDao} maintains and reads the task name
+	 * registry. Has no effect on Map based TaskExecutionDaos, which always keep a sorted
+	 * set of the task names.
+	 * @param taskNameRegistryEnabled true to use the task name registry.
+	 * @see JdbcTaskExecutionDao#setTaskNameRegistryEnabled(boolean)
+	 */
+	public void setTaskNameRegistryEnabled(boolean taskNameRegistryEnabled) {
+		this.taskNameRegistryEnabled = taskNameRegistryEnabled;
+	}
+
+	/**
+	 * Whether the {@link JdbcTaskExecutionDao} maintains and reads the execution
+	 * counters. Has no effect on Map based TaskExecutionDaos, which always keep their
+	 * counts in memory.
+	 * @param executionCountersEnabled true to use the execution counters.
+	 * @see JdbcTaskExecutionDao#setExecutionCountersEnabled(boolean)
+	 */
+	public void setExecutionCountersEnabled(boolean executionCountersEnabled) {
+		this.executionCountersEnabled = executionCountersEnabled;
+	}
+
+	/**
+	 * The number of counter rows of each task name used by the
+	 * {@link JdbcTaskExecutionDao}. Has no effect on Map based TaskExecutionDaos.
+	 * @param executionCounterStripes the number of stripes.
+	 * @see JdbcTaskExecutionDao#setExecutionCounterStripes(int)
+	 */
+	public void setExecutionCounterStripes(int executionCounterStripes) {
+		this.executionCounterStripes = executionCounterStripes;
+	}
+
+	/**
+	 * The number of task execution ids reserved at once from the task sequence by the
+	 * {@link JdbcTaskExecutionDao}. Only applies to the sequences that are emulated by a
+	 * table. On MySQL the table is advanced by the block size in a single update. On the
+	 * databases that emulate the sequence with an identity column, such as HSQLDB, Sybase
+	 * or SQL Server with the {@code TASK_SEQ} table of earlier versions, the block is
+	 * still reserved with one insert per id and only the deletion of the reserved ids is
+	 * shared by the block. In both cases the reserved ids never collide with the ids
+	 * obtained by other callers of the sequence, whatever their block size. Native
+	 * sequences do not serialize their callers and keep handing out the ids one at a
+	 * time. Has no effect on Map based TaskExecutionDaos.
+	 * @param executionIdBlockSize the number of ids reserved at once.
+	 * @see AbstractColumnMaxValueIncrementer#setCacheSize(int)
+	 */
+	public void setExecutionIdBlockSize(int executionIdBlockSize) {
+		Assert.isTrue(executionIdBlockSize > 0, "executionIdBlockSize must be greater than zero");
+		this.executionIdBlockSize = executionIdBlockSize;
+	}
+
+	/**
+	 * The maximum number of completed task executions kept by a Map based
+	 * TaskExecutionDao. Has no effect on the {@link JdbcTaskExecutionDao}.
+	 * @param maxCompletedExecutions the maximum number of completed task executions or 0
+	 * to keep all of them.
+	 * @see MapTaskExecutionDao#setMaxCompletedExecutions(int)
+	 */
+	public void setMaxCompletedExecutions(int maxCompletedExecutions) {
+		Assert.isTrue(maxCompletedExecutions >= 0, "maxCompletedExecutions must not be negative");
+		this.maxCompletedExecutions = maxCompletedExecutions;
+	}
+
+	/**
+	 * The time in milliseconds that a Map based TaskExecutionDao keeps completed task
+	 * executions after their end time. Has no effect on the {@link JdbcTaskExecutionDao}.
+	 * @param completedExecutionTimeToLive the time to live or 0 to keep completed task
+	 * executions regardless of their age.
+	 * @see MapTaskExecutionDao#setCompletedExecutionTimeToLive(long)
+	 */
+	public void setCompletedExecutionTimeToLive(long completedExecutionTimeToLive) {
+		Assert.isTrue(completedExecutionTimeToLive >= 0, "completedExecutionTimeToLive must not be negative");
+		this.completedExecutionTimeToLive = completedExecutionTimeToLive;
+	}
+
+	/**
+	 * The file that a Map based TaskExecutionDao persists the task executions to. Has no
+	 * effect on the {@link JdbcTaskExecutionDao}.
+	 * @param repositoryFile the file or null to only keep task executions in memory.
+	 * @see FileTaskExecutionDao
+	 */
+	public void setRepositoryFile(Path repositoryFile) {
+		this.repositoryFile = repositoryFile;
+	}
+
+	/**
+	 * Whether every write to the repository file is forced to the storage device.
+	 * @param repositoryFileSync true to force every write to the storage device.
+	 * @see FileTaskExecutionDao#setSyncOnWrite(boolean)
+	 */
+	public void setRepositoryFileSync(boolean repositoryFileSync) {
+		this.repositoryFileSync = repositoryFileSync;
+	}
+
 	@Override
 	public TaskExecutionDao getObject() throws Exception {
 		if (this.dao == null) {
 			if (this.dataSource != null) {
-				buildTaskExecutionDao(this.dataSource);
-			}
-			else {
-				this.dao = new MapTaskExecutionDao();
-			}
-		}
-		if (this.dataSource != null) {
-			String databaseType = null;
-			try {
-				databaseType = DatabaseType.fromMetaData(dataSource).name();
+				this.dao = buildTaskExecutionDao(this.dataSource);
 			}
-			catch (MetaDataAccessException e) {
-				throw new IllegalStateException(e);
+			else if (this.shardDataSources != null) {
+				List<JdbcTaskExecutionDao> shards = new ArrayList<>(this.shardDataSources.size());
+				List<PlatformTransactionManager> transactionManagers = new ArrayList<>(this.shardDataSources.size());
+				for (DataSource shardDataSource : this.shardDataSources) {
+					shards.add(buildTaskExecutionDao(shardDataSource));
+					transactionManagers.add(new JdbcTransactionManager(shardDataSource));
+				}
+				this.dao = new ShardedTaskExecutionDao(shards, transactionManagers, null);
 			}
-			if (StringUtils.hasText(databaseType) && databaseType.equals("SQLSERVER")) {
-				String incrementerName = this.tablePrefix + "SEQ";
-				DataFieldMaxValueIncrementerFactory incrementerFactory = new DefaultDataFieldMaxValueIncrementerFactory(
-						dataSource);
-				DataFieldMaxValueIncrementer incrementer = incrementerFactory.getIncrementer(databaseType,
-						incrementerName);
-				if (!isSqlServerTableSequenceAvailable(incrementerName)) {
-					incrementer = new SqlServerSequenceMaxValueIncrementer(dataSource, this.tablePrefix + "SEQ");
+			else {
+				MapTaskExecutionDao mapTaskExecutionDao;
+				if (this.repositoryFile != null) {
+					FileTaskExecutionDao fileTaskExecutionDao = new FileTaskExecutionDao(this.repositoryFile);
+					fileTaskExecutionDao.setSyncOnWrite(this.repositoryFileSync);
+					mapTaskExecutionDao = fileTaskExecutionDao;
+				}
+				else {
+					mapTaskExecutionDao = new MapTaskExecutionDao();
 				}
-				((JdbcTaskExecutionDao) this.dao).setTaskIncrementer(incrementer);
+				mapTaskExecutionDao.setMaxCompletedExecutions(this.maxCompletedExecutions);
+				mapTaskExecutionDao.setCompletedExecutionTimeToLive(this.completedExecutionTimeToLive);
+				this.dao = mapTaskExecutionDao;
 			}
 		}
 		return this.dao;
@@ -122,10 +308,29 @@ public class TaskExecutionDaoFactoryBean implements FactoryBean<TaskExecutionDao
 		return true;
 	}
 
-	private void buildTaskExecutionDao(DataSource dataSource) {
+	@Override
+	public void destroy() throws Exception {
+		TaskExecutionDao createdDao = this.dao;
+		this.dao = null;
+		if (createdDao instanceof DisposableBean disposableBean) {
+			disposableBean.destroy();
+		}
+		else if (createdDao instanceof AutoCloseable closeable) {
+			closeable.close();
+		}
+	}
+
+	private JdbcTaskExecutionDao buildTaskExecutionDao(DataSource dataSource) {
 		DataFieldMaxValueIncrementerFactory incrementerFactory = new DefaultDataFieldMaxValueIncrementerFactory(
 				dataSource);
-		this.dao = new JdbcTaskExecutionDao(dataSource, this.tablePrefix);
+		JdbcTaskExecutionDao jdbcTaskExecutionDao = new JdbcTaskExecutionDao(dataSource, this.tablePrefix);
+		jdbcTaskExecutionDao.setArgumentBatchSize(this.argumentBatchSize);
+		jdbcTaskExecutionDao.setStreamFetchSize(this.streamFetchSize);
+		jdbcTaskExecutionDao.setArchiveEnabled(this.archiveEnabled);
+		jdbcTaskExecutionDao.setLatestExecutionSummaryEnabled(this.latestExecutionSummaryEnabled);
+		jdbcTaskExecutionDao.setTaskNameRegistryEnabled(this.taskNameRegistryEnabled);
+		jdbcTaskExecutionDao.setExecutionCountersEnabled(this.executionCountersEnabled);
+		jdbcTaskExecutionDao.setExecutionCounterStripes(this.executionCounterStripes);
 		String databaseType;
 		try {
 			databaseType = DatabaseType.fromMetaData(dataSource).name();
@@ -136,11 +341,20 @@ public class TaskExecutionDaoFactoryBean implements FactoryBean<TaskExecutionDao
 		catch (SQLException e) {
 			throw new IllegalStateException(e);
 		}
-		((JdbcTaskExecutionDao) this.dao)
-			.setTaskIncrementer(incrementerFactory.getIncrementer(databaseType, this.tablePrefix + "SEQ"));
+		String incrementerName = this.tablePrefix + "SEQ";
+		DataFieldMaxValueIncrementer incrementer = incrementerFactory.getIncrementer(databaseType, incrementerName);
+		if (StringUtils.hasText(databaseType) && databaseType.equals("SQLSERVER")
+				&& !isSqlServerTableSequenceAvailable(dataSource, incrementerName)) {
+			incrementer = new SqlServerSequenceMaxValueIncrementer(dataSource, incrementerName);
+		}
+		if (incrementer instanceof AbstractColumnMaxValueIncrementer columnIncrementer) {
+			columnIncrementer.setCacheSize(this.executionIdBlockSize);
+		}
+		jdbcTaskExecutionDao.setTaskIncrementer(incrementer);
+		return jdbcTaskExecutionDao;
 	}
 
-	private boolean isSqlServerTableSequenceAvailable(String incrementerName) {
+	private boolean isSqlServerTableSequenceAvailable(DataSource dataSource, String incrementerName) {
 		boolean result = false;
 		DatabaseMetaData metaData = null;
 		try {
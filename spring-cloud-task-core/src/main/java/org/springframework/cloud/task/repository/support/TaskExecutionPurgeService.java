@@ -0,0 +1,696 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.support;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.cloud.task.configuration.TaskProperties;
+import org.springframework.cloud.task.repository.dao.JdbcTaskExecutionDao;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Deletes the completed task executions that ended before a retention window, along
+ * with their arguments and job execution associations, from a JDBC task repository.
+ * Running task executions are never deleted.
+ * <p>
+ * The task executions are deleted in batches of {@link #setBatchSize(int)} task
+ * executions in ascending task execution id order, each batch in its own transaction, so
+ * that locks are only held for the duration of a batch. The service pauses
+ * {@link #setPauseBetweenBatches(long)} milliseconds between batches to leave room for
+ * the tasks that use the repository. When {@link #setPurgeBatchMetadata(boolean)} is
+ * enabled, the Spring Batch job executions associated with the deleted task executions
+ * are deleted along with their step executions, contexts and parameters, as are the job
+ * instances that are left without job executions.
+ * <p>
+ * The service also maintains the archive tables of the task repository:
+ * {@link #archive(Duration)} moves the completed task executions that ended before a
+ * retention window, with their arguments and job execution associations, from the
+ * {@code EXECUTION} tables to the {@code EXECUTION_ARCHIVE} tables using the same
+ * batches, so that the tables read by running tasks and by default explorer queries stay
+ * small. When {@link #setArchiveEnabled(boolean)} is enabled, a purge deletes the
+ * matching task executions from the archive tables as well. When
+ * {@link #setExecutionCountersEnabled(boolean)} is enabled, the task executions removed
+ * from the current tables are subtracted from the execution counters in the same
+ * transaction. Likewise, {@link #setLatestExecutionSummaryEnabled(boolean)} repoints the
+ * {@code EXECUTION_LATEST} rows of the removed task executions to the latest remaining
+ * task execution of their task, and {@link #setTaskNameRegistryEnabled(boolean)} removes
+ * the task names that no longer have task executions from the {@code TASK_NAMES}
+ * registry.
+ *
+ * @author agent
+ */
+public class TaskExecutionPurgeService {
+
+	/**
+	 * Default number of task executions deleted per batch.
+	 */
+	public static final int DEFAULT_BATCH_SIZE = 500;
+
+	/**
+	 * Default pause in milliseconds between two batches.
+	 */
+	public static final long DEFAULT_PAUSE_BETWEEN_BATCHES = 100;
+
+	/**
+	 * Default table prefix of the Spring Batch metadata tables.
+	 */
+	public static final String DEFAULT_BATCH_TABLE_PREFIX = "BATCH_";
+
+	/**
+	 * Maximum number of ids bound to a single IN clause. Oracle rejects IN lists with
+	 * more than 1000 entries.
+	 */
+	private static final int MAX_IN_CLAUSE_SIZE = 1000;
+
+	private static final String FIND_PURGEABLE_TASK_EXECUTION_IDS = "SELECT TASK_EXECUTION_ID "
+			+ "from %EXECUTION_TABLE% where END_TIME IS NOT NULL AND END_TIME < :endedBefore "
+			+ "AND TASK_EXECUTION_ID > :afterExecutionId ";
+
+	private static final String TASK_NAME_CONDITION = "AND TASK_NAME = :taskName ";
+
+	private static final String ORDER_BY_TASK_EXECUTION_ID = "order by TASK_EXECUTION_ID";
+
+	private static final String FIND_JOB_EXECUTION_IDS = "SELECT JOB_EXECUTION_ID "
+			+ "from %TASK_BATCH_TABLE% where TASK_EXECUTION_ID in (:taskExecutionIds)";
+
+	private static final String DELETE_TASK_EXECUTION_PARAMS = "DELETE from %PARAMS_TABLE% "
+			+ "where TASK_EXECUTION_ID in (:taskExecutionIds)";
+
+	private static final String DELETE_TASK_BATCH = "DELETE from %TASK_BATCH_TABLE% "
+			+ "where TASK_EXECUTION_ID in (:taskExecutionIds)";
+
+	private static final String DELETE_TASK_EXECUTIONS = "DELETE from %EXECUTION_TABLE% "
+			+ "where TASK_EXECUTION_ID in (:taskExecutionIds)";
+
+	private static final String ARCHIVE_TASK_EXECUTIONS = "INSERT into %PREFIX%EXECUTION_ARCHIVE ("
+			+ JdbcTaskExecutionDao.SELECT_CLAUSE + ") SELECT " + JdbcTaskExecutionDao.SELECT_CLAUSE
+			+ "from %PREFIX%EXECUTION where TASK_EXECUTION_ID in (:taskExecutionIds)";
+
+	private static final String ARCHIVE_TASK_EXECUTION_PARAMS = "INSERT into %PREFIX%EXECUTION_ARCHIVE_PARAMS "
+			+ "(TASK_EXECUTION_ID, TASK_PARAM) SELECT TASK_EXECUTION_ID, TASK_PARAM from %PREFIX%EXECUTION_PARAMS "
+			+ "where TASK_EXECUTION_ID in (:taskExecutionIds)";
+
+	private static final String ARCHIVE_TASK_BATCH = "INSERT into %PREFIX%TASK_BATCH_ARCHIVE "
+			+ "(TASK_EXECUTION_ID, JOB_EXECUTION_ID) SELECT TASK_EXECUTION_ID, JOB_EXECUTION_ID "
+			+ "from %PREFIX%TASK_BATCH where TASK_EXECUTION_ID in (:taskExecutionIds)";
+
+	private static final String COUNT_REMOVED_TASK_EXECUTIONS = "SELECT TASK_NAME, COUNT(*) AS TOTAL_COUNT, "
+			+ "SUM(CASE WHEN EXIT_CODE = 0 THEN 1 ELSE 0 END) AS SUCCEEDED_COUNT from %PREFIX%EXECUTION "
+			+ "where TASK_EXECUTION_ID in (:taskExecutionIds) AND TASK_NAME IS NOT NULL group by TASK_NAME";
+
+	private static final String UPDATE_EXECUTION_COUNTER = "UPDATE %PREFIX%EXECUTION_COUNTS set "
+			+ "TOTAL_COUNT = TOTAL_COUNT + :total, SUCCEEDED_COUNT = SUCCEEDED_COUNT + :succeeded, "
+			+ "FAILED_COUNT = FAILED_COUNT + :failed where TASK_NAME = :taskName AND STRIPE = 0";
+
+	private static final String INSERT_EXECUTION_COUNTER = "INSERT into %PREFIX%EXECUTION_COUNTS "
+			+ "(TASK_NAME, STRIPE, TOTAL_COUNT, RUNNING_COUNT, SUCCEEDED_COUNT, FAILED_COUNT) "
+			+ "values (:taskName, 0, :total, 0, :succeeded, :failed)";
+
+	private static final String FIND_REMOVED_LATEST_TASK_NAMES = "SELECT TASK_NAME from %PREFIX%EXECUTION_LATEST "
+			+ "where TASK_EXECUTION_ID in (:taskExecutionIds)";
+
+	private static final String DELETE_REMOVED_LATEST_TASK_EXECUTIONS = "DELETE from %PREFIX%EXECUTION_LATEST "
+			+ "where TASK_EXECUTION_ID in (:taskExecutionIds)";
+
+	private static final String INSERT_REMAINING_LATEST_TASK_EXECUTIONS = "INSERT into %PREFIX%EXECUTION_LATEST "
+			+ "(TASK_NAME, TASK_EXECUTION_ID, START_TIME) "
+			+ "SELECT TE.TASK_NAME, MAX(TE.TASK_EXECUTION_ID), TE.START_TIME from ("
+			+ "SELECT TASK_NAME, MAX(START_TIME) as START_TIME from %PREFIX%EXECUTION "
+			+ "where TASK_NAME in (:taskNames) group by TASK_NAME) TE_MAX inner join %PREFIX%EXECUTION TE "
+			+ "ON TE.TASK_NAME = TE_MAX.TASK_NAME AND TE.START_TIME = TE_MAX.START_TIME where NOT EXISTS ("
+			+ "SELECT TASK_NAME from %PREFIX%EXECUTION_LATEST L where L.TASK_NAME = TE.TASK_NAME) "
+			+ "group by TE.TASK_NAME, TE.START_TIME";
+
+	private static final String FIND_REMOVED_TASK_NAMES = "SELECT distinct TASK_NAME from %PREFIX%EXECUTION "
+			+ "where TASK_EXECUTION_ID in (:taskExecutionIds) AND TASK_NAME IS NOT NULL";
+
+	private static final String DELETE_UNUSED_TASK_NAMES = "DELETE from %PREFIX%TASK_NAMES "
+			+ "where TASK_NAME in (:taskNames) AND NOT EXISTS (SELECT TASK_EXECUTION_ID "
+			+ "from %PREFIX%EXECUTION E where E.TASK_NAME = %PREFIX%TASK_NAMES.TASK_NAME)";
+
+	private static final String DELETE_STEP_EXECUTION_CONTEXTS = "DELETE from %BATCH_PREFIX%STEP_EXECUTION_CONTEXT "
+			+ "where STEP_EXECUTION_ID in (SELECT STEP_EXECUTION_ID from %BATCH_PREFIX%STEP_EXECUTION "
+			+ "where JOB_EXECUTION_ID in (:jobExecutionIds))";
+
+	private static final String DELETE_STEP_EXECUTIONS = "DELETE from %BATCH_PREFIX%STEP_EXECUTION "
+			+ "where JOB_EXECUTION_ID in (:jobExecutionIds)";
+
+	private static final String DELETE_JOB_EXECUTION_CONTEXTS = "DELETE from %BATCH_PREFIX%JOB_EXECUTION_CONTEXT "
+			+ "where JOB_EXECUTION_ID in (:jobExecutionIds)";
+
+	private static final String DELETE_JOB_EXECUTION_PARAMS = "DELETE from %BATCH_PREFIX%JOB_EXECUTION_PARAMS "
+			+ "where JOB_EXECUTION_ID in (:jobExecutionIds)";
+
+	private static final String FIND_JOB_INSTANCE_IDS = "SELECT DISTINCT JOB_INSTANCE_ID "
+			+ "from %BATCH_PREFIX%JOB_EXECUTION where JOB_EXECUTION_ID in (:jobExecutionIds)";
+
+	private static final String DELETE_JOB_EXECUTIONS = "DELETE from %BATCH_PREFIX%JOB_EXECUTION "
+			+ "where JOB_EXECUTION_ID in (:jobExecutionIds)";
+
+	private static final String DELETE_ORPHAN_JOB_INSTANCES = "DELETE from %BATCH_PREFIX%JOB_INSTANCE "
+			+ "where JOB_INSTANCE_ID in (:jobInstanceIds) AND NOT EXISTS (SELECT JOB_EXECUTION_ID "
+			+ "from %BATCH_PREFIX%JOB_EXECUTION E where E.JOB_INSTANCE_ID = %BATCH_PREFIX%JOB_INSTANCE.JOB_INSTANCE_ID)";
+
+	private static final Log logger = LogFactory.getLog(TaskExecutionPurgeService.class);
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	private final NamedParameterJdbcTemplate batchQueryTemplate;
+
+	private final String tablePrefix;
+
+	private TransactionTemplate transactionTemplate;
+
+	private int batchSize = DEFAULT_BATCH_SIZE;
+
+	private long pauseBetweenBatches = DEFAULT_PAUSE_BETWEEN_BATCHES;
+
+	private boolean purgeBatchMetadata = false;
+
+	private String batchTablePrefix = DEFAULT_BATCH_TABLE_PREFIX;
+
+	private boolean archiveEnabled = false;
+
+	private boolean executionCountersEnabled = false;
+
+	private boolean latestExecutionSummaryEnabled = false;
+
+	private boolean taskNameRegistryEnabled = false;
+
+	/**
+	 * Initializes the purge service with the default table prefix.
+	 * @param dataSource the data source of the task repository.
+	 */
+	public TaskExecutionPurgeService(DataSource dataSource) {
+		this(dataSource, TaskProperties.DEFAULT_TABLE_PREFIX);
+	}
+
+	/**
+	 * Initializes the purge service.
+	 * @param dataSource the data source of the task repository.
+	 * @param tablePrefix the table prefix of the task repository.
+	 */
+	public TaskExecutionPurgeService(DataSource dataSource, String tablePrefix) {
+		Assert.notNull(dataSource, "The dataSource must not be null.");
+		Assert.hasText(tablePrefix, "tablePrefix must not be null nor empty");
+		this.jdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+		JdbcTemplate batchTemplate = new JdbcTemplate(dataSource);
+		batchTemplate.setMaxRows(this.batchSize);
+		this.batchQueryTemplate = new NamedParameterJdbcTemplate(batchTemplate);
+		this.tablePrefix = tablePrefix;
+		this.transactionTemplate = new TransactionTemplate(new JdbcTransactionManager(dataSource));
+	}
+
+	/**
+	 * Sets the number of task executions deleted per transaction. Defaults to
+	 * {@link #DEFAULT_BATCH_SIZE}.
+	 * @param batchSize the batch size, between 1 and 1000.
+	 */
+	public void setBatchSize(int batchSize) {
+		Assert.isTrue(batchSize > 0 && batchSize <= MAX_IN_CLAUSE_SIZE,
+				"batchSize must be between 1 and " + MAX_IN_CLAUSE_SIZE);
+		this.batchSize = batchSize;
+		this.batchQueryTemplate.getJdbcTemplate().setMaxRows(batchSize);
+	}
+
+	/**
+	 * Sets the time to pause between two batches. Defaults to
+	 * {@link #DEFAULT_PAUSE_BETWEEN_BATCHES}.
+	 * @param pauseBetweenBatches the pause in milliseconds or 0 to not pause.
+	 */
+	public void setPauseBetweenBatches(long pauseBetweenBatches) {
+		Assert.isTrue(pauseBetweenBatches >= 0, "pauseBetweenBatches must not be negative");
+		this.pauseBetweenBatches = pauseBetweenBatches;
+	}
+
+	/**
+	 * Sets whether the Spring Batch metadata of the job executions launched by the
+	 * deleted task executions is deleted as well. Defaults to false.
+	 * @param purgeBatchMetadata true to delete the Spring Batch metadata.
+	 */
+	public void setPurgeBatchMetadata(boolean purgeBatchMetadata) {
+		this.purgeBatchMetadata = purgeBatchMetadata;
+	}
+
+	/**
+	 * Sets the table prefix of the Spring Batch metadata tables. Defaults to
+	 * {@link #DEFAULT_BATCH_TABLE_PREFIX}.
+	 * @param batchTablePrefix the table prefix.
+	 */
+	public void setBatchTablePrefix(String batchTablePrefix) {
+		Assert.hasText(batchTablePrefix, "batchTablePrefix must not be null nor empty");
+		this.batchTablePrefix = batchTablePrefix;
+	}
+
+	/**
+	 * Sets whether the task repository has archive tables, in which case a purge also
+	 * deletes the matching task executions from the archive tables. Defaults to false.
+	 * @param archiveEnabled true to purge the archive tables as well.
+	 */
+	public void setArchiveEnabled(boolean archiveEnabled) {
+		this.archiveEnabled = archiveEnabled;
+	}
+
+	/**
+	 * Sets whether the task repository maintains execution counters, in which case the
+	 * task executions deleted or archived from the current tables are subtracted from
+	 * them. Defaults to false.
+	 * @param executionCountersEnabled true to update the execution counters.
+	 * @see JdbcTaskExecutionDao#setExecutionCountersEnabled(boolean)
+	 */
+	public void setExecutionCountersEnabled(boolean executionCountersEnabled) {
+		this.executionCountersEnabled = executionCountersEnabled;
+	}
+
+	/**
+	 * Sets whether the task repository maintains the {@code EXECUTION_LATEST} summary
+	 * table, in which case the summary rows of the task executions deleted or archived
+	 * from the current tables are repointed to the latest remaining task execution of
+	 * their task, or deleted if none remains. Defaults to false.
+	 * @param latestExecutionSummaryEnabled true to update the summary table.
+	 * @see JdbcTaskExecutionDao#setLatestExecutionSummaryEnabled(boolean)
+	 */
+	public void setLatestExecutionSummaryEnabled(boolean latestExecutionSummaryEnabled) {
+		this.latestExecutionSummaryEnabled = latestExecutionSummaryEnabled;
+	}
+
+	/**
+	 * Sets whether the task repository maintains the {@code TASK_NAMES} registry, in which
+	 * case the task names left without task executions in the current tables once a
+	 * batch is deleted or archived are removed from the registry. Defaults to false.
+	 * @param taskNameRegistryEnabled true to update the task name registry.
+	 * @see JdbcTaskExecutionDao#setTaskNameRegistryEnabled(boolean)
+	 */
+	public void setTaskNameRegistryEnabled(boolean taskNameRegistryEnabled) {
+		this.taskNameRegistryEnabled = taskNameRegistryEnabled;
+	}
+
+	/**
+	 * Sets the transaction manager used for the transaction of each batch. Defaults to a
+	 * {@link JdbcTransactionManager} for the data source.
+	 * @param transactionManager the transaction manager.
+	 */
+	public void setTransactionManager(PlatformTransactionManager transactionManager) {
+		Assert.notNull(transactionManager, "transactionManager must not be null");
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Deletes the task executions of all the tasks that completed more than the
+	 * retention window ago.
+	 * @param retention the retention window.
+	 * @return the outcome of the purge
+	 */
+	public PurgeResult purge(Duration retention) {
+		return purge(null, retention);
+	}
+
+	/**
+	 * Deletes the task executions of the provided task that completed more than the
+	 * retention window ago.
+	 * @param taskName the name of the task or null for all the tasks.
+	 * @param retention the retention window.
+	 * @return the outcome of the purge
+	 */
+	public PurgeResult purge(String taskName, Duration retention) {
+		Assert.notNull(retention, "retention must not be null");
+		Assert.isTrue(!retention.isNegative(), "retention must not be negative");
+		return purgeCompletedBefore(taskName, LocalDateTime.now().minus(retention));
+	}
+
+	/**
+	 * Deletes the task executions of the provided task that completed before the
+	 * provided time. If the calling thread is interrupted, the purge stops after the
+	 * current batch.
+	 * @param taskName the name of the task or null for all the tasks.
+	 * @param endedBefore the exclusive upper bound of the end time.
+	 * @return the outcome of the purge
+	 */
+	public PurgeResult purgeCompletedBefore(String taskName, LocalDateTime endedBefore) {
+		Assert.notNull(endedBefore, "endedBefore must not be null");
+		PurgeResult result = process(taskName, endedBefore, TaskTables.CURRENT, false);
+		if (this.archiveEnabled && !Thread.currentThread().isInterrupted()) {
+			result = result.plus(process(taskName, endedBefore, TaskTables.ARCHIVE, false));
+		}
+		logger.info(result);
+		return result;
+	}
+
+	/**
+	 * Moves the task executions of all the tasks that completed more than the retention
+	 * window ago to the archive tables.
+	 * @param retention the retention window.
+	 * @return the outcome of the archiving
+	 */
+	public PurgeResult archive(Duration retention) {
+		return archive(null, retention);
+	}
+
+	/**
+	 * Moves the task executions of the provided task that completed more than the
+	 * retention window ago to the archive tables.
+	 * @param taskName the name of the task or null for all the tasks.
+	 * @param retention the retention window.
+	 * @return the outcome of the archiving
+	 */
+	public PurgeResult archive(String taskName, Duration retention) {
+		Assert.notNull(retention, "retention must not be null");
+		Assert.isTrue(!retention.isNegative(), "retention must not be negative");
+		return archiveCompletedBefore(taskName, LocalDateTime.now().minus(retention));
+	}
+
+	/**
+	 * Moves the task executions of the provided task that completed before the provided
+	 * time to the archive tables. Spring Batch metadata is never deleted by archiving. If
+	 * the calling thread is interrupted, the archiving stops after the current batch.
+	 * @param taskName the name of the task or null for all the tasks.
+	 * @param endedBefore the exclusive upper bound of the end time.
+	 * @return the outcome of the archiving
+	 */
+	public PurgeResult archiveCompletedBefore(String taskName, LocalDateTime endedBefore) {
+		Assert.notNull(endedBefore, "endedBefore must not be null");
+		PurgeResult result = process(taskName, endedBefore, TaskTables.CURRENT, true);
+		logger.info(result);
+		return result;
+	}
+
+	/**
+	 * Deletes, or moves to the archive tables, the matching task executions of the
+	 * provided tables batch by batch.
+	 */
+	private PurgeResult process(String taskName, LocalDateTime endedBefore, TaskTables tables, boolean archive) {
+		long start = System.nanoTime();
+		long taskExecutions = 0;
+		long rows = 0;
+		int batches = 0;
+		long afterExecutionId = -1;
+		List<Long> ids = findPurgeableIds(taskName, endedBefore, afterExecutionId, tables);
+		while (!ids.isEmpty()) {
+			List<Long> batch = ids;
+			Integer deleted = this.transactionTemplate
+				.execute((status) -> archive ? archiveBatch(batch) : deleteBatch(batch, tables));
+			taskExecutions += ids.size();
+			rows += (deleted != null) ? deleted : 0;
+			batches++;
+			if (logger.isDebugEnabled()) {
+				logger.debug((archive ? "Archived" : "Purged") + " batch " + batches + " of " + ids.size()
+						+ " task executions");
+			}
+			if (ids.size() < this.batchSize || !pause()) {
+				break;
+			}
+			afterExecutionId = ids.get(ids.size() - 1);
+			ids = findPurgeableIds(taskName, endedBefore, afterExecutionId, tables);
+		}
+		return new PurgeResult(archive, taskExecutions, rows, batches, Duration.ofNanos(System.nanoTime() - start));
+	}
+
+	private List<Long> findPurgeableIds(String taskName, LocalDateTime endedBefore, long afterExecutionId,
+			TaskTables tables) {
+		MapSqlParameterSource queryParameters = new MapSqlParameterSource()
+			.addValue("endedBefore", Timestamp.valueOf(endedBefore), Types.TIMESTAMP)
+			.addValue("afterExecutionId", afterExecutionId, Types.BIGINT);
+		String query = FIND_PURGEABLE_TASK_EXECUTION_IDS;
+		if (StringUtils.hasText(taskName)) {
+			query += TASK_NAME_CONDITION;
+			queryParameters.addValue("taskName", taskName, Types.VARCHAR);
+		}
+		// the maximum number of rows of the template limits the batch in a portable way
+		return this.batchQueryTemplate.queryForList(getQuery(query + ORDER_BY_TASK_EXECUTION_ID, tables),
+				queryParameters, Long.class);
+	}
+
+	/**
+	 * Copies the task executions and their children rows to the archive tables before
+	 * deleting them from the current tables.
+	 * @return the number of rows deleted from the current tables
+	 */
+	private int archiveBatch(List<Long> taskExecutionIds) {
+		MapSqlParameterSource parameters = new MapSqlParameterSource("taskExecutionIds", taskExecutionIds);
+		this.jdbcTemplate.update(getQuery(ARCHIVE_TASK_EXECUTIONS, TaskTables.CURRENT), parameters);
+		this.jdbcTemplate.update(getQuery(ARCHIVE_TASK_EXECUTION_PARAMS, TaskTables.CURRENT), parameters);
+		this.jdbcTemplate.update(getQuery(ARCHIVE_TASK_BATCH, TaskTables.CURRENT), parameters);
+		return deleteTaskExecutions(parameters, TaskTables.CURRENT);
+	}
+
+	/**
+	 * Deletes the task executions, their children rows and optionally their Spring Batch
+	 * metadata.
+	 * @return the total number of deleted rows
+	 */
+	private int deleteBatch(List<Long> taskExecutionIds, TaskTables tables) {
+		MapSqlParameterSource parameters = new MapSqlParameterSource("taskExecutionIds", taskExecutionIds);
+		int rows = 0;
+		if (this.purgeBatchMetadata) {
+			List<Long> jobExecutionIds = this.jdbcTemplate.queryForList(getQuery(FIND_JOB_EXECUTION_IDS, tables),
+					parameters, Long.class);
+			for (int i = 0; i < jobExecutionIds.size(); i += MAX_IN_CLAUSE_SIZE) {
+				rows += deleteJobExecutions(
+						jobExecutionIds.subList(i, Math.min(i + MAX_IN_CLAUSE_SIZE, jobExecutionIds.size())));
+			}
+		}
+		return rows + deleteTaskExecutions(parameters, tables);
+	}
+
+	private int deleteTaskExecutions(MapSqlParameterSource parameters, TaskTables tables) {
+		boolean current = tables == TaskTables.CURRENT;
+		if (this.executionCountersEnabled && current) {
+			subtractFromExecutionCounters(parameters);
+		}
+		List<String> latestTaskNames = (this.latestExecutionSummaryEnabled && current) ? this.jdbcTemplate
+			.queryForList(getQuery(FIND_REMOVED_LATEST_TASK_NAMES), parameters, String.class) : List.of();
+		List<String> removedTaskNames = (this.taskNameRegistryEnabled && current)
+				? this.jdbcTemplate.queryForList(getQuery(FIND_REMOVED_TASK_NAMES), parameters, String.class)
+				: List.of();
+		int rows = this.jdbcTemplate.update(getQuery(DELETE_TASK_EXECUTION_PARAMS, tables), parameters);
+		rows += this.jdbcTemplate.update(getQuery(DELETE_TASK_BATCH, tables), parameters);
+		rows += this.jdbcTemplate.update(getQuery(DELETE_TASK_EXECUTIONS, tables), parameters);
+		if (!latestTaskNames.isEmpty()) {
+			repointLatestTaskExecutions(parameters, latestTaskNames);
+		}
+		if (!removedTaskNames.isEmpty()) {
+			this.jdbcTemplate.update(getQuery(DELETE_UNUSED_TASK_NAMES),
+					new MapSqlParameterSource("taskNames", removedTaskNames));
+		}
+		return rows;
+	}
+
+	/**
+	 * Replaces the summary rows that pointed to the removed task executions with the
+	 * latest remaining task execution of their task, picked as the summary of the
+	 * {@link JdbcTaskExecutionDao} does. The tasks that have no task execution left lose
+	 * their summary row.
+	 */
+	private void repointLatestTaskExecutions(MapSqlParameterSource parameters, List<String> taskNames) {
+		this.jdbcTemplate.update(getQuery(DELETE_REMOVED_LATEST_TASK_EXECUTIONS), parameters);
+		this.jdbcTemplate.update(getQuery(INSERT_REMAINING_LATEST_TASK_EXECUTIONS),
+				new MapSqlParameterSource("taskNames", taskNames));
+	}
+
+	/**
+	 * Subtracts the completed task executions about to be removed from the current tables
+	 * from the first counter stripe of their task, since only the sum of the stripes is
+	 * meaningful.
+	 */
+	private void subtractFromExecutionCounters(MapSqlParameterSource parameters) {
+		List<Map<String, Object>> counts = this.jdbcTemplate.queryForList(getQuery(COUNT_REMOVED_TASK_EXECUTIONS),
+				parameters);
+		for (Map<String, Object> count : counts) {
+			long total = ((Number) count.get("TOTAL_COUNT")).longValue();
+			long succeeded = ((Number) count.get("SUCCEEDED_COUNT")).longValue();
+			MapSqlParameterSource counterParameters = new MapSqlParameterSource()
+				.addValue("taskName", count.get("TASK_NAME"), Types.VARCHAR)
+				.addValue("total", -total, Types.BIGINT)
+				.addValue("succeeded", -succeeded, Types.BIGINT)
+				.addValue("failed", succeeded - total, Types.BIGINT);
+			if (this.jdbcTemplate.update(getQuery(UPDATE_EXECUTION_COUNTER), counterParameters) == 0) {
+				try {
+					this.jdbcTemplate.update(getQuery(INSERT_EXECUTION_COUNTER), counterParameters);
+				}
+				catch (DuplicateKeyException e) {
+					// the stripe was concurrently created
+					this.jdbcTemplate.update(getQuery(UPDATE_EXECUTION_COUNTER), counterParameters);
+				}
+			}
+		}
+	}
+
+	private int deleteJobExecutions(List<Long> jobExecutionIds) {
+		MapSqlParameterSource parameters = new MapSqlParameterSource("jobExecutionIds", jobExecutionIds);
+		List<Long> jobInstanceIds = this.jdbcTemplate.queryForList(getQuery(FIND_JOB_INSTANCE_IDS), parameters,
+				Long.class);
+		int rows = this.jdbcTemplate.update(getQuery(DELETE_STEP_EXECUTION_CONTEXTS), parameters);
+		rows += this.jdbcTemplate.update(getQuery(DELETE_STEP_EXECUTIONS), parameters);
+		rows += this.jdbcTemplate.update(getQuery(DELETE_JOB_EXECUTION_CONTEXTS), parameters);
+		rows += this.jdbcTemplate.update(getQuery(DELETE_JOB_EXECUTION_PARAMS), parameters);
+		rows += this.jdbcTemplate.update(getQuery(DELETE_JOB_EXECUTIONS), parameters);
+		if (!jobInstanceIds.isEmpty()) {
+			rows += this.jdbcTemplate.update(getQuery(DELETE_ORPHAN_JOB_INSTANCES),
+					new MapSqlParameterSource("jobInstanceIds", jobInstanceIds));
+		}
+		return rows;
+	}
+
+	/**
+	 * Pauses between two batches.
+	 * @return false if the thread was interrupted
+	 */
+	private boolean pause() {
+		if (this.pauseBetweenBatches == 0) {
+			return !Thread.currentThread().isInterrupted();
+		}
+		try {
+			TimeUnit.MILLISECONDS.sleep(this.pauseBetweenBatches);
+			return true;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+
+	private String getQuery(String base) {
+		return StringUtils.replace(StringUtils.replace(base, "%PREFIX%", this.tablePrefix), "%BATCH_PREFIX%",
+				this.batchTablePrefix);
+	}
+
+	private String getQuery(String base, TaskTables tables) {
+		String query = StringUtils.replace(base, "%EXECUTION_TABLE%", tables.executionTable);
+		query = StringUtils.replace(query, "%PARAMS_TABLE%", tables.paramsTable);
+		return getQuery(StringUtils.replace(query, "%TASK_BATCH_TABLE%", tables.taskBatchTable));
+	}
+
+	/**
+	 * The tables that hold the task executions and their children rows.
+	 */
+	private enum TaskTables {
+
+		CURRENT("%PREFIX%EXECUTION", "%PREFIX%EXECUTION_PARAMS", "%PREFIX%TASK_BATCH"),
+
+		ARCHIVE("%PREFIX%EXECUTION_ARCHIVE", "%PREFIX%EXECUTION_ARCHIVE_PARAMS", "%PREFIX%TASK_BATCH_ARCHIVE");
+
+		private final String executionTable;
+
+		private final String paramsTable;
+
+		private final String taskBatchTable;
+
+		TaskTables(String executionTable, String paramsTable, String taskBatchTable) {
+			this.executionTable = executionTable;
+			this.paramsTable = paramsTable;
+			this.taskBatchTable = taskBatchTable;
+		}
+
+	}
+
+	/**
+	 * The outcome of a purge or of an archiving.
+	 */
+	public static final class PurgeResult {
+
+		private final boolean archive;
+
+		private final long deletedTaskExecutions;
+
+		private final long deletedRows;
+
+		private final int batches;
+
+		private final Duration duration;
+
+		PurgeResult(boolean archive, long deletedTaskExecutions, long deletedRows, int batches, Duration duration) {
+			this.archive = archive;
+			this.deletedTaskExecutions = deletedTaskExecutions;
+			this.deletedRows = deletedRows;
+			this.batches = batches;
+			this.duration = duration;
+		}
+
+		/**
+		 * The number of deleted task executions, or of task executions moved to the
+		 * archive tables by an archiving.
+		 * @return the number of task executions
+		 */
+		public long getDeletedTaskExecutions() {
+			return this.deletedTaskExecutions;
+		}
+
+		/**
+		 * The number of rows deleted from all the tables, including the task executions.
+		 * Rows copied to the archive tables are not counted.
+		 * @return the number of rows
+		 */
+		public long getDeletedRows() {
+			return this.deletedRows;
+		}
+
+		public int getBatches() {
+			return this.batches;
+		}
+
+		/**
+		 * The time taken by the purge, including the pauses between batches.
+		 * @return the duration
+		 */
+		public Duration getDuration() {
+			return this.duration;
+		}
+
+		/**
+		 * The deletion throughput of the purge.
+		 * @return the number of deleted rows per second
+		 */
+		public double getRowsPerSecond() {
+			long nanos = this.duration.toNanos();
+			return (nanos > 0) ? this.deletedRows * 1e9 / nanos : 0;
+		}
+
+		private PurgeResult plus(PurgeResult other) {
+			return new PurgeResult(this.archive, this.deletedTaskExecutions + other.deletedTaskExecutions,
+					this.deletedRows + other.deletedRows, this.batches + other.batches,
+					this.duration.plus(other.duration));
+		}
+
+		@Override
+		public String toString() {
+			return String.format((this.archive ? "Archived" : "Purged") + " %d task executions (%d rows) in %d batches and %d ms, %.1f rows/s",
+					this.deletedTaskExecutions, this.deletedRows, this.batches, this.duration.toMillis(),
+					getRowsPerSecond());
+		}
+
+	}
+
+}
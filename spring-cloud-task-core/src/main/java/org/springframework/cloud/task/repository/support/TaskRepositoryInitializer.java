@@ -27,7 +27,10 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cloud.task.configuration.TaskProperties;
+import org.springframework.context.ApplicationStartupAware;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
 import org.springframework.jdbc.datasource.init.DatabasePopulatorUtils;
 import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.jdbc.support.JdbcUtils;
@@ -48,7 +51,7 @@ import org.springframework.jdbc.support.MetaDataAccessException;
  * @author Michael Minella
  */
 
-public final class TaskRepositoryInitializer implements InitializingBean {
+public final class TaskRepositoryInitializer implements InitializingBean, ApplicationStartupAware {
 
 	private static final Log logger = LogFactory.getLog(TaskRepositoryInitializer.class);
 
@@ -69,6 +72,8 @@ public final class TaskRepositoryInitializer implements InitializingBean {
 
 	private TaskProperties taskProperties;
 
+	private ApplicationStartup applicationStartup = ApplicationStartup.DEFAULT;
+
 	public TaskRepositoryInitializer(TaskProperties taskProperties) {
 		this.taskProperties = taskProperties;
 	}
@@ -82,6 +87,11 @@ public final class TaskRepositoryInitializer implements InitializingBean {
 		this.resourceLoader = resourceLoader;
 	}
 
+	@Override
+	public void setApplicationStartup(ApplicationStartup applicationStartup) {
+		this.applicationStartup = applicationStartup;
+	}
+
 	private String getDatabaseType(DataSource dataSource) {
 		try {
 			return JdbcUtils.commonDatabaseName(DatabaseType.fromMetaData(dataSource).toString()).toLowerCase();
@@ -100,30 +110,45 @@ public final class TaskRepositoryInitializer implements InitializingBean {
 				? this.taskProperties.isInitializeEnabled() : this.taskInitializationEnabled;
 		if (this.dataSource != null && isInitializeEnabled
 				&& this.taskProperties.getTablePrefix().equals(TaskProperties.DEFAULT_TABLE_PREFIX)) {
-			String platform = getDatabaseType(this.dataSource);
-			if ("hsql".equals(platform)) {
-				platform = "hsqldb";
+			StartupStep step = this.applicationStartup.start("spring.cloud.task.repository.schema");
+			try {
+				step.tag("platform", initializeSchema());
 			}
-			if ("postgres".equals(platform)) {
-				platform = "postgresql";
+			finally {
+				step.end();
 			}
-			if ("oracle".equals(platform)) {
-				platform = "oracle";
-			}
-			if ("mysql".equals(platform)) {
-				platform = "mysql";
-			}
-			if ("sqlserver".equals(platform)) {
-				platform = "sqlserver";
-			}
-			ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
-			String schemaLocation = schema;
-			schemaLocation = schemaLocation.replace("@@platform@@", platform);
-			populator.addScript(this.resourceLoader.getResource(schemaLocation));
-			populator.setContinueOnError(true);
-			logger.debug(String.format("Initializing task schema for %s database", platform));
-			DatabasePopulatorUtils.execute(populator, this.dataSource);
 		}
 	}
 
+	/**
+	 * Runs the schema script of the platform of the task {@link DataSource}.
+	 * @return the platform of the task {@link DataSource}
+	 */
+	private String initializeSchema() {
+		String platform = getDatabaseType(this.dataSource);
+		if ("hsql".equals(platform)) {
+			platform = "hsqldb";
+		}
+		if ("postgres".equals(platform)) {
+			platform = "postgresql";
+		}
+		if ("oracle".equals(platform)) {
+			platform = "oracle";
+		}
+		if ("mysql".equals(platform)) {
+			platform = "mysql";
+		}
+		if ("sqlserver".equals(platform)) {
+			platform = "sqlserver";
+		}
+		ResourceDatabasePopulator populator = new ResourceDatabasePopulator();
+		String schemaLocation = schema;
+		schemaLocation = schemaLocation.replace("@@platform@@", platform);
+		populator.addScript(this.resourceLoader.getResource(schemaLocation));
+		populator.setContinueOnError(true);
+		logger.debug(String.format("Initializing task schema for %s database", platform));
+		DatabasePopulatorUtils.execute(populator, this.dataSource);
+		return platform;
+	}
+
 }
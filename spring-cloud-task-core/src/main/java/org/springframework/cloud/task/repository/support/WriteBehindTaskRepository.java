@@ -0,0 +1,393 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.support;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.dao.TaskExecutionDao;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.Assert;
+import org.springframework.util.CustomizableThreadFactory;
+
+/**
+ * {@link SimpleTaskRepository} that records task executions asynchronously so that
+ * the task does not wait for the task repository on its startup and shutdown path.
+ * Task execution ids are obtained up front from the {@link TaskExecutionDao} and the
+ * writes are queued to a single background writer.
+ * <p>
+ * Creation: creating a task execution waits until the writer has committed it, so that
+ * the rows that reference the task execution, such as the association of a batch job
+ * execution with the task execution, can be written as soon as the task execution is
+ * returned. Only the start, the completion and the external execution id updates are
+ * written behind.
+ * <p>
+ * Ordering: writes are applied in the order they were submitted to this repository, so
+ * a task execution is always created before it is started and started before it is
+ * completed. Reads made through a {@code TaskExplorer} may not observe writes that are
+ * still queued. Each write runs on the writer thread, outside of the caller's
+ * transaction, in its own transaction of the transaction manager set through
+ * {@link #setTransactionManager(PlatformTransactionManager)}.
+ * <p>
+ * Failure behavior: a write that fails is retried on the writer thread, which holds back
+ * the writes queued after it, until it succeeds or the maximum number of attempts is
+ * reached. Queued writes are flushed when this repository is stopped or destroyed,
+ * waiting at most the flush timeout. Writes that failed on every attempt or that are
+ * still queued when the timeout expires are reported by an
+ * {@link IllegalStateException} thrown when this repository is stopped or destroyed.
+ * Writes still queued when the JVM terminates abruptly are lost. The task execution may
+ * then be missing from the task repository or appear to be still running.
+ *
+ * @author agent
+ */
+public class WriteBehindTaskRepository extends SimpleTaskRepository implements SmartLifecycle, DisposableBean {
+
+	/**
+	 * Default maximum time in milliseconds to wait for queued writes on shutdown.
+	 */
+	public static final long DEFAULT_FLUSH_TIMEOUT = 10000;
+
+	/**
+	 * Default number of times a write is attempted before it is given up.
+	 */
+	public static final int DEFAULT_MAX_WRITE_ATTEMPTS = 3;
+
+	/**
+	 * Default time in milliseconds to wait before attempting a failed write again.
+	 */
+	public static final long DEFAULT_RETRY_INTERVAL = 1000;
+
+	private static final String TRANSACTION_MANAGER = "${spring.cloud.task.transaction-manager:"
+			+ "springCloudTaskTransactionManager}";
+
+	private static final Log logger = LogFactory.getLog(WriteBehindTaskRepository.class);
+
+	private final ExecutorService writer;
+
+	private final AtomicInteger failedWrites = new AtomicInteger();
+
+	private TransactionTemplate transactionTemplate;
+
+	private long flushTimeout = DEFAULT_FLUSH_TIMEOUT;
+
+	private int maxWriteAttempts = DEFAULT_MAX_WRITE_ATTEMPTS;
+
+	private long retryInterval = DEFAULT_RETRY_INTERVAL;
+
+	private volatile RuntimeException writeFailure;
+
+	private volatile boolean running;
+
+	public WriteBehindTaskRepository(FactoryBean<TaskExecutionDao> taskExecutionDaoFactoryBean) {
+		super(taskExecutionDaoFactoryBean);
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("task-repository-writer-");
+		threadFactory.setDaemon(true);
+		this.writer = Executors.newSingleThreadExecutor(threadFactory);
+	}
+
+	/**
+	 * Sets the maximum time in milliseconds to wait for queued writes when this
+	 * repository is stopped.
+	 * @param flushTimeout the timeout in milliseconds, must not be negative.
+	 */
+	public void setFlushTimeout(long flushTimeout) {
+		Assert.isTrue(flushTimeout >= 0, "flushTimeout must not be negative");
+		this.flushTimeout = flushTimeout;
+	}
+
+	/**
+	 * Sets the transaction manager that each write is applied with. The writes are
+	 * applied without a transaction when none is set.
+	 * @param transactionManager the transaction manager of the task repository.
+	 */
+	public void setTransactionManager(PlatformTransactionManager transactionManager) {
+		Assert.notNull(transactionManager, "transactionManager must not be null");
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Sets the number of times a write is attempted before it is given up.
+	 * @param maxWriteAttempts the number of attempts, must be greater than zero.
+	 */
+	public void setMaxWriteAttempts(int maxWriteAttempts) {
+		Assert.isTrue(maxWriteAttempts > 0, "maxWriteAttempts must be greater than zero");
+		this.maxWriteAttempts = maxWriteAttempts;
+	}
+
+	/**
+	 * Sets the time in milliseconds to wait before attempting a failed write again.
+	 * @param retryInterval the interval in milliseconds, must not be negative.
+	 */
+	public void setRetryInterval(long retryInterval) {
+		Assert.isTrue(retryInterval >= 0, "retryInterval must not be negative");
+		this.retryInterval = retryInterval;
+	}
+
+	/**
+	 * Queues the creation and waits for it, since the returned task execution may be
+	 * referenced by other rows of the task repository.
+	 */
+	@Override
+	@Transactional(value = TRANSACTION_MANAGER, propagation = Propagation.NOT_SUPPORTED)
+	public TaskExecution createTaskExecution(TaskExecution taskExecution) {
+		validateCreateInformation(taskExecution);
+		TaskExecution newTaskExecution = new TaskExecution(getTaskExecutionDao().getNextExecutionId(), null,
+				taskExecution.getTaskName(), taskExecution.getStartTime(), null, null,
+				new ArrayList<>(taskExecution.getArguments()), null, taskExecution.getExternalExecutionId(),
+				taskExecution.getParentExecutionId());
+		return await(save(newTaskExecution));
+	}
+
+	/**
+	 * Queues the creation and waits for it, since the returned task execution may be
+	 * referenced by other rows of the task repository.
+	 */
+	@Override
+	@Transactional(value = TRANSACTION_MANAGER, propagation = Propagation.NOT_SUPPORTED)
+	public TaskExecution createTaskExecution(String name) {
+		return await(save(new TaskExecution(getTaskExecutionDao().getNextExecutionId(), null, name, null, null,
+				null, Collections.emptyList(), null, null)));
+	}
+
+	@Override
+	@Transactional(value = TRANSACTION_MANAGER, propagation = Propagation.NOT_SUPPORTED)
+	public TaskExecution startTaskExecution(long executionid, String taskName, LocalDateTime startTime,
+			List<String> arguments, String externalExecutionId, Long parentExecutionId) {
+		List<String> startArguments = (arguments != null) ? new ArrayList<>(arguments) : new ArrayList<>();
+		submit(() -> super.startTaskExecution(executionid, taskName, startTime, startArguments, externalExecutionId,
+				parentExecutionId));
+		return new TaskExecution(executionid, null, taskName, startTime, null, null, startArguments, null,
+				externalExecutionId, parentExecutionId);
+	}
+
+	@Override
+	@Transactional(value = TRANSACTION_MANAGER, propagation = Propagation.NOT_SUPPORTED)
+	public TaskExecution completeTaskExecution(TaskExecution taskExecution) {
+		TaskExecution completedTaskExecution = prepareCompletedTaskExecution(taskExecution);
+		submit(() -> super.completeTaskExecution(completedTaskExecution));
+		return completedTaskExecution;
+	}
+
+	/**
+	 * Queues the completion and waits for it, since the returned task execution is read
+	 * back from the task repository.
+	 */
+	@Override
+	@Transactional(value = TRANSACTION_MANAGER, propagation = Propagation.NOT_SUPPORTED)
+	public TaskExecution completeTaskExecution(long executionId, Integer exitCode, LocalDateTime endTime,
+			String exitMessage, String errorMessage) {
+		return await(submit(
+				() -> super.completeTaskExecution(executionId, exitCode, endTime, exitMessage, errorMessage)));
+	}
+
+	@Override
+	@Transactional(value = TRANSACTION_MANAGER, propagation = Propagation.NOT_SUPPORTED)
+	public void updateExternalExecutionId(long executionid, String externalExecutionId) {
+		submit(() -> {
+			super.updateExternalExecutionId(executionid, externalExecutionId);
+			return null;
+		});
+	}
+
+	/**
+	 * Waits for the writes queued so far to be applied.
+	 * @param timeout the maximum time to wait in milliseconds.
+	 * @return true if the queued writes were applied within the timeout.
+	 */
+	public boolean flush(long timeout) {
+		Future<?> marker;
+		try {
+			marker = this.writer.submit(() -> {
+			});
+		}
+		catch (RejectedExecutionException ex) {
+			return this.writer.isTerminated();
+		}
+		try {
+			marker.get(timeout, TimeUnit.MILLISECONDS);
+			return true;
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			return false;
+		}
+		catch (ExecutionException | TimeoutException ex) {
+			return false;
+		}
+	}
+
+	@Override
+	public void start() {
+		this.running = true;
+	}
+
+	/**
+	 * Flushes the queued writes.
+	 * @throws IllegalStateException if some writes could not be applied
+	 */
+	@Override
+	public void stop() {
+		this.running = false;
+		shutdown();
+	}
+
+	@Override
+	public void stop(Runnable callback) {
+		try {
+			stop();
+		}
+		finally {
+			callback.run();
+		}
+	}
+
+	@Override
+	public boolean isRunning() {
+		return this.running;
+	}
+
+	/**
+	 * Stopped after the {@code TaskLifecycleListener} so that the end of the task is
+	 * flushed while the task repository is still available.
+	 */
+	@Override
+	public int getPhase() {
+		return -1000;
+	}
+
+	/**
+	 * Flushes the queued writes if this repository has not been stopped.
+	 * @throws IllegalStateException if some writes could not be applied
+	 */
+	@Override
+	public void destroy() {
+		shutdown();
+	}
+
+	private void shutdown() {
+		if (this.writer.isShutdown()) {
+			return;
+		}
+		this.writer.shutdown();
+		try {
+			if (!this.writer.awaitTermination(this.flushTimeout, TimeUnit.MILLISECONDS)) {
+				List<Runnable> pending = this.writer.shutdownNow();
+				this.failedWrites.addAndGet(pending.size());
+				logger.warn("Timed out after " + this.flushTimeout + "ms waiting for the task repository writes, "
+						+ pending.size() + " queued writes were discarded");
+			}
+		}
+		catch (InterruptedException ex) {
+			List<Runnable> pending = this.writer.shutdownNow();
+			this.failedWrites.addAndGet(pending.size());
+			logger.warn("Interrupted while waiting for the task repository writes, " + pending.size()
+					+ " queued writes were discarded");
+			Thread.currentThread().interrupt();
+		}
+		int failed = this.failedWrites.get();
+		if (failed > 0) {
+			throw new IllegalStateException(failed + " writes could not be applied to the task repository",
+					this.writeFailure);
+		}
+	}
+
+	private Future<TaskExecution> save(TaskExecution taskExecution) {
+		return submit(() -> {
+			getTaskExecutionDao().saveTaskExecution(taskExecution);
+			logger.debug("Creating: " + taskExecution);
+			return taskExecution;
+		});
+	}
+
+	private <T> Future<T> submit(Supplier<T> write) {
+		try {
+			return this.writer.submit(() -> apply(write));
+		}
+		catch (RejectedExecutionException ex) {
+			throw new IllegalStateException("The task repository has been shut down", ex);
+		}
+	}
+
+	private <T> T apply(Supplier<T> write) {
+		for (int attempt = 1;; attempt++) {
+			try {
+				return (this.transactionTemplate != null) ? this.transactionTemplate.execute((status) -> write.get())
+						: write.get();
+			}
+			catch (RuntimeException ex) {
+				if (attempt >= this.maxWriteAttempts) {
+					logger.error("Unable to write to the task repository after " + attempt + " attempts", ex);
+					recordFailure(ex);
+					throw ex;
+				}
+				logger.warn("Unable to write to the task repository, retrying in " + this.retryInterval + "ms", ex);
+				try {
+					Thread.sleep(this.retryInterval);
+				}
+				catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					recordFailure(ex);
+					throw ex;
+				}
+			}
+		}
+	}
+
+	private void recordFailure(RuntimeException ex) {
+		if (this.failedWrites.getAndIncrement() == 0) {
+			this.writeFailure = ex;
+		}
+	}
+
+	private static <T> T await(Future<T> future) {
+		try {
+			return future.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Interrupted while waiting for the task repository", ex);
+		}
+		catch (ExecutionException ex) {
+			if (ex.getCause() instanceof RuntimeException) {
+				throw (RuntimeException) ex.getCause();
+			}
+			throw new IllegalStateException("Unable to write to the task repository", ex.getCause());
+		}
+	}
+
+}
@@ -0,0 +1,8 @@
+/* The indexes are built in place without locking the task tables for writes. */
+CREATE INDEX TASK_EXEC_NAME_START_IX ON TASK_EXECUTION (TASK_NAME, START_TIME DESC, TASK_EXECUTION_ID DESC) ALGORITHM=INPLACE LOCK=NONE;
+CREATE INDEX TASK_EXEC_START_IX ON TASK_EXECUTION (START_TIME DESC, TASK_EXECUTION_ID DESC) ALGORITHM=INPLACE LOCK=NONE;
+CREATE INDEX TASK_EXEC_RUNNING_IX ON TASK_EXECUTION (END_TIME, TASK_NAME) ALGORITHM=INPLACE LOCK=NONE;
+CREATE INDEX TASK_EXEC_EXTERNAL_ID_IX ON TASK_EXECUTION (EXTERNAL_EXECUTION_ID) ALGORITHM=INPLACE LOCK=NONE;
+CREATE INDEX TASK_EXEC_PARAMS_IX ON TASK_EXECUTION_PARAMS (TASK_EXECUTION_ID) ALGORITHM=INPLACE LOCK=NONE;
+CREATE INDEX TASK_BATCH_JOB_EXEC_IX ON TASK_TASK_BATCH (JOB_EXECUTION_ID, TASK_EXECUTION_ID) ALGORITHM=INPLACE LOCK=NONE;
+CREATE INDEX TASK_BATCH_TASK_EXEC_IX ON TASK_TASK_BATCH (TASK_EXECUTION_ID, JOB_EXECUTION_ID) ALGORITHM=INPLACE LOCK=NONE;
@@ -0,0 +1,9 @@
+/* CREATE INDEX CONCURRENTLY does not block writes to the task tables but cannot run
+inside a transaction block, execute each statement on its own. */
+CREATE INDEX CONCURRENTLY TASK_EXEC_NAME_START_IX ON TASK_EXECUTION (TASK_NAME, START_TIME DESC, TASK_EXECUTION_ID DESC);
+CREATE INDEX CONCURRENTLY TASK_EXEC_START_IX ON TASK_EXECUTION (START_TIME DESC, TASK_EXECUTION_ID DESC);
+CREATE INDEX CONCURRENTLY TASK_EXEC_RUNNING_IX ON TASK_EXECUTION (TASK_NAME, START_TIME) WHERE END_TIME IS NULL;
+CREATE INDEX CONCURRENTLY TASK_EXEC_EXTERNAL_ID_IX ON TASK_EXECUTION (EXTERNAL_EXECUTION_ID);
+CREATE INDEX CONCURRENTLY TASK_EXEC_PARAMS_IX ON TASK_EXECUTION_PARAMS (TASK_EXECUTION_ID);
+CREATE INDEX CONCURRENTLY TASK_BATCH_JOB_EXEC_IX ON TASK_TASK_BATCH (JOB_EXECUTION_ID, TASK_EXECUTION_ID);
+CREATE INDEX CONCURRENTLY TASK_BATCH_TASK_EXEC_IX ON TASK_TASK_BATCH (TASK_EXECUTION_ID, JOB_EXECUTION_ID);
@@ -0,0 +1,82 @@
+/* Optional tables of the task repository, which the task schema does not create. Each
+section is only needed by the matching feature and can be run on its own, on a new or an
+existing task repository. */
+
+/* Archive tables, filled by TaskExecutionPurgeService.archive and read when
+spring.cloud.task.archive-enabled is set. */
+CREATE TABLE TASK_EXECUTION_ARCHIVE  (
+	TASK_EXECUTION_ID BIGINT  NOT NULL PRIMARY KEY ,
+	START_TIME TIMESTAMP(9) DEFAULT NULL ,
+	END_TIME TIMESTAMP(9) DEFAULT NULL ,
+	TASK_NAME  VARCHAR(100) ,
+	EXIT_CODE INTEGER ,
+	EXIT_MESSAGE VARCHAR(2500) ,
+	ERROR_MESSAGE VARCHAR(2500) ,
+	LAST_UPDATED TIMESTAMP(9),
+	EXTERNAL_EXECUTION_ID VARCHAR(255),
+	PARENT_EXECUTION_ID BIGINT
+);
+
+CREATE TABLE TASK_EXECUTION_ARCHIVE_PARAMS  (
+	TASK_EXECUTION_ID BIGINT NOT NULL ,
+	TASK_PARAM VARCHAR(2500) ,
+	constraint TASK_EXEC_ARCH_PARAMS_FK foreign key (TASK_EXECUTION_ID)
+	references TASK_EXECUTION_ARCHIVE(TASK_EXECUTION_ID)
+) ;
+
+CREATE TABLE TASK_TASK_BATCH_ARCHIVE (
+  TASK_EXECUTION_ID BIGINT NOT NULL ,
+  JOB_EXECUTION_ID BIGINT NOT NULL ,
+	constraint TASK_EXEC_ARCH_BATCH_FK foreign key (TASK_EXECUTION_ID)
+	references TASK_EXECUTION_ARCHIVE(TASK_EXECUTION_ID)
+) ;
+
+CREATE INDEX TASK_EXEC_ARCH_NAME_START_IX ON TASK_EXECUTION_ARCHIVE (TASK_NAME, START_TIME DESC, TASK_EXECUTION_ID DESC);
+CREATE INDEX TASK_EXEC_ARCH_START_IX ON TASK_EXECUTION_ARCHIVE (START_TIME DESC, TASK_EXECUTION_ID DESC);
+CREATE INDEX TASK_EXEC_ARCH_PARAMS_IX ON TASK_EXECUTION_ARCHIVE_PARAMS (TASK_EXECUTION_ID);
+CREATE INDEX TASK_BATCH_ARCH_JOB_EXEC_IX ON TASK_TASK_BATCH_ARCHIVE (JOB_EXECUTION_ID, TASK_EXECUTION_ID);
+CREATE INDEX TASK_BATCH_ARCH_TASK_EXEC_IX ON TASK_TASK_BATCH_ARCHIVE (TASK_EXECUTION_ID, JOB_EXECUTION_ID);
+
+/* Summary of the latest task execution of each task, read when
+spring.cloud.task.latest-execution-summary-enabled is set. The INSERT backfills it from the
+existing task executions, run it again after emptying the table if the summary was not
+maintained for a while. */
+CREATE TABLE TASK_EXECUTION_LATEST  (
+	TASK_NAME VARCHAR(100) NOT NULL PRIMARY KEY ,
+	TASK_EXECUTION_ID BIGINT NOT NULL ,
+	START_TIME TIMESTAMP(9) NOT NULL
+);
+
+INSERT INTO TASK_EXECUTION_LATEST (TASK_NAME, TASK_EXECUTION_ID, START_TIME)
+SELECT TE.TASK_NAME, MAX(TE.TASK_EXECUTION_ID), TE.START_TIME FROM TASK_EXECUTION TE
+INNER JOIN (SELECT TASK_NAME, MAX(START_TIME) AS START_TIME FROM TASK_EXECUTION GROUP BY TASK_NAME) TE_MAX
+ON TE.TASK_NAME = TE_MAX.TASK_NAME AND TE.START_TIME = TE_MAX.START_TIME
+GROUP BY TE.TASK_NAME, TE.START_TIME;
+
+/* Registry of the task names, read when spring.cloud.task.task-name-registry-enabled is
+set. The INSERT backfills it from the existing task executions. */
+CREATE TABLE TASK_TASK_NAMES  (
+	TASK_NAME VARCHAR(100) NOT NULL PRIMARY KEY
+);
+
+INSERT INTO TASK_TASK_NAMES (TASK_NAME)
+SELECT distinct TASK_NAME FROM TASK_EXECUTION WHERE TASK_NAME IS NOT NULL;
+
+/* Striped execution counters, read when spring.cloud.task.execution-counters-enabled is
+set. The INSERT backfills the first stripe from the existing task executions. */
+CREATE TABLE TASK_EXECUTION_COUNTS  (
+	TASK_NAME VARCHAR(100) NOT NULL ,
+	STRIPE INTEGER NOT NULL ,
+	TOTAL_COUNT BIGINT NOT NULL ,
+	RUNNING_COUNT BIGINT NOT NULL ,
+	SUCCEEDED_COUNT BIGINT NOT NULL ,
+	FAILED_COUNT BIGINT NOT NULL ,
+	constraint TASK_EXEC_COUNTS_PK primary key (TASK_NAME, STRIPE)
+);
+
+INSERT INTO TASK_EXECUTION_COUNTS (TASK_NAME, STRIPE, TOTAL_COUNT, RUNNING_COUNT, SUCCEEDED_COUNT, FAILED_COUNT)
+SELECT TASK_NAME, 0, COUNT(*),
+SUM(CASE WHEN END_TIME IS NULL THEN 1 ELSE 0 END),
+SUM(CASE WHEN END_TIME IS NOT NULL AND EXIT_CODE = 0 THEN 1 ELSE 0 END),
+SUM(CASE WHEN END_TIME IS NOT NULL AND (EXIT_CODE IS NULL OR EXIT_CODE <> 0) THEN 1 ELSE 0 END)
+FROM TASK_EXECUTION WHERE TASK_NAME IS NOT NULL GROUP BY TASK_NAME;
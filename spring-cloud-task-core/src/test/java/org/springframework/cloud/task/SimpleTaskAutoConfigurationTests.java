@@ -18,6 +18,8 @@ package org.springframework.cloud.task;
 
 import javax.sql.DataSource;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
 
@@ -31,6 +33,7 @@ import org.springframework.beans.factory.config.BeanDefinitionHolder;
 import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
 import org.springframework.beans.factory.support.BeanDefinitionRegistry;
 import org.springframework.beans.factory.support.GenericBeanDefinition;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
 import org.springframework.boot.autoconfigure.jdbc.EmbeddedDataSourceConfiguration;
@@ -93,6 +96,26 @@ public class SimpleTaskAutoConfigurationTests {
 				executable);
 	}
 
+	@Test
+	public void testExplorerCacheMetrics() {
+		ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
+			.withConfiguration(AutoConfigurations.of(PropertyPlaceholderAutoConfiguration.class,
+					MetricsAutoConfiguration.class, SimpleTaskAutoConfiguration.class, SingleTaskConfiguration.class))
+			.withBean(SimpleMeterRegistry.class)
+			.withPropertyValues("spring.cloud.task.explorer-cache-enabled=true");
+		applicationContextRunner.run((context) -> {
+			context.getBean(TaskExplorer.class).getTaskExecution(1);
+
+			MeterRegistry meterRegistry = context.getBean(MeterRegistry.class);
+			assertThat(meterRegistry.find("spring.cloud.task.explorer.cache.gets")
+				.tags("cache", "executions", "result", "miss")
+				.functionCounter()
+				.count()).isEqualTo(1);
+			assertThat(meterRegistry.find("spring.cloud.task.explorer.cache.size").tag("cache", "counts").gauge())
+				.isNotNull();
+		});
+	}
+
 	@Test
 	public void testRepositoryInitialized() {
 		ApplicationContextRunner applicationContextRunner = new ApplicationContextRunner()
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.EmbeddedDataSourceConfiguration;
+import org.springframework.boot.context.metrics.buffering.BufferingApplicationStartup;
+import org.springframework.boot.context.metrics.buffering.StartupStepFilter;
+import org.springframework.cloud.task.configuration.EnableTask;
+import org.springframework.cloud.task.configuration.SimpleTaskAutoConfiguration;
+import org.springframework.context.ApplicationContextException;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Verifies that the phases a task adds to the startup of an application are recorded as
+ * startup steps.
+ *
+ * @author agent
+ */
+public class TaskStartupStepTests {
+
+	private ConfigurableApplicationContext applicationContext;
+
+	private final BufferingApplicationStartup applicationStartup = new BufferingApplicationStartup(100);
+
+	@AfterEach
+	public void teardown() {
+		if (this.applicationContext != null && this.applicationContext.isActive()) {
+			this.applicationContext.close();
+		}
+	}
+
+	@Test
+	public void testInMemoryTaskStartupSteps() {
+		run(TaskConfiguration.class);
+
+		assertThat(recordedSteps()).containsExactly("spring.cloud.task.repository.init",
+				"spring.cloud.task.listeners.discover", "spring.cloud.task.execution.start",
+				"spring.cloud.task.execution.complete");
+	}
+
+	@Test
+	public void testDataSourceTaskStartupSteps() {
+		run(DataSourceTaskConfiguration.class);
+
+		assertThat(recordedSteps()).containsExactly("spring.cloud.task.repository.init",
+				"spring.cloud.task.repository.schema", "spring.cloud.task.listeners.discover",
+				"spring.cloud.task.execution.start", "spring.cloud.task.execution.complete");
+	}
+
+	@Test
+	public void testFailedStartupStepIsEnded() {
+		assertThatExceptionOfType(ApplicationContextException.class)
+			.isThrownBy(() -> run(TaskConfiguration.class, "--spring.cloud.task.executionid=55"));
+
+		assertThat(recordedSteps()).containsExactly("spring.cloud.task.repository.init",
+				"spring.cloud.task.listeners.discover", "spring.cloud.task.execution.start");
+	}
+
+	private void run(Class<?> configuration, String... args) {
+		this.applicationStartup.addFilter(StartupStepFilter.matching("spring.cloud.task."));
+		SpringApplication application = new SpringApplication(configuration);
+		application.setApplicationStartup(this.applicationStartup);
+		List<String> arguments = new ArrayList<>(List.of("--spring.cloud.task.closecontext.enable=false",
+				"--spring.main.web-environment=false"));
+		arguments.addAll(List.of(args));
+		this.applicationContext = application.run(arguments.toArray(new String[0]));
+	}
+
+	private List<String> recordedSteps() {
+		return this.applicationStartup.getBufferedTimeline()
+			.getEvents()
+			.stream()
+			.map((event) -> event.getStartupStep().getName())
+			.collect(Collectors.toList());
+	}
+
+	@EnableTask
+	@ImportAutoConfiguration({ SimpleTaskAutoConfiguration.class, PropertyPlaceholderAutoConfiguration.class })
+	public static class TaskConfiguration {
+
+		@Bean
+		public CommandLineRunner commandLineRunner() {
+			return (args) -> {
+			};
+		}
+
+	}
+
+	@Import(EmbeddedDataSourceConfiguration.class)
+	public static class DataSourceTaskConfiguration extends TaskConfiguration {
+
+	}
+
+}
@@ -24,6 +24,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.jdbc.EmbeddedDataSourceConfiguration;
+import org.springframework.cloud.task.repository.support.ReadReplicaTaskExplorer;
+import org.springframework.cloud.task.repository.support.SimpleTaskExplorer;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
@@ -90,6 +92,19 @@ public class DefaultTaskConfigurerTests {
 		assertThat(defaultTaskConfigurer.getTaskExplorer()).isNotNull();
 	}
 
+	@Test
+	public void readReplicaTaskExplorerTest() {
+		DefaultTaskConfigurer defaultTaskConfigurer = new DefaultTaskConfigurer(this.dataSource, this.dataSource,
+				new TaskProperties(), this.context);
+		assertThat(defaultTaskConfigurer.getTaskExplorer()).isInstanceOf(ReadReplicaTaskExplorer.class);
+		assertThat(defaultTaskConfigurer.getPrimaryTaskExplorer())
+			.isSameAs(((ReadReplicaTaskExplorer) defaultTaskConfigurer.getTaskExplorer()).getPrimary());
+		assertThat(defaultTaskConfigurer.getTaskDataSource()).isSameAs(this.dataSource);
+		defaultTaskConfigurer = new DefaultTaskConfigurer(this.dataSource, null, new TaskProperties(), this.context);
+		assertThat(defaultTaskConfigurer.getTaskExplorer()).isInstanceOf(SimpleTaskExplorer.class);
+		assertThat(defaultTaskConfigurer.getPrimaryTaskExplorer()).isSameAs(defaultTaskConfigurer.getTaskExplorer());
+	}
+
 	@Test
 	public void taskNameResolverTest() {
 		DefaultTaskConfigurer defaultTaskConfigurer = new DefaultTaskConfigurer(this.dataSource);
@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.dao;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.TreeSet;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.data.domain.PageRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link FileTaskExecutionDao}.
+ *
+ * @author agent
+ */
+public class FileTaskExecutionDaoTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	public void testTaskExecutionsAreRestored() throws IOException {
+		Path file = this.directory.resolve("executions.log");
+		LocalDateTime startTime = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+		TaskExecution completed;
+		TaskExecution running;
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file)) {
+			completed = dao.createTaskExecution("first", startTime, Arrays.asList("--a=1", "--b=2"), "external");
+			dao.completeTaskExecution(completed.getExecutionId(), 3, startTime.plusSeconds(1), "done", "error");
+			running = dao.createTaskExecution(null, null, Collections.emptyList(), null);
+			dao.startTaskExecution(running.getExecutionId(), "second", startTime, Collections.emptyList(), null,
+					completed.getExecutionId());
+			dao.updateExternalExecutionId(running.getExecutionId(), "updated");
+		}
+
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file)) {
+			TaskExecution restored = dao.getTaskExecution(completed.getExecutionId());
+			assertThat(restored.getTaskName()).isEqualTo("first");
+			assertThat(restored.getStartTime()).isEqualTo(startTime);
+			assertThat(restored.getEndTime()).isEqualTo(startTime.plusSeconds(1));
+			assertThat(restored.getExitCode()).isEqualTo(3);
+			assertThat(restored.getExitMessage()).isEqualTo("done");
+			assertThat(restored.getErrorMessage()).isEqualTo("error");
+			assertThat(restored.getArguments()).containsExactly("--a=1", "--b=2");
+			assertThat(restored.getExternalExecutionId()).isEqualTo("external");
+
+			restored = dao.getTaskExecution(running.getExecutionId());
+			assertThat(restored.getTaskName()).isEqualTo("second");
+			assertThat(restored.getEndTime()).isNull();
+			assertThat(restored.getParentExecutionId()).isEqualTo(completed.getExecutionId());
+			assertThat(restored.getExternalExecutionId()).isEqualTo("updated");
+			assertThat(dao.getRunningTaskExecutionCount()).isEqualTo(1);
+			assertThat(dao.findTaskExecutionsByName("first", PageRequest.of(0, 10)).getContent()).hasSize(1);
+
+			TaskExecution next = dao.createTaskExecution("third", startTime, Collections.emptyList(), null);
+			assertThat(next.getExecutionId()).isGreaterThan(running.getExecutionId());
+		}
+	}
+
+	@Test
+	public void testJobExecutionAssociationsAreRestored() throws IOException {
+		Path file = this.directory.resolve("executions.log");
+		long executionId;
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file)) {
+			executionId = dao.createTaskExecution("job", LocalDateTime.now(), Collections.emptyList(), null)
+				.getExecutionId();
+			dao.getBatchJobAssociations().putIfAbsent(executionId, new TreeSet<>());
+			dao.getBatchJobAssociations().get(executionId).add(7L);
+		}
+
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file)) {
+			assertThat(dao.getJobExecutionIdsByTaskExecutionId(executionId)).containsExactly(7L);
+			assertThat(dao.getTaskExecutionIdByJobExecutionId(7L)).isEqualTo(executionId);
+		}
+	}
+
+	@Test
+	public void testIncompleteRecordIsDiscarded() throws IOException {
+		Path file = this.directory.resolve("executions.log");
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file)) {
+			dao.createTaskExecution("first", LocalDateTime.now(), Collections.emptyList(), null);
+			dao.createTaskExecution("second", LocalDateTime.now(), Collections.emptyList(), null);
+		}
+		long size = Files.size(file);
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+			channel.truncate(size - 3);
+		}
+
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file)) {
+			assertThat(dao.getTaskExecutionCount()).isEqualTo(1);
+			assertThat(dao.getTaskNames()).containsExactly("first");
+			dao.createTaskExecution("third", LocalDateTime.now(), Collections.emptyList(), null);
+		}
+
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file)) {
+			assertThat(dao.getTaskNames()).containsExactlyInAnyOrder("first", "third");
+		}
+	}
+
+	@Test
+	public void testCompaction() throws IOException {
+		Path file = this.directory.resolve("executions.log");
+		long size;
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file)) {
+			for (int i = 0; i < 10; i++) {
+				TaskExecution taskExecution = dao.createTaskExecution("compacted", LocalDateTime.now(),
+						Collections.singletonList("--i=" + i), null);
+				dao.completeTaskExecution(taskExecution.getExecutionId(), 0, LocalDateTime.now(), "done");
+				dao.updateExternalExecutionId(taskExecution.getExecutionId(), "external-" + i);
+			}
+			size = Files.size(file);
+			dao.compact();
+			assertThat(Files.size(file)).isLessThan(size);
+		}
+
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file)) {
+			assertThat(dao.getTaskExecutionCount()).isEqualTo(10);
+			assertThat(dao.getTaskExecutionCountByExternalExecutionId("external-9")).isEqualTo(1);
+			assertThat(dao.getRunningTaskExecutionCount()).isZero();
+		}
+	}
+
+	@Test
+	public void testCompactionThreshold() throws IOException {
+		Path file = this.directory.resolve("executions.log");
+		long size;
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file)) {
+			TaskExecution taskExecution = dao.createTaskExecution("compacted", LocalDateTime.now(),
+					Collections.emptyList(), null);
+			dao.updateExternalExecutionId(taskExecution.getExecutionId(), "a");
+			dao.updateExternalExecutionId(taskExecution.getExecutionId(), "b");
+			size = Files.size(file);
+		}
+		assertThat(Files.size(file)).isEqualTo(size);
+
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file, 3)) {
+			assertThat(Files.size(file)).isLessThan(size);
+			assertThat(dao.getTaskExecutionCountByExternalExecutionId("b")).isEqualTo(1);
+		}
+	}
+
+	@Test
+	public void testLogCannotBeOpenedTwice() throws IOException {
+		Path file = this.directory.resolve("executions.log");
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file)) {
+			assertThatIllegalStateException().isThrownBy(() -> new FileTaskExecutionDao(file))
+				.withMessageContaining("in use");
+		}
+
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file)) {
+			assertThat(dao.getTaskExecutionCount()).isZero();
+		}
+	}
+
+	@Test
+	public void testMaxCompletedExecutionsAppliesToRestoredExecutions() throws IOException {
+		Path file = this.directory.resolve("executions.log");
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file)) {
+			for (int i = 0; i < 5; i++) {
+				TaskExecution taskExecution = dao.createTaskExecution("evicted", LocalDateTime.now(),
+						Collections.emptyList(), null);
+				dao.completeTaskExecution(taskExecution.getExecutionId(), 0, LocalDateTime.now().plusSeconds(i),
+						"done");
+			}
+		}
+
+		try (FileTaskExecutionDao dao = new FileTaskExecutionDao(file)) {
+			dao.setMaxCompletedExecutions(2);
+			assertThat(dao.getTaskExecutionCountByTaskName("evicted")).isEqualTo(5);
+			assertThat(dao.findTaskExecutionsByName("evicted", PageRequest.of(0, 10)).getContent()).hasSize(2);
+		}
+	}
+
+}
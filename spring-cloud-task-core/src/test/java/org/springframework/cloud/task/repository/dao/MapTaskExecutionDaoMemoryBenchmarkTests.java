@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.dao;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Measures the heap retained by the {@link MapTaskExecutionDao} after recording a large
+ * number of task executions, with and without eviction of completed executions. Only
+ * runs when the {@code benchmark} system property is set to true, for instance:
+ * <pre>
+ * ./mvnw -pl spring-cloud-task-core test -Dbenchmark=true \
+ *     -Dtest=MapTaskExecutionDaoMemoryBenchmarkTests
+ * </pre>
+ *
+ * @author agent
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+public class MapTaskExecutionDaoMemoryBenchmarkTests {
+
+	private static final int EXECUTIONS = 200_000;
+
+	private static final int ARGUMENTS = 10;
+
+	@Test
+	public void retainedHeap() {
+		long unbounded = retainedHeap(new MapTaskExecutionDao());
+		MapTaskExecutionDao boundedDao = new MapTaskExecutionDao();
+		boundedDao.setMaxCompletedExecutions(1000);
+		long bounded = retainedHeap(boundedDao);
+
+		System.out.printf("%,d task executions with %d arguments: unbounded %,d KiB (%,d B/execution), "
+				+ "bounded to 1000 completed %,d KiB%n", EXECUTIONS, ARGUMENTS, unbounded / 1024,
+				unbounded / EXECUTIONS, bounded / 1024);
+		assertThat(bounded).isLessThan(unbounded / 10);
+	}
+
+	private static long retainedHeap(MapTaskExecutionDao dao) {
+		long before = usedHeap();
+		LocalDateTime now = LocalDateTime.now();
+		for (int i = 0; i < EXECUTIONS; i++) {
+			List<String> arguments = new ArrayList<>(ARGUMENTS);
+			for (int j = 0; j < ARGUMENTS; j++) {
+				// new strings for every execution, as if parsed from a launch request
+				arguments.add(new StringBuilder("--argument").append(j).append("=value").append(j).toString());
+			}
+			TaskExecution taskExecution = dao.createTaskExecution(
+					new StringBuilder("task").append(i % 10).toString(), now, arguments, null);
+			dao.completeTaskExecution(taskExecution.getExecutionId(), 0, now, "COMPLETED");
+		}
+		long after = usedHeap();
+		assertThat(dao.getTaskExecutionCount()).isEqualTo(EXECUTIONS);
+		return after - before;
+	}
+
+	private static long usedHeap() {
+		MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+		for (int i = 0; i < 3; i++) {
+			System.gc();
+		}
+		return memory.getHeapMemoryUsage().getUsed();
+	}
+
+}
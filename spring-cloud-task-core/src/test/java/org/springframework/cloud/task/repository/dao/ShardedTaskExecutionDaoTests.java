@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.dao;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.TaskExecutionCursor;
+import org.springframework.cloud.task.repository.TaskExecutionStatistics;
+import org.springframework.cloud.task.repository.TaskExecutionWindow;
+import org.springframework.cloud.task.util.TestDBUtils;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.JdbcTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+/**
+ * Tests the {@link ShardedTaskExecutionDao} over three H2 databases.
+ *
+ * @author agent
+ */
+public class ShardedTaskExecutionDaoTests {
+
+	private static final LocalDateTime START_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+	private static final int TASK_COUNT = 20;
+
+	private final List<EmbeddedDatabase> databases = new ArrayList<>();
+
+	private final List<JdbcTaskExecutionDao> shards = new ArrayList<>();
+
+	private ShardedTaskExecutionDao dao;
+
+	@BeforeEach
+	public void setup() {
+		for (int i = 0; i < 3; i++) {
+			EmbeddedDatabase database = new EmbeddedDatabaseBuilder().generateUniqueName(true)
+				.setType(EmbeddedDatabaseType.H2)
+				.addScript("classpath:org/springframework/cloud/task/schema-h2.sql")
+				.build();
+			JdbcTaskExecutionDao shard = new JdbcTaskExecutionDao(database);
+			shard.setTaskIncrementer(TestDBUtils.getIncrementer(database));
+			this.databases.add(database);
+			this.shards.add(shard);
+		}
+		this.dao = new ShardedTaskExecutionDao(this.shards);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.dao.destroy();
+		this.databases.forEach(EmbeddedDatabase::shutdown);
+	}
+
+	@Test
+	public void testTaskExecutionsAreStoredInTheShardOfTheirTaskName() {
+		List<TaskExecution> taskExecutions = createTaskExecutions();
+
+		for (TaskExecution taskExecution : taskExecutions) {
+			int shard = this.dao.getShard(taskExecution.getTaskName());
+			assertThat(ShardedTaskExecutionDao.getExecutionShard(taskExecution.getExecutionId())).isEqualTo(shard);
+			assertThat(this.shards.get(shard).getTaskExecution(taskExecution.getExecutionId())).isNotNull();
+			assertThat(this.dao.getTaskExecution(taskExecution.getExecutionId()).getEndTime()).isNotNull();
+		}
+		assertThat(taskExecutions.stream()
+			.map((taskExecution) -> this.dao.getShard(taskExecution.getTaskName()))
+			.distinct()).hasSizeGreaterThan(1);
+		assertThat(this.dao.getTaskExecutionCountByTaskName("task-3")).isEqualTo(1);
+		assertThat(this.dao.getLatestTaskExecutionForTaskName("task-3").getTaskName()).isEqualTo("task-3");
+		assertThatIllegalStateException().isThrownBy(this.dao::getNextExecutionId);
+	}
+
+	@Test
+	public void testCrossShardQueriesAreMerged() {
+		List<TaskExecution> taskExecutions = createTaskExecutions();
+		List<Long> latestFirst = ids(taskExecutions.stream()
+			.sorted(Comparator.comparing(TaskExecution::getStartTime).reversed()));
+
+		Page<TaskExecution> page = this.dao.findAll(PageRequest.of(1, 5));
+		assertThat(page.getTotalElements()).isEqualTo(TASK_COUNT);
+		assertThat(ids(page.getContent().stream())).isEqualTo(latestFirst.subList(5, 10));
+		Slice<TaskExecution> slice = this.dao.sliceAll(PageRequest.of(3, 5));
+		assertThat(ids(slice.getContent().stream())).isEqualTo(latestFirst.subList(15, 20));
+		assertThat(slice.hasNext()).isFalse();
+		Page<TaskExecution> byName = this.dao.findAll(PageRequest.of(0, 3, Sort.by("TASK_NAME")));
+		assertThat(byName.getContent()).extracting(TaskExecution::getTaskName)
+			.containsExactly("task-0", "task-1", "task-10");
+
+		List<Long> windowed = new ArrayList<>();
+		TaskExecutionCursor cursor = null;
+		do {
+			TaskExecutionWindow window = this.dao.findAll(cursor, 6);
+			windowed.addAll(ids(window.getContent().stream()));
+			cursor = window.getNextCursor();
+		}
+		while (cursor != null);
+		assertThat(windowed).isEqualTo(latestFirst);
+
+		try (Stream<TaskExecution> stream = this.dao.streamAll(TaskExecutionCriteria.all())) {
+			List<Long> streamed = ids(stream);
+			assertThat(streamed).hasSize(TASK_COUNT).isSorted();
+		}
+
+		assertThat(this.dao.getTaskNames()).hasSize(TASK_COUNT).isSorted();
+		assertThat(this.dao.getTaskExecutionCount()).isEqualTo(TASK_COUNT);
+		assertThat(this.dao.getRunningTaskExecutionCount()).isZero();
+		assertThat(this.dao.getTaskExecutionCounts(null).getFailed()).isEqualTo(TASK_COUNT / 2);
+		assertThat(this.dao.getTaskExecutionStatistics(null, TaskExecutionCriteria.all()).getCompletedCount())
+			.isEqualTo(TASK_COUNT);
+		assertThat(this.dao.getLatestTaskExecutionsByTaskNames("task-1", "task-2", "task-3"))
+			.extracting(TaskExecution::getTaskName)
+			.containsExactly("task-3", "task-2", "task-1");
+	}
+
+	@Test
+	public void testStatisticsAreMergedFromTheShards() {
+		MapTaskExecutionDao expected = new MapTaskExecutionDao();
+		for (int i = 0; i < TASK_COUNT; i++) {
+			LocalDateTime startTime = START_TIME.plusMinutes(i);
+			for (TaskExecutionDao dao : Arrays.asList(this.dao, expected)) {
+				TaskExecution taskExecution = dao.createTaskExecution("task-" + i, startTime,
+						Collections.emptyList(), null);
+				dao.completeTaskExecution(taskExecution.getExecutionId(), i % 3, startTime.plusSeconds(i + 1), null);
+			}
+		}
+		TaskExecutionStatistics expectedStatistics = expected.getTaskExecutionStatistics(null,
+				TaskExecutionCriteria.all());
+
+		TaskExecutionStatistics statistics = this.dao.getTaskExecutionStatistics(null, TaskExecutionCriteria.all());
+
+		assertThat(statistics.getCount()).isEqualTo(TASK_COUNT);
+		assertThat(statistics.getExitCodeCounts()).isEqualTo(expectedStatistics.getExitCodeCounts());
+		assertThat(statistics.getMinDuration()).isEqualTo(expectedStatistics.getMinDuration());
+		assertThat(statistics.getAverageDuration()).isEqualTo(expectedStatistics.getAverageDuration());
+		assertThat(statistics.getMaxDuration()).isEqualTo(expectedStatistics.getMaxDuration());
+		assertThat(statistics.getP50Duration().toMillis())
+			.isCloseTo(expectedStatistics.getP50Duration().toMillis(), withinPercentage(1));
+		assertThat(statistics.getP95Duration().toMillis())
+			.isCloseTo(expectedStatistics.getP95Duration().toMillis(), withinPercentage(1));
+	}
+
+	@Test
+	public void testWritesRunInATransactionOfTheirShard() {
+		List<Boolean> transactional = new ArrayList<>();
+		List<TaskExecutionDao> shards = new ArrayList<>();
+		List<PlatformTransactionManager> transactionManagers = new ArrayList<>();
+		for (EmbeddedDatabase database : this.databases) {
+			shards.add(new MapTaskExecutionDao() {
+
+				@Override
+				public void completeTaskExecution(long executionId, Integer exitCode, LocalDateTime endTime,
+						String exitMessage, String errorMessage) {
+					transactional.add(TransactionSynchronizationManager.isActualTransactionActive());
+					super.completeTaskExecution(executionId, exitCode, endTime, exitMessage, errorMessage);
+				}
+
+			});
+			transactionManagers.add(new JdbcTransactionManager(database));
+		}
+		this.dao.destroy();
+		this.dao = new ShardedTaskExecutionDao(shards, transactionManagers, null);
+
+		createTaskExecutions();
+
+		assertThat(transactional).hasSize(TASK_COUNT).containsOnly(true);
+	}
+
+	@Test
+	public void testOnlyTheOwnThreadPoolIsShutDown() {
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			ShardedTaskExecutionDao dao = new ShardedTaskExecutionDao(this.shards, null, executor);
+			assertThat(dao.getTaskExecutionCount()).isZero();
+			dao.destroy();
+			assertThat(executor.isShutdown()).isFalse();
+		}
+		finally {
+			executor.shutdown();
+		}
+
+		this.dao.destroy();
+		assertThatExceptionOfType(RejectedExecutionException.class).isThrownBy(this.dao::getTaskExecutionCount);
+	}
+
+	@Test
+	public void testAppendingAShardOnlyMovesTaskNamesToIt() {
+		List<TaskExecutionDao> threeShards = Arrays.asList(new MapTaskExecutionDao(), new MapTaskExecutionDao(),
+				new MapTaskExecutionDao());
+		List<TaskExecutionDao> fourShards = new ArrayList<>(threeShards);
+		fourShards.add(new MapTaskExecutionDao());
+		ShardedTaskExecutionDao before = new ShardedTaskExecutionDao(threeShards);
+		ShardedTaskExecutionDao after = new ShardedTaskExecutionDao(fourShards);
+
+		int moved = 0;
+		for (int i = 0; i < 1000; i++) {
+			String taskName = "task-" + i;
+			if (before.getShard(taskName) != after.getShard(taskName)) {
+				assertThat(after.getShard(taskName)).isEqualTo(3);
+				moved++;
+			}
+		}
+		assertThat(moved).isBetween(100, 400);
+	}
+
+	private List<TaskExecution> createTaskExecutions() {
+		List<TaskExecution> taskExecutions = new ArrayList<>();
+		for (int i = 0; i < TASK_COUNT; i++) {
+			LocalDateTime startTime = START_TIME.plusMinutes(i);
+			TaskExecution taskExecution = this.dao.createTaskExecution("task-" + i, startTime,
+					Collections.singletonList("arg=" + i), null);
+			this.dao.completeTaskExecution(taskExecution.getExecutionId(), i % 2, startTime.plusSeconds(1), null);
+			taskExecutions.add(taskExecution);
+		}
+		return taskExecutions;
+	}
+
+	private static List<Long> ids(Stream<TaskExecution> taskExecutions) {
+		return taskExecutions.map(TaskExecution::getExecutionId).collect(Collectors.toList());
+	}
+
+}
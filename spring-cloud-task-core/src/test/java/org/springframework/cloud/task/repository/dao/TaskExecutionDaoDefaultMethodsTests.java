@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.dao;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.task.repository.TaskExecutionCounts;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.TaskExecutionCursor;
+import org.springframework.cloud.task.repository.TaskExecutionWindow;
+import org.springframework.data.domain.Pageable;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Verifies that the default methods of {@link TaskExecutionDao}, which are only built on
+ * its paged queries, return the same results as the {@link MapTaskExecutionDao}.
+ *
+ * @author agent
+ */
+public class TaskExecutionDaoDefaultMethodsTests {
+
+	private static final LocalDateTime START_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+	private MapTaskExecutionDao source;
+
+	private TaskExecutionDao dao;
+
+	@BeforeEach
+	public void setUp() {
+		this.source = new MapTaskExecutionDao();
+		for (int i = 0; i < 7; i++) {
+			LocalDateTime startTime = (i < 6) ? START_TIME.plusMinutes(i % 3) : null;
+			this.source.createTaskExecution((i % 2 == 0) ? "foo" : "bar", startTime, Collections.emptyList(), null);
+		}
+		for (long executionId = 0; executionId < 3; executionId++) {
+			this.source.completeTaskExecution(executionId, (int) executionId % 2, START_TIME.plusHours(1), null);
+		}
+		this.dao = mock(TaskExecutionDao.class, CALLS_REAL_METHODS);
+		doAnswer((invocation) -> this.source.findAll((Pageable) invocation.getArgument(0))).when(this.dao)
+			.findAll(any(Pageable.class));
+		doAnswer((invocation) -> this.source.findTaskExecutionsByName(invocation.getArgument(0),
+				invocation.getArgument(1)))
+			.when(this.dao)
+			.findTaskExecutionsByName(any(), any(Pageable.class));
+	}
+
+	@Test
+	public void testFindAllAfterCursor() {
+		TaskExecutionCursor cursor = null;
+		do {
+			TaskExecutionWindow window = this.dao.findAll(cursor, 2);
+			TaskExecutionWindow expected = this.source.findAll(cursor, 2);
+			assertThat(window.getContent()).isEqualTo(expected.getContent());
+			assertThat(window.hasNext()).isEqualTo(expected.hasNext());
+			cursor = window.getNextCursor();
+		}
+		while (cursor != null);
+	}
+
+	@Test
+	public void testStreamAll() {
+		TaskExecutionCriteria criteria = TaskExecutionCriteria.all().afterExecutionId(1).startedFrom(START_TIME);
+
+		assertThat(this.dao.streamAll(criteria)).containsExactlyElementsOf(this.source.streamAll(criteria).toList());
+	}
+
+	@Test
+	public void testStreamTaskExecutionsByName() {
+		TaskExecutionCriteria criteria = TaskExecutionCriteria.all();
+
+		assertThat(this.dao.streamTaskExecutionsByName("foo", criteria))
+			.containsExactlyElementsOf(this.source.streamTaskExecutionsByName("foo", criteria).toList());
+	}
+
+	@Test
+	public void testGetTaskExecutionCounts() {
+		assertThat(this.dao.getTaskExecutionCounts(null)).isEqualTo(new TaskExecutionCounts(7, 4, 2, 1));
+		assertThat(this.dao.getTaskExecutionCounts("foo")).isEqualTo(this.source.getTaskExecutionCounts("foo"));
+	}
+
+	@Test
+	public void testGetTaskExecutionStatistics() {
+		TaskExecutionCriteria criteria = TaskExecutionCriteria.all().completedOnly();
+
+		assertThat(this.dao.getTaskExecutionStatistics(null, criteria))
+			.isEqualTo(this.source.getTaskExecutionStatistics(null, criteria));
+		assertThat(this.dao.getTaskExecutionStatistics("foo", criteria))
+			.isEqualTo(this.source.getTaskExecutionStatistics("foo", criteria));
+	}
+
+}
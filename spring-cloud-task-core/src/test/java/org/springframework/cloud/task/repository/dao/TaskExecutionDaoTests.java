@@ -18,10 +18,15 @@ package org.springframework.cloud.task.repository.dao;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.TreeSet;
 import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import javax.sql.DataSource;
 
@@ -36,13 +41,20 @@ import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoCon
 import org.springframework.boot.autoconfigure.jdbc.EmbeddedDataSourceConfiguration;
 import org.springframework.cloud.task.configuration.TestConfiguration;
 import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCounts;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.TaskExecutionCursor;
+import org.springframework.cloud.task.repository.TaskExecutionWindow;
 import org.springframework.cloud.task.repository.TaskRepository;
+import org.springframework.cloud.task.util.StatementCountingDataSource;
 import org.springframework.cloud.task.util.TestDBUtils;
 import org.springframework.cloud.task.util.TestVerifierUtils;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -258,6 +270,491 @@ public class TaskExecutionDaoTests extends BaseTaskExecutionDaoTestCases {
 			.isEqualTo(4);
 	}
 
+	@Test
+	@DirtiesContext
+	public void testPageQueriesLoadArgumentsInSingleQuery() {
+		StatementCountingDataSource countingDataSource = new StatementCountingDataSource(this.dataSource);
+		JdbcTaskExecutionDao countingDao = new JdbcTaskExecutionDao(countingDataSource);
+		countingDao.setTaskIncrementer(TestDBUtils.getIncrementer(this.dataSource));
+		for (int i = 0; i < 20; i++) {
+			countingDao.createTaskExecution("FOO" + (i % 2), LocalDateTime.now(), Arrays.asList("a=" + i, "b=" + i),
+					null);
+		}
+
+		countingDataSource.reset();
+		Page<TaskExecution> page = countingDao.findAll(PageRequest.of(0, 20));
+		assertThat(page.getContent()).hasSize(20);
+		assertThat(page.getContent()).allSatisfy(te -> assertThat(te.getArguments()).hasSize(2));
+		// count, page and a single arguments query regardless of the page size
+		assertThat(countingDataSource.getStatementCount()).isEqualTo(3);
+
+		countingDataSource.reset();
+		page = countingDao.findTaskExecutionsByName("FOO1", PageRequest.of(0, 5));
+		assertThat(page.getContent()).hasSize(5);
+		assertThat(page.getContent()).allSatisfy(te -> assertThat(te.getArguments()).hasSize(2));
+		assertThat(countingDataSource.getStatementCount()).isEqualTo(3);
+
+		countingDataSource.reset();
+		List<TaskExecution> latest = countingDao.getLatestTaskExecutionsByTaskNames("FOO0", "FOO1");
+		assertThat(latest).hasSize(2);
+		assertThat(latest).allSatisfy(te -> assertThat(te.getArguments()).hasSize(2));
+		assertThat(countingDataSource.getStatementCount()).isEqualTo(2);
+	}
+
+	@Test
+	@DirtiesContext
+	public void testPagingQueryProviderIsReusedAcrossPages() {
+		StatementCountingDataSource countingDataSource = new StatementCountingDataSource(this.dataSource);
+		JdbcTaskExecutionDao countingDao = new JdbcTaskExecutionDao(countingDataSource);
+		countingDao.setTaskIncrementer(TestDBUtils.getIncrementer(this.dataSource));
+		for (int i = 0; i < 6; i++) {
+			countingDao.createTaskExecution("FOO", LocalDateTime.now(), Collections.emptyList(), null);
+		}
+		Sort sort = Sort.by("TASK_EXECUTION_ID");
+		assertThat(countingDao.findAll(PageRequest.of(0, 2, sort)).getContent()).hasSize(2);
+
+		for (int pageNumber = 1; pageNumber < 3; pageNumber++) {
+			countingDataSource.reset();
+			Page<TaskExecution> page = countingDao.findAll(PageRequest.of(pageNumber, 2, sort));
+			assertThat(page.getContent()).hasSize(2);
+			// no connection is borrowed for reading the database metadata
+			assertThat(countingDataSource.getConnectionCount()).isEqualTo(countingDataSource.getStatementCount());
+		}
+
+		countingDataSource.reset();
+		assertThat(countingDao.findAll(PageRequest.of(0, 2, Sort.by("task_execution_id"))).getContent()).hasSize(2);
+		assertThat(countingDataSource.getConnectionCount()).isEqualTo(countingDataSource.getStatementCount());
+	}
+
+	@Test
+	@DirtiesContext
+	public void testArgumentsAreInsertedInBatches() {
+		StatementCountingDataSource countingDataSource = new StatementCountingDataSource(this.dataSource);
+		JdbcTaskExecutionDao countingDao = new JdbcTaskExecutionDao(countingDataSource);
+		countingDao.setTaskIncrementer(TestDBUtils.getIncrementer(this.dataSource));
+		List<String> arguments = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			arguments.add("arg" + i + "=" + UUID.randomUUID());
+		}
+
+		TaskExecution taskExecution = countingDao.createTaskExecution("FOO", LocalDateTime.now(), arguments, null);
+		// one insert for the execution and a single batch for the 40 arguments
+		assertThat(countingDataSource.getStatementCount()).isEqualTo(2);
+		assertThat(TestDBUtils.getTaskExecutionFromDB(this.dataSource, taskExecution.getExecutionId()).getArguments())
+			.containsExactlyInAnyOrderElementsOf(arguments);
+
+		countingDao.setArgumentBatchSize(10);
+		countingDataSource.reset();
+		taskExecution = countingDao.createTaskExecution(null, null, Collections.emptyList(), null);
+		assertThat(countingDataSource.getStatementCount()).isEqualTo(1);
+
+		countingDataSource.reset();
+		countingDao.startTaskExecution(taskExecution.getExecutionId(), "FOO", LocalDateTime.now(), arguments, null);
+		assertThat(countingDataSource.getStatementCount()).isEqualTo(5);
+		assertThat(TestDBUtils.getTaskExecutionFromDB(this.dataSource, taskExecution.getExecutionId()).getArguments())
+			.containsExactlyInAnyOrderElementsOf(arguments);
+	}
+
+	@Test
+	public void testInvalidArgumentBatchSize() {
+		JdbcTaskExecutionDao jdbcDao = new JdbcTaskExecutionDao(this.dataSource);
+		assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> jdbcDao.setArgumentBatchSize(0));
+	}
+
+	@ParameterizedTest
+	@DirtiesContext
+	@ValueSource(strings = { "db", "map" })
+	public void testFindAllWithCursor(String testType) {
+		getDao(testType);
+		LocalDateTime startTime = LocalDateTime.now().withNano(0);
+		List<Long> expectedIds = new ArrayList<>();
+		for (int i = 0; i < 7; i++) {
+			// executions share start times so that the id breaks the ties
+			TaskExecution taskExecution = this.dao.createTaskExecution("FOO", startTime.minusSeconds(i / 2),
+					Collections.singletonList("arg=" + i), null);
+			expectedIds.add(taskExecution.getExecutionId());
+		}
+		expectedIds.sort(Collections.reverseOrder());
+		// executions without a start time follow the started ones, by id descending
+		List<Long> unstartedIds = new ArrayList<>();
+		for (int i = 0; i < 3; i++) {
+			unstartedIds.add(this.dao.createTaskExecution(null, null, Collections.singletonList("arg=" + i), null)
+				.getExecutionId());
+		}
+		unstartedIds.sort(Collections.reverseOrder());
+		expectedIds.addAll(unstartedIds);
+
+		List<Long> actualIds = new ArrayList<>();
+		TaskExecutionCursor cursor = null;
+		int windows = 0;
+		do {
+			TaskExecutionWindow window = this.dao.findAll(cursor, 3);
+			assertThat(window.getContent().size()).isLessThanOrEqualTo(3);
+			window.getContent().forEach(te -> {
+				assertThat(te.getArguments()).hasSize(1);
+				actualIds.add(te.getExecutionId());
+			});
+			// the token is what a client would hand back for the next window
+			cursor = window.hasNext() ? TaskExecutionCursor.fromToken(window.getNextToken()) : null;
+			windows++;
+		}
+		while (cursor != null);
+
+		assertThat(windows).isEqualTo(4);
+		assertThat(actualIds).containsExactlyElementsOf(expectedIds);
+	}
+
+	@Test
+	@DirtiesContext
+	public void testFindAllWithCursorStatementCount() {
+		StatementCountingDataSource countingDataSource = new StatementCountingDataSource(this.dataSource);
+		JdbcTaskExecutionDao countingDao = new JdbcTaskExecutionDao(countingDataSource);
+		countingDao.setTaskIncrementer(TestDBUtils.getIncrementer(this.dataSource));
+		for (int i = 0; i < 10; i++) {
+			countingDao.createTaskExecution("FOO", LocalDateTime.now(), Collections.singletonList("a=" + i), null);
+		}
+
+		TaskExecutionWindow window = countingDao.findAll(null, 2);
+		while (window.hasNext()) {
+			countingDataSource.reset();
+			window = countingDao.findAll(window.getNextCursor(), 2);
+			// no count query, only the window and its arguments, plus the executions without
+			// a start time once the started ones are exhausted
+			assertThat(countingDataSource.getStatementCount()).isEqualTo(window.hasNext() ? 2 : 3);
+		}
+		assertThat(window.getNextToken()).isNull();
+	}
+
+	@ParameterizedTest
+	@DirtiesContext
+	@ValueSource(strings = { "db", "map" })
+	public void testStreamAll(String testType) {
+		getDao(testType);
+		LocalDateTime startTime = LocalDateTime.now().withNano(0);
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			TaskExecution taskExecution = this.dao.createTaskExecution("FOO" + (i % 2), startTime.plusSeconds(i),
+					Collections.singletonList("arg=" + i), null);
+			if (i != 4) {
+				this.dao.completeTaskExecution(taskExecution.getExecutionId(), 0, startTime.plusSeconds(i + 1), null);
+			}
+			ids.add(taskExecution.getExecutionId());
+		}
+		this.dao.createTaskExecution(null, null, Collections.emptyList(), null);
+
+		try (Stream<TaskExecution> taskExecutions = this.dao.streamAll(TaskExecutionCriteria.all())) {
+			assertThat(taskExecutions.map(TaskExecution::getExecutionId).limit(6)).containsExactlyElementsOf(ids);
+		}
+		try (Stream<TaskExecution> taskExecutions = this.dao.streamAll(TaskExecutionCriteria.all()
+			.afterExecutionId(ids.get(0))
+			.startedBefore(startTime.plusSeconds(5))
+			.completedOnly())) {
+			List<TaskExecution> result = taskExecutions.collect(Collectors.toList());
+			assertThat(result).extracting(TaskExecution::getExecutionId)
+				.containsExactly(ids.get(1), ids.get(2), ids.get(3));
+			assertThat(result).extracting(TaskExecution::getArguments)
+				.containsExactly(Collections.singletonList("arg=1"), Collections.singletonList("arg=2"),
+						Collections.singletonList("arg=3"));
+		}
+		try (Stream<TaskExecution> taskExecutions = this.dao.streamTaskExecutionsByName("FOO0",
+				TaskExecutionCriteria.all().startedFrom(startTime.plusSeconds(2)))) {
+			assertThat(taskExecutions.map(TaskExecution::getExecutionId)).containsExactly(ids.get(2), ids.get(4));
+		}
+	}
+
+	@Test
+	@DirtiesContext
+	public void testStreamAllStatementCount() {
+		StatementCountingDataSource countingDataSource = new StatementCountingDataSource(this.dataSource);
+		JdbcTaskExecutionDao countingDao = new JdbcTaskExecutionDao(countingDataSource);
+		countingDao.setTaskIncrementer(TestDBUtils.getIncrementer(this.dataSource));
+		countingDao.setStreamFetchSize(4);
+		for (int i = 0; i < 10; i++) {
+			countingDao.createTaskExecution("FOO", LocalDateTime.now(), Arrays.asList("a=" + i, "b=" + i), null);
+		}
+
+		countingDataSource.reset();
+		try (Stream<TaskExecution> taskExecutions = countingDao.streamAll(TaskExecutionCriteria.all())) {
+			Iterator<TaskExecution> iterator = taskExecutions.iterator();
+			assertThat(iterator.next().getArguments()).hasSize(2);
+			// the query and the arguments of the first batch only
+			assertThat(countingDataSource.getStatementCount()).isEqualTo(2);
+			iterator.forEachRemaining(te -> assertThat(te.getArguments()).hasSize(2));
+		}
+		// a single query for the executions and one for the arguments of each batch
+		assertThat(countingDataSource.getStatementCount()).isEqualTo(4);
+	}
+
+	@Test
+	@DirtiesContext
+	public void testLatestExecutionSummary() {
+		TestDBUtils.createOptionalTables(this.dataSource);
+		long executionIdOffset = initializeRepositoryNotInOrderWithMultipleTaskExecutions();
+		JdbcTaskExecutionDao summaryDao = new JdbcTaskExecutionDao(this.dataSource);
+		summaryDao.setTaskIncrementer(TestDBUtils.getIncrementer(this.dataSource));
+		summaryDao.setLatestExecutionSummaryEnabled(true);
+		// the executions recorded above are not in the summary yet
+		assertThat(summaryDao.getLatestTaskExecutionForTaskName("FOO1")).isNull();
+
+		this.dao = summaryDao;
+		initializeRepositoryNotInOrderWithMultipleTaskExecutions();
+		long summaryOffset = executionIdOffset + 10;
+		assertThat(summaryDao.getLatestTaskExecutionsByTaskNames("FOO1", "FOO3", "FOO5"))
+			.extracting(TaskExecution::getExecutionId)
+			.containsExactly(summaryOffset + 5, summaryOffset + 9, summaryOffset);
+
+		// an execution that started earlier does not replace the latest one
+		summaryDao.createTaskExecution("FOO3", LocalDateTime.now().minusYears(20), Collections.emptyList(), null);
+		TaskExecution started = summaryDao.createTaskExecution(null, null, Collections.emptyList(), null);
+		summaryDao.startTaskExecution(started.getExecutionId(), "FOO1", LocalDateTime.now(),
+				Collections.singletonList("a=b"), null);
+		assertThat(summaryDao.getLatestTaskExecutionsByTaskNames("FOO1", "FOO3"))
+			.extracting(TaskExecution::getExecutionId)
+			.containsExactly(started.getExecutionId(), summaryOffset + 5);
+		assertThat(summaryDao.getLatestTaskExecutionForTaskName("FOO1").getArguments()).containsExactly("a=b");
+	}
+
+	@Test
+	@DirtiesContext
+	public void testTaskNameRegistry() {
+		TestDBUtils.createOptionalTables(this.dataSource);
+		initializeRepositoryNotInOrderWithMultipleTaskExecutions();
+		StatementCountingDataSource countingDataSource = new StatementCountingDataSource(this.dataSource);
+		JdbcTaskExecutionDao registryDao = new JdbcTaskExecutionDao(countingDataSource);
+		registryDao.setTaskIncrementer(TestDBUtils.getIncrementer(this.dataSource));
+		registryDao.setTaskNameRegistryEnabled(true);
+		// the executions recorded above are not in the registry yet
+		assertThat(registryDao.getTaskNames()).isEmpty();
+
+		registryDao.createTaskExecution("FOO2", LocalDateTime.now(), Collections.emptyList(), null);
+		TaskExecution started = registryDao.createTaskExecution(null, null, Collections.emptyList(), null);
+		registryDao.startTaskExecution(started.getExecutionId(), "FOO1", LocalDateTime.now(),
+				Collections.emptyList(), null);
+		registryDao.createTaskExecution("FOO2", LocalDateTime.now(), Collections.emptyList(), null);
+		assertThat(registryDao.getTaskNames()).containsExactly("FOO1", "FOO2");
+
+		// once the registry is known to hold the name it is no longer written
+		countingDataSource.reset();
+		registryDao.createTaskExecution("FOO2", LocalDateTime.now(), Collections.emptyList(), null);
+		assertThat(countingDataSource.getStatements()).noneMatch(sql -> sql.contains("TASK_NAMES"));
+	}
+
+	@Test
+	@DirtiesContext
+	public void testExecutionCounters() {
+		TestDBUtils.createOptionalTables(this.dataSource);
+		StatementCountingDataSource countingDataSource = new StatementCountingDataSource(this.dataSource);
+		JdbcTaskExecutionDao countersDao = new JdbcTaskExecutionDao(countingDataSource);
+		countersDao.setTaskIncrementer(TestDBUtils.getIncrementer(this.dataSource));
+		countersDao.setExecutionCountersEnabled(true);
+		countersDao.setExecutionCounterStripes(3);
+		LocalDateTime now = LocalDateTime.now();
+		TaskExecution succeeded = countersDao.createTaskExecution("FOO", now, Collections.emptyList(), null);
+		TaskExecution failed = countersDao.createTaskExecution("FOO", now, Collections.emptyList(), null);
+		countersDao.createTaskExecution("FOO", now, Collections.emptyList(), null);
+		TaskExecution started = countersDao.createTaskExecution(null, null, Collections.emptyList(), null);
+		countersDao.startTaskExecution(started.getExecutionId(), "FOO", now, Collections.emptyList(), null);
+		countersDao.createTaskExecution("BAR", now, Collections.emptyList(), null);
+		countingDataSource.reset();
+		countersDao.completeTaskExecution(succeeded.getExecutionId(), 0, now, null);
+		// the counter row is updated from the task execution row without reading it first
+		assertThat(countingDataSource.getStatementCount()).isEqualTo(2);
+		countersDao.completeTaskExecution(failed.getExecutionId(), 1, now, null);
+		countingDataSource.reset();
+		// starting a task execution under its task name keeps its counters and exit code
+		countersDao.startTaskExecution(succeeded.getExecutionId(), "FOO", now, Collections.emptyList(), null);
+		assertThat(countingDataSource.getStatementCount()).isEqualTo(1);
+
+		assertThat(countersDao.getTaskExecutionCounts("FOO")).isEqualTo(new TaskExecutionCounts(4, 2, 1, 1));
+		assertThat(countersDao.getTaskExecutionCounts(null)).isEqualTo(new TaskExecutionCounts(5, 3, 1, 1));
+		assertThat(countersDao.getTaskExecutionCounts("BAZ")).isEqualTo(new TaskExecutionCounts(0, 0, 0, 0));
+		assertThat(countersDao.getTaskExecutionCount()).isEqualTo(5);
+		assertThat(countersDao.getRunningTaskExecutionCount()).isEqualTo(3);
+		assertThat(countersDao.getTaskExecutionCountByTaskName("BAR")).isEqualTo(1);
+		assertThat(countersDao.getRunningTaskExecutionCountByTaskName("FOO")).isEqualTo(2);
+		// the counters agree with the counts computed from the task executions
+		assertThat(this.dao.getTaskExecutionCounts("FOO")).isEqualTo(countersDao.getTaskExecutionCounts("FOO"));
+		assertThat(this.dao.getTaskExecutionCounts(null)).isEqualTo(countersDao.getTaskExecutionCounts(null));
+		// the consecutive task executions of FOO are spread over the three stripes
+		assertThat(new JdbcTemplate(this.dataSource).queryForObject(
+				"SELECT COUNT(*) FROM TASK_EXECUTION_COUNTS WHERE TASK_NAME = 'FOO'", Integer.class))
+			.isEqualTo(3);
+	}
+
+	@Test
+	@DirtiesContext
+	public void testExecutionCountersAfterStripeCountChange() {
+		TestDBUtils.createOptionalTables(this.dataSource);
+		JdbcTaskExecutionDao countersDao = (JdbcTaskExecutionDao) this.dao;
+		countersDao.setExecutionCountersEnabled(true);
+		countersDao.setExecutionCounterStripes(1);
+		LocalDateTime now = LocalDateTime.now();
+		List<TaskExecution> taskExecutions = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			taskExecutions.add(countersDao.createTaskExecution("FOO", now, Collections.emptyList(), null));
+		}
+
+		// the task executions are completed on stripes that do not exist yet
+		countersDao.setExecutionCounterStripes(5);
+		for (int i = 0; i < taskExecutions.size(); i++) {
+			countersDao.completeTaskExecution(taskExecutions.get(i).getExecutionId(), i % 2, now, null);
+		}
+
+		assertThat(countersDao.getTaskExecutionCounts("FOO")).isEqualTo(new TaskExecutionCounts(4, 0, 2, 2));
+	}
+
+	@ParameterizedTest
+	@DirtiesContext
+	@ValueSource(booleans = { false, true })
+	public void testLatestTaskExecutionsForManyTaskNames(boolean summaryEnabled) {
+		TestDBUtils.createOptionalTables(this.dataSource);
+		JdbcTaskExecutionDao jdbcDao = (JdbcTaskExecutionDao) this.dao;
+		jdbcDao.setLatestExecutionSummaryEnabled(summaryEnabled);
+		LocalDateTime startTime = LocalDateTime.now();
+		String[] taskNames = new String[1500];
+		for (int i = 0; i < taskNames.length; i++) {
+			taskNames[i] = "TASK" + i;
+			jdbcDao.createTaskExecution(taskNames[i], startTime.minusSeconds(i), Collections.emptyList(), null);
+		}
+
+		List<TaskExecution> latest = jdbcDao.getLatestTaskExecutionsByTaskNames(taskNames);
+
+		assertThat(latest).hasSize(taskNames.length);
+		assertThat(latest.get(0).getTaskName()).isEqualTo("TASK0");
+		assertThat(latest.get(taskNames.length - 1).getTaskName()).isEqualTo("TASK1499");
+	}
+
+	@ParameterizedTest
+	@DirtiesContext
+	@ValueSource(strings = { "db", "map" })
+	public void testSlicesMatchPages(String testType) {
+		getDao(testType);
+		for (int i = 0; i < 5; i++) {
+			this.dao.createTaskExecution("FOO", LocalDateTime.now().minusMinutes(i), Collections.emptyList(), "EXT");
+		}
+		this.dao.createTaskExecution("BAR", LocalDateTime.now(), Collections.emptyList(), "EXT");
+
+		for (int pageNumber = 0; pageNumber < 4; pageNumber++) {
+			Pageable pageable = PageRequest.of(pageNumber, 2);
+			Slice<TaskExecution> slice = this.dao.sliceAll(pageable);
+			Page<TaskExecution> page = this.dao.findAll(pageable);
+			assertThat(slice.getContent()).containsExactlyElementsOf(page.getContent());
+			assertThat(slice.hasNext()).isEqualTo(page.hasNext());
+		}
+
+		Slice<TaskExecution> slice = this.dao.sliceTaskExecutionsByName("FOO", PageRequest.of(0, 2));
+		assertThat(slice.getContent()).hasSize(2);
+		assertThat(slice.hasNext()).isTrue();
+		slice = this.dao.sliceTaskExecutionsByName("FOO", slice.nextPageable());
+		assertThat(slice.getContent()).hasSize(2);
+		assertThat(slice.hasNext()).isTrue();
+		slice = this.dao.sliceTaskExecutionsByName("FOO", slice.nextPageable());
+		assertThat(slice.getContent()).hasSize(1);
+		assertThat(slice.hasNext()).isFalse();
+
+		assertThat(this.dao.sliceRunningTaskExecutions("BAR", PageRequest.of(0, 1)).hasNext()).isFalse();
+		assertThat(this.dao.sliceTaskExecutionsByExternalExecutionId("EXT", PageRequest.of(1, 3)).getContent())
+			.hasSize(3);
+		assertThat(this.dao.sliceTaskExecutionsByExternalExecutionId("EXT", PageRequest.of(1, 3)).hasNext())
+			.isFalse();
+	}
+
+	@Test
+	@DirtiesContext
+	public void testSlicesDoNotCount() {
+		StatementCountingDataSource countingDataSource = new StatementCountingDataSource(this.dataSource);
+		JdbcTaskExecutionDao countingDao = new JdbcTaskExecutionDao(countingDataSource);
+		countingDao.setTaskIncrementer(TestDBUtils.getIncrementer(this.dataSource));
+		for (int i = 0; i < 5; i++) {
+			countingDao.createTaskExecution("FOO", LocalDateTime.now(), Collections.singletonList("a=" + i), null);
+		}
+
+		countingDataSource.reset();
+		Slice<TaskExecution> slice = countingDao.sliceAll(PageRequest.of(1, 2, Sort.by("TASK_EXECUTION_ID")));
+		assertThat(slice.getContent()).extracting(TaskExecution::getArguments).allSatisfy(a -> assertThat(a).hasSize(1));
+		assertThat(slice.hasNext()).isTrue();
+		// the slice and its arguments, no count query
+		assertThat(countingDataSource.getStatements()).hasSize(2)
+			.noneMatch(sql -> sql.toUpperCase().contains("COUNT("));
+	}
+
+	@Test
+	public void testInvalidCursorToken() {
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> TaskExecutionCursor.fromToken("not-a-cursor"));
+		TaskExecutionCursor cursor = TaskExecutionCursor.of(LocalDateTime.now(), 42L);
+		assertThat(TaskExecutionCursor.fromToken(cursor.toToken())).isEqualTo(cursor);
+		TaskExecutionCursor unstartedCursor = TaskExecutionCursor.of(null, 42L);
+		assertThat(TaskExecutionCursor.fromToken(unstartedCursor.toToken())).isEqualTo(unstartedCursor);
+		assertThat(unstartedCursor).isNotEqualTo(cursor);
+	}
+
+	@Test
+	public void testMapIndexesFollowUpdates() {
+		MapTaskExecutionDao mapDao = new MapTaskExecutionDao();
+		LocalDateTime startTime = LocalDateTime.now();
+		TaskExecution first = mapDao.createTaskExecution(null, null, Collections.emptyList(), null);
+		TaskExecution second = mapDao.createTaskExecution("BAR", startTime, Collections.emptyList(), "EXT");
+		mapDao.startTaskExecution(first.getExecutionId(), "FOO", startTime.plusSeconds(1), Collections.emptyList(),
+				"EXT");
+		mapDao.completeTaskExecution(second.getExecutionId(), 0, LocalDateTime.now(), null);
+		mapDao.updateExternalExecutionId(second.getExecutionId(), "OTHER");
+
+		assertThat(mapDao.getTaskNames()).containsExactly("BAR", "FOO");
+		assertThat(mapDao.getTaskExecutionCountByTaskName("FOO")).isEqualTo(1);
+		assertThat(mapDao.getRunningTaskExecutionCount()).isEqualTo(1);
+		assertThat(mapDao.getRunningTaskExecutionCountByTaskName("BAR")).isEqualTo(0);
+		assertThat(mapDao.getTaskExecutionCountByExternalExecutionId("EXT")).isEqualTo(1);
+		assertThat(mapDao.getTaskExecutionCountByExternalExecutionId("OTHER")).isEqualTo(1);
+		assertThat(mapDao.findAll(PageRequest.of(0, 10)).getContent()).extracting(TaskExecution::getExecutionId)
+			.containsExactly(first.getExecutionId(), second.getExecutionId());
+		assertThat(mapDao.getLatestTaskExecutionForTaskName("FOO").getExecutionId()).isEqualTo(first.getExecutionId());
+		assertThat(mapDao.findAll(PageRequest.of(5, 10)).getContent()).isEmpty();
+
+		mapDao.getBatchJobAssociations().put(first.getExecutionId(), new TreeSet<>(List.of(1L)));
+		mapDao.getBatchJobAssociations().get(first.getExecutionId()).add(2L);
+		assertThat(mapDao.getTaskExecutionIdByJobExecutionId(2L)).isEqualTo(first.getExecutionId());
+		assertThat(mapDao.getJobExecutionIdsByTaskExecutionId(first.getExecutionId())).containsExactly(1L, 2L);
+		mapDao.getBatchJobAssociations().remove(first.getExecutionId());
+		assertThat(mapDao.getTaskExecutionIdByJobExecutionId(1L)).isNull();
+	}
+
+	@Test
+	public void testMapEvictsCompletedExecutions() {
+		MapTaskExecutionDao mapDao = new MapTaskExecutionDao();
+		mapDao.setMaxCompletedExecutions(2);
+		mapDao.setCompletedExecutionTimeToLive(60000);
+		LocalDateTime now = LocalDateTime.now();
+		TaskExecution running = mapDao.createTaskExecution("FOO", now, Collections.emptyList(), "EXT");
+		List<Long> completedIds = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			TaskExecution taskExecution = mapDao.createTaskExecution("FOO", now,
+					Collections.singletonList(new String("arg=1")), "EXT");
+			mapDao.completeTaskExecution(taskExecution.getExecutionId(), 0, now, null);
+			completedIds.add(taskExecution.getExecutionId());
+		}
+
+		// the two oldest completions are evicted, the running execution is kept
+		assertThat(mapDao.getTaskExecutions()).containsOnlyKeys(running.getExecutionId(), completedIds.get(2),
+				completedIds.get(3));
+		assertThat(mapDao.getTaskExecutionCount()).isEqualTo(5);
+		assertThat(mapDao.getTaskExecutionCountByTaskName("FOO")).isEqualTo(5);
+		assertThat(mapDao.getTaskExecutionCountByExternalExecutionId("EXT")).isEqualTo(5);
+		assertThat(mapDao.findAll(PageRequest.of(0, 10)).getTotalElements()).isEqualTo(3);
+		assertThat(mapDao.getTaskExecution(completedIds.get(2)).getArguments().get(0))
+			.isSameAs(mapDao.getTaskExecution(completedIds.get(3)).getArguments().get(0));
+
+		TaskExecution expired = mapDao.createTaskExecution("BAR", now.minusMinutes(5), Collections.emptyList(),
+				null);
+		mapDao.completeTaskExecution(expired.getExecutionId(), 0, now.minusMinutes(2), null);
+		assertThat(mapDao.getTaskExecution(expired.getExecutionId())).isNull();
+		assertThat(mapDao.getTaskNames()).containsExactly("BAR", "FOO");
+		assertThat(mapDao.getRunningTaskExecutionCount()).isEqualTo(1);
+		// evicted task executions remain counted
+		assertThat(mapDao.getTaskExecutionCounts("FOO")).isEqualTo(new TaskExecutionCounts(5, 1, 4, 0));
+		assertThat(mapDao.getTaskExecutionCounts(null)).isEqualTo(new TaskExecutionCounts(6, 1, 5, 0));
+	}
+
 	private TaskExecution initializeTaskExecutionWithExternalExecutionId() {
 		TaskExecution expectedTaskExecution = TestVerifierUtils.createSampleTaskExecutionNoArg();
 		return this.dao.createTaskExecution(expectedTaskExecution.getTaskName(), expectedTaskExecution.getStartTime(),
@@ -0,0 +1,151 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.dao;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.TaskExecutionStatistics;
+import org.springframework.cloud.task.util.TestDBUtils;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.assertj.core.api.Assertions.withinPercentage;
+
+/**
+ * Verifies the task execution statistics computed by the database, on H2 with the
+ * percentile aggregate function and on HSQLDB without it, by the in-memory DAO and by
+ * the percentile estimate.
+ *
+ * @author agent
+ */
+public class TaskExecutionStatisticsTests {
+
+	private static final LocalDateTime START_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+	private EmbeddedDatabase database;
+
+	@AfterEach
+	public void tearDown() {
+		if (this.database != null) {
+			this.database.shutdown();
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = EmbeddedDatabaseType.class, names = { "H2", "HSQL" })
+	public void testJdbcStatistics(EmbeddedDatabaseType type) {
+		String platform = (type == EmbeddedDatabaseType.HSQL) ? "hsqldb" : "h2";
+		this.database = new EmbeddedDatabaseBuilder().generateUniqueName(true)
+			.setType(type)
+			.addScript("classpath:org/springframework/cloud/task/schema-" + platform + ".sql")
+			.build();
+		JdbcTaskExecutionDao dao = new JdbcTaskExecutionDao(this.database);
+		dao.setTaskIncrementer(TestDBUtils.getIncrementer(this.database));
+
+		verifyStatistics(dao);
+	}
+
+	@Test
+	public void testMapStatistics() {
+		verifyStatistics(new MapTaskExecutionDao());
+	}
+
+	private void verifyStatistics(TaskExecutionDao dao) {
+		createTaskExecution(dao, "FOO", START_TIME, 100, 0);
+		createTaskExecution(dao, "FOO", START_TIME.plusMinutes(1), 400, 1);
+		createTaskExecution(dao, "FOO", START_TIME.plusMinutes(2), 200, 0);
+		createTaskExecution(dao, "FOO", START_TIME.plusMinutes(3), 300, 0);
+		dao.createTaskExecution("FOO", START_TIME.plusMinutes(4), Collections.emptyList(), null);
+		// outside of the window or of another task
+		createTaskExecution(dao, "FOO", START_TIME.minusDays(1), 5000, 2);
+		createTaskExecution(dao, "BAR", START_TIME, 1000, 3);
+		TaskExecutionCriteria window = TaskExecutionCriteria.all().startedFrom(START_TIME);
+
+		TaskExecutionStatistics statistics = dao.getTaskExecutionStatistics("FOO", window);
+		assertThat(statistics.getCount()).isEqualTo(5);
+		assertThat(statistics.getCompletedCount()).isEqualTo(4);
+		assertThat(statistics.getExitCodeCounts()).containsExactly(entry(0, 3L), entry(1, 1L));
+		assertThat(statistics.getFailedCount()).isEqualTo(1);
+		assertThat(statistics.getFailureRate()).isEqualTo(0.25);
+		assertThat(statistics.getMinDuration()).isEqualTo(Duration.ofMillis(100));
+		assertThat(statistics.getAverageDuration()).isEqualTo(Duration.ofMillis(250));
+		assertThat(statistics.getMaxDuration()).isEqualTo(Duration.ofMillis(400));
+		assertDuration(statistics.getP50Duration(), 250);
+		assertDuration(statistics.getP95Duration(), 385);
+		assertDuration(statistics.getP99Duration(), 397);
+
+		TaskExecutionStatistics allTasks = dao.getTaskExecutionStatistics(null, TaskExecutionCriteria.all());
+		assertThat(allTasks.getCount()).isEqualTo(7);
+		assertThat(allTasks.getExitCodeCounts()).containsExactly(entry(0, 3L), entry(1, 1L), entry(2, 1L),
+				entry(3, 1L));
+		assertThat(allTasks.getMaxDuration()).isEqualTo(Duration.ofMillis(5000));
+
+		TaskExecutionStatistics none = dao.getTaskExecutionStatistics("BAZ", window);
+		assertThat(none.getCount()).isZero();
+		assertThat(none.getExitCodeCounts()).isEmpty();
+		assertThat(none.getFailureRate()).isZero();
+		assertThat(none.getAverageDuration()).isNull();
+		assertThat(none.getP99Duration()).isNull();
+	}
+
+	@Test
+	public void testDurationsEstimate() {
+		TaskExecutionDurations first = new TaskExecutionDurations();
+		TaskExecutionDurations second = new TaskExecutionDurations();
+		for (int i = 1; i <= 100_000; i++) {
+			((i % 2 == 0) ? first : second).add(i);
+		}
+		first.addAll(second);
+
+		assertThat(first.size()).isEqualTo(100_000);
+		assertThat(first.min()).isEqualTo(Duration.ofMillis(1));
+		assertThat(first.max()).isEqualTo(Duration.ofMillis(100_000));
+		assertThat(first.average()).isEqualTo(Duration.ofNanos(50_000_500_000L));
+		assertDuration(first.percentile(0.5), 50_000.5);
+		assertDuration(first.percentile(0.95), 95_000.05);
+		assertDuration(first.percentile(0.99), 99_000.01);
+		assertThat(new TaskExecutionDurations().percentile(0.5)).isNull();
+	}
+
+	/**
+	 * Percentiles are exact when computed by the database and estimated within one
+	 * percent otherwise.
+	 */
+	private static void assertDuration(Duration duration, double expectedMillis) {
+		assertThat((double) duration.toNanos()).isCloseTo(expectedMillis * 1_000_000, withinPercentage(1));
+	}
+
+	private static void createTaskExecution(TaskExecutionDao dao, String taskName, LocalDateTime startTime,
+			long durationMillis, int exitCode) {
+		TaskExecution taskExecution = dao.createTaskExecution(taskName, startTime, Collections.emptyList(), null);
+		dao.completeTaskExecution(taskExecution.getExecutionId(), exitCode,
+				startTime.plus(Duration.ofMillis(durationMillis)), null);
+	}
+
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.support;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCounts;
+import org.springframework.cloud.task.repository.TaskExplorer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link CachingTaskExplorer}.
+ *
+ * @author agent
+ */
+public class CachingTaskExplorerTests {
+
+	private final AtomicLong ticker = new AtomicLong();
+
+	private TaskExplorer delegate;
+
+	private CachingTaskExplorer taskExplorer;
+
+	@BeforeEach
+	public void setUp() {
+		this.delegate = mock(TaskExplorer.class);
+		this.taskExplorer = new CachingTaskExplorer(this.delegate, 2, 60000, 1000, this.ticker::get);
+	}
+
+	@Test
+	public void testCompletedExecutionIsCachedForCompletedTtl() {
+		given(this.delegate.getTaskExecution(1)).willReturn(taskExecution(1, LocalDateTime.now()));
+
+		this.taskExplorer.getTaskExecution(1);
+		advance(30000);
+		TaskExecution taskExecution = this.taskExplorer.getTaskExecution(1);
+
+		assertThat(taskExecution.getExecutionId()).isEqualTo(1);
+		verify(this.delegate, times(1)).getTaskExecution(1);
+
+		advance(30000);
+		this.taskExplorer.getTaskExecution(1);
+		verify(this.delegate, times(2)).getTaskExecution(1);
+	}
+
+	@Test
+	public void testRunningExecutionIsCachedForRunningTtl() {
+		given(this.delegate.getTaskExecution(1)).willReturn(taskExecution(1, null));
+
+		this.taskExplorer.getTaskExecution(1);
+		this.taskExplorer.getTaskExecution(1);
+		verify(this.delegate, times(1)).getTaskExecution(1);
+
+		advance(1000);
+		this.taskExplorer.getTaskExecution(1);
+		verify(this.delegate, times(2)).getTaskExecution(1);
+	}
+
+	@Test
+	public void testCachedExecutionCanNotBeAltered() {
+		given(this.delegate.getTaskExecution(1)).willReturn(taskExecution(1, LocalDateTime.now()));
+
+		this.taskExplorer.getTaskExecution(1).setExitMessage("altered");
+
+		assertThat(this.taskExplorer.getTaskExecution(1).getExitMessage()).isNull();
+	}
+
+	@Test
+	public void testLeastRecentlyUsedExecutionIsEvicted() {
+		for (long id = 1; id <= 3; id++) {
+			given(this.delegate.getTaskExecution(id)).willReturn(taskExecution(id, LocalDateTime.now()));
+			this.taskExplorer.getTaskExecution(id);
+		}
+
+		this.taskExplorer.getTaskExecution(3);
+		this.taskExplorer.getTaskExecution(1);
+
+		verify(this.delegate, times(1)).getTaskExecution(3);
+		verify(this.delegate, times(2)).getTaskExecution(1);
+	}
+
+	@Test
+	public void testCountsAreCachedForRunningTtl() {
+		given(this.delegate.getTaskExecutionCount()).willReturn(5L, 6L);
+
+		assertThat(this.taskExplorer.getTaskExecutionCount()).isEqualTo(5);
+		assertThat(this.taskExplorer.getTaskExecutionCount()).isEqualTo(5);
+		advance(1000);
+		assertThat(this.taskExplorer.getTaskExecutionCount()).isEqualTo(6);
+	}
+
+	@Test
+	public void testExecutionCountsAreCachedPerTaskNameForRunningTtl() {
+		given(this.delegate.getTaskExecutionCounts("foo")).willReturn(new TaskExecutionCounts(1, 1, 0, 0),
+				new TaskExecutionCounts(1, 0, 1, 0));
+		given(this.delegate.getTaskExecutionCounts(null)).willReturn(new TaskExecutionCounts(3, 1, 1, 1));
+
+		assertThat(this.taskExplorer.getTaskExecutionCounts("foo").getRunning()).isEqualTo(1);
+		assertThat(this.taskExplorer.getTaskExecutionCounts(null).getTotal()).isEqualTo(3);
+		assertThat(this.taskExplorer.getTaskExecutionCounts("foo").getRunning()).isEqualTo(1);
+		verify(this.delegate, times(1)).getTaskExecutionCounts("foo");
+
+		advance(1000);
+		assertThat(this.taskExplorer.getTaskExecutionCounts("foo").getSucceeded()).isEqualTo(1);
+		verify(this.delegate, times(2)).getTaskExecutionCounts("foo");
+	}
+
+	@Test
+	public void testJobExecutionIdsOfCompletedExecutionAreCachedForCompletedTtl() {
+		given(this.delegate.getTaskExecution(1)).willReturn(taskExecution(1, LocalDateTime.now()));
+		given(this.delegate.getJobExecutionIdsByTaskExecutionId(1)).willReturn(Collections.singleton(7L));
+
+		this.taskExplorer.getTaskExecution(1);
+		this.taskExplorer.getJobExecutionIdsByTaskExecutionId(1);
+		advance(30000);
+
+		assertThat(this.taskExplorer.getJobExecutionIdsByTaskExecutionId(1)).containsExactly(7L);
+		verify(this.delegate, times(1)).getJobExecutionIdsByTaskExecutionId(1);
+	}
+
+	@Test
+	public void testMetrics() {
+		SimpleMeterRegistry registry = new SimpleMeterRegistry();
+		this.taskExplorer.bindTo(registry);
+		given(this.delegate.getTaskExecution(1)).willReturn(taskExecution(1, LocalDateTime.now()));
+
+		this.taskExplorer.getTaskExecution(1);
+		this.taskExplorer.getTaskExecution(1);
+		this.taskExplorer.getTaskExecution(1);
+
+		assertThat(registry.get("spring.cloud.task.explorer.cache.gets")
+			.tags("cache", "executions", "result", "hit")
+			.functionCounter()
+			.count()).isEqualTo(2);
+		assertThat(registry.get("spring.cloud.task.explorer.cache.gets")
+			.tags("cache", "executions", "result", "miss")
+			.functionCounter()
+			.count()).isEqualTo(1);
+		assertThat(registry.get("spring.cloud.task.explorer.cache.size").tags("cache", "executions").gauge().value())
+			.isEqualTo(1);
+	}
+
+	private void advance(long millis) {
+		this.ticker.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+	}
+
+	private static TaskExecution taskExecution(long id, LocalDateTime endTime) {
+		return new TaskExecution(id, (endTime != null) ? 0 : null, "cached", LocalDateTime.now(), endTime, null,
+				Collections.emptyList(), null, null);
+	}
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.support;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExplorer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link ReadReplicaTaskExplorer}.
+ *
+ * @author agent
+ */
+public class ReadReplicaTaskExplorerTests {
+
+	private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-01-01T12:00:00Z"), ZoneId.of("UTC"));
+
+	private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+
+	private TaskExplorer primary;
+
+	private TaskExplorer replica;
+
+	private ReadReplicaTaskExplorer taskExplorer;
+
+	@BeforeEach
+	public void setUp() {
+		this.primary = mock(TaskExplorer.class);
+		this.replica = mock(TaskExplorer.class);
+		this.taskExplorer = new ReadReplicaTaskExplorer(this.primary, this.replica, 5000, CLOCK);
+	}
+
+	@Test
+	public void testQueriesAreSentToReplica() {
+		given(this.replica.getTaskExecutionCount()).willReturn(3L);
+		given(this.replica.getTaskNames()).willReturn(Collections.singletonList("FOO"));
+
+		assertThat(this.taskExplorer.getTaskExecutionCount()).isEqualTo(3);
+		assertThat(this.taskExplorer.getTaskNames()).containsExactly("FOO");
+		verifyNoInteractions(this.primary);
+	}
+
+	@Test
+	public void testCompletedExecutionIsReadFromReplica() {
+		TaskExecution completed = taskExecution(1, NOW, NOW);
+		given(this.replica.getTaskExecution(1)).willReturn(completed);
+
+		assertThat(this.taskExplorer.getTaskExecution(1)).isSameAs(completed);
+		verifyNoInteractions(this.primary);
+	}
+
+	@Test
+	public void testSettledRunningExecutionIsReadFromReplica() {
+		TaskExecution running = taskExecution(1, NOW.minusSeconds(10), null);
+		given(this.replica.getTaskExecution(1)).willReturn(running);
+
+		assertThat(this.taskExplorer.getTaskExecution(1)).isSameAs(running);
+		verifyNoInteractions(this.primary);
+	}
+
+	@Test
+	public void testRecentlyStartedExecutionIsReadFromPrimary() {
+		TaskExecution completed = taskExecution(1, NOW.minusSeconds(1), NOW);
+		given(this.replica.getTaskExecution(1)).willReturn(taskExecution(1, NOW.minusSeconds(1), null));
+		given(this.primary.getTaskExecution(1)).willReturn(completed);
+
+		assertThat(this.taskExplorer.getTaskExecution(1)).isSameAs(completed);
+	}
+
+	@Test
+	public void testUnstartedOrUnknownExecutionIsReadFromPrimary() {
+		TaskExecution created = taskExecution(1, null, null);
+		TaskExecution started = taskExecution(1, NOW, null);
+		given(this.replica.getTaskExecution(1)).willReturn(created);
+		given(this.primary.getTaskExecution(1)).willReturn(started);
+		given(this.primary.getTaskExecution(2)).willReturn(started);
+
+		assertThat(this.taskExplorer.getTaskExecution(1)).isSameAs(started);
+		assertThat(this.taskExplorer.getTaskExecution(2)).isSameAs(started);
+		verify(this.replica).getTaskExecution(2);
+	}
+
+	@Test
+	public void testUnknownJobExecutionIsReadFromPrimary() {
+		given(this.replica.getTaskExecutionIdByJobExecutionId(1)).willReturn(7L);
+		given(this.primary.getTaskExecutionIdByJobExecutionId(2)).willReturn(8L);
+
+		assertThat(this.taskExplorer.getTaskExecutionIdByJobExecutionId(1)).isEqualTo(7);
+		assertThat(this.taskExplorer.getTaskExecutionIdByJobExecutionId(2)).isEqualTo(8);
+	}
+
+	@Test
+	public void testUnknownJobExecutionIdsAreReadFromPrimary() {
+		given(this.replica.getJobExecutionIdsByTaskExecutionId(1)).willReturn(Collections.singleton(7L));
+		given(this.replica.getJobExecutionIdsByTaskExecutionId(2)).willReturn(Collections.emptySet());
+		given(this.primary.getJobExecutionIdsByTaskExecutionId(2)).willReturn(Collections.singleton(8L));
+
+		assertThat(this.taskExplorer.getJobExecutionIdsByTaskExecutionId(1)).containsExactly(7L);
+		assertThat(this.taskExplorer.getJobExecutionIdsByTaskExecutionId(2)).containsExactly(8L);
+		verify(this.primary, never()).getJobExecutionIdsByTaskExecutionId(1);
+	}
+
+	@Test
+	public void testZeroToleranceOnlyRereadsUnstartedExecutions() {
+		this.taskExplorer = new ReadReplicaTaskExplorer(this.primary, this.replica, 0, CLOCK);
+		TaskExecution running = taskExecution(1, NOW, null);
+		given(this.replica.getTaskExecution(1)).willReturn(running);
+
+		assertThat(this.taskExplorer.getTaskExecution(1)).isSameAs(running);
+		assertThat(this.taskExplorer.getPrimary()).isSameAs(this.primary);
+		verifyNoInteractions(this.primary);
+	}
+
+	private static TaskExecution taskExecution(long executionId, LocalDateTime startTime, LocalDateTime endTime) {
+		return new TaskExecution(executionId, null, "FOO", startTime, endTime, null, Collections.emptyList(), null,
+				null);
+	}
+
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.support;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.UUID;
+
+import io.r2dbc.h2.CloseableConnectionFactory;
+import io.r2dbc.h2.H2ConnectionFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.dao.JdbcTaskExecutionDao;
+import org.springframework.cloud.task.repository.dao.R2dbcTaskExecutionDao;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.r2dbc.connection.init.ResourceDatabasePopulator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests the reactive task repository and task explorer against H2 through R2DBC.
+ *
+ * @author agent
+ */
+public class SimpleReactiveTaskRepositoryTests {
+
+	private static final LocalDateTime START_TIME = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+	private CloseableConnectionFactory connectionFactory;
+
+	private SimpleReactiveTaskRepository taskRepository;
+
+	private SimpleReactiveTaskExplorer taskExplorer;
+
+	private R2dbcTaskExecutionDao dao;
+
+	private DriverManagerDataSource dataSource;
+
+	@BeforeEach
+	public void setup() {
+		String databaseName = UUID.randomUUID().toString();
+		// the database is kept open until the connection factory is closed
+		this.connectionFactory = H2ConnectionFactory.inMemory(databaseName);
+		new ResourceDatabasePopulator(new ClassPathResource("org/springframework/cloud/task/schema-h2.sql"))
+			.populate(this.connectionFactory)
+			.block();
+		this.dao = new R2dbcTaskExecutionDao(this.connectionFactory);
+		this.taskRepository = new SimpleReactiveTaskRepository(this.dao);
+		this.taskExplorer = new SimpleReactiveTaskExplorer(this.dao);
+		this.dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + databaseName);
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.connectionFactory.close();
+	}
+
+	@Test
+	public void testTaskExecutionLifecycle() {
+		TaskExecution created = this.taskRepository.createTaskExecution("FOO").block();
+		this.taskRepository
+			.startTaskExecution(created.getExecutionId(), "FOO", START_TIME, Arrays.asList("a=b", "c=d"), "ext-1",
+					null)
+			.block();
+		TaskExecution completed = this.taskRepository
+			.completeTaskExecution(created.getExecutionId(), 0, START_TIME.plusMinutes(1), "done", null)
+			.block();
+
+		assertThat(completed.getTaskName()).isEqualTo("FOO");
+		assertThat(completed.getExitCode()).isZero();
+		assertThat(completed.getEndTime()).isEqualTo(START_TIME.plusMinutes(1));
+		assertThat(completed.getExternalExecutionId()).isEqualTo("ext-1");
+		assertThat(completed.getArguments()).containsExactlyInAnyOrder("a=b", "c=d");
+
+		// the task executions are stored in the tables read by the JDBC task repository
+		JdbcTaskExecutionDao jdbcDao = new JdbcTaskExecutionDao(this.dataSource);
+		TaskExecution stored = jdbcDao.getTaskExecution(created.getExecutionId());
+		assertThat(stored.getExitMessage()).isEqualTo("done");
+		assertThat(stored.getArguments()).containsExactlyInAnyOrder("a=b", "c=d");
+	}
+
+	@Test
+	public void testCompleteUnknownTaskExecution() {
+		StepVerifier.create(this.taskRepository.completeTaskExecution(12345, 0, START_TIME, null, null))
+			.expectError(IllegalStateException.class)
+			.verify();
+	}
+
+	@Test
+	public void testWritesRefusedWhileMaintainedTablesExist() {
+		new ResourceDatabasePopulator(
+				new ClassPathResource("org/springframework/cloud/task/migration/3.1.x/optional-tables-h2.sql"))
+			.populate(this.connectionFactory)
+			.block();
+
+		StepVerifier.create(this.taskRepository.createTaskExecution("FOO"))
+			.expectErrorSatisfies((ex) -> assertThat(ex).isInstanceOf(IllegalStateException.class)
+				.hasMessageContaining("TASK_EXECUTION_LATEST")
+				.hasMessageContaining("TASK_TASK_NAMES")
+				.hasMessageContaining("TASK_EXECUTION_COUNTS"))
+			.verify();
+		assertThat(this.taskExplorer.getTaskExecutionCount().block()).isZero();
+	}
+
+	@Test
+	public void testPagingAndStreaming() {
+		for (int i = 0; i < 5; i++) {
+			createTaskExecution("FOO", START_TIME.plusMinutes(i), "arg=" + i);
+		}
+		TaskExecution bar = createTaskExecution("BAR", START_TIME, "arg=bar");
+		this.taskRepository.completeTaskExecution(bar.getExecutionId(), 1, START_TIME.plusMinutes(1), null, null)
+			.block();
+
+		Page<TaskExecution> page = this.taskExplorer.findTaskExecutionsByName("FOO", PageRequest.of(1, 2)).block();
+		assertThat(page.getTotalElements()).isEqualTo(5);
+		assertThat(page.getContent()).extracting(TaskExecution::getStartTime)
+			.containsExactly(START_TIME.plusMinutes(2), START_TIME.plusMinutes(1));
+		assertThat(page.getContent()).extracting((taskExecution) -> taskExecution.getArguments().get(0))
+			.containsExactly("arg=2", "arg=1");
+		Page<TaskExecution> sorted = this.taskExplorer
+			.findAll(PageRequest.of(0, 10, Sort.by("TASK_NAME", "TASK_EXECUTION_ID")))
+			.block();
+		assertThat(sorted.getContent()).extracting(TaskExecution::getTaskName)
+			.containsExactly("BAR", "FOO", "FOO", "FOO", "FOO", "FOO");
+		assertThat(this.taskExplorer.findRunningTaskExecutions("BAR", PageRequest.of(0, 10)).block()).isEmpty();
+		StepVerifier.create(this.taskExplorer.findAll(PageRequest.of(0, 10, Sort.by("UNKNOWN"))))
+			.expectError(IllegalArgumentException.class)
+			.verify();
+
+		// batches of two task executions have their arguments loaded as they are consumed
+		this.dao.setStreamFetchSize(2);
+		assertThat(this.taskExplorer
+			.streamTaskExecutionsByName("FOO", TaskExecutionCriteria.all().startedFrom(START_TIME.plusMinutes(1)))
+			.map((taskExecution) -> taskExecution.getArguments().get(0))
+			.collectList()
+			.block()).containsExactly("arg=1", "arg=2", "arg=3", "arg=4");
+		StepVerifier.create(this.taskExplorer.streamAll(TaskExecutionCriteria.all().completedOnly()))
+			.expectNextMatches((taskExecution) -> taskExecution.getExecutionId() == bar.getExecutionId())
+			.verifyComplete();
+
+		StepVerifier.create(this.taskExplorer.getTaskNames()).expectNext("BAR", "FOO").verifyComplete();
+		assertThat(this.taskExplorer.getTaskExecutionCount().block()).isEqualTo(6);
+		assertThat(this.taskExplorer.getTaskExecutionCountByTaskName("FOO").block()).isEqualTo(5);
+		assertThat(this.taskExplorer.getRunningTaskExecutionCount().block()).isEqualTo(5);
+		assertThat(this.taskExplorer.getLatestTaskExecutionForTaskName("FOO").block().getStartTime())
+			.isEqualTo(START_TIME.plusMinutes(4));
+		StepVerifier.create(this.taskExplorer.getLatestTaskExecutionForTaskName("BAZ")).verifyComplete();
+	}
+
+	private TaskExecution createTaskExecution(String taskName, LocalDateTime startTime, String argument) {
+		TaskExecution taskExecution = new TaskExecution(0, null, taskName, startTime, null, null,
+				Collections.singletonList(argument), null, null);
+		return this.taskRepository.createTaskExecution(taskExecution).block();
+	}
+
+}
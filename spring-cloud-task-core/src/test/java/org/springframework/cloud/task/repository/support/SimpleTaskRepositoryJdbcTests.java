@@ -31,6 +31,7 @@ import org.springframework.boot.autoconfigure.jdbc.EmbeddedDataSourceConfigurati
 import org.springframework.cloud.task.configuration.SimpleTaskAutoConfiguration;
 import org.springframework.cloud.task.repository.TaskExecution;
 import org.springframework.cloud.task.repository.TaskRepository;
+import org.springframework.cloud.task.util.StatementCountingDataSource;
 import org.springframework.cloud.task.util.TaskExecutionCreator;
 import org.springframework.cloud.task.util.TestDBUtils;
 import org.springframework.cloud.task.util.TestVerifierUtils;
@@ -324,6 +325,38 @@ public class SimpleTaskRepositoryJdbcTests {
 		});
 	}
 
+	@Test
+	public void testCompleteTaskExecutionIssuesSingleStatement() {
+		StatementCountingDataSource countingDataSource = new StatementCountingDataSource(this.dataSource);
+		SimpleTaskRepository simpleTaskRepository = new SimpleTaskRepository(
+				new TaskExecutionDaoFactoryBean(countingDataSource));
+		simpleTaskRepository.setMaxExitMessageSize(5);
+
+		TaskExecution taskExecution = TaskExecutionCreator.createAndStoreTaskExecutionNoParams(simpleTaskRepository);
+		taskExecution.setEndTime(LocalDateTime.now());
+		taskExecution.setExitCode(3);
+		taskExecution.setExitMessage("exited normally");
+
+		countingDataSource.reset();
+		TaskExecution completedTaskExecution = simpleTaskRepository.completeTaskExecution(taskExecution);
+		assertThat(countingDataSource.getStatements()).hasSize(1).allMatch(sql -> sql.startsWith("UPDATE"));
+		assertThat(completedTaskExecution.getExitMessage()).isEqualTo("exite");
+		assertThat(taskExecution.getExitMessage()).isEqualTo("exited normally");
+
+		TaskExecution storedTaskExecution = TestDBUtils.getTaskExecutionFromDB(this.dataSource,
+				taskExecution.getExecutionId());
+		TestVerifierUtils.verifyTaskExecution(completedTaskExecution, storedTaskExecution);
+	}
+
+	@Test
+	public void testCompleteTaskExecutionForMissingExecution() {
+		TaskExecution taskExecution = new TaskExecution(Long.MAX_VALUE, 0, "missing", LocalDateTime.now(),
+				LocalDateTime.now(), null, Collections.emptyList(), null, null);
+		assertThatExceptionOfType(IllegalStateException.class)
+			.isThrownBy(() -> this.taskRepository.completeTaskExecution(taskExecution))
+			.withMessage("Invalid TaskExecution, ID " + Long.MAX_VALUE + " not found.");
+	}
+
 	private TaskExecution completeTaskExecution(TaskExecution expectedTaskExecution, TaskRepository taskRepository) {
 		return taskRepository.completeTaskExecution(expectedTaskExecution.getExecutionId(),
 				expectedTaskExecution.getExitCode(), LocalDateTime.now(), expectedTaskExecution.getExitMessage(),
@@ -16,6 +16,9 @@
 
 package org.springframework.cloud.task.repository.support;
 
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+
 import javax.sql.DataSource;
 
 import org.junit.jupiter.api.AfterEach;
@@ -30,10 +33,14 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
 import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.jdbc.support.incrementer.H2SequenceMaxValueIncrementer;
+import org.springframework.jdbc.support.incrementer.MySQLMaxValueIncrementer;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 /**
  * @author Michael Minella
@@ -106,6 +113,41 @@ public class TaskExecutionDaoFactoryBeanTests {
 		assertThat(ReflectionTestUtils.getField(taskExecutionDao, "tablePrefix")).isEqualTo("foo_");
 	}
 
+	@Test
+	public void testSettingExecutionIdBlockSize() throws Exception {
+		this.context = new AnnotationConfigApplicationContext(DefaultDataSourceConfiguration.class);
+
+		DataSource dataSource = this.context.getBean(DataSource.class);
+
+		TaskExecutionDaoFactoryBean factoryBean = new TaskExecutionDaoFactoryBean(dataSource);
+		factoryBean.setExecutionIdBlockSize(10);
+		TaskExecutionDao taskExecutionDao = factoryBean.getObject();
+
+		// native sequences hand out the ids one at a time
+		assertThat(ReflectionTestUtils.getField(taskExecutionDao, "taskIncrementer"))
+			.isInstanceOf(H2SequenceMaxValueIncrementer.class);
+		assertThatExceptionOfType(IllegalArgumentException.class)
+			.isThrownBy(() -> factoryBean.setExecutionIdBlockSize(0));
+	}
+
+	@Test
+	public void testSettingExecutionIdBlockSizeWithTableSequence() throws Exception {
+		DataSource dataSource = mock(DataSource.class);
+		Connection connection = mock(Connection.class);
+		DatabaseMetaData metaData = mock(DatabaseMetaData.class);
+		given(dataSource.getConnection()).willReturn(connection);
+		given(connection.getMetaData()).willReturn(metaData);
+		given(metaData.getDatabaseProductName()).willReturn("MySQL");
+
+		TaskExecutionDaoFactoryBean factoryBean = new TaskExecutionDaoFactoryBean(dataSource);
+		factoryBean.setExecutionIdBlockSize(10);
+		TaskExecutionDao taskExecutionDao = factoryBean.getObject();
+
+		Object incrementer = ReflectionTestUtils.getField(taskExecutionDao, "taskIncrementer");
+		assertThat(incrementer).isInstanceOf(MySQLMaxValueIncrementer.class);
+		assertThat(((MySQLMaxValueIncrementer) incrementer).getCacheSize()).isEqualTo(10);
+	}
+
 	@Configuration
 	public static class DefaultDataSourceConfiguration {
 
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.support;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.TaskExecutionCounts;
+import org.springframework.cloud.task.repository.TaskExecutionCriteria;
+import org.springframework.cloud.task.repository.dao.JdbcTaskExecutionDao;
+import org.springframework.cloud.task.util.StatementCountingDataSource;
+import org.springframework.cloud.task.util.TestDBUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.tuple;
+
+/**
+ * Tests for {@link TaskExecutionPurgeService}.
+ *
+ * @author agent
+ */
+public class TaskExecutionPurgeServiceTests {
+
+	private EmbeddedDatabase database;
+
+	private JdbcTemplate jdbcTemplate;
+
+	private LocalDateTime now;
+
+	@BeforeEach
+	public void setUp() {
+		this.database = new EmbeddedDatabaseBuilder().generateUniqueName(true)
+			.setType(EmbeddedDatabaseType.H2)
+			.addScript("classpath:org/springframework/cloud/task/schema-h2.sql")
+			.addScript("classpath:org/springframework/cloud/task/migration/3.1.x/optional-tables-h2.sql")
+			.build();
+		this.jdbcTemplate = new JdbcTemplate(this.database);
+		this.now = LocalDateTime.now();
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.database.shutdown();
+	}
+
+	@Test
+	public void testPurgesCompletedExecutionsOlderThanRetention() {
+		for (long id = 1; id <= 7; id++) {
+			insertTaskExecution(id, "FOO", this.now.minusDays(10));
+		}
+		insertTaskExecution(8, "FOO", this.now.minusHours(1));
+		insertTaskExecution(9, "FOO", null);
+		StatementCountingDataSource countingDataSource = new StatementCountingDataSource(this.database);
+		TaskExecutionPurgeService purgeService = new TaskExecutionPurgeService(countingDataSource);
+		purgeService.setBatchSize(3);
+		purgeService.setPauseBetweenBatches(0);
+
+		TaskExecutionPurgeService.PurgeResult result = purgeService.purge(Duration.ofDays(1));
+
+		assertThat(result.getDeletedTaskExecutions()).isEqualTo(7);
+		// the executions along with their argument and job execution association
+		assertThat(result.getDeletedRows()).isEqualTo(21);
+		assertThat(result.getBatches()).isEqualTo(3);
+		assertThat(result.getRowsPerSecond()).isPositive();
+		assertThat(this.jdbcTemplate.queryForList("SELECT TASK_EXECUTION_ID FROM TASK_EXECUTION", Long.class))
+			.containsExactlyInAnyOrder(8L, 9L);
+		assertThat(count("TASK_EXECUTION_PARAMS")).isEqualTo(2);
+		assertThat(count("TASK_TASK_BATCH")).isEqualTo(2);
+		// a select and three deletes per batch, no select follows the partial last batch
+		assertThat(countingDataSource.getStatementCount()).isEqualTo(12);
+	}
+
+	@Test
+	public void testPurgesByTaskName() {
+		insertTaskExecution(1, "FOO", this.now.minusDays(10));
+		insertTaskExecution(2, "BAR", this.now.minusDays(10));
+		TaskExecutionPurgeService purgeService = new TaskExecutionPurgeService(this.database);
+
+		assertThat(purgeService.purge("BAR", Duration.ofDays(1)).getDeletedTaskExecutions()).isEqualTo(1);
+		assertThat(this.jdbcTemplate.queryForList("SELECT TASK_NAME FROM TASK_EXECUTION", String.class))
+			.containsExactly("FOO");
+	}
+
+	@Test
+	public void testPurgesBatchMetadata() {
+		createBatchTables();
+		insertTaskExecution(1, "FOO", this.now.minusDays(10));
+		insertTaskExecution(2, "FOO", this.now.minusDays(10));
+		insertTaskExecution(3, "FOO", this.now);
+		// job instance 1 is also executed by the task execution that is kept
+		insertJobExecution(1001, 1);
+		insertJobExecution(1002, 2);
+		insertJobExecution(1003, 1);
+		TaskExecutionPurgeService purgeService = new TaskExecutionPurgeService(this.database);
+		purgeService.setPurgeBatchMetadata(true);
+
+		TaskExecutionPurgeService.PurgeResult result = purgeService.purge(Duration.ofDays(1));
+
+		assertThat(result.getDeletedTaskExecutions()).isEqualTo(2);
+		assertThat(this.jdbcTemplate.queryForList("SELECT JOB_EXECUTION_ID FROM BATCH_JOB_EXECUTION", Long.class))
+			.containsExactly(1003L);
+		assertThat(this.jdbcTemplate.queryForList("SELECT JOB_INSTANCE_ID FROM BATCH_JOB_INSTANCE", Long.class))
+			.containsExactly(1L);
+		assertThat(count("BATCH_STEP_EXECUTION")).isEqualTo(1);
+		assertThat(count("BATCH_STEP_EXECUTION_CONTEXT")).isEqualTo(1);
+		assertThat(count("BATCH_JOB_EXECUTION_CONTEXT")).isEqualTo(1);
+		assertThat(count("BATCH_JOB_EXECUTION_PARAMS")).isEqualTo(1);
+	}
+
+	@Test
+	public void testArchivesCompletedExecutions() {
+		for (long id = 1; id <= 3; id++) {
+			insertTaskExecution(id, "FOO", this.now.minusDays(10));
+		}
+		insertTaskExecution(4, "FOO", this.now);
+		TaskExecutionPurgeService purgeService = new TaskExecutionPurgeService(this.database);
+		purgeService.setBatchSize(2);
+		purgeService.setPauseBetweenBatches(0);
+
+		TaskExecutionPurgeService.PurgeResult result = purgeService.archive(Duration.ofDays(1));
+
+		assertThat(result.getDeletedTaskExecutions()).isEqualTo(3);
+		assertThat(result.getBatches()).isEqualTo(2);
+		assertThat(result.toString()).startsWith("Archived 3 task executions");
+		assertThat(this.jdbcTemplate.queryForList("SELECT TASK_EXECUTION_ID FROM TASK_EXECUTION", Long.class))
+			.containsExactly(4L);
+		assertThat(count("TASK_EXECUTION_ARCHIVE")).isEqualTo(3);
+		assertThat(count("TASK_EXECUTION_ARCHIVE_PARAMS")).isEqualTo(3);
+		assertThat(count("TASK_TASK_BATCH_ARCHIVE")).isEqualTo(3);
+
+		JdbcTaskExecutionDao dao = new JdbcTaskExecutionDao(this.database);
+		assertThat(dao.getTaskExecution(1)).isNull();
+		assertThat(dao.getTaskExecutionIdByJobExecutionId(1001)).isNull();
+		try (Stream<TaskExecution> stream = dao.streamAll(TaskExecutionCriteria.all().includingArchived())) {
+			assertThat(stream.map(TaskExecution::getExecutionId)).containsExactly(4L);
+		}
+
+		dao.setArchiveEnabled(true);
+		TaskExecution archived = dao.getTaskExecution(1);
+		assertThat(archived.getTaskName()).isEqualTo("FOO");
+		assertThat(archived.getArguments()).containsExactly("param=1");
+		assertThat(dao.getTaskExecutionIdByJobExecutionId(1001)).isEqualTo(1);
+		assertThat(dao.getJobExecutionIdsByTaskExecutionId(1)).containsExactly(1001L);
+		assertThat(dao.getTaskExecutionCount()).isEqualTo(1);
+		try (Stream<TaskExecution> stream = dao.streamAll(TaskExecutionCriteria.all())) {
+			assertThat(stream.map(TaskExecution::getExecutionId)).containsExactly(4L);
+		}
+		try (Stream<TaskExecution> stream = dao.streamAll(TaskExecutionCriteria.all().includingArchived())) {
+			assertThat(stream).extracting(TaskExecution::getExecutionId, (e) -> e.getArguments().get(0))
+				.containsExactly(tuple(1L, "param=1"), tuple(2L, "param=2"), tuple(3L, "param=3"),
+						tuple(4L, "param=4"));
+		}
+	}
+
+	@Test
+	public void testPurgesArchive() {
+		insertTaskExecution(1, "FOO", this.now.minusDays(10));
+		insertTaskExecution(2, "FOO", this.now.minusDays(10));
+		TaskExecutionPurgeService purgeService = new TaskExecutionPurgeService(this.database);
+		purgeService.archive(Duration.ofDays(5));
+		insertTaskExecution(3, "FOO", this.now.minusDays(10));
+
+		assertThat(purgeService.purge(Duration.ofDays(1)).getDeletedTaskExecutions()).isEqualTo(1);
+		assertThat(count("TASK_EXECUTION_ARCHIVE")).isEqualTo(2);
+
+		purgeService.setArchiveEnabled(true);
+		insertTaskExecution(3, "FOO", this.now.minusDays(10));
+		TaskExecutionPurgeService.PurgeResult result = purgeService.purge(Duration.ofDays(1));
+
+		assertThat(result.getDeletedTaskExecutions()).isEqualTo(3);
+		assertThat(result.getDeletedRows()).isEqualTo(9);
+		assertThat(count("TASK_EXECUTION")).isZero();
+		assertThat(count("TASK_EXECUTION_ARCHIVE")).isZero();
+		assertThat(count("TASK_EXECUTION_ARCHIVE_PARAMS")).isZero();
+		assertThat(count("TASK_TASK_BATCH_ARCHIVE")).isZero();
+	}
+
+	@Test
+	public void testArchivingAndPurgingUpdateExecutionCounters() {
+		JdbcTaskExecutionDao dao = new JdbcTaskExecutionDao(this.database);
+		dao.setTaskIncrementer(TestDBUtils.getIncrementer(this.database));
+		dao.setExecutionCountersEnabled(true);
+		for (int exitCode = 0; exitCode < 4; exitCode++) {
+			TaskExecution taskExecution = dao.createTaskExecution("FOO", this.now.minusDays(20),
+					Collections.emptyList(), null);
+			dao.completeTaskExecution(taskExecution.getExecutionId(), exitCode,
+					this.now.minusDays(10 - 2 * exitCode), null);
+		}
+		dao.createTaskExecution("FOO", this.now, Collections.emptyList(), null);
+		assertThat(dao.getTaskExecutionCounts("FOO")).isEqualTo(new TaskExecutionCounts(5, 1, 1, 3));
+		TaskExecutionPurgeService purgeService = new TaskExecutionPurgeService(this.database);
+		purgeService.setExecutionCountersEnabled(true);
+
+		purgeService.archive(Duration.ofDays(7));
+		assertThat(dao.getTaskExecutionCounts("FOO")).isEqualTo(new TaskExecutionCounts(3, 1, 0, 2));
+
+		purgeService.purge(Duration.ofDays(1));
+		assertThat(dao.getTaskExecutionCounts("FOO")).isEqualTo(new TaskExecutionCounts(1, 1, 0, 0));
+	}
+
+	@Test
+	public void testPurgingUpdatesLatestExecutionSummaryAndTaskNameRegistry() {
+		JdbcTaskExecutionDao dao = new JdbcTaskExecutionDao(this.database);
+		dao.setTaskIncrementer(TestDBUtils.getIncrementer(this.database));
+		dao.setLatestExecutionSummaryEnabled(true);
+		dao.setTaskNameRegistryEnabled(true);
+		TaskExecution kept = dao.createTaskExecution("FOO", this.now.minusDays(30), Collections.emptyList(), null);
+		dao.completeTaskExecution(kept.getExecutionId(), 0, this.now, null);
+		TaskExecution purged = dao.createTaskExecution("FOO", this.now.minusDays(20), Collections.emptyList(),
+				null);
+		dao.completeTaskExecution(purged.getExecutionId(), 0, this.now.minusDays(10), null);
+		TaskExecution other = dao.createTaskExecution("BAR", this.now.minusDays(20), Collections.emptyList(), null);
+		dao.completeTaskExecution(other.getExecutionId(), 0, this.now.minusDays(10), null);
+		assertThat(dao.getLatestTaskExecutionForTaskName("FOO").getExecutionId()).isEqualTo(purged.getExecutionId());
+		TaskExecutionPurgeService purgeService = new TaskExecutionPurgeService(this.database);
+		purgeService.setLatestExecutionSummaryEnabled(true);
+		purgeService.setTaskNameRegistryEnabled(true);
+
+		assertThat(purgeService.purge(Duration.ofDays(1)).getDeletedTaskExecutions()).isEqualTo(2);
+
+		assertThat(dao.getLatestTaskExecutionsByTaskNames("FOO", "BAR")).extracting(TaskExecution::getExecutionId)
+			.containsExactly(kept.getExecutionId());
+		assertThat(count("TASK_EXECUTION_LATEST")).isEqualTo(1);
+		assertThat(dao.getTaskNames()).containsExactly("FOO");
+	}
+
+	@Test
+	public void testInvalidBatchSize() {
+		TaskExecutionPurgeService purgeService = new TaskExecutionPurgeService(this.database);
+		assertThatIllegalArgumentException().isThrownBy(() -> purgeService.setBatchSize(0));
+		assertThatIllegalArgumentException().isThrownBy(() -> purgeService.setBatchSize(1001));
+	}
+
+	private void insertTaskExecution(long id, String taskName, LocalDateTime endTime) {
+		this.jdbcTemplate.update(
+				"INSERT INTO TASK_EXECUTION (TASK_EXECUTION_ID, TASK_NAME, START_TIME, END_TIME) VALUES (?, ?, ?, ?)",
+				id, taskName, Timestamp.valueOf(this.now.minusDays(20)),
+				(endTime != null) ? Timestamp.valueOf(endTime) : null);
+		this.jdbcTemplate.update("INSERT INTO TASK_EXECUTION_PARAMS (TASK_EXECUTION_ID, TASK_PARAM) VALUES (?, ?)", id,
+				"param=" + id);
+		this.jdbcTemplate.update("INSERT INTO TASK_TASK_BATCH (TASK_EXECUTION_ID, JOB_EXECUTION_ID) VALUES (?, ?)", id,
+				id + 1000);
+	}
+
+	private void insertJobExecution(long jobExecutionId, long jobInstanceId) {
+		this.jdbcTemplate.update("MERGE INTO BATCH_JOB_INSTANCE (JOB_INSTANCE_ID) VALUES (?)", jobInstanceId);
+		this.jdbcTemplate.update("INSERT INTO BATCH_JOB_EXECUTION (JOB_EXECUTION_ID, JOB_INSTANCE_ID) VALUES (?, ?)",
+				jobExecutionId, jobInstanceId);
+		this.jdbcTemplate.update("INSERT INTO BATCH_JOB_EXECUTION_PARAMS (JOB_EXECUTION_ID) VALUES (?)",
+				jobExecutionId);
+		this.jdbcTemplate.update("INSERT INTO BATCH_JOB_EXECUTION_CONTEXT (JOB_EXECUTION_ID) VALUES (?)",
+				jobExecutionId);
+		this.jdbcTemplate.update("INSERT INTO BATCH_STEP_EXECUTION (STEP_EXECUTION_ID, JOB_EXECUTION_ID) VALUES (?, ?)",
+				jobExecutionId, jobExecutionId);
+		this.jdbcTemplate.update("INSERT INTO BATCH_STEP_EXECUTION_CONTEXT (STEP_EXECUTION_ID) VALUES (?)",
+				jobExecutionId);
+	}
+
+	/**
+	 * Creates the keys and foreign keys of the Spring Batch schema, which is not available
+	 * to this module.
+	 */
+	private void createBatchTables() {
+		this.jdbcTemplate.execute("CREATE TABLE BATCH_JOB_INSTANCE (JOB_INSTANCE_ID BIGINT NOT NULL PRIMARY KEY)");
+		this.jdbcTemplate.execute("CREATE TABLE BATCH_JOB_EXECUTION (JOB_EXECUTION_ID BIGINT NOT NULL PRIMARY KEY, "
+				+ "JOB_INSTANCE_ID BIGINT NOT NULL REFERENCES BATCH_JOB_INSTANCE(JOB_INSTANCE_ID))");
+		this.jdbcTemplate.execute("CREATE TABLE BATCH_JOB_EXECUTION_PARAMS (JOB_EXECUTION_ID BIGINT NOT NULL "
+				+ "REFERENCES BATCH_JOB_EXECUTION(JOB_EXECUTION_ID))");
+		this.jdbcTemplate.execute("CREATE TABLE BATCH_JOB_EXECUTION_CONTEXT (JOB_EXECUTION_ID BIGINT NOT NULL "
+				+ "PRIMARY KEY REFERENCES BATCH_JOB_EXECUTION(JOB_EXECUTION_ID))");
+		this.jdbcTemplate.execute("CREATE TABLE BATCH_STEP_EXECUTION (STEP_EXECUTION_ID BIGINT NOT NULL PRIMARY KEY, "
+				+ "JOB_EXECUTION_ID BIGINT NOT NULL REFERENCES BATCH_JOB_EXECUTION(JOB_EXECUTION_ID))");
+		this.jdbcTemplate.execute("CREATE TABLE BATCH_STEP_EXECUTION_CONTEXT (STEP_EXECUTION_ID BIGINT NOT NULL "
+				+ "PRIMARY KEY REFERENCES BATCH_STEP_EXECUTION(STEP_EXECUTION_ID))");
+	}
+
+	private int count(String table) {
+		return this.jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+	}
+
+}
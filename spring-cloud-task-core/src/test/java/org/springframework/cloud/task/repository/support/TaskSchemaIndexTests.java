@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.support;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Verifies that the queries issued by the task repository are served by the indexes
+ * defined in the shipped schemas.
+ *
+ * @author agent
+ */
+public class TaskSchemaIndexTests {
+
+	private EmbeddedDatabase database;
+
+	@AfterEach
+	public void tearDown() {
+		if (this.database != null) {
+			this.database.shutdown();
+		}
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = EmbeddedDatabaseType.class, names = { "H2", "HSQL" })
+	public void testTaskExecutionQueriesUseIndexes(EmbeddedDatabaseType type) {
+		JdbcTemplate jdbcTemplate = createDatabase(type);
+
+		assertThat(explain(type, jdbcTemplate,
+				"SELECT TASK_EXECUTION_ID FROM TASK_EXECUTION WHERE TASK_NAME = 'FOO' ORDER BY START_TIME DESC"))
+			.contains("TASK_EXEC_NAME_START_IX");
+		assertThat(explain(type, jdbcTemplate,
+				"SELECT TASK_EXECUTION_ID FROM TASK_EXECUTION WHERE TASK_NAME = 'FOO' AND END_TIME IS NULL"))
+			.contains("TASK_EXEC_RUNNING_IX");
+		assertThat(explain(type, jdbcTemplate, "SELECT COUNT(*) FROM TASK_EXECUTION WHERE END_TIME IS NULL"))
+			.contains("TASK_EXEC_RUNNING_IX");
+		assertThat(explain(type, jdbcTemplate,
+				"SELECT TASK_EXECUTION_ID FROM TASK_EXECUTION WHERE EXTERNAL_EXECUTION_ID = 'BAR'"))
+			.contains("TASK_EXEC_EXTERNAL_ID_IX");
+		// H2 and HSQLDB index foreign keys on their own, other databases rely on
+		// TASK_EXEC_PARAMS_IX
+		assertIndexLookup(explain(type, jdbcTemplate,
+				"SELECT TASK_PARAM FROM TASK_EXECUTION_PARAMS WHERE TASK_EXECUTION_ID IN (1, 2, 3)"));
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = EmbeddedDatabaseType.class, names = { "H2", "HSQL" })
+	public void testTaskBatchQueriesUseIndexes(EmbeddedDatabaseType type) {
+		JdbcTemplate jdbcTemplate = createDatabase(type);
+
+		assertThat(explain(type, jdbcTemplate,
+				"SELECT TASK_EXECUTION_ID FROM TASK_TASK_BATCH WHERE JOB_EXECUTION_ID = 1"))
+			.contains("TASK_BATCH_JOB_EXEC_IX");
+		assertIndexLookup(explain(type, jdbcTemplate,
+				"SELECT JOB_EXECUTION_ID FROM TASK_TASK_BATCH WHERE TASK_EXECUTION_ID = 1"));
+	}
+
+	private JdbcTemplate createDatabase(EmbeddedDatabaseType type) {
+		String platform = (type == EmbeddedDatabaseType.HSQL) ? "hsqldb" : "h2";
+		this.database = new EmbeddedDatabaseBuilder().generateUniqueName(true)
+			.setType(type)
+			.addScript("classpath:org/springframework/cloud/task/schema-" + platform + ".sql")
+			.build();
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(this.database);
+		// give the optimizer enough rows for an index lookup to be cheaper than a scan,
+		// with only a few of the task executions still running
+		for (int i = 0; i < 100; i++) {
+			jdbcTemplate.update("INSERT INTO TASK_EXECUTION (TASK_EXECUTION_ID, TASK_NAME, EXTERNAL_EXECUTION_ID, "
+					+ "END_TIME) VALUES (?, ?, ?, ?)", i, "TASK" + (i % 10), UUID.randomUUID().toString(),
+					(i % 7 == 0) ? null : Timestamp.valueOf(LocalDateTime.now()));
+			jdbcTemplate.update("INSERT INTO TASK_EXECUTION_PARAMS (TASK_EXECUTION_ID, TASK_PARAM) VALUES (?, ?)", i,
+					"param=" + i);
+			jdbcTemplate.update("INSERT INTO TASK_TASK_BATCH (TASK_EXECUTION_ID, JOB_EXECUTION_ID) VALUES (?, ?)", i,
+					i + 1000);
+		}
+		if (type == EmbeddedDatabaseType.H2) {
+			jdbcTemplate.execute("ANALYZE");
+		}
+		return jdbcTemplate;
+	}
+
+	private void assertIndexLookup(String plan) {
+		assertThat(plan).doesNotContain("tableScan").doesNotContainIgnoringCase("FULL SCAN");
+	}
+
+	private String explain(EmbeddedDatabaseType type, JdbcTemplate jdbcTemplate, String query) {
+		String prefix = (type == EmbeddedDatabaseType.HSQL) ? "EXPLAIN PLAN FOR " : "EXPLAIN ";
+		List<String> plan = jdbcTemplate.queryForList(prefix + query, String.class);
+		return String.join("\n", plan);
+	}
+
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.repository.support;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.batch.support.transaction.ResourcelessTransactionManager;
+import org.springframework.beans.factory.FactoryBean;
+import org.springframework.cloud.task.repository.TaskExecution;
+import org.springframework.cloud.task.repository.dao.MapTaskExecutionDao;
+import org.springframework.cloud.task.repository.dao.TaskExecutionDao;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link WriteBehindTaskRepository}.
+ *
+ * @author agent
+ */
+public class WriteBehindTaskRepositoryTests {
+
+	private final CountDownLatch writesReleased = new CountDownLatch(1);
+
+	private BlockingMapTaskExecutionDao dao;
+
+	private WriteBehindTaskRepository taskRepository;
+
+	@BeforeEach
+	public void setUp() {
+		this.dao = new BlockingMapTaskExecutionDao(this.writesReleased);
+		this.taskRepository = new WriteBehindTaskRepository(new FactoryBean<TaskExecutionDao>() {
+			@Override
+			public TaskExecutionDao getObject() {
+				return WriteBehindTaskRepositoryTests.this.dao;
+			}
+
+			@Override
+			public Class<?> getObjectType() {
+				return TaskExecutionDao.class;
+			}
+		});
+	}
+
+	@AfterEach
+	public void tearDown() {
+		this.writesReleased.countDown();
+		this.taskRepository.destroy();
+	}
+
+	@Test
+	public void testCreateWaitsForTheWrite() {
+		TaskExecution taskExecution = this.taskRepository.createTaskExecution(taskExecution());
+
+		assertThat(taskExecution.getExecutionId()).isEqualTo(0);
+		assertThat(this.dao.getTaskExecution(taskExecution.getExecutionId()).getTaskName()).isEqualTo("writeBehind");
+	}
+
+	@Test
+	public void testCompleteDoesNotWaitForTheWrite() {
+		TaskExecution taskExecution = this.taskRepository.createTaskExecution(taskExecution());
+		taskExecution.setExitCode(0);
+		taskExecution.setEndTime(LocalDateTime.now());
+		this.taskRepository.completeTaskExecution(taskExecution);
+
+		assertThat(this.dao.getTaskExecution(taskExecution.getExecutionId()).getEndTime()).isNull();
+
+		this.writesReleased.countDown();
+		assertThat(this.taskRepository.flush(5000)).isTrue();
+		assertThat(this.dao.getTaskExecution(taskExecution.getExecutionId()).getEndTime()).isNotNull();
+	}
+
+	@Test
+	public void testWritesAreAppliedInOrder() {
+		TaskExecution taskExecution = this.taskRepository.createTaskExecution("writeBehind");
+		taskExecution = this.taskRepository.startTaskExecution(taskExecution.getExecutionId(), "writeBehind",
+				LocalDateTime.now(), Collections.singletonList("--foo=bar"), "external");
+		taskExecution.setExitCode(0);
+		taskExecution.setEndTime(LocalDateTime.now());
+		taskExecution.setExitMessage("done");
+		TaskExecution completedTaskExecution = this.taskRepository.completeTaskExecution(taskExecution);
+
+		this.writesReleased.countDown();
+		assertThat(this.taskRepository.flush(5000)).isTrue();
+
+		TaskExecution storedTaskExecution = this.dao.getTaskExecution(taskExecution.getExecutionId());
+		assertThat(storedTaskExecution.getExitCode()).isEqualTo(0);
+		assertThat(storedTaskExecution.getExitMessage()).isEqualTo("done");
+		assertThat(storedTaskExecution.getEndTime()).isEqualTo(completedTaskExecution.getEndTime());
+		assertThat(storedTaskExecution.getExternalExecutionId()).isEqualTo("external");
+		assertThat(storedTaskExecution.getArguments()).containsExactly("--foo=bar");
+	}
+
+	@Test
+	public void testDestroyFlushesQueuedWrites() {
+		TaskExecution taskExecution = this.taskRepository.createTaskExecution(taskExecution());
+		taskExecution.setExitCode(0);
+		taskExecution.setEndTime(LocalDateTime.now());
+		this.taskRepository.completeTaskExecution(taskExecution);
+
+		this.writesReleased.countDown();
+		this.taskRepository.destroy();
+
+		assertThat(this.dao.getTaskExecution(taskExecution.getExecutionId()).getEndTime()).isNotNull();
+	}
+
+	@Test
+	public void testDestroyReportsWritesDiscardedAfterFlushTimeout() {
+		this.taskRepository.setFlushTimeout(10);
+		TaskExecution taskExecution = this.taskRepository.createTaskExecution(taskExecution());
+		this.taskRepository.updateExternalExecutionId(taskExecution.getExecutionId(), "external");
+		taskExecution.setExitCode(0);
+		taskExecution.setEndTime(LocalDateTime.now());
+		this.taskRepository.completeTaskExecution(taskExecution);
+
+		assertThatIllegalStateException().isThrownBy(this.taskRepository::destroy)
+			.withMessageContaining("1 writes could not be applied");
+		TaskExecution storedTaskExecution = this.dao.getTaskExecution(taskExecution.getExecutionId());
+		assertThat(storedTaskExecution.getExternalExecutionId()).isNull();
+		assertThat(storedTaskExecution.getEndTime()).isNull();
+	}
+
+	@Test
+	public void testFailedWritesAreRetriedInATransaction() {
+		this.writesReleased.countDown();
+		this.dao.failures.set(2);
+		this.taskRepository.setTransactionManager(new ResourcelessTransactionManager());
+		this.taskRepository.setRetryInterval(10);
+		TaskExecution taskExecution = this.taskRepository.createTaskExecution(taskExecution());
+
+		this.taskRepository.stop();
+
+		assertThat(this.dao.getTaskExecution(taskExecution.getExecutionId())).isNotNull();
+		assertThat(this.dao.attempts.get()).isEqualTo(3);
+		assertThat(this.dao.transactional).isTrue();
+	}
+
+	@Test
+	public void testStopReportsWritesThatFailedOnEveryAttempt() {
+		this.writesReleased.countDown();
+		this.dao.failures.set(3);
+		this.taskRepository.setRetryInterval(10);
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class)
+			.isThrownBy(() -> this.taskRepository.createTaskExecution(taskExecution()));
+		assertThatIllegalStateException().isThrownBy(this.taskRepository::stop)
+			.withMessageContaining("1 writes could not be applied")
+			.withCauseInstanceOf(DataAccessResourceFailureException.class);
+		assertThat(this.dao.getTaskExecution(0)).isNull();
+		assertThat(this.dao.attempts.get()).isEqualTo(WriteBehindTaskRepository.DEFAULT_MAX_WRITE_ATTEMPTS);
+	}
+
+	@Test
+	public void testInvalidCompletionIsRejectedByTheCaller() {
+		TaskExecution taskExecution = this.taskRepository.createTaskExecution(taskExecution());
+		taskExecution.setExitCode(-1);
+		taskExecution.setEndTime(LocalDateTime.now());
+
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> this.taskRepository.completeTaskExecution(taskExecution));
+	}
+
+	private static TaskExecution taskExecution() {
+		return new TaskExecution(0, null, "writeBehind", LocalDateTime.now(), null, null, Collections.emptyList(),
+				null, null);
+	}
+
+	/**
+	 * {@link MapTaskExecutionDao} whose creations fail as many times as requested and
+	 * whose other writes wait for a latch, simulating a slow task repository.
+	 */
+	private static class BlockingMapTaskExecutionDao extends MapTaskExecutionDao {
+
+		private final CountDownLatch latch;
+
+		private final AtomicInteger failures = new AtomicInteger();
+
+		private final AtomicInteger attempts = new AtomicInteger();
+
+		private volatile boolean transactional;
+
+		BlockingMapTaskExecutionDao(CountDownLatch latch) {
+			this.latch = latch;
+		}
+
+		@Override
+		public void saveTaskExecution(TaskExecution taskExecution) {
+			this.attempts.incrementAndGet();
+			this.transactional = TransactionSynchronizationManager.isActualTransactionActive();
+			if (this.failures.getAndDecrement() > 0) {
+				throw new DataAccessResourceFailureException("Task repository unavailable");
+			}
+			super.saveTaskExecution(taskExecution);
+		}
+
+		@Override
+		public TaskExecution startTaskExecution(long executionId, String taskName, LocalDateTime startTime,
+				List<String> arguments, String externalExecutionid, Long parentExecutionId) {
+			return awaitLatch() ? super.startTaskExecution(executionId, taskName, startTime, arguments,
+					externalExecutionid, parentExecutionId) : null;
+		}
+
+		@Override
+		public void completeTaskExecution(long executionId, Integer exitCode, LocalDateTime endTime,
+				String exitMessage, String errorMessage) {
+			if (awaitLatch()) {
+				super.completeTaskExecution(executionId, exitCode, endTime, exitMessage, errorMessage);
+			}
+		}
+
+		@Override
+		public void updateExternalExecutionId(long taskExecutionId, String externalExecutionId) {
+			if (awaitLatch()) {
+				super.updateExternalExecutionId(taskExecutionId, externalExecutionId);
+			}
+		}
+
+		private boolean awaitLatch() {
+			try {
+				this.latch.await(5, TimeUnit.SECONDS);
+				return true;
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return false;
+			}
+		}
+
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.cloud.task.util;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+/**
+ * {@link DataSource} that records the SQL of every statement executed through the
+ * connections it hands out, allowing tests to verify the number of round trips issued
+ * by the task repository. A JDBC batch is recorded once per {@code executeBatch} call.
+ *
+ * @author agent
+ */
+public class StatementCountingDataSource extends DelegatingDataSource {
+
+	private final List<String> statements = new CopyOnWriteArrayList<>();
+
+	private final AtomicInteger connectionCount = new AtomicInteger();
+
+	public StatementCountingDataSource(DataSource targetDataSource) {
+		super(targetDataSource);
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return countingConnection(super.getConnection());
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return countingConnection(super.getConnection(username, password));
+	}
+
+	/**
+	 * The SQL of the statements executed since creation or the last {@link #reset()}.
+	 * @return the recorded statements
+	 */
+	public List<String> getStatements() {
+		return this.statements;
+	}
+
+	public int getStatementCount() {
+		return this.statements.size();
+	}
+
+	/**
+	 * The number of connections obtained since creation or the last {@link #reset()}.
+	 * @return the number of connections
+	 */
+	public int getConnectionCount() {
+		return this.connectionCount.get();
+	}
+
+	public void reset() {
+		this.statements.clear();
+		this.connectionCount.set(0);
+	}
+
+	private Connection countingConnection(Connection connection) {
+		this.connectionCount.incrementAndGet();
+		return proxy(Connection.class, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				Object result = invokeTarget(connection, method, args);
+				if (result instanceof Statement) {
+					String sql = (args != null && args.length > 0 && args[0] instanceof String) ? (String) args[0]
+							: null;
+					return countingStatement(method.getReturnType(), (Statement) result, sql);
+				}
+				return result;
+			}
+		});
+	}
+
+	private Object countingStatement(Class<?> type, Statement statement, String preparedSql) {
+		return proxy(type, new InvocationHandler() {
+			@Override
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				if (method.getName().startsWith("execute")) {
+					String sql = (args != null && args.length > 0 && args[0] instanceof String) ? (String) args[0]
+							: preparedSql;
+					StatementCountingDataSource.this.statements.add(sql);
+				}
+				return invokeTarget(statement, method, args);
+			}
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> T proxy(Class<T> type, InvocationHandler handler) {
+		return (T) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[] { type }, handler);
+	}
+
+	private static Object invokeTarget(Object target, Method method, Object[] args) throws Throwable {
+		try {
+			return method.invoke(target, args);
+		}
+		catch (InvocationTargetException ex) {
+			throw ex.getTargetException();
+		}
+	}
+
+}
@@ -36,8 +36,10 @@ import org.springframework.cloud.task.repository.dao.JdbcTaskExecutionDao;
 import org.springframework.cloud.task.repository.database.PagingQueryProvider;
 import org.springframework.cloud.task.repository.database.support.SqlPagingQueryProviderFactoryBean;
 import org.springframework.cloud.task.repository.support.DatabaseType;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
 import org.springframework.jdbc.support.MetaDataAccessException;
 import org.springframework.jdbc.support.incrementer.DataFieldMaxValueIncrementer;
 import org.springframework.util.StringUtils;
@@ -172,6 +174,17 @@ public final class TestDBUtils {
 		return incrementerFactory.getIncrementer(databaseType, "TASK_SEQ");
 	}
 
+	/**
+	 * Creates the optional tables of the task repository, which are not part of the task
+	 * schema, in the provided H2 database.
+	 * @param dataSource the H2 datasource of the task repository.
+	 */
+	public static void createOptionalTables(DataSource dataSource) {
+		new ResourceDatabasePopulator(
+				new ClassPathResource("org/springframework/cloud/task/migration/3.1.x/optional-tables-h2.sql"))
+			.execute(dataSource);
+	}
+
 	private static void populateParamsToDB(DataSource dataSource, TaskExecution taskExecution) {
 		String sql = "SELECT * FROM TASK_EXECUTION_PARAMS WHERE TASK_EXECUTION_ID = '" + taskExecution.getExecutionId()
 				+ "'";